@@ -23,6 +23,41 @@ public interface Array<T> extends MutableIndexable<T>
         return ArrayIterator.createReverse(this);
     }
 
+    /**
+     * Sort the values in this Array using the provided lessThan method by splitting the values into
+     * chunks that are sorted in parallel on the provided AsyncScheduler and then merged. The sort
+     * is stable, so the result is identical to calling sort(lessThan). Small Arrays are sorted on
+     * the current thread.
+     * @param asyncScheduler The AsyncScheduler to sort the chunks on.
+     * @param lessThan The function to use to compare the values.
+     * @return A Result that contains this Array after it has been sorted.
+     */
+    @SuppressWarnings("unchecked")
+    default Result<Array<T>> parallelSort(AsyncScheduler asyncScheduler, Function2<T,T,Boolean> lessThan)
+    {
+        PreCondition.assertNotNull(asyncScheduler, "asyncScheduler");
+        PreCondition.assertNotNull(lessThan, "lessThan");
+
+        return Result.create(() ->
+        {
+            final int count = this.getCount();
+            final Object[] values = new Object[count];
+            for (int i = 0; i < count; ++i)
+            {
+                values[i] = this.get(i);
+            }
+
+            StableSort.parallelSort(asyncScheduler, values, lessThan, java.lang.Runtime.getRuntime().availableProcessors());
+
+            for (int i = 0; i < count; ++i)
+            {
+                this.set(i, (T)values[i]);
+            }
+
+            return this;
+        });
+    }
+
     /**
      * Create a new array with the provided number of elements.
      * @param length The number of elements.
@@ -0,0 +1,476 @@
+package qub;
+
+/**
+ * A List that stores its values in a circular array, so values can be added to and removed from
+ * both ends of the List in amortized O(1) time without allocating a node for each value. It can be
+ * used as a Queue (values are enqueued at the end and dequeued from the start) or as a stack
+ * (values are pushed onto and popped from the start).
+ * @param <T> The type of values stored in this ArrayDeque.
+ */
+public class ArrayDeque<T> implements List<T>, Queue<T>
+{
+    private static final int defaultCapacity = 16;
+
+    /**
+     * The circular array that holds the values. Its length is always a power of two.
+     */
+    private Object[] values;
+    private int mask;
+    /**
+     * The index in the circular array of the first value.
+     */
+    private int startIndex;
+    private int count;
+
+    private ArrayDeque(int initialCapacity)
+    {
+        PreCondition.assertBetween(0, initialCapacity, 1 << 30, "initialCapacity");
+
+        int capacity = 1;
+        while (capacity < initialCapacity)
+        {
+            capacity <<= 1;
+        }
+
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Create a new empty ArrayDeque.
+     * @param <T> The type of values stored in the new ArrayDeque.
+     * @return The new ArrayDeque.
+     */
+    public static <T> ArrayDeque<T> create()
+    {
+        return ArrayDeque.create(ArrayDeque.defaultCapacity);
+    }
+
+    /**
+     * Create a new empty ArrayDeque that can hold the provided number of values before it needs to
+     * grow.
+     * @param initialCapacity The number of values the new ArrayDeque can hold before it needs to
+     *                        grow. This will be rounded up to the next power of two.
+     * @param <T> The type of values stored in the new ArrayDeque.
+     * @return The new ArrayDeque.
+     */
+    public static <T> ArrayDeque<T> create(int initialCapacity)
+    {
+        return new ArrayDeque<>(initialCapacity);
+    }
+
+    /**
+     * Create a new ArrayDeque that contains the provided values.
+     * @param values The values that the new ArrayDeque will contain.
+     * @param <T> The type of values stored in the new ArrayDeque.
+     * @return The new ArrayDeque.
+     */
+    @SafeVarargs
+    public static <T> ArrayDeque<T> create(T... values)
+    {
+        PreCondition.assertNotNull(values, "values");
+
+        final ArrayDeque<T> result = ArrayDeque.create(values.length);
+        for (final T value : values)
+        {
+            result.addLast(value);
+        }
+
+        PostCondition.assertNotNull(result, "result");
+        PostCondition.assertEqual(values.length, result.getCount(), "result.getCount()");
+
+        return result;
+    }
+
+    /**
+     * Create a new ArrayDeque that contains the provided values.
+     * @param values The values that the new ArrayDeque will contain.
+     * @param <T> The type of values stored in the new ArrayDeque.
+     * @return The new ArrayDeque.
+     */
+    public static <T> ArrayDeque<T> create(Iterable<T> values)
+    {
+        PreCondition.assertNotNull(values, "values");
+
+        final ArrayDeque<T> result = ArrayDeque.create();
+        result.addAll(values);
+
+        PostCondition.assertNotNull(result, "result");
+
+        return result;
+    }
+
+    /**
+     * Get the number of values that this ArrayDeque can hold before it needs to grow.
+     * @return The number of values that this ArrayDeque can hold before it needs to grow.
+     */
+    public int getCapacity()
+    {
+        return this.values.length;
+    }
+
+    @Override
+    public boolean any()
+    {
+        return this.count > 0;
+    }
+
+    @Override
+    public int getCount()
+    {
+        return this.count;
+    }
+
+    @Override
+    public T get(int index)
+    {
+        PreCondition.assertIndexAccess(index, this.count, "index");
+
+        return this.getValue(index);
+    }
+
+    @Override
+    public ArrayDeque<T> set(int index, T value)
+    {
+        PreCondition.assertIndexAccess(index, this.count, "index");
+
+        this.values[this.getArrayIndex(index)] = value;
+        return this;
+    }
+
+    @Override
+    public T first()
+    {
+        return this.count == 0 ? null : this.getValue(0);
+    }
+
+    @Override
+    public T last()
+    {
+        return this.count == 0 ? null : this.getValue(this.count - 1);
+    }
+
+    @Override
+    public ArrayDeque<T> add(T value)
+    {
+        return this.addLast(value);
+    }
+
+    /**
+     * Add the provided value to the start of this ArrayDeque.
+     * @param value The value to add.
+     * @return This object for method chaining.
+     */
+    public ArrayDeque<T> addFirst(T value)
+    {
+        this.ensureCapacity(this.count + 1);
+
+        this.startIndex = (this.startIndex - 1) & this.mask;
+        this.values[this.startIndex] = value;
+        ++this.count;
+
+        return this;
+    }
+
+    /**
+     * Add the provided value to the end of this ArrayDeque.
+     * @param value The value to add.
+     * @return This object for method chaining.
+     */
+    public ArrayDeque<T> addLast(T value)
+    {
+        this.ensureCapacity(this.count + 1);
+
+        this.values[this.getArrayIndex(this.count)] = value;
+        ++this.count;
+
+        return this;
+    }
+
+    @Override
+    public ArrayDeque<T> insert(int insertIndex, T value)
+    {
+        PreCondition.assertBetween(0, insertIndex, this.count, "insertIndex");
+
+        if (insertIndex == 0)
+        {
+            this.addFirst(value);
+        }
+        else if (insertIndex == this.count)
+        {
+            this.addLast(value);
+        }
+        else
+        {
+            this.ensureCapacity(this.count + 1);
+
+            // Shift whichever side of the insert index has fewer values.
+            if (insertIndex < this.count / 2)
+            {
+                this.startIndex = (this.startIndex - 1) & this.mask;
+                for (int i = 0; i < insertIndex; ++i)
+                {
+                    this.values[this.getArrayIndex(i)] = this.values[this.getArrayIndex(i + 1)];
+                }
+            }
+            else
+            {
+                for (int i = this.count; i > insertIndex; --i)
+                {
+                    this.values[this.getArrayIndex(i)] = this.values[this.getArrayIndex(i - 1)];
+                }
+            }
+            this.values[this.getArrayIndex(insertIndex)] = value;
+            ++this.count;
+        }
+
+        return this;
+    }
+
+    @Override
+    public T removeAt(int index)
+    {
+        PreCondition.assertIndexAccess(index, this.count, "index");
+
+        final T result;
+        if (index == 0)
+        {
+            result = this.removeFirst();
+        }
+        else if (index == this.count - 1)
+        {
+            result = this.removeLast();
+        }
+        else
+        {
+            result = this.getValue(index);
+
+            // Shift whichever side of the removed index has fewer values.
+            if (index < this.count / 2)
+            {
+                for (int i = index; i > 0; --i)
+                {
+                    this.values[this.getArrayIndex(i)] = this.values[this.getArrayIndex(i - 1)];
+                }
+                this.values[this.startIndex] = null;
+                this.startIndex = (this.startIndex + 1) & this.mask;
+            }
+            else
+            {
+                for (int i = index; i < this.count - 1; ++i)
+                {
+                    this.values[this.getArrayIndex(i)] = this.values[this.getArrayIndex(i + 1)];
+                }
+                this.values[this.getArrayIndex(this.count - 1)] = null;
+            }
+            --this.count;
+        }
+        return result;
+    }
+
+    @Override
+    public T removeFirst()
+    {
+        PreCondition.assertIndexAccess(0, this.count);
+
+        final T result = this.getValue(0);
+        this.values[this.startIndex] = null;
+        this.startIndex = (this.startIndex + 1) & this.mask;
+        --this.count;
+
+        return result;
+    }
+
+    @Override
+    public T removeLast()
+    {
+        PreCondition.assertIndexAccess(this.count - 1, this.count);
+
+        final int arrayIndex = this.getArrayIndex(this.count - 1);
+        final T result = this.getValue(this.count - 1);
+        this.values[arrayIndex] = null;
+        --this.count;
+
+        return result;
+    }
+
+    @Override
+    public ArrayDeque<T> clear()
+    {
+        for (int i = 0; i < this.count; ++i)
+        {
+            this.values[this.getArrayIndex(i)] = null;
+        }
+        this.startIndex = 0;
+        this.count = 0;
+
+        return this;
+    }
+
+    @Override
+    public ArrayDeque<T> enqueue(T value)
+    {
+        return this.addLast(value);
+    }
+
+    @Override
+    public ArrayDeque<T> enqueueAll(Iterator<T> values)
+    {
+        PreCondition.assertNotNull(values, "values");
+
+        this.addAll(values);
+        return this;
+    }
+
+    @Override
+    public ArrayDeque<T> enqueueAll(Iterable<T> values)
+    {
+        PreCondition.assertNotNull(values, "values");
+
+        this.addAll(values);
+        return this;
+    }
+
+    @Override
+    public Result<T> dequeue()
+    {
+        return this.any()
+            ? Result.success(this.removeFirst())
+            : Result.error(new QueueEmptyException());
+    }
+
+    @Override
+    public Result<T> peek()
+    {
+        return this.any()
+            ? Result.success(this.getValue(0))
+            : Result.error(new QueueEmptyException());
+    }
+
+    /**
+     * Push the provided value onto the start of this ArrayDeque.
+     * @param value The value to push.
+     * @return This object for method chaining.
+     */
+    public ArrayDeque<T> push(T value)
+    {
+        return this.addFirst(value);
+    }
+
+    /**
+     * Remove and return the value at the start of this ArrayDeque.
+     * @return The value that was at the start of this ArrayDeque, or a StackEmptyException if this
+     * ArrayDeque is empty.
+     */
+    public Result<T> pop()
+    {
+        return this.any()
+            ? Result.success(this.removeFirst())
+            : Result.error(new StackEmptyException());
+    }
+
+    @Override
+    public Iterator<T> iterate()
+    {
+        return new ArrayDequeIterator();
+    }
+
+    @Override
+    public boolean equals(Object rhs)
+    {
+        return Iterable.equals(this, rhs);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Iterable.hashCode(this);
+    }
+
+    @Override
+    public String toString()
+    {
+        return Iterable.toString(this);
+    }
+
+    private int getArrayIndex(int index)
+    {
+        return (this.startIndex + index) & this.mask;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T getValue(int index)
+    {
+        return (T)this.values[this.getArrayIndex(index)];
+    }
+
+    /**
+     * Make sure that the circular array can hold at least the provided number of values. If it
+     * can't, then the values are copied into a new array that is twice as big, starting at index 0.
+     * @param minimumCapacity The number of values that the circular array must be able to hold.
+     */
+    private void ensureCapacity(int minimumCapacity)
+    {
+        final int capacity = this.values.length;
+        if (capacity < minimumCapacity)
+        {
+            int newCapacity = java.lang.Math.max(capacity, 1);
+            while (newCapacity < minimumCapacity)
+            {
+                newCapacity <<= 1;
+            }
+
+            final Object[] newValues = new Object[newCapacity];
+            final int firstPartLength = java.lang.Math.min(this.count, capacity - this.startIndex);
+            System.arraycopy(this.values, this.startIndex, newValues, 0, firstPartLength);
+            System.arraycopy(this.values, 0, newValues, firstPartLength, this.count - firstPartLength);
+
+            this.values = newValues;
+            this.mask = newCapacity - 1;
+            this.startIndex = 0;
+        }
+    }
+
+    /**
+     * An Iterator that visits the values of this ArrayDeque from start to end.
+     */
+    private class ArrayDequeIterator implements Iterator<T>
+    {
+        private int currentIndex;
+        private boolean hasStarted;
+
+        @Override
+        public boolean hasStarted()
+        {
+            return this.hasStarted;
+        }
+
+        @Override
+        public boolean hasCurrent()
+        {
+            return this.hasStarted && this.currentIndex < ArrayDeque.this.count;
+        }
+
+        @Override
+        public T getCurrent()
+        {
+            PreCondition.assertTrue(this.hasCurrent(), "this.hasCurrent()");
+
+            return ArrayDeque.this.getValue(this.currentIndex);
+        }
+
+        @Override
+        public boolean next()
+        {
+            if (!this.hasStarted)
+            {
+                this.hasStarted = true;
+            }
+            else if (this.currentIndex < ArrayDeque.this.count)
+            {
+                ++this.currentIndex;
+            }
+            return this.currentIndex < ArrayDeque.this.count;
+        }
+    }
+}
@@ -43,4 +43,30 @@ public interface AsyncScheduler extends AsyncRunner
      * @param result The Result to await.
      */
     void await(Result<?> result);
+
+    /**
+     * Get the AsyncSchedulerMetrics that this AsyncScheduler records the tasks that it runs to.
+     * @return The AsyncSchedulerMetrics that this AsyncScheduler records the tasks that it runs
+     * to, or null if this AsyncScheduler isn't collecting metrics.
+     */
+    default AsyncSchedulerMetrics getMetrics()
+    {
+        return null;
+    }
+
+    /**
+     * Set the AsyncSchedulerMetrics that this AsyncScheduler will record the tasks that it runs
+     * to. Collecting metrics adds a small amount of overhead to each task, so it is off by default.
+     * AsyncSchedulers that don't support metrics only accept null.
+     * @param metrics The AsyncSchedulerMetrics to record to, or null to stop collecting metrics.
+     * @return This object for method chaining.
+     */
+    default AsyncScheduler setMetrics(AsyncSchedulerMetrics metrics)
+    {
+        if (metrics != null)
+        {
+            throw new NotSupportedException("This AsyncScheduler doesn't support collecting metrics.");
+        }
+        return this;
+    }
 }
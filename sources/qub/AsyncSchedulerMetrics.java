@@ -0,0 +1,229 @@
+package qub;
+
+/**
+ * Thread-safe counters and histograms that describe the tasks that an AsyncScheduler has run. An
+ * AsyncScheduler only collects metrics when an AsyncSchedulerMetrics object has been set on it.
+ * The time that a task spends waiting to be started (its queue latency) is recorded separately
+ * from the time that the task spends running, so slow tasks can be told apart from a scheduler
+ * that doesn't have enough workers.
+ */
+public class AsyncSchedulerMetrics
+{
+    private final java.util.concurrent.atomic.AtomicLong scheduledTaskCount;
+    private final java.util.concurrent.atomic.AtomicLong startedTaskCount;
+    private final java.util.concurrent.atomic.AtomicLong completedTaskCount;
+    private final java.util.concurrent.atomic.AtomicLong failedTaskCount;
+    private final java.util.concurrent.atomic.AtomicLong maximumQueueDepth;
+    private final java.util.concurrent.atomic.AtomicInteger activeWorkerCount;
+    private final java.util.concurrent.atomic.AtomicInteger maximumActiveWorkerCount;
+    private final DurationHistogram queueLatencies;
+    private final DurationHistogram runDurations;
+
+    private AsyncSchedulerMetrics()
+    {
+        this.scheduledTaskCount = new java.util.concurrent.atomic.AtomicLong();
+        this.startedTaskCount = new java.util.concurrent.atomic.AtomicLong();
+        this.completedTaskCount = new java.util.concurrent.atomic.AtomicLong();
+        this.failedTaskCount = new java.util.concurrent.atomic.AtomicLong();
+        this.maximumQueueDepth = new java.util.concurrent.atomic.AtomicLong();
+        this.activeWorkerCount = new java.util.concurrent.atomic.AtomicInteger();
+        this.maximumActiveWorkerCount = new java.util.concurrent.atomic.AtomicInteger();
+        this.queueLatencies = DurationHistogram.create();
+        this.runDurations = DurationHistogram.create();
+    }
+
+    /**
+     * Create a new AsyncSchedulerMetrics object that hasn't recorded any tasks.
+     * @return The new AsyncSchedulerMetrics object.
+     */
+    public static AsyncSchedulerMetrics create()
+    {
+        return new AsyncSchedulerMetrics();
+    }
+
+    /**
+     * Get the number of tasks that have been scheduled.
+     * @return The number of tasks that have been scheduled.
+     */
+    public long getScheduledTaskCount()
+    {
+        return this.scheduledTaskCount.get();
+    }
+
+    /**
+     * Get the number of tasks that have started running.
+     * @return The number of tasks that have started running.
+     */
+    public long getStartedTaskCount()
+    {
+        return this.startedTaskCount.get();
+    }
+
+    /**
+     * Get the number of tasks that have finished running, including the tasks that failed.
+     * @return The number of tasks that have finished running.
+     */
+    public long getCompletedTaskCount()
+    {
+        return this.completedTaskCount.get();
+    }
+
+    /**
+     * Get the number of tasks that finished running with an error.
+     * @return The number of tasks that finished running with an error.
+     */
+    public long getFailedTaskCount()
+    {
+        return this.failedTaskCount.get();
+    }
+
+    /**
+     * Get the number of tasks that have been scheduled but haven't started running yet.
+     * @return The number of tasks that are waiting to be started.
+     */
+    public long getQueueDepth()
+    {
+        return java.lang.Math.max(0, this.scheduledTaskCount.get() - this.startedTaskCount.get());
+    }
+
+    /**
+     * Get the largest number of tasks that have been waiting to be started at the same time.
+     * @return The largest number of tasks that have been waiting to be started at the same time.
+     */
+    public long getMaximumQueueDepth()
+    {
+        return this.maximumQueueDepth.get();
+    }
+
+    /**
+     * Get the number of workers that are currently running a task.
+     * @return The number of workers that are currently running a task.
+     */
+    public int getActiveWorkerCount()
+    {
+        return this.activeWorkerCount.get();
+    }
+
+    /**
+     * Get the largest number of workers that have been running tasks at the same time.
+     * @return The largest number of workers that have been running tasks at the same time.
+     */
+    public int getMaximumActiveWorkerCount()
+    {
+        return this.maximumActiveWorkerCount.get();
+    }
+
+    /**
+     * Get the histogram of how long tasks waited between being scheduled and being started.
+     * @return The histogram of how long tasks waited to be started.
+     */
+    public DurationHistogram getQueueLatencies()
+    {
+        return this.queueLatencies;
+    }
+
+    /**
+     * Get the histogram of how long tasks ran for.
+     * @return The histogram of how long tasks ran for.
+     */
+    public DurationHistogram getRunDurations()
+    {
+        return this.runDurations;
+    }
+
+    /**
+     * Record that a task has been scheduled.
+     */
+    public void onTaskScheduled()
+    {
+        final long queueDepth = this.scheduledTaskCount.incrementAndGet() - this.startedTaskCount.get();
+        this.maximumQueueDepth.accumulateAndGet(queueDepth, java.lang.Math::max);
+    }
+
+    /**
+     * Record that a task has started running.
+     * @param queueLatencyNanoseconds The number of nanoseconds that the task waited between being
+     *                                scheduled and being started.
+     */
+    public void onTaskStarted(long queueLatencyNanoseconds)
+    {
+        this.startedTaskCount.incrementAndGet();
+        this.queueLatencies.addNanoseconds(queueLatencyNanoseconds);
+        this.maximumActiveWorkerCount.accumulateAndGet(this.activeWorkerCount.incrementAndGet(), java.lang.Math::max);
+    }
+
+    /**
+     * Record that a task has finished running.
+     * @param runNanoseconds The number of nanoseconds that the task ran for.
+     * @param failed Whether or not the task finished with an error.
+     */
+    public void onTaskCompleted(long runNanoseconds, boolean failed)
+    {
+        this.activeWorkerCount.decrementAndGet();
+        this.runDurations.addNanoseconds(runNanoseconds);
+        this.completedTaskCount.incrementAndGet();
+        if (failed)
+        {
+            this.failedTaskCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Record that the provided AsyncTask has been scheduled.
+     * @param task The AsyncTask that has been scheduled.
+     */
+    void onTaskScheduled(AsyncTask<?> task)
+    {
+        task.setScheduledNanoTime(System.nanoTime());
+        this.onTaskScheduled();
+    }
+
+    /**
+     * Run the provided AsyncTask and record how long it waited to be started and how long it ran
+     * for.
+     * @param task The AsyncTask to run.
+     */
+    void runTask(AsyncTask<?> task)
+    {
+        final long startNanoTime = System.nanoTime();
+        final long scheduledNanoTime = task.getScheduledNanoTime();
+        this.onTaskStarted(scheduledNanoTime == 0 ? 0 : startNanoTime - scheduledNanoTime);
+        try
+        {
+            task.run();
+        }
+        finally
+        {
+            this.onTaskCompleted(System.nanoTime() - startNanoTime, task.hasError());
+        }
+    }
+
+    /**
+     * Get a JSON representation of these metrics.
+     * @return A JSON representation of these metrics.
+     */
+    public JSONObject toJson()
+    {
+        final JSONObject result = JSONObject.create()
+            .setNumber("scheduledTaskCount", this.getScheduledTaskCount())
+            .setNumber("startedTaskCount", this.getStartedTaskCount())
+            .setNumber("completedTaskCount", this.getCompletedTaskCount())
+            .setNumber("failedTaskCount", this.getFailedTaskCount())
+            .setNumber("queueDepth", this.getQueueDepth())
+            .setNumber("maximumQueueDepth", this.getMaximumQueueDepth())
+            .setNumber("activeWorkerCount", this.getActiveWorkerCount())
+            .setNumber("maximumActiveWorkerCount", this.getMaximumActiveWorkerCount())
+            .setObject("queueLatencies", this.queueLatencies.toJson())
+            .setObject("runDurations", this.runDurations.toJson());
+
+        PostCondition.assertNotNull(result, "result");
+
+        return result;
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.toJson().toString();
+    }
+}
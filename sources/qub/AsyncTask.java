@@ -34,6 +34,11 @@ public class AsyncTask<T> implements PausedAsyncTask<T>
      * Whether or not this AsyncTask has been run.
      */
     private final BooleanValue completed;
+    /**
+     * The threads that are parked until this AsyncTask is completed. This is lazily created and
+     * guarded by this AsyncTask's monitor.
+     */
+    private List<java.lang.Thread> waitingThreads;
     /**
      * The AsyncTasks that should be scheduled after this AsyncTask is completed.
      */
@@ -42,6 +47,16 @@ public class AsyncTask<T> implements PausedAsyncTask<T>
      * The AsyncScheduler that determines when this AsyncTask will be run.
      */
     private final AsyncScheduler asyncScheduler;
+    /**
+     * The CancellationToken of this AsyncTask. If this AsyncTask is a continuation of another
+     * AsyncTask, then this token is cancelled when the parent AsyncTask's token is cancelled.
+     */
+    private final CancellationToken cancellationToken;
+    /**
+     * The System.nanoTime() value when this AsyncTask was last scheduled, or 0 if its
+     * AsyncScheduler isn't collecting metrics.
+     */
+    private long scheduledNanoTime;
 
     /**
      * Create a new AsyncTask with the provided action.
@@ -76,6 +91,7 @@ public class AsyncTask<T> implements PausedAsyncTask<T>
         this.parentResult = parentResult;
         this.nextTasks = List.create();
         this.completed = BooleanValue.create(false);
+        this.cancellationToken = AsyncTask.createCancellationToken(parentResult);
     }
 
     /**
@@ -107,6 +123,7 @@ public class AsyncTask<T> implements PausedAsyncTask<T>
         this.parentResult = parentResult;
         this.nextTasks = List.create();
         this.completed = BooleanValue.create(false);
+        this.cancellationToken = AsyncTask.createCancellationToken(parentResult);
     }
 
     /**
@@ -133,6 +150,60 @@ public class AsyncTask<T> implements PausedAsyncTask<T>
         this.parentResult = parentResult;
         this.nextTasks = List.create();
         this.completed = BooleanValue.create(false);
+        this.cancellationToken = AsyncTask.createCancellationToken(parentResult);
+    }
+
+    /**
+     * Create the CancellationToken for a new AsyncTask that has the provided parent Result. A
+     * continuation gets a child of its parent AsyncTask's token, so cancellation only flows
+     * downstream: cancelling a continuation doesn't cancel its parent or any of its parent's other
+     * continuations. The child token doesn't register anything with its parent's token unless a
+     * callback is registered with it, and it drops its link when the continuation is run.
+     * @param parentResult The Result that must be completed before the new AsyncTask can be run.
+     * @return The CancellationToken for the new AsyncTask.
+     */
+    private static CancellationToken createCancellationToken(Result<?> parentResult)
+    {
+        final CancellationToken result = parentResult instanceof AsyncTask<?> ? ((AsyncTask<?>)parentResult).cancellationToken.createChild() : CancellationToken.create();
+
+        PostCondition.assertNotNull(result, "result");
+
+        return result;
+    }
+
+    /**
+     * Get the CancellationToken of this AsyncTask. This token is also cancelled when the token of
+     * the AsyncTask that this AsyncTask continues is cancelled. Functions that are run by this
+     * AsyncTask can check this token to stop early.
+     * @return The CancellationToken of this AsyncTask.
+     */
+    public CancellationToken getCancellationToken()
+    {
+        return this.cancellationToken;
+    }
+
+    /**
+     * Get whether or not this AsyncTask has been cancelled.
+     * @return Whether or not this AsyncTask has been cancelled.
+     */
+    public boolean isCancelled()
+    {
+        return this.cancellationToken.isCancelled();
+    }
+
+    /**
+     * Request that this AsyncTask and its continuations be cancelled. The AsyncTask that this
+     * AsyncTask continues and that AsyncTask's other continuations are not affected. Tasks that
+     * haven't started yet will complete with a CancelledException without running their functions,
+     * and blocking operations in a task that is already running will stop waiting and throw a
+     * CancelledException.
+     * @return Whether or not this call cancelled this AsyncTask. This will be false if this
+     * AsyncTask was already completed or cancelled.
+     */
+    @Override
+    public boolean cancel()
+    {
+        return !this.isCompleted() && this.cancellationToken.cancel();
     }
 
     /**
@@ -170,17 +241,28 @@ public class AsyncTask<T> implements PausedAsyncTask<T>
     {
         PreCondition.assertFalse(isCompleted(), "isCompleted()");
 
+        final CancellationToken previousCancellationToken = CurrentThread.getCancellationToken();
+        CurrentThread.setCancellationToken(this.cancellationToken);
         try
         {
+            this.cancellationToken.throwIfCancelled();
             this.value = (T)this.parentResult.await();
             if (this.successFunction != null)
             {
+                this.cancellationToken.throwIfCancelled();
                 this.value = this.successFunction.run();
             }
         }
         catch (Throwable error)
         {
-            if (this.expectedErrorType != null)
+            if (this.cancellationToken.isCancelled())
+            {
+                // Error handlers are continuations too, so they don't run once this task has been
+                // cancelled.
+                final CancelledException cancelledError = Exceptions.getInstanceOf(error, CancelledException.class);
+                this.error = cancelledError != null ? cancelledError : new CancelledException();
+            }
+            else if (this.expectedErrorType != null)
             {
                 Throwable expectedError = Exceptions.getInstanceOf(error, this.expectedErrorType);
                 if (expectedError != null)
@@ -209,12 +291,122 @@ public class AsyncTask<T> implements PausedAsyncTask<T>
                 this.error = error;
             }
         }
+        finally
+        {
+            CurrentThread.setCancellationToken(previousCancellationToken);
+            this.cancellationToken.detachFromParent();
+        }
 
         for (final AsyncTask<?> nextTask : nextTasks)
         {
             nextTask.schedule();
         }
-        this.completed.set(true);
+
+        final List<java.lang.Thread> threadsToUnpark;
+        synchronized (this)
+        {
+            this.completed.set(true);
+            threadsToUnpark = this.waitingThreads;
+            this.waitingThreads = null;
+        }
+        if (threadsToUnpark != null)
+        {
+            for (final java.lang.Thread threadToUnpark : threadsToUnpark)
+            {
+                java.util.concurrent.locks.LockSupport.unpark(threadToUnpark);
+            }
+        }
+    }
+
+    /**
+     * Get whether or not this AsyncTask completed with an error.
+     * @return Whether or not this AsyncTask completed with an error.
+     */
+    boolean hasError()
+    {
+        return this.error != null;
+    }
+
+    long getScheduledNanoTime()
+    {
+        return this.scheduledNanoTime;
+    }
+
+    void setScheduledNanoTime(long scheduledNanoTime)
+    {
+        this.scheduledNanoTime = scheduledNanoTime;
+    }
+
+    /**
+     * Register the provided thread to be unparked when this AsyncTask is completed.
+     * @param thread The thread to unpark when this AsyncTask is completed.
+     * @return Whether or not the thread was registered. If this AsyncTask is already completed,
+     * then the thread will not be registered and false will be returned.
+     */
+    boolean addWaitingThread(java.lang.Thread thread)
+    {
+        PreCondition.assertNotNull(thread, "thread");
+
+        synchronized (this)
+        {
+            final boolean result = !this.isCompleted();
+            if (result)
+            {
+                if (this.waitingThreads == null)
+                {
+                    this.waitingThreads = List.create();
+                }
+                this.waitingThreads.add(thread);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Unregister the provided thread so that it will no longer be unparked when this AsyncTask is
+     * completed.
+     * @param thread The thread to unregister.
+     */
+    void removeWaitingThread(java.lang.Thread thread)
+    {
+        PreCondition.assertNotNull(thread, "thread");
+
+        synchronized (this)
+        {
+            if (this.waitingThreads != null)
+            {
+                this.waitingThreads.remove(thread);
+            }
+        }
+    }
+
+    /**
+     * Block the current thread until this AsyncTask is completed. The current thread is parked
+     * while it waits, so it doesn't consume any CPU. Unlike await(), this will not run any other
+     * tasks while it waits, and it will not throw this AsyncTask's error if it fails.
+     */
+    public void awaitCompletion()
+    {
+        if (!this.isCompleted())
+        {
+            final java.lang.Thread currentThread = java.lang.Thread.currentThread();
+            if (this.addWaitingThread(currentThread))
+            {
+                try
+                {
+                    while (!this.isCompleted())
+                    {
+                        java.util.concurrent.locks.LockSupport.park(this);
+                    }
+                }
+                finally
+                {
+                    this.removeWaitingThread(currentThread);
+                }
+            }
+        }
+
+        PostCondition.assertTrue(this.isCompleted(), "this.isCompleted()");
     }
 
     private void ensureIsCompleted()
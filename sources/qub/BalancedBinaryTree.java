@@ -0,0 +1,753 @@
+package qub;
+
+/**
+ * A BinaryTree that keeps itself balanced (as an AVL tree) when values are added and removed, so
+ * adding, removing, and finding values takes O(log n) time even when the values are added in
+ * sorted order. Each node also tracks how many values are in its subtree, which allows values to be
+ * found by their rank.
+ * @param <T> The type of value stored in each node of this tree.
+ */
+public class BalancedBinaryTree<T> implements BinaryTree<T>
+{
+    private final Function2<T,T,Comparison> comparer;
+    private Node<T> root;
+    /**
+     * The node that was removed by the most recent call to removeNode().
+     */
+    private Node<T> removedNode;
+
+    private BalancedBinaryTree(Function2<T,T,Comparison> comparer)
+    {
+        PreCondition.assertNotNull(comparer, "comparer");
+
+        this.comparer = comparer;
+    }
+
+    /**
+     * Create a new BalancedBinaryTree using the provided comparer.
+     * @param comparer The function that will be used to compare the values of the nodes in this tree.
+     * @param <T> The type of value stored in each node of this tree.
+     * @return The new BalancedBinaryTree.
+     */
+    @SafeVarargs
+    public static <T> BalancedBinaryTree<T> create(Function2<T,T,Comparison> comparer, T... values)
+    {
+        return new BalancedBinaryTree<>(comparer).addAll(values);
+    }
+
+    /**
+     * Create a new BalancedBinaryTree using the provided comparer.
+     * @param comparer The function that will be used to compare the values of the nodes in this tree.
+     * @param <T> The type of value stored in each node of this tree.
+     * @return The new BalancedBinaryTree.
+     */
+    public static <T> BalancedBinaryTree<T> create(Function2<T,T,Comparison> comparer, Iterable<T> values)
+    {
+        return new BalancedBinaryTree<>(comparer).addAll(values);
+    }
+
+    /**
+     * Create a new BalancedBinaryTree using the values' compareTo() function.
+     * @param <T> The type of value stored in this tree.
+     * @return The new BalancedBinaryTree.
+     */
+    @SafeVarargs
+    public static <T extends java.lang.Comparable<T>> BalancedBinaryTree<T> create(T... values)
+    {
+        return BalancedBinaryTree.<T>create(Comparer::compare).addAll(values);
+    }
+
+    /**
+     * Create a new BalancedBinaryTree using the values' compareTo() function.
+     * @param <T> The type of value stored in this tree.
+     * @return The new BalancedBinaryTree.
+     */
+    public static <T extends java.lang.Comparable<T>> BalancedBinaryTree<T> create(Iterable<T> values)
+    {
+        return BalancedBinaryTree.<T>create(Comparer::compare).addAll(values);
+    }
+
+    /**
+     * Get the function that is used to compare the values of the nodes in this tree.
+     * @return The function that is used to compare the values of the nodes in this tree.
+     */
+    public Function2<T,T,Comparison> getComparer()
+    {
+        return this.comparer;
+    }
+
+    /**
+     * Get the number of levels in this tree. An empty tree has a height of 0.
+     * @return The number of levels in this tree.
+     */
+    public int getHeight()
+    {
+        return BalancedBinaryTree.getHeight(this.root);
+    }
+
+    @Override
+    public int getCount()
+    {
+        return BalancedBinaryTree.getCount(this.root);
+    }
+
+    @Override
+    public boolean any()
+    {
+        return this.root != null;
+    }
+
+    /**
+     * Remove all of the values from this tree.
+     * @return This object for method chaining.
+     */
+    public BalancedBinaryTree<T> clear()
+    {
+        this.root = null;
+        return this;
+    }
+
+    /**
+     * Add the provided value to this tree. If this tree already contains values that are equal to
+     * the provided value, then the provided value will be placed after them.
+     * @param value The value to add to this tree.
+     * @return This object for method chaining.
+     */
+    @Override
+    public BalancedBinaryTree<T> add(T value)
+    {
+        this.root = this.add(this.root, new Node<>(value));
+        return this;
+    }
+
+    @SafeVarargs
+    @Override
+    public final BalancedBinaryTree<T> addAll(T... values)
+    {
+        return (BalancedBinaryTree<T>)BinaryTree.super.addAll(values);
+    }
+
+    @Override
+    public BalancedBinaryTree<T> addAll(Iterable<T> values)
+    {
+        return (BalancedBinaryTree<T>)BinaryTree.super.addAll(values);
+    }
+
+    @Override
+    public BalancedBinaryTree<T> addAll(Iterator<T> values)
+    {
+        return (BalancedBinaryTree<T>)BinaryTree.super.addAll(values);
+    }
+
+    @Override
+    public boolean remove(T value)
+    {
+        return this.removeNode(this.compareWith(value)) != null;
+    }
+
+    @Override
+    public boolean contains(T value)
+    {
+        return this.findNode(this.compareWith(value)) != null;
+    }
+
+    /**
+     * Get the greatest value in this tree that is less than or equal to the provided value.
+     * @param value The value to look for.
+     * @return The greatest value in this tree that is less than or equal to the provided value, or
+     * a NotFoundException if there is no such value.
+     */
+    public Result<T> floor(T value)
+    {
+        final Node2<T> node = this.floorNode(this.compareWith(value));
+        return node != null
+            ? Result.success(node.getValue())
+            : Result.error(new NotFoundException("Could not find a value less than or equal to " + value + "."));
+    }
+
+    /**
+     * Get the smallest value in this tree that is greater than or equal to the provided value.
+     * @param value The value to look for.
+     * @return The smallest value in this tree that is greater than or equal to the provided value,
+     * or a NotFoundException if there is no such value.
+     */
+    public Result<T> ceiling(T value)
+    {
+        final Node2<T> node = this.ceilingNode(this.compareWith(value));
+        return node != null
+            ? Result.success(node.getValue())
+            : Result.error(new NotFoundException("Could not find a value greater than or equal to " + value + "."));
+    }
+
+    /**
+     * Get the number of values in this tree that are less than the provided value.
+     * @param value The value to get the rank of.
+     * @return The number of values in this tree that are less than the provided value.
+     */
+    public int getRank(T value)
+    {
+        return this.getRank(this.compareWith(value));
+    }
+
+    /**
+     * Get the value at the provided index in this tree's sorted order.
+     * @param index The index of the value to get.
+     * @return The value at the provided index.
+     */
+    public T get(int index)
+    {
+        PreCondition.assertIndexAccess(index, this.getCount(), "index");
+
+        return this.getNode(index).getValue();
+    }
+
+    /**
+     * Iterate over the values in this tree that are greater than or equal to the provided
+     * startValue and less than the provided endValue, in sorted order.
+     * @param startValue The smallest value to iterate over.
+     * @param endValue The value to stop iterating at. This value will not be iterated over.
+     * @return An Iterator over the values in the provided range.
+     */
+    public Iterator<T> iterateRange(T startValue, T endValue)
+    {
+        return this.iterateNodes(this.compareWith(startValue), this.compareWith(endValue))
+            .map(Node2::getValue);
+    }
+
+    @Override
+    public Iterator<T> iterate()
+    {
+        return this.iterateNodes(null, null).map(Node2::getValue);
+    }
+
+    @Override
+    public Iterator<T> iterate(Traversal<Node2<T>, T> traversal)
+    {
+        PreCondition.assertNotNull(traversal, "traversal");
+
+        return traversal.iterate(this.root);
+    }
+
+    @Override
+    public String toString()
+    {
+        return Iterable.toString(this);
+    }
+
+    @Override
+    public boolean equals(Object rhs)
+    {
+        return Iterable.equals(this, rhs);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Iterable.hashCode(this);
+    }
+
+    /**
+     * Create a function that compares the provided value to the value of a node in this tree.
+     * @param value The value to compare.
+     * @return A function that compares the provided value to the value of a node in this tree.
+     */
+    private Function1<T,Comparison> compareWith(T value)
+    {
+        return (T nodeValue) -> this.comparer.run(value, nodeValue);
+    }
+
+    /**
+     * Find the first node in this tree that the provided function says is equal to the value
+     * being searched for. The function is given the value of a node and returns how the value
+     * being searched for compares to it.
+     * @param compareWith The function that compares the value being searched for to a node's
+     *                    value.
+     * @return The node that was found, or null if no node was found.
+     */
+    Node2<T> findNode(Function1<T,Comparison> compareWith)
+    {
+        PreCondition.assertNotNull(compareWith, "compareWith");
+
+        Node<T> result = null;
+        Node<T> currentNode = this.root;
+        while (currentNode != null)
+        {
+            final Comparison comparison = compareWith.run(currentNode.getValue());
+            if (comparison == Comparison.GreaterThan)
+            {
+                currentNode = currentNode.getNode2();
+            }
+            else
+            {
+                if (comparison == Comparison.Equal)
+                {
+                    result = currentNode;
+                }
+                currentNode = currentNode.getNode1();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Find the last node in this tree whose value is less than or equal to the value being
+     * searched for.
+     * @param compareWith The function that compares the value being searched for to a node's
+     *                    value.
+     * @return The node that was found, or null if no node was found.
+     */
+    Node2<T> floorNode(Function1<T,Comparison> compareWith)
+    {
+        PreCondition.assertNotNull(compareWith, "compareWith");
+
+        Node<T> result = null;
+        Node<T> currentNode = this.root;
+        while (currentNode != null)
+        {
+            if (compareWith.run(currentNode.getValue()) == Comparison.LessThan)
+            {
+                currentNode = currentNode.getNode1();
+            }
+            else
+            {
+                result = currentNode;
+                currentNode = currentNode.getNode2();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Find the first node in this tree whose value is greater than or equal to the value being
+     * searched for.
+     * @param compareWith The function that compares the value being searched for to a node's
+     *                    value.
+     * @return The node that was found, or null if no node was found.
+     */
+    Node2<T> ceilingNode(Function1<T,Comparison> compareWith)
+    {
+        PreCondition.assertNotNull(compareWith, "compareWith");
+
+        Node<T> result = null;
+        Node<T> currentNode = this.root;
+        while (currentNode != null)
+        {
+            if (compareWith.run(currentNode.getValue()) == Comparison.GreaterThan)
+            {
+                currentNode = currentNode.getNode2();
+            }
+            else
+            {
+                result = currentNode;
+                currentNode = currentNode.getNode1();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the number of nodes in this tree whose values are less than the value being searched
+     * for.
+     * @param compareWith The function that compares the value being searched for to a node's
+     *                    value.
+     * @return The number of nodes whose values are less than the value being searched for.
+     */
+    int getRank(Function1<T,Comparison> compareWith)
+    {
+        PreCondition.assertNotNull(compareWith, "compareWith");
+
+        int result = 0;
+        Node<T> currentNode = this.root;
+        while (currentNode != null)
+        {
+            if (compareWith.run(currentNode.getValue()) == Comparison.GreaterThan)
+            {
+                result += BalancedBinaryTree.getCount(currentNode.getNode1()) + 1;
+                currentNode = currentNode.getNode2();
+            }
+            else
+            {
+                currentNode = currentNode.getNode1();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the node at the provided index in this tree's sorted order.
+     * @param index The index of the node to get.
+     * @return The node at the provided index.
+     */
+    Node2<T> getNode(int index)
+    {
+        PreCondition.assertIndexAccess(index, this.getCount(), "index");
+
+        Node<T> currentNode = this.root;
+        while (true)
+        {
+            final int leftCount = BalancedBinaryTree.getCount(currentNode.getNode1());
+            if (index < leftCount)
+            {
+                currentNode = currentNode.getNode1();
+            }
+            else if (index == leftCount)
+            {
+                break;
+            }
+            else
+            {
+                index -= leftCount + 1;
+                currentNode = currentNode.getNode2();
+            }
+        }
+        return currentNode;
+    }
+
+    /**
+     * Add the provided value to this tree and return the node that contains it.
+     * @param value The value to add.
+     * @return The node that contains the added value.
+     */
+    Node2<T> addNode(T value)
+    {
+        final Node<T> result = new Node<>(value);
+        this.root = this.add(this.root, result);
+        return result;
+    }
+
+    /**
+     * Remove the first node in this tree that the provided function says is equal to the value
+     * being searched for.
+     * @param compareWith The function that compares the value being searched for to a node's
+     *                    value.
+     * @return The node that was removed, or null if no node was found.
+     */
+    Node2<T> removeNode(Function1<T,Comparison> compareWith)
+    {
+        PreCondition.assertNotNull(compareWith, "compareWith");
+
+        final Node2<T> nodeToRemove = this.findNode(compareWith);
+        Node<T> result = null;
+        if (nodeToRemove != null)
+        {
+            this.root = this.remove(this.root, compareWith, nodeToRemove);
+            result = this.removedNode;
+            this.removedNode = null;
+        }
+        return result;
+    }
+
+    /**
+     * Iterate over the nodes in this tree in sorted order.
+     * @param compareWithStart The function that compares the first value to iterate over to a
+     *                         node's value, or null to start at the first node.
+     * @param compareWithEnd The function that compares the value to stop iterating at to a node's
+     *                       value, or null to iterate to the last node.
+     * @return An Iterator over the nodes in the provided range.
+     */
+    Iterator<Node2<T>> iterateNodes(Function1<T,Comparison> compareWithStart, Function1<T,Comparison> compareWithEnd)
+    {
+        return new NodeIterator<>(this.root, compareWithStart, compareWithEnd);
+    }
+
+    private Node<T> add(Node<T> node, Node<T> nodeToAdd)
+    {
+        Node<T> result;
+        if (node == null)
+        {
+            result = nodeToAdd;
+        }
+        else
+        {
+            if (this.comparer.run(nodeToAdd.getValue(), node.getValue()) == Comparison.LessThan)
+            {
+                node.setNode1(this.add(node.getNode1(), nodeToAdd));
+            }
+            else
+            {
+                node.setNode2(this.add(node.getNode2(), nodeToAdd));
+            }
+            result = BalancedBinaryTree.rebalance(node);
+        }
+        return result;
+    }
+
+    private Node<T> remove(Node<T> node, Function1<T,Comparison> compareWith, Node2<T> nodeToRemove)
+    {
+        Node<T> result;
+        if (node == nodeToRemove)
+        {
+            this.removedNode = node;
+
+            final Node<T> leftChild = node.getNode1();
+            final Node<T> rightChild = node.getNode2();
+            if (leftChild == null)
+            {
+                result = rightChild;
+            }
+            else if (rightChild == null)
+            {
+                result = leftChild;
+            }
+            else
+            {
+                Node<T> successor = rightChild;
+                while (successor.getNode1() != null)
+                {
+                    successor = successor.getNode1();
+                }
+                successor.setNode2(BalancedBinaryTree.removeFirst(rightChild));
+                successor.setNode1(leftChild);
+                result = BalancedBinaryTree.rebalance(successor);
+            }
+
+            node.setNode1(null);
+            node.setNode2(null);
+        }
+        else
+        {
+            // Equal values are added to the right of the values that were added before them, and
+            // findNode() returns the first of them, so an equal node is searched for on the left.
+            if (compareWith.run(node.getValue()) == Comparison.GreaterThan)
+            {
+                node.setNode2(this.remove(node.getNode2(), compareWith, nodeToRemove));
+            }
+            else
+            {
+                node.setNode1(this.remove(node.getNode1(), compareWith, nodeToRemove));
+            }
+            result = BalancedBinaryTree.rebalance(node);
+        }
+        return result;
+    }
+
+    /**
+     * Remove the first node from the subtree that starts at the provided node.
+     * @param node The root of the subtree.
+     * @return The new root of the subtree.
+     */
+    private static <T> Node<T> removeFirst(Node<T> node)
+    {
+        Node<T> result;
+        if (node.getNode1() == null)
+        {
+            result = node.getNode2();
+        }
+        else
+        {
+            node.setNode1(BalancedBinaryTree.removeFirst(node.getNode1()));
+            result = BalancedBinaryTree.rebalance(node);
+        }
+        return result;
+    }
+
+    private static <T> Node<T> rebalance(Node<T> node)
+    {
+        BalancedBinaryTree.update(node);
+
+        Node<T> result = node;
+        final Node<T> leftChild = node.getNode1();
+        final Node<T> rightChild = node.getNode2();
+        final int balance = BalancedBinaryTree.getHeight(leftChild) - BalancedBinaryTree.getHeight(rightChild);
+        if (balance > 1)
+        {
+            if (BalancedBinaryTree.getHeight(leftChild.getNode1()) < BalancedBinaryTree.getHeight(leftChild.getNode2()))
+            {
+                node.setNode1(BalancedBinaryTree.rotateLeft(leftChild));
+            }
+            result = BalancedBinaryTree.rotateRight(node);
+        }
+        else if (balance < -1)
+        {
+            if (BalancedBinaryTree.getHeight(rightChild.getNode2()) < BalancedBinaryTree.getHeight(rightChild.getNode1()))
+            {
+                node.setNode2(BalancedBinaryTree.rotateRight(rightChild));
+            }
+            result = BalancedBinaryTree.rotateLeft(node);
+        }
+        return result;
+    }
+
+    private static <T> Node<T> rotateLeft(Node<T> node)
+    {
+        final Node<T> result = node.getNode2();
+        node.setNode2(result.getNode1());
+        result.setNode1(node);
+        BalancedBinaryTree.update(node);
+        BalancedBinaryTree.update(result);
+        return result;
+    }
+
+    private static <T> Node<T> rotateRight(Node<T> node)
+    {
+        final Node<T> result = node.getNode1();
+        node.setNode1(result.getNode2());
+        result.setNode2(node);
+        BalancedBinaryTree.update(node);
+        BalancedBinaryTree.update(result);
+        return result;
+    }
+
+    private static <T> void update(Node<T> node)
+    {
+        final Node<T> leftChild = node.getNode1();
+        final Node<T> rightChild = node.getNode2();
+        node.height = java.lang.Math.max(BalancedBinaryTree.getHeight(leftChild), BalancedBinaryTree.getHeight(rightChild)) + 1;
+        node.count = BalancedBinaryTree.getCount(leftChild) + BalancedBinaryTree.getCount(rightChild) + 1;
+    }
+
+    private static int getHeight(Node<?> node)
+    {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int getCount(Node<?> node)
+    {
+        return node == null ? 0 : node.count;
+    }
+
+    /**
+     * A Node2 that also stores the height of and the number of nodes in the subtree that it is the
+     * root of.
+     * @param <T> The type of value stored in the node.
+     */
+    private static class Node<T> extends Node2<T>
+    {
+        private int height;
+        private int count;
+
+        private Node(T value)
+        {
+            super(value);
+
+            this.height = 1;
+            this.count = 1;
+        }
+
+        @Override
+        public Node<T> getNode1()
+        {
+            return (Node<T>)super.getNode1();
+        }
+
+        @Override
+        public Node<T> getNode2()
+        {
+            return (Node<T>)super.getNode2();
+        }
+    }
+
+    /**
+     * An Iterator that visits the nodes of a BalancedBinaryTree in sorted order, starting at the
+     * first node that is greater than or equal to a start value and stopping at the first node that
+     * is greater than or equal to an end value.
+     * @param <T> The type of value stored in each node.
+     */
+    private static class NodeIterator<T> implements Iterator<Node2<T>>
+    {
+        private final Node<T> root;
+        private final Function1<T,Comparison> compareWithStart;
+        private final Function1<T,Comparison> compareWithEnd;
+        private final Stack<Node<T>> nodesToVisit;
+        private Node<T> currentNode;
+        private boolean hasStarted;
+
+        private NodeIterator(Node<T> root, Function1<T,Comparison> compareWithStart, Function1<T,Comparison> compareWithEnd)
+        {
+            this.root = root;
+            this.compareWithStart = compareWithStart;
+            this.compareWithEnd = compareWithEnd;
+            this.nodesToVisit = Stack.create();
+        }
+
+        @Override
+        public boolean hasStarted()
+        {
+            return this.hasStarted;
+        }
+
+        @Override
+        public boolean hasCurrent()
+        {
+            return this.currentNode != null;
+        }
+
+        @Override
+        public Node2<T> getCurrent()
+        {
+            PreCondition.assertTrue(this.hasCurrent(), "this.hasCurrent()");
+
+            return this.currentNode;
+        }
+
+        @Override
+        public boolean next()
+        {
+            if (!this.hasStarted)
+            {
+                this.hasStarted = true;
+                this.addStartNodesToVisit();
+            }
+            else if (this.currentNode != null)
+            {
+                this.addNodesToVisit(this.currentNode.getNode2());
+            }
+
+            this.currentNode = null;
+            if (this.nodesToVisit.any())
+            {
+                final Node<T> nextNode = this.nodesToVisit.pop().await();
+                if (this.compareWithEnd == null || this.compareWithEnd.run(nextNode.getValue()) == Comparison.GreaterThan)
+                {
+                    this.currentNode = nextNode;
+                }
+                else
+                {
+                    while (this.nodesToVisit.any())
+                    {
+                        this.nodesToVisit.pop().await();
+                    }
+                }
+            }
+
+            return this.hasCurrent();
+        }
+
+        /**
+         * Push the nodes on the path from the root to the first node that should be visited. Only
+         * the nodes that are greater than or equal to the start value are pushed.
+         */
+        private void addStartNodesToVisit()
+        {
+            if (this.compareWithStart == null)
+            {
+                this.addNodesToVisit(this.root);
+            }
+            else
+            {
+                Node<T> node = this.root;
+                while (node != null)
+                {
+                    if (this.compareWithStart.run(node.getValue()) == Comparison.GreaterThan)
+                    {
+                        node = node.getNode2();
+                    }
+                    else
+                    {
+                        this.nodesToVisit.push(node);
+                        node = node.getNode1();
+                    }
+                }
+            }
+        }
+
+        private void addNodesToVisit(Node<T> node)
+        {
+            while (node != null)
+            {
+                this.nodesToVisit.push(node);
+                node = node.getNode1();
+            }
+        }
+    }
+}
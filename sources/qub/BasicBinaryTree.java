@@ -273,4 +273,10 @@ public class BasicBinaryTree<T> implements BinaryTree<T>
     {
         return Iterable.equals(this, rhs);
     }
+
+    @Override
+    public int hashCode()
+    {
+        return Iterable.hashCode(this);
+    }
 }
@@ -0,0 +1,702 @@
+package qub;
+
+/**
+ * A Cache that can only be used by one thread at a time. Entries are found through a HashMap and
+ * are also linked into access-ordered lists, so looking up, adding, and evicting an entry all take
+ * O(1) time. Entries that expire are also linked into lists that are ordered by when they expire,
+ * so expired entries are removed without visiting the entries that haven't expired.
+ * @param <TKey> The type of keys that are stored in this Cache.
+ * @param <TValue> The type of values that are stored in this Cache.
+ */
+public class BasicCache<TKey,TValue> implements Cache<TKey,TValue>
+{
+    /**
+     * The number of keys that the frequency sketch is sized for when this Cache is created. The
+     * sketch grows as more entries are added, so a Cache with a large maximum weight doesn't
+     * allocate a large sketch before it needs one.
+     */
+    private static final int initialSketchKeyCount = 1024;
+
+    private final HashMap<TKey,Node<TKey,TValue>> nodes;
+    private final long maximumWeight;
+    private final Function2<TKey,TValue,DataSize> weigher;
+    private final Duration expireAfterWrite;
+    private final Duration expireAfterAccess;
+    private final Clock clock;
+    private final CacheStatistics statistics;
+    /**
+     * The sketch that estimates how often each key has been used, or null if this Cache evicts its
+     * least recently used entries.
+     */
+    private final FrequencySketch sketch;
+    /**
+     * The entries that were added most recently. When this Cache evicts its least recently used
+     * entries, every entry is in this list.
+     */
+    private final NodeList<TKey,TValue> windowNodes;
+    /**
+     * The entries that were admitted from the window and haven't been used since.
+     */
+    private final NodeList<TKey,TValue> probationNodes;
+    /**
+     * The entries that were used again after they were admitted from the window.
+     */
+    private final NodeList<TKey,TValue> protectedNodes;
+    private final long windowMaximumWeight;
+    private final long protectedMaximumWeight;
+    /**
+     * The entries ordered by when they were last written. Every entry expires the same amount of
+     * time after it is written, so the entry that expires next is always first.
+     */
+    private final ExpirationList<TKey,TValue> writeExpirations;
+    /**
+     * The entries ordered by when they were last used. Every entry expires the same amount of time
+     * after it is used, so the entry that expires next is always first.
+     */
+    private final ExpirationList<TKey,TValue> accessExpirations;
+
+    private BasicCache(CacheParameters<TKey,TValue> parameters)
+    {
+        PreCondition.assertNotNull(parameters, "parameters");
+        PreCondition.assertTrue(!parameters.expiresEntries() || parameters.getClock() != null, "!parameters.expiresEntries() || parameters.getClock() != null");
+
+        this.nodes = HashMap.create();
+        this.maximumWeight = parameters.getMaximumWeight();
+        this.weigher = parameters.getWeigher();
+        this.expireAfterWrite = parameters.getExpireAfterWrite();
+        this.expireAfterAccess = parameters.getExpireAfterAccess();
+        this.clock = parameters.getClock();
+        this.statistics = CacheStatistics.create();
+        this.windowNodes = new NodeList<>();
+        this.probationNodes = new NodeList<>();
+        this.protectedNodes = new NodeList<>();
+        this.writeExpirations = new ExpirationList<>();
+        this.accessExpirations = new ExpirationList<>();
+
+        if (parameters.getEvictionPolicy() == CacheEvictionPolicy.LeastRecentlyUsed)
+        {
+            this.sketch = null;
+            this.windowMaximumWeight = this.maximumWeight;
+            this.protectedMaximumWeight = 0;
+        }
+        else
+        {
+            final int sketchKeyCount = this.weigher == null
+                ? (int)java.lang.Math.min(this.maximumWeight, BasicCache.initialSketchKeyCount)
+                : BasicCache.initialSketchKeyCount;
+            this.sketch = FrequencySketch.create(sketchKeyCount);
+            this.windowMaximumWeight = java.lang.Math.max(1, this.maximumWeight / 100);
+            this.protectedMaximumWeight = (this.maximumWeight - this.windowMaximumWeight) / 5 * 4;
+        }
+    }
+
+    /**
+     * Create a new BasicCache.
+     * @param parameters The parameters that describe how the new BasicCache limits and expires its
+     *                   entries.
+     * @param <TKey> The type of keys that are stored in the new BasicCache.
+     * @param <TValue> The type of values that are stored in the new BasicCache.
+     * @return The new BasicCache.
+     */
+    public static <TKey,TValue> BasicCache<TKey,TValue> create(CacheParameters<TKey,TValue> parameters)
+    {
+        return new BasicCache<>(parameters);
+    }
+
+    /**
+     * Get the total weight of the entries in this Cache. If this Cache is limited by size, then
+     * this is the number of bytes in this Cache.
+     * @return The total weight of the entries in this Cache.
+     */
+    public long getWeight()
+    {
+        return this.windowNodes.weight + this.probationNodes.weight + this.protectedNodes.weight;
+    }
+
+    @Override
+    public CacheStatistics getStatistics()
+    {
+        return this.statistics;
+    }
+
+    /**
+     * Get the number of entries in this Cache. If entries in this Cache expire, then the expired
+     * entries are removed first. Each entry is only visited when it is removed, so this takes
+     * amortized O(1) time.
+     * @return The number of entries in this Cache.
+     */
+    @Override
+    public int getCount()
+    {
+        this.removeExpiredEntries();
+        return this.nodes.getCount();
+    }
+
+    @Override
+    public boolean any()
+    {
+        return this.getCount() > 0;
+    }
+
+    @Override
+    public BasicCache<TKey,TValue> clear()
+    {
+        this.nodes.clear();
+        this.windowNodes.clear();
+        this.probationNodes.clear();
+        this.protectedNodes.clear();
+        this.writeExpirations.clear();
+        this.accessExpirations.clear();
+        return this;
+    }
+
+    @Override
+    public boolean containsKey(TKey key)
+    {
+        return this.getLiveNode(key) != null;
+    }
+
+    @Override
+    public Result<TValue> get(TKey key)
+    {
+        final Node<TKey,TValue> node = this.getLiveNode(key);
+        Result<TValue> result;
+        if (node == null)
+        {
+            this.statistics.incrementMissCount();
+            result = this.createNotFoundResult(key);
+        }
+        else
+        {
+            this.statistics.incrementHitCount();
+            this.onAccess(node);
+            result = Result.success(node.value);
+        }
+        return result;
+    }
+
+    @Override
+    public Result<TValue> getOrCompute(TKey key, Function1<TKey,TValue> loader)
+    {
+        PreCondition.assertNotNull(loader, "loader");
+
+        final Node<TKey,TValue> node = this.getLiveNode(key);
+        Result<TValue> result;
+        if (node != null)
+        {
+            this.statistics.incrementHitCount();
+            this.onAccess(node);
+            result = Result.success(node.value);
+        }
+        else
+        {
+            this.statistics.incrementMissCount();
+            result = Result.create(() -> loader.run(key))
+                .then((TValue value) ->
+                {
+                    this.statistics.incrementLoadSuccessCount();
+                    this.set(key, value);
+                    return value;
+                })
+                .onError(this.statistics::incrementLoadFailureCount);
+        }
+        return result;
+    }
+
+    @Override
+    public BasicCache<TKey,TValue> set(TKey key, TValue value)
+    {
+        final long weight = this.weigh(key, value);
+
+        Node<TKey,TValue> node = this.nodes.getOrDefault(key, null);
+        if (node != null)
+        {
+            this.getNodeList(node).weight += weight - node.weight;
+            node.value = value;
+            node.weight = weight;
+            this.setWriteExpiration(node);
+            this.onAccess(node);
+        }
+        else
+        {
+            node = new Node<>(key, value, weight);
+            this.setWriteExpiration(node);
+            this.setAccessExpiration(node);
+            this.nodes.set(key, node);
+            this.windowNodes.addLast(node);
+            if (this.sketch != null)
+            {
+                this.sketch.ensureCapacity(this.nodes.getCount());
+                this.sketch.increment(key);
+            }
+        }
+
+        this.evict();
+
+        return this;
+    }
+
+    @Override
+    public Result<TValue> remove(TKey key)
+    {
+        final Node<TKey,TValue> node = this.getLiveNode(key);
+        Result<TValue> result;
+        if (node == null)
+        {
+            result = this.createNotFoundResult(key);
+        }
+        else
+        {
+            this.removeNode(node);
+            result = Result.success(node.value);
+        }
+        return result;
+    }
+
+    @Override
+    public BasicCache<TKey,TValue> removeExpiredEntries()
+    {
+        if (this.clock != null && this.nodes.any())
+        {
+            final DateTime now = this.clock.getCurrentDateTime();
+            this.removeExpiredNodes(this.writeExpirations, now);
+            this.removeExpiredNodes(this.accessExpirations, now);
+        }
+        return this;
+    }
+
+    @Override
+    public Iterable<TKey> getKeys()
+    {
+        return this.map(MapEntry::getKey);
+    }
+
+    @Override
+    public Iterable<TValue> getValues()
+    {
+        return this.map(MapEntry::getValue);
+    }
+
+    @Override
+    public Iterator<MapEntry<TKey,TValue>> iterate()
+    {
+        this.removeExpiredEntries();
+        return this.nodes.iterate()
+            .map((MapEntry<TKey,Node<TKey,TValue>> entry) -> MapEntry.create(entry.getKey(), entry.getValue().value));
+    }
+
+    @Override
+    public boolean equals(Object rhs)
+    {
+        return Iterable.equals(this, rhs);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Iterable.hashCode(this);
+    }
+
+    @Override
+    public String toString()
+    {
+        return Iterable.toString(this);
+    }
+
+    /**
+     * Get the node for the provided key. If the node has expired, then it is removed and null is
+     * returned.
+     * @param key The key to look for.
+     * @return The node for the provided key, or null if the key isn't in this Cache.
+     */
+    private Node<TKey,TValue> getLiveNode(TKey key)
+    {
+        Node<TKey,TValue> result = this.nodes.getOrDefault(key, null);
+        if (result != null && this.clock != null && result.isExpired(this.clock.getCurrentDateTime()))
+        {
+            this.removeNode(result);
+            this.statistics.incrementExpirationCount();
+            result = null;
+        }
+        return result;
+    }
+
+    /**
+     * Remove the expired nodes from the front of the provided ExpirationList. The nodes in the
+     * list expire in order, so this stops at the first node that hasn't expired.
+     * @param expirations The list of nodes to remove the expired nodes from.
+     * @param now The current time.
+     */
+    private void removeExpiredNodes(ExpirationList<TKey,TValue> expirations, DateTime now)
+    {
+        while (expirations.first != null && expirations.first.node.isExpired(now))
+        {
+            this.removeNode(expirations.first.node);
+            this.statistics.incrementExpirationCount();
+        }
+    }
+
+    private long weigh(TKey key, TValue value)
+    {
+        long result = 1;
+        if (this.weigher != null)
+        {
+            final DataSize size = this.weigher.run(key, value);
+            PreCondition.assertNotNull(size, "size");
+            result = CacheParameters.toByteCount(size);
+            PreCondition.assertGreaterThanOrEqualTo(result, 0, "size");
+        }
+        return result;
+    }
+
+    private void setWriteExpiration(Node<TKey,TValue> node)
+    {
+        if (this.expireAfterWrite != null)
+        {
+            node.writeExpiration = this.clock.getCurrentDateTime().plus(this.expireAfterWrite);
+            node.writeLink = this.writeExpirations.moveToLast(node, node.writeLink);
+        }
+    }
+
+    private void setAccessExpiration(Node<TKey,TValue> node)
+    {
+        if (this.expireAfterAccess != null)
+        {
+            node.accessExpiration = this.clock.getCurrentDateTime().plus(this.expireAfterAccess);
+            node.accessLink = this.accessExpirations.moveToLast(node, node.accessLink);
+        }
+    }
+
+    /**
+     * Record that the provided node was read or written.
+     * @param node The node that was used.
+     */
+    private void onAccess(Node<TKey,TValue> node)
+    {
+        this.setAccessExpiration(node);
+
+        if (this.sketch != null)
+        {
+            this.sketch.increment(node.key);
+        }
+
+        final NodeList<TKey,TValue> nodeList = this.getNodeList(node);
+        if (nodeList == this.probationNodes)
+        {
+            this.probationNodes.remove(node);
+            node.region = Region.Protected;
+            this.protectedNodes.addLast(node);
+            while (this.protectedNodes.weight > this.protectedMaximumWeight && this.protectedNodes.first != node)
+            {
+                final Node<TKey,TValue> demotedNode = this.protectedNodes.first;
+                this.protectedNodes.remove(demotedNode);
+                demotedNode.region = Region.Probation;
+                this.probationNodes.addLast(demotedNode);
+            }
+        }
+        else
+        {
+            nodeList.moveToLast(node);
+        }
+    }
+
+    /**
+     * Evict entries until this Cache is no heavier than its maximum weight.
+     */
+    private void evict()
+    {
+        // Entries that leave the window have to compete with the main region's next victim to be
+        // admitted.
+        while (this.sketch != null && this.windowNodes.weight > this.windowMaximumWeight)
+        {
+            final Node<TKey,TValue> candidate = this.windowNodes.first;
+            this.windowNodes.remove(candidate);
+            candidate.region = Region.Probation;
+            this.probationNodes.addLast(candidate);
+
+            while (this.getWeight() > this.maximumWeight)
+            {
+                final Node<TKey,TValue> victim = this.getVictim(candidate);
+                if (victim == null || this.sketch.getFrequency(candidate.key) <= this.sketch.getFrequency(victim.key))
+                {
+                    this.evictNode(candidate);
+                    break;
+                }
+                this.evictNode(victim);
+            }
+        }
+
+        while (this.getWeight() > this.maximumWeight)
+        {
+            this.evictNode(this.getVictim(null));
+        }
+    }
+
+    /**
+     * Get the next entry in the main region that should be evicted, skipping the provided
+     * candidate. The least recently used entries on probation are evicted first, then the least
+     * recently used protected entries, and then the least recently used entries in the window.
+     * @param candidate The entry that should not be returned.
+     * @return The next entry that should be evicted, or null if there isn't one.
+     */
+    private Node<TKey,TValue> getVictim(Node<TKey,TValue> candidate)
+    {
+        Node<TKey,TValue> result = this.probationNodes.first;
+        if (result != null && result == candidate)
+        {
+            result = result.next;
+        }
+        if (result == null)
+        {
+            result = this.protectedNodes.first;
+        }
+        if (result == null && candidate == null)
+        {
+            result = this.windowNodes.first;
+        }
+        return result;
+    }
+
+    private void evictNode(Node<TKey,TValue> node)
+    {
+        this.removeNode(node);
+        this.statistics.incrementEvictionCount();
+    }
+
+    private void removeNode(Node<TKey,TValue> node)
+    {
+        this.getNodeList(node).remove(node);
+        if (node.writeLink != null)
+        {
+            this.writeExpirations.remove(node.writeLink);
+            node.writeLink = null;
+        }
+        if (node.accessLink != null)
+        {
+            this.accessExpirations.remove(node.accessLink);
+            node.accessLink = null;
+        }
+        this.nodes.remove(node.key);
+    }
+
+    private NodeList<TKey,TValue> getNodeList(Node<TKey,TValue> node)
+    {
+        NodeList<TKey,TValue> result;
+        switch (node.region)
+        {
+            case Window:
+                result = this.windowNodes;
+                break;
+
+            case Probation:
+                result = this.probationNodes;
+                break;
+
+            default:
+                result = this.protectedNodes;
+                break;
+        }
+        return result;
+    }
+
+    /**
+     * The regions of this Cache that an entry can be in.
+     */
+    private enum Region
+    {
+        Window,
+        Probation,
+        Protected
+    }
+
+    /**
+     * An entry in a BasicCache. Each node is also linked into the list of the region that it is
+     * in.
+     */
+    private static class Node<TKey,TValue>
+    {
+        private final TKey key;
+        private TValue value;
+        private long weight;
+        private Region region;
+        private DateTime writeExpiration;
+        private DateTime accessExpiration;
+        private ExpirationLink<TKey,TValue> writeLink;
+        private ExpirationLink<TKey,TValue> accessLink;
+        private Node<TKey,TValue> previous;
+        private Node<TKey,TValue> next;
+
+        private Node(TKey key, TValue value, long weight)
+        {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.region = Region.Window;
+        }
+
+        private boolean isExpired(DateTime now)
+        {
+            return (this.writeExpiration != null && now.greaterThanOrEqualTo(this.writeExpiration)) ||
+                (this.accessExpiration != null && now.greaterThanOrEqualTo(this.accessExpiration));
+        }
+    }
+
+    /**
+     * A doubly-linked list of nodes, ordered from least recently used to most recently used, that
+     * keeps track of the total weight of its nodes.
+     */
+    private static class NodeList<TKey,TValue>
+    {
+        private Node<TKey,TValue> first;
+        private Node<TKey,TValue> last;
+        private long weight;
+
+        private void addLast(Node<TKey,TValue> node)
+        {
+            node.previous = this.last;
+            node.next = null;
+            if (this.last == null)
+            {
+                this.first = node;
+            }
+            else
+            {
+                this.last.next = node;
+            }
+            this.last = node;
+            this.weight += node.weight;
+        }
+
+        private void remove(Node<TKey,TValue> node)
+        {
+            if (node.previous == null)
+            {
+                this.first = node.next;
+            }
+            else
+            {
+                node.previous.next = node.next;
+            }
+
+            if (node.next == null)
+            {
+                this.last = node.previous;
+            }
+            else
+            {
+                node.next.previous = node.previous;
+            }
+
+            node.previous = null;
+            node.next = null;
+            this.weight -= node.weight;
+        }
+
+        private void moveToLast(Node<TKey,TValue> node)
+        {
+            if (node != this.last)
+            {
+                this.remove(node);
+                this.addLast(node);
+            }
+        }
+
+        private void clear()
+        {
+            this.first = null;
+            this.last = null;
+            this.weight = 0;
+        }
+    }
+
+    /**
+     * The link that puts a node into an ExpirationList.
+     */
+    private static class ExpirationLink<TKey,TValue>
+    {
+        private final Node<TKey,TValue> node;
+        private ExpirationLink<TKey,TValue> previous;
+        private ExpirationLink<TKey,TValue> next;
+
+        private ExpirationLink(Node<TKey,TValue> node)
+        {
+            this.node = node;
+        }
+    }
+
+    /**
+     * A doubly-linked list of nodes, ordered from the node that expires first to the node that
+     * expires last.
+     */
+    private static class ExpirationList<TKey,TValue>
+    {
+        private ExpirationLink<TKey,TValue> first;
+        private ExpirationLink<TKey,TValue> last;
+
+        /**
+         * Move the provided node to the end of this list.
+         * @param node The node to move.
+         * @param link The link that puts the node into this list, or null if the node isn't in
+         *             this list yet.
+         * @return The link that puts the node into this list.
+         */
+        private ExpirationLink<TKey,TValue> moveToLast(Node<TKey,TValue> node, ExpirationLink<TKey,TValue> link)
+        {
+            ExpirationLink<TKey,TValue> result = link;
+            if (result == null)
+            {
+                result = new ExpirationLink<>(node);
+            }
+            else if (result != this.last)
+            {
+                this.remove(result);
+            }
+
+            if (result != this.last)
+            {
+                result.previous = this.last;
+                result.next = null;
+                if (this.last == null)
+                {
+                    this.first = result;
+                }
+                else
+                {
+                    this.last.next = result;
+                }
+                this.last = result;
+            }
+            return result;
+        }
+
+        private void remove(ExpirationLink<TKey,TValue> link)
+        {
+            if (link.previous == null)
+            {
+                this.first = link.next;
+            }
+            else
+            {
+                link.previous.next = link.next;
+            }
+
+            if (link.next == null)
+            {
+                this.last = link.previous;
+            }
+            else
+            {
+                link.next.previous = link.previous;
+            }
+
+            link.previous = null;
+            link.next = null;
+        }
+
+        private void clear()
+        {
+            this.first = null;
+            this.last = null;
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package qub;
 
-public class BasicCharacterToByteReadStream implements CharacterToByteReadStream
+public class BasicCharacterToByteReadStream implements CharacterToByteReadStream, JavaChannelStream
 {
     private final ByteReadStream byteReadStream;
     private CharacterEncoding characterEncoding;
@@ -51,6 +51,12 @@ public class BasicCharacterToByteReadStream implements CharacterToByteReadStream
         return this;
     }
 
+    @Override
+    public java.nio.channels.Channel getChannel()
+    {
+        return JavaChannelStream.getChannel(this.byteReadStream);
+    }
+
     @Override
     public boolean isDisposed()
     {
@@ -69,6 +75,12 @@ public class BasicCharacterToByteReadStream implements CharacterToByteReadStream
         return this.byteReadStream.readByte();
     }
 
+    @Override
+    public int readByteOrEnd()
+    {
+        return this.byteReadStream.readByteOrEnd();
+    }
+
     @Override
     public Result<Integer> readBytes(byte[] outputBytes, int startIndex, int length)
     {
@@ -382,4 +382,10 @@ public class BasicDuration implements Duration
     {
         return Duration.equals(this, rhs);
     }
+
+    @Override
+    public int hashCode()
+    {
+        return Duration.hashCode(this);
+    }
 }
@@ -11,7 +11,7 @@ public interface BinaryTree<T> extends Iterable<T>, Traversable<Node2<T>,T>
     @SafeVarargs
     static <T> BinaryTree<T> create(Function2<T,T,Comparison> comparer, T... values)
     {
-        return BasicBinaryTree.create(comparer, values);
+        return BalancedBinaryTree.create(comparer, values);
     }
 
     /**
@@ -22,7 +22,7 @@ public interface BinaryTree<T> extends Iterable<T>, Traversable<Node2<T>,T>
      */
     static <T> BinaryTree<T> create(Function2<T,T,Comparison> comparer, Iterable<T> values)
     {
-        return BasicBinaryTree.create(comparer, values);
+        return BalancedBinaryTree.create(comparer, values);
     }
 
     /**
@@ -737,6 +737,12 @@ public class BitArray implements Array<Integer>
         return rhs instanceof BitArray && equals((BitArray)rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return Hash.getHashCode(this.bitCount, java.util.Arrays.hashCode(this.bitChunks));
+    }
+
     /**
      * Get whether or not the bits in this BitArray object are the same as the bits in the provided rhs
      * BitArray object.
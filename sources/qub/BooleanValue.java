@@ -136,6 +136,12 @@ public class BooleanValue implements Value<java.lang.Boolean>
         return result;
     }
 
+    @Override
+    public int hashCode()
+    {
+        return this.hasValue() ? java.lang.Boolean.hashCode(this.getAsBoolean()) : 0;
+    }
+
     public boolean equals(boolean rhs)
     {
         return this.hasValue() && this.getAsBoolean() == rhs;
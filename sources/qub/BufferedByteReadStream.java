@@ -54,26 +54,15 @@ public class BufferedByteReadStream implements ByteReadStream
         Result<Byte> result;
         if (currentBufferIndex < 0 || currentBufferIndex == bytesInBuffer - 1)
         {
-            if (growOnNextBufferFill && buffer.length < maximumBufferSize)
+            result = Result.create(() ->
             {
-                buffer = new byte[Math.minimum(maximumBufferSize, buffer.length * 2)];
-            }
-
-            result = byteReadStream.readBytes(buffer)
-                .then((Integer bytesRead) ->
-                {
-                    bytesInBuffer = bytesRead;
-                    growOnNextBufferFill = (buffer.length == bytesRead);
-                    currentBufferIndex = 0;
-                    return buffer[currentBufferIndex];
-                })
-                .onError(EndOfStreamException.class, () ->
+                if (!this.fillBuffer())
                 {
-                    buffer = null;
-                    growOnNextBufferFill = false;
-                    bytesInBuffer = 0;
-                    currentBufferIndex = -1;
-                });
+                    throw new EndOfStreamException();
+                }
+                currentBufferIndex = 0;
+                return buffer[currentBufferIndex];
+            });
         }
         else
         {
@@ -85,6 +74,66 @@ public class BufferedByteReadStream implements ByteReadStream
         return result;
     }
 
+    @Override
+    public int readByteOrEnd()
+    {
+        PreCondition.assertNotDisposed(this, "this");
+
+        int result;
+        if (currentBufferIndex >= 0 && currentBufferIndex < bytesInBuffer - 1)
+        {
+            result = Bytes.toUnsignedInt(buffer[++currentBufferIndex]);
+        }
+        else if (!this.fillBuffer())
+        {
+            result = -1;
+        }
+        else
+        {
+            currentBufferIndex = 0;
+            result = Bytes.toUnsignedInt(buffer[currentBufferIndex]);
+        }
+
+        PostCondition.assertBetween(-1, result, 255, "result");
+
+        return result;
+    }
+
+    /**
+     * Refill the buffer from the inner stream, growing the buffer first if the last fill filled
+     * it completely. If the inner stream has ended, then the buffer is released.
+     * @return Whether or not any bytes were read into the buffer.
+     */
+    private boolean fillBuffer()
+    {
+        boolean result = false;
+        if (buffer != null)
+        {
+            if (growOnNextBufferFill && buffer.length < maximumBufferSize)
+            {
+                buffer = new byte[Math.minimum(maximumBufferSize, buffer.length * 2)];
+            }
+
+            final Integer bytesRead = byteReadStream.readBytes(buffer)
+                .catchError(EndOfStreamException.class)
+                .await();
+            result = (bytesRead != null);
+            if (result)
+            {
+                bytesInBuffer = bytesRead;
+                growOnNextBufferFill = (buffer.length == bytesRead);
+            }
+            else
+            {
+                buffer = null;
+                growOnNextBufferFill = false;
+                bytesInBuffer = 0;
+                currentBufferIndex = -1;
+            }
+        }
+        return result;
+    }
+
     @Override
     public Result<Integer> readBytes(byte[] outputBytes, int startIndex, int length)
     {
@@ -97,30 +146,19 @@ public class BufferedByteReadStream implements ByteReadStream
 
         if (currentBufferIndex < 0 || currentBufferIndex == bytesInBuffer - 1)
         {
-            if (growOnNextBufferFill && buffer.length < maximumBufferSize)
+            result = Result.create(() ->
             {
-                buffer = new byte[Math.minimum(maximumBufferSize, buffer.length * 2)];
-            }
-
-            result = byteReadStream.readBytes(buffer)
-                .then((Integer bytesRead) ->
+                if (!this.fillBuffer())
                 {
-                    bytesInBuffer = bytesRead;
-                    growOnNextBufferFill = (buffer.length == bytesRead);
+                    throw new EndOfStreamException();
+                }
 
-                    final int bytesToCopy = Math.minimum(bytesRead, length);
-                    Array.copy(buffer, 0, outputBytes, startIndex, bytesToCopy);
-                    currentBufferIndex = bytesToCopy - 1;
+                final int bytesToCopy = Math.minimum(bytesInBuffer, length);
+                Array.copy(buffer, 0, outputBytes, startIndex, bytesToCopy);
+                currentBufferIndex = bytesToCopy - 1;
 
-                    return bytesToCopy;
-                })
-                .onError(EndOfStreamException.class, () ->
-                {
-                    buffer = null;
-                    growOnNextBufferFill = false;
-                    bytesInBuffer = 0;
-                    currentBufferIndex = -1;
-                });
+                return bytesToCopy;
+            });
         }
         else
         {
@@ -1,6 +1,6 @@
 package qub;
 
-public class BufferedByteWriteStream implements ByteWriteStream
+public class BufferedByteWriteStream implements ByteWriteStream, JavaChannelStream
 {
     private final ByteWriteStream byteWriteStream;
     private final int maximumBufferSize;
@@ -165,6 +165,39 @@ public class BufferedByteWriteStream implements ByteWriteStream
         });
     }
 
+    @Override
+    public Result<Long> writeAll(ByteReadStream byteReadStream, int initialBufferCapacity)
+    {
+        PreCondition.assertNotNull(byteReadStream, "byteReadStream");
+        PreCondition.assertNotDisposed(byteReadStream, "byteReadStream");
+        PreCondition.assertGreaterThanOrEqualTo(initialBufferCapacity, 1, "initialBufferCapacity");
+        PreCondition.assertNotDisposed(this, "this");
+
+        Result<Long> result;
+        if (this.currentBufferIndex == 0 || JavaChannelStream.getChannel(this.byteWriteStream) == null)
+        {
+            result = ByteWriteStream.super.writeAll(byteReadStream, initialBufferCapacity);
+        }
+        else
+        {
+            // Empty the buffer first so that the bytes can be moved straight to the inner stream's
+            // channel.
+            result = this.flush()
+                .then(() -> ByteWriteStream.super.writeAll(byteReadStream, initialBufferCapacity).await());
+        }
+        return result;
+    }
+
+    @Override
+    public java.nio.channels.Channel getChannel()
+    {
+        // Bytes that are written to the channel directly would jump ahead of any bytes that are
+        // still in the buffer.
+        return this.currentBufferIndex == 0
+            ? JavaChannelStream.getChannel(this.byteWriteStream)
+            : null;
+    }
+
     @Override
     public boolean isDisposed()
     {
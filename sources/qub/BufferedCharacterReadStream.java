@@ -0,0 +1,380 @@
+package qub;
+
+/**
+ * A CharacterReadStream that reads bytes from a ByteReadStream in blocks and decodes each block
+ * into a buffer of characters. Characters, lines, and delimited Strings are read by scanning the
+ * decoded buffer directly instead of decoding and returning one character at a time.
+ */
+public class BufferedCharacterReadStream implements CharacterReadStream
+{
+    private static final int minimumBufferSize = 4;
+
+    private final ByteReadStream byteReadStream;
+    private final CharacterEncoding characterEncoding;
+    private final byte[] byteBuffer;
+    /**
+     * The number of bytes at the start of byteBuffer that are waiting to be decoded. These are the
+     * first bytes of a character whose remaining bytes haven't been read yet.
+     */
+    private int bytesInBuffer;
+    private final char[] characterBuffer;
+    private int characterIndex;
+    private int charactersInBuffer;
+    private boolean startOfStream;
+    private boolean endOfStream;
+
+    private BufferedCharacterReadStream(ByteReadStream byteReadStream, CharacterEncoding characterEncoding, int bufferSize)
+    {
+        this.byteReadStream = byteReadStream;
+        this.characterEncoding = characterEncoding;
+        this.byteBuffer = new byte[bufferSize];
+        this.characterBuffer = new char[bufferSize];
+        this.startOfStream = true;
+    }
+
+    /**
+     * Create a new BufferedCharacterReadStream that decodes the bytes of the provided
+     * ByteReadStream as UTF-8.
+     * @param byteReadStream The ByteReadStream to read bytes from.
+     * @return The new BufferedCharacterReadStream.
+     */
+    public static BufferedCharacterReadStream create(ByteReadStream byteReadStream)
+    {
+        return BufferedCharacterReadStream.create(byteReadStream, CharacterEncoding.UTF_8);
+    }
+
+    /**
+     * Create a new BufferedCharacterReadStream that decodes the bytes of the provided
+     * ByteReadStream with the provided CharacterEncoding.
+     * @param byteReadStream The ByteReadStream to read bytes from.
+     * @param characterEncoding The CharacterEncoding to decode the bytes with.
+     * @return The new BufferedCharacterReadStream.
+     */
+    public static BufferedCharacterReadStream create(ByteReadStream byteReadStream, CharacterEncoding characterEncoding)
+    {
+        return BufferedCharacterReadStream.create(byteReadStream, characterEncoding, 10000);
+    }
+
+    /**
+     * Create a new BufferedCharacterReadStream that decodes the bytes of the provided
+     * ByteReadStream with the provided CharacterEncoding.
+     * @param byteReadStream The ByteReadStream to read bytes from.
+     * @param characterEncoding The CharacterEncoding to decode the bytes with.
+     * @param bufferSize The number of bytes to read from the ByteReadStream at a time.
+     * @return The new BufferedCharacterReadStream.
+     */
+    public static BufferedCharacterReadStream create(ByteReadStream byteReadStream, CharacterEncoding characterEncoding, int bufferSize)
+    {
+        PreCondition.assertNotNull(byteReadStream, "byteReadStream");
+        PreCondition.assertNotNull(characterEncoding, "characterEncoding");
+        PreCondition.assertGreaterThanOrEqualTo(bufferSize, BufferedCharacterReadStream.minimumBufferSize, "bufferSize");
+
+        return new BufferedCharacterReadStream(byteReadStream, characterEncoding, bufferSize);
+    }
+
+    @Override
+    public CharacterEncoding getCharacterEncoding()
+    {
+        return this.characterEncoding;
+    }
+
+    /**
+     * Get the number of decoded characters that are waiting to be read.
+     * @return The number of decoded characters that are waiting to be read.
+     */
+    public int getBufferedCharacterCount()
+    {
+        return this.charactersInBuffer - this.characterIndex;
+    }
+
+    @Override
+    public Result<Character> readCharacter()
+    {
+        PreCondition.assertNotDisposed(this, "this");
+
+        return Result.create(() ->
+        {
+            final int result = this.readCharacterOrEnd();
+            if (result == -1)
+            {
+                throw new EndOfStreamException();
+            }
+            return (char)result;
+        });
+    }
+
+    @Override
+    public int readCharacterOrEnd()
+    {
+        PreCondition.assertNotDisposed(this, "this");
+
+        return this.fillCharacterBuffer()
+            ? this.characterBuffer[this.characterIndex++]
+            : -1;
+    }
+
+    @Override
+    public Result<Integer> readCharacters(char[] outputCharacters, int startIndex, int length)
+    {
+        PreCondition.assertNotNull(outputCharacters, "outputCharacters");
+        PreCondition.assertStartIndex(startIndex, outputCharacters.length);
+        PreCondition.assertLength(length, startIndex, outputCharacters.length);
+        PreCondition.assertNotDisposed(this, "this");
+
+        return Result.create(() ->
+        {
+            int result = 0;
+            if (length > 0)
+            {
+                if (!this.fillCharacterBuffer())
+                {
+                    throw new EndOfStreamException();
+                }
+
+                result = Math.minimum(length, this.getBufferedCharacterCount());
+                Array.copy(this.characterBuffer, this.characterIndex, outputCharacters, startIndex, result);
+                this.characterIndex += result;
+            }
+            return result;
+        });
+    }
+
+    @Override
+    public Result<char[]> readAllCharacters()
+    {
+        PreCondition.assertNotDisposed(this, "this");
+
+        return Result.create(() ->
+        {
+            final java.lang.StringBuilder builder = new java.lang.StringBuilder();
+            while (this.fillCharacterBuffer())
+            {
+                builder.append(this.characterBuffer, this.characterIndex, this.getBufferedCharacterCount());
+                this.characterIndex = this.charactersInBuffer;
+            }
+
+            final char[] result = new char[builder.length()];
+            builder.getChars(0, result.length, result, 0);
+            return result;
+        });
+    }
+
+    @Override
+    public Result<char[]> readCharactersUntil(String value)
+    {
+        PreCondition.assertNotNullAndNotEmpty(value, "value");
+        PreCondition.assertNotDisposed(this, "this");
+
+        return this.readStringUntil(value)
+            .then((String result) -> result.toCharArray());
+    }
+
+    @Override
+    public Result<String> readStringUntil(String value)
+    {
+        PreCondition.assertNotNullAndNotEmpty(value, "value");
+        PreCondition.assertNotDisposed(this, "this");
+
+        return Result.create(() ->
+        {
+            final String result = this.readUntil(value, true, false);
+            if (result == null)
+            {
+                throw new EndOfStreamException();
+            }
+            return result;
+        });
+    }
+
+    @Override
+    public Result<String> readLine(boolean includeNewLine)
+    {
+        PreCondition.assertNotDisposed(this, "this");
+
+        return Result.create(() ->
+        {
+            final String result = this.readUntil("\n", includeNewLine, !includeNewLine);
+            if (result == null)
+            {
+                throw new EndOfStreamException();
+            }
+            return result;
+        });
+    }
+
+    @Override
+    public Iterator<String> iterateLines(boolean includeNewLines)
+    {
+        return Iterator.create((IteratorActions<String> actions) ->
+        {
+            final String line = this.readUntil("\n", includeNewLines, !includeNewLines);
+            if (line != null)
+            {
+                actions.returnValue(line);
+            }
+        });
+    }
+
+    @Override
+    public boolean isDisposed()
+    {
+        return this.byteReadStream.isDisposed();
+    }
+
+    @Override
+    public Result<Boolean> dispose()
+    {
+        this.characterIndex = 0;
+        this.charactersInBuffer = 0;
+        this.bytesInBuffer = 0;
+        return this.byteReadStream.dispose();
+    }
+
+    /**
+     * Read characters until the provided terminator has been read or until the end of the stream.
+     * @param terminator The characters that end the returned String.
+     * @param includeTerminator Whether or not the terminator will be included in the returned
+     *                          String.
+     * @param removeCarriageReturn Whether or not a carriage return that comes right before the
+     *                             terminator will be removed from the returned String.
+     * @return The characters that were read, or null if the stream had already ended.
+     */
+    private String readUntil(String terminator, boolean includeTerminator, boolean removeCarriageReturn)
+    {
+        final int terminatorLength = terminator.length();
+        final char lastTerminatorCharacter = terminator.charAt(terminatorLength - 1);
+
+        java.lang.StringBuilder builder = null;
+        String result = null;
+        while (result == null && this.fillCharacterBuffer())
+        {
+            final int startIndex = this.characterIndex;
+            int endIndex = -1;
+            for (int i = startIndex; endIndex == -1 && i < this.charactersInBuffer; ++i)
+            {
+                if (this.characterBuffer[i] == lastTerminatorCharacter &&
+                    this.endsWith(terminator, builder, startIndex, i + 1))
+                {
+                    endIndex = i + 1;
+                }
+            }
+
+            if (endIndex == -1)
+            {
+                if (builder == null)
+                {
+                    builder = new java.lang.StringBuilder();
+                }
+                builder.append(this.characterBuffer, startIndex, this.charactersInBuffer - startIndex);
+                this.characterIndex = this.charactersInBuffer;
+            }
+            else
+            {
+                this.characterIndex = endIndex;
+
+                int charactersToRemove = includeTerminator ? 0 : terminatorLength;
+                if (removeCarriageReturn && this.endsWith("\r", builder, startIndex, endIndex - terminatorLength))
+                {
+                    ++charactersToRemove;
+                }
+
+                int contentEndIndex = endIndex - charactersToRemove;
+                if (contentEndIndex < startIndex)
+                {
+                    builder.setLength(builder.length() - (startIndex - contentEndIndex));
+                    contentEndIndex = startIndex;
+                }
+
+                if (builder == null)
+                {
+                    result = String.valueOf(this.characterBuffer, startIndex, contentEndIndex - startIndex);
+                }
+                else
+                {
+                    builder.append(this.characterBuffer, startIndex, contentEndIndex - startIndex);
+                    result = builder.toString();
+                }
+            }
+        }
+
+        if (result == null && builder != null)
+        {
+            result = builder.toString();
+        }
+
+        return result;
+    }
+
+    /**
+     * Get whether or not the characters that have been read so far end with the provided value.
+     * The characters that have been read so far are the characters in the provided builder
+     * followed by the characters in the character buffer from startIndex up to endIndex.
+     */
+    private boolean endsWith(String value, java.lang.StringBuilder builder, int startIndex, int endIndex)
+    {
+        final int valueLength = value.length();
+        final int builderLength = builder == null ? 0 : builder.length();
+
+        boolean result = (valueLength <= builderLength + (endIndex - startIndex));
+        for (int i = 1; result && i <= valueLength; ++i)
+        {
+            final int index = endIndex - i;
+            final char character = index >= startIndex
+                ? this.characterBuffer[index]
+                : builder.charAt(builderLength - (startIndex - index));
+            result = (character == value.charAt(valueLength - i));
+        }
+        return result;
+    }
+
+    /**
+     * Make sure that there is at least one decoded character in the character buffer, reading and
+     * decoding more bytes if necessary.
+     * @return Whether or not there is a decoded character in the character buffer. If this is
+     * false, then the stream has ended.
+     */
+    private boolean fillCharacterBuffer()
+    {
+        while (this.characterIndex == this.charactersInBuffer && !this.endOfStream)
+        {
+            final Integer bytesRead = this.byteReadStream.readBytes(this.byteBuffer, this.bytesInBuffer, this.byteBuffer.length - this.bytesInBuffer)
+                .catchError(EndOfStreamException.class)
+                .await();
+
+            int bytesToDecode;
+            if (bytesRead == null)
+            {
+                // Any bytes that are still waiting are an incomplete character, so decoding them
+                // will report the encoding's error.
+                this.endOfStream = true;
+                bytesToDecode = this.bytesInBuffer;
+            }
+            else
+            {
+                this.bytesInBuffer += bytesRead;
+                bytesToDecode = this.bytesInBuffer - this.characterEncoding.getPartialCharacterByteCount(this.byteBuffer, 0, this.bytesInBuffer);
+            }
+
+            this.characterIndex = 0;
+            this.charactersInBuffer = bytesToDecode == 0
+                ? 0
+                : this.characterEncoding.decode(this.byteBuffer, 0, bytesToDecode, this.characterBuffer, 0);
+
+            this.bytesInBuffer -= bytesToDecode;
+            if (this.bytesInBuffer > 0)
+            {
+                Array.copy(this.byteBuffer, bytesToDecode, this.byteBuffer, 0, this.bytesInBuffer);
+            }
+
+            if (this.startOfStream && this.charactersInBuffer > 0)
+            {
+                this.startOfStream = false;
+                if (this.characterBuffer[0] == '\uFEFF')
+                {
+                    this.characterIndex = 1;
+                }
+            }
+        }
+        return this.characterIndex < this.charactersInBuffer;
+    }
+}
@@ -140,12 +140,54 @@ public class ByteArray implements Array<Byte>
         return values;
     }
 
+    /**
+     * Sort the bytes in this ByteArray in place. Bytes are compared as signed values, so negative
+     * bytes sort before positive ones.
+     * @return This ByteArray after it has been sorted.
+     */
+    public ByteArray sort()
+    {
+        java.util.Arrays.sort(this.values);
+
+        return this;
+    }
+
+    /**
+     * Search this ByteArray for the provided value. The bytes must already be sorted as signed
+     * values, such as by sort().
+     * @param value The value to search for.
+     * @return The index of the value, or (-insertionIndex - 1) if it isn't in this ByteArray.
+     */
+    public int binarySearch(byte value)
+    {
+        return java.util.Arrays.binarySearch(this.values, value);
+    }
+
+    /**
+     * Search this ByteArray for the provided value. The bytes must already be sorted as signed
+     * values, such as by sort().
+     * @param value The value to search for. This must be between Bytes.minimum and Bytes.maximum.
+     * @return The index of the value, or (-insertionIndex - 1) if it isn't in this ByteArray.
+     */
+    public int binarySearch(int value)
+    {
+        PreCondition.assertByte(value, "value");
+
+        return this.binarySearch((byte)value);
+    }
+
     @Override
     public boolean equals(Object rhs)
     {
         return Iterable.equals(this, rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return Iterable.hashCode(this);
+    }
+
     @Override
     public String toString()
     {
@@ -2,11 +2,16 @@ package qub;
 
 /**
  * A list of bytes. Internally this uses a primitive byte[] to store bytes, so it should be more
- * efficient than using a generic List<Byte>.
+ * efficient than using a generic List<Byte>. The byte[] is used as a ring buffer, so removing bytes
+ * from the start of this list doesn't shift the remaining bytes and takes O(1) time.
  */
 public class ByteList implements List<Byte>
 {
     private byte[] bytes;
+    /**
+     * The index in the bytes array of the first byte in this list.
+     */
+    private int startIndex;
     private int count;
 
     public ByteList()
@@ -75,21 +80,23 @@ public class ByteList implements List<Byte>
         if (count == bytes.length)
         {
             final byte[] newBytes = new byte[(bytes.length * 2) + 1];
-            if (1 <= insertIndex)
-            {
-                Array.copy(bytes, 0, newBytes, 0, insertIndex);
-            }
-            if (insertIndex <= count - 1)
-            {
-                Array.copy(bytes, insertIndex, newBytes, insertIndex + 1, count - insertIndex);
-            }
+            this.copyTo(0, newBytes, 0, insertIndex);
+            this.copyTo(insertIndex, newBytes, insertIndex + 1, count - insertIndex);
             bytes = newBytes;
+            startIndex = 0;
+        }
+        else if (insertIndex == 0)
+        {
+            startIndex = (startIndex == 0 ? bytes.length : startIndex) - 1;
         }
-        else if (insertIndex < count)
+        else
         {
-            Array.shiftRight(bytes, insertIndex, count - insertIndex);
+            for (int i = count; i > insertIndex; --i)
+            {
+                bytes[this.getArrayIndex(i)] = bytes[this.getArrayIndex(i - 1)];
+            }
         }
-        bytes[insertIndex] = value;
+        bytes[this.getArrayIndex(insertIndex)] = value;
         ++count;
 
         return this;
@@ -113,10 +120,42 @@ public class ByteList implements List<Byte>
     {
         if (values != null && values.length > 0)
         {
-            for (final byte value : values)
+            this.addAll(values, 0, values.length);
+        }
+        return this;
+    }
+
+    /**
+     * Add the provided bytes to the end of this ByteList.
+     * @param values The array that contains the bytes to add.
+     * @param startIndex The index in the array of the first byte to add.
+     * @param length The number of bytes to add.
+     * @return This object for method chaining.
+     */
+    public ByteList addAll(byte[] values, int startIndex, int length)
+    {
+        PreCondition.assertNotNull(values, "values");
+        PreCondition.assertStartIndex(startIndex, values.length);
+        PreCondition.assertLength(length, startIndex, values.length);
+
+        if (length > 0)
+        {
+            if (bytes.length - count < length)
             {
-                this.add(value);
+                final byte[] newBytes = new byte[java.lang.Math.max((bytes.length * 2) + 1, count + length)];
+                this.copyTo(0, newBytes, 0, count);
+                bytes = newBytes;
+                this.startIndex = 0;
             }
+
+            final int endIndex = this.getArrayIndex(count);
+            final int firstPartLength = java.lang.Math.min(length, bytes.length - endIndex);
+            Array.copy(values, startIndex, bytes, endIndex, firstPartLength);
+            if (firstPartLength < length)
+            {
+                Array.copy(values, startIndex + firstPartLength, bytes, 0, length - firstPartLength);
+            }
+            count += length;
         }
         return this;
     }
@@ -145,12 +184,23 @@ public class ByteList implements List<Byte>
     {
         PreCondition.assertIndexAccess(index, count, "index");
 
-        final byte result = bytes[index];
-        if (index < count - 1)
+        final byte result = bytes[this.getArrayIndex(index)];
+        if (index == 0)
         {
-            Array.shiftLeft(bytes, index, count - index - 1);
+            startIndex = this.getArrayIndex(1);
+        }
+        else
+        {
+            for (int i = index; i < count - 1; ++i)
+            {
+                bytes[this.getArrayIndex(i)] = bytes[this.getArrayIndex(i + 1)];
+            }
         }
         --count;
+        if (count == 0)
+        {
+            startIndex = 0;
+        }
 
         return result;
     }
@@ -198,13 +248,9 @@ public class ByteList implements List<Byte>
         PreCondition.assertNotNullAndNotEmpty(this, "list");
         PreCondition.assertLength(length, 0, this.getCount());
 
-        Array.copy(bytes, 0, outputBytes, startIndex, length);
-        final int bytesInList = this.getCount();
-        if (length < bytesInList)
-        {
-            Array.copy(bytes, length, this.bytes, 0, bytesInList - length);
-        }
+        this.copyTo(0, outputBytes, startIndex, length);
         count -= length;
+        this.startIndex = count == 0 ? 0 : this.getArrayIndex(length);
     }
 
     @Override
@@ -217,7 +263,7 @@ public class ByteList implements List<Byte>
     {
         PreCondition.assertIndexAccess(index, count, "index");
 
-        bytes[index] = value;
+        bytes[this.getArrayIndex(index)] = value;
 
         return this;
     }
@@ -244,13 +290,34 @@ public class ByteList implements List<Byte>
     {
         PreCondition.assertIndexAccess(index, count, "index");
 
-        return bytes[index];
+        return bytes[this.getArrayIndex(index)];
+    }
+
+    @Override
+    public ByteList clear()
+    {
+        startIndex = 0;
+        count = 0;
+        return this;
     }
 
     @Override
     public Iterator<Byte> iterate()
     {
-        return this.count == 0 ? Iterator.create() : new ByteArrayIterator(this.bytes, 0, this.count);
+        Iterator<Byte> result;
+        if (this.count == 0)
+        {
+            result = Iterator.create();
+        }
+        else if (this.startIndex + this.count <= this.bytes.length)
+        {
+            result = new ByteArrayIterator(this.bytes, this.startIndex, this.count);
+        }
+        else
+        {
+            result = new ByteArrayIterator(this.toByteArray());
+        }
+        return result;
     }
 
     @Override
@@ -259,6 +326,12 @@ public class ByteList implements List<Byte>
         return Iterable.equals(this, rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return Iterable.hashCode(this);
+    }
+
     @Override
     public String toString()
     {
@@ -271,6 +344,40 @@ public class ByteList implements List<Byte>
      */
     public byte[] toByteArray()
     {
-        return Array.clone(this.bytes, 0, this.count);
+        final byte[] result = new byte[this.count];
+        this.copyTo(0, result, 0, this.count);
+        return result;
+    }
+
+    /**
+     * Get the index in the bytes array of the byte at the provided index in this list.
+     * @param index The index of the byte in this list.
+     * @return The index in the bytes array of the byte.
+     */
+    private int getArrayIndex(int index)
+    {
+        final int result = this.startIndex + index;
+        return result < this.bytes.length ? result : result - this.bytes.length;
+    }
+
+    /**
+     * Copy the bytes in this list that start at the provided index into the provided array.
+     * @param index The index in this list of the first byte to copy.
+     * @param copyTo The array to copy the bytes to.
+     * @param copyToStartIndex The index in copyTo to start copying to.
+     * @param length The number of bytes to copy.
+     */
+    private void copyTo(int index, byte[] copyTo, int copyToStartIndex, int length)
+    {
+        if (length > 0)
+        {
+            final int arrayIndex = this.getArrayIndex(index);
+            final int firstPartLength = java.lang.Math.min(length, this.bytes.length - arrayIndex);
+            Array.copy(this.bytes, arrayIndex, copyTo, copyToStartIndex, firstPartLength);
+            if (firstPartLength < length)
+            {
+                Array.copy(this.bytes, 0, copyTo, copyToStartIndex + firstPartLength, length - firstPartLength);
+            }
+        }
     }
 }
@@ -21,6 +21,23 @@ public interface ByteReadStream extends Disposable
      */
     Result<Byte> readByte();
 
+    /**
+     * Read a single byte from this stream without wrapping it in a Result. This will block until a
+     * byte is available. Streams that can read a byte without allocating should override this so
+     * that byte-at-a-time readers don't pay for a Result per byte.
+     * @return The byte that was read as an unsigned value between 0 and 255, or -1 if the end of
+     * the stream has been reached.
+     */
+    default int readByteOrEnd()
+    {
+        PreCondition.assertNotDisposed(this, "this");
+
+        final Byte result = this.readByte()
+            .catchError(EndOfStreamException.class)
+            .await();
+        return result == null ? -1 : Bytes.toUnsignedInt(result);
+    }
+
     /**
      * Read up to the provided bytesToRead number of bytes create this stream. If fewer bytes than
      * bytesToRead are available, then fewer than bytesToRead bytes will be returned. If no bytes
@@ -133,23 +150,19 @@ public interface ByteReadStream extends Disposable
             final ByteList byteList = ByteList.empty();
             while(true)
             {
-                final Byte byteRead = this.readByte()
-                    .catchError(EndOfStreamException.class, (EndOfStreamException error) ->
-                    {
-                        if (!byteList.any())
-                        {
-                            throw error;
-                        }
-                    })
-                    .await();
-                if (byteRead == null)
+                final int byteRead = this.readByteOrEnd();
+                if (byteRead == -1)
                 {
+                    if (!byteList.any())
+                    {
+                        throw new EndOfStreamException();
+                    }
                     result = byteList.toByteArray();
                     break;
                 }
                 else
                 {
-                    byteList.add(byteRead);
+                    byteList.add((byte)byteRead);
                     if (byteList.endsWith(stopBytes))
                     {
                         result = byteList.toByteArray();
@@ -50,16 +50,8 @@ public class ByteReadStreamIterator implements Iterator<Byte>
     {
         this.hasStarted = true;
 
-        this.byteReadStream.readByte()
-            .then((Byte readByte) ->
-            {
-                this.current = readByte;
-            })
-            .catchError(EndOfStreamException.class, () ->
-            {
-                this.current = null;
-            })
-            .await();
+        final int byteRead = this.byteReadStream.readByteOrEnd();
+        this.current = byteRead == -1 ? null : (byte)byteRead;
 
         return this.hasCurrent();
     }
@@ -19,10 +19,19 @@ public class ByteReadStreamToInputStream extends java.io.InputStream
     @Override
     public int read() throws java.io.IOException
     {
-        return byteReadStream.readByte()
-            .then((Byte valueRead) -> valueRead == null ? -1 : Bytes.toUnsignedInt(valueRead))
-            .catchError(EndOfStreamException.class, () -> -1)
-            .await(java.io.IOException.class);
+        try
+        {
+            return byteReadStream.readByteOrEnd();
+        }
+        catch (RuntimeException e)
+        {
+            final java.io.IOException ioException = Exceptions.getInstanceOf(e, java.io.IOException.class);
+            if (ioException != null)
+            {
+                throw ioException;
+            }
+            throw e;
+        }
     }
 
     @Override
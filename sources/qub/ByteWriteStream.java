@@ -99,7 +99,9 @@ public interface ByteWriteStream extends Disposable
 
         return Result.create(() ->
         {
-            long result = 0;
+            // Let the operating system move the bytes if both streams are backed by channels. Any
+            // bytes that are left over are copied through the buffer below.
+            long result = JavaChannelStream.transfer(byteReadStream, this);
             byte[] buffer = new byte[initialBufferCapacity];
             int bytesInBuffer = 0;
             Integer bytesRead;
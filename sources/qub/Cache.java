@@ -0,0 +1,66 @@
+package qub;
+
+/**
+ * A MutableMap that limits how many entries it holds and how long it holds them for. When a Cache
+ * is full, it evicts entries according to its CacheEvictionPolicy.
+ * @param <TKey> The type of keys that are stored in this Cache.
+ * @param <TValue> The type of values that are stored in this Cache.
+ */
+public interface Cache<TKey,TValue> extends MutableMap<TKey,TValue>
+{
+    /**
+     * Create a new Cache that can only be used by one thread at a time.
+     * @param parameters The parameters that describe how the new Cache limits and expires its
+     *                   entries.
+     * @param <TKey> The type of keys that are stored in the new Cache.
+     * @param <TValue> The type of values that are stored in the new Cache.
+     * @return The new Cache.
+     */
+    static <TKey,TValue> BasicCache<TKey,TValue> create(CacheParameters<TKey,TValue> parameters)
+    {
+        return BasicCache.create(parameters);
+    }
+
+    /**
+     * Create a new Cache that can be used by many threads at the same time.
+     * @param parameters The parameters that describe how the new Cache limits and expires its
+     *                   entries.
+     * @param <TKey> The type of keys that are stored in the new Cache.
+     * @param <TValue> The type of values that are stored in the new Cache.
+     * @return The new Cache.
+     */
+    static <TKey,TValue> ConcurrentCache<TKey,TValue> createThreadSafe(CacheParameters<TKey,TValue> parameters)
+    {
+        return ConcurrentCache.create(parameters);
+    }
+
+    /**
+     * Get the value associated with the provided key. If the key doesn't exist in this Cache, then
+     * the loader will be run and its value will be associated with the provided key. If the loader
+     * fails, then nothing will be added to this Cache and the loader's error will be returned.
+     * @param key The key to get the associated value for.
+     * @param loader The function that will create the value for the key if it isn't in this Cache.
+     * @return The value associated with the provided key.
+     */
+    Result<TValue> getOrCompute(TKey key, Function1<TKey,TValue> loader);
+
+    /**
+     * Remove all of the entries in this Cache that have expired. Expired entries are also removed
+     * when they are looked up, so this only needs to be called to release the memory of expired
+     * entries that aren't being looked up.
+     * @return This object for method chaining.
+     */
+    Cache<TKey,TValue> removeExpiredEntries();
+
+    /**
+     * Get the counters that describe how well this Cache is working.
+     * @return The counters that describe how well this Cache is working.
+     */
+    CacheStatistics getStatistics();
+
+    @Override
+    Cache<TKey,TValue> clear();
+
+    @Override
+    Cache<TKey,TValue> set(TKey key, TValue value);
+}
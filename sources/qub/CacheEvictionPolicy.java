@@ -0,0 +1,21 @@
+package qub;
+
+/**
+ * The different ways that a Cache can choose which entries to evict when it is full.
+ */
+public enum CacheEvictionPolicy
+{
+    /**
+     * Evict the entry that was used least recently.
+     */
+    LeastRecentlyUsed,
+
+    /**
+     * Admit new entries into a small least-recently-used window. When an entry leaves the window,
+     * it only replaces an entry in the main part of the cache if it has been used more often
+     * recently, which is estimated with a compact frequency sketch (W-TinyLFU). This keeps entries
+     * that are used often from being pushed out by a scan over many entries that are only used
+     * once.
+     */
+    WindowTinyLFU
+}
@@ -0,0 +1,205 @@
+package qub;
+
+/**
+ * The parameters that describe how a Cache limits and expires its entries.
+ * @param <TKey> The type of keys that are stored in the Cache.
+ * @param <TValue> The type of values that are stored in the Cache.
+ */
+public class CacheParameters<TKey,TValue>
+{
+    private long maximumWeight;
+    private Function2<TKey,TValue,DataSize> weigher;
+    private CacheEvictionPolicy evictionPolicy;
+    private Duration expireAfterWrite;
+    private Duration expireAfterAccess;
+    private Clock clock;
+
+    private CacheParameters()
+    {
+        this.maximumWeight = Long.MAX_VALUE;
+        this.evictionPolicy = CacheEvictionPolicy.LeastRecentlyUsed;
+    }
+
+    /**
+     * Create a new CacheParameters object that describes a Cache that doesn't limit or expire its
+     * entries.
+     * @param <TKey> The type of keys that are stored in the Cache.
+     * @param <TValue> The type of values that are stored in the Cache.
+     * @return The new CacheParameters object.
+     */
+    public static <TKey,TValue> CacheParameters<TKey,TValue> create()
+    {
+        return new CacheParameters<>();
+    }
+
+    /**
+     * Get the maximum weight of the entries in the Cache. If no weigher has been set, then each
+     * entry has a weight of 1 and this is the maximum number of entries in the Cache. Otherwise
+     * this is the maximum number of bytes in the Cache.
+     * @return The maximum weight of the entries in the Cache.
+     */
+    public long getMaximumWeight()
+    {
+        return this.maximumWeight;
+    }
+
+    /**
+     * Get the function that returns the size of an entry, or null if each entry has a weight of 1.
+     * @return The function that returns the size of an entry, or null if each entry has a weight of
+     * 1.
+     */
+    public Function2<TKey,TValue,DataSize> getWeigher()
+    {
+        return this.weigher;
+    }
+
+    /**
+     * Limit the Cache to the provided number of entries.
+     * @param maximumCount The maximum number of entries in the Cache.
+     * @return This object for method chaining.
+     */
+    public CacheParameters<TKey,TValue> setMaximumCount(long maximumCount)
+    {
+        PreCondition.assertGreaterThanOrEqualTo(maximumCount, 1, "maximumCount");
+
+        this.maximumWeight = maximumCount;
+        this.weigher = null;
+
+        return this;
+    }
+
+    /**
+     * Limit the Cache to entries whose total size is at most the provided maximum size.
+     * @param maximumSize The maximum total size of the entries in the Cache.
+     * @param weigher The function that returns the size of an entry.
+     * @return This object for method chaining.
+     */
+    public CacheParameters<TKey,TValue> setMaximumSize(DataSize maximumSize, Function2<TKey,TValue,DataSize> weigher)
+    {
+        PreCondition.assertNotNull(maximumSize, "maximumSize");
+        PreCondition.assertGreaterThanOrEqualTo(maximumSize, DataSize.bytes(1), "maximumSize");
+        PreCondition.assertNotNull(weigher, "weigher");
+
+        this.maximumWeight = CacheParameters.toByteCount(maximumSize);
+        this.weigher = weigher;
+
+        return this;
+    }
+
+    /**
+     * Get the policy that the Cache uses to choose which entries to evict when it is full.
+     * @return The policy that the Cache uses to choose which entries to evict when it is full.
+     */
+    public CacheEvictionPolicy getEvictionPolicy()
+    {
+        return this.evictionPolicy;
+    }
+
+    /**
+     * Set the policy that the Cache uses to choose which entries to evict when it is full.
+     * @param evictionPolicy The policy that the Cache uses to choose which entries to evict.
+     * @return This object for method chaining.
+     */
+    public CacheParameters<TKey,TValue> setEvictionPolicy(CacheEvictionPolicy evictionPolicy)
+    {
+        PreCondition.assertNotNull(evictionPolicy, "evictionPolicy");
+
+        this.evictionPolicy = evictionPolicy;
+
+        return this;
+    }
+
+    /**
+     * Get how long an entry stays in the Cache after its value was set, or null if entries don't
+     * expire after they are written.
+     * @return How long an entry stays in the Cache after its value was set.
+     */
+    public Duration getExpireAfterWrite()
+    {
+        return this.expireAfterWrite;
+    }
+
+    /**
+     * Expire entries once the provided duration has passed since their value was set.
+     * @param expireAfterWrite How long an entry stays in the Cache after its value was set.
+     * @return This object for method chaining.
+     */
+    public CacheParameters<TKey,TValue> setExpireAfterWrite(Duration expireAfterWrite)
+    {
+        PreCondition.assertNotNull(expireAfterWrite, "expireAfterWrite");
+        PreCondition.assertGreaterThan(expireAfterWrite, Duration.zero, "expireAfterWrite");
+
+        this.expireAfterWrite = expireAfterWrite;
+
+        return this;
+    }
+
+    /**
+     * Get how long an entry stays in the Cache after it was last read or written, or null if
+     * entries don't expire after they are accessed.
+     * @return How long an entry stays in the Cache after it was last read or written.
+     */
+    public Duration getExpireAfterAccess()
+    {
+        return this.expireAfterAccess;
+    }
+
+    /**
+     * Expire entries once the provided duration has passed since they were last read or written.
+     * @param expireAfterAccess How long an entry stays in the Cache after it was last read or
+     *                          written.
+     * @return This object for method chaining.
+     */
+    public CacheParameters<TKey,TValue> setExpireAfterAccess(Duration expireAfterAccess)
+    {
+        PreCondition.assertNotNull(expireAfterAccess, "expireAfterAccess");
+        PreCondition.assertGreaterThan(expireAfterAccess, Duration.zero, "expireAfterAccess");
+
+        this.expireAfterAccess = expireAfterAccess;
+
+        return this;
+    }
+
+    /**
+     * Get whether or not the Cache expires its entries.
+     * @return Whether or not the Cache expires its entries.
+     */
+    public boolean expiresEntries()
+    {
+        return this.expireAfterWrite != null || this.expireAfterAccess != null;
+    }
+
+    /**
+     * Get the Clock that the Cache uses to expire its entries.
+     * @return The Clock that the Cache uses to expire its entries.
+     */
+    public Clock getClock()
+    {
+        return this.clock;
+    }
+
+    /**
+     * Set the Clock that the Cache uses to expire its entries. A Clock must be set if entries
+     * expire.
+     * @param clock The Clock that the Cache uses to expire its entries.
+     * @return This object for method chaining.
+     */
+    public CacheParameters<TKey,TValue> setClock(Clock clock)
+    {
+        PreCondition.assertNotNull(clock, "clock");
+
+        this.clock = clock;
+
+        return this;
+    }
+
+    /**
+     * Get the number of whole bytes needed to hold the provided size.
+     * @param size The size.
+     * @return The number of whole bytes needed to hold the provided size.
+     */
+    static long toByteCount(DataSize size)
+    {
+        return (long)java.lang.Math.ceil(size.toBytes().getValue());
+    }
+}
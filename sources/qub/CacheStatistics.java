@@ -0,0 +1,163 @@
+package qub;
+
+/**
+ * Thread-safe counters that describe how well a Cache is working.
+ */
+public class CacheStatistics
+{
+    private final java.util.concurrent.atomic.AtomicLong hitCount;
+    private final java.util.concurrent.atomic.AtomicLong missCount;
+    private final java.util.concurrent.atomic.AtomicLong loadSuccessCount;
+    private final java.util.concurrent.atomic.AtomicLong loadFailureCount;
+    private final java.util.concurrent.atomic.AtomicLong evictionCount;
+    private final java.util.concurrent.atomic.AtomicLong expirationCount;
+
+    private CacheStatistics()
+    {
+        this.hitCount = new java.util.concurrent.atomic.AtomicLong();
+        this.missCount = new java.util.concurrent.atomic.AtomicLong();
+        this.loadSuccessCount = new java.util.concurrent.atomic.AtomicLong();
+        this.loadFailureCount = new java.util.concurrent.atomic.AtomicLong();
+        this.evictionCount = new java.util.concurrent.atomic.AtomicLong();
+        this.expirationCount = new java.util.concurrent.atomic.AtomicLong();
+    }
+
+    /**
+     * Create a new CacheStatistics object with all of its counters set to 0.
+     * @return The new CacheStatistics object.
+     */
+    public static CacheStatistics create()
+    {
+        return new CacheStatistics();
+    }
+
+    /**
+     * Get the number of lookups that found a value in the Cache.
+     * @return The number of lookups that found a value in the Cache.
+     */
+    public long getHitCount()
+    {
+        return this.hitCount.get();
+    }
+
+    /**
+     * Get the number of lookups that didn't find a value in the Cache.
+     * @return The number of lookups that didn't find a value in the Cache.
+     */
+    public long getMissCount()
+    {
+        return this.missCount.get();
+    }
+
+    /**
+     * Get the total number of lookups.
+     * @return The total number of lookups.
+     */
+    public long getRequestCount()
+    {
+        return this.getHitCount() + this.getMissCount();
+    }
+
+    /**
+     * Get the fraction of lookups that found a value in the Cache. If there haven't been any
+     * lookups, then this will return 1.
+     * @return The fraction of lookups that found a value in the Cache.
+     */
+    public double getHitRate()
+    {
+        final long requestCount = this.getRequestCount();
+        return requestCount == 0 ? 1.0 : (double)this.getHitCount() / requestCount;
+    }
+
+    /**
+     * Get the number of values that were successfully loaded into the Cache.
+     * @return The number of values that were successfully loaded into the Cache.
+     */
+    public long getLoadSuccessCount()
+    {
+        return this.loadSuccessCount.get();
+    }
+
+    /**
+     * Get the number of times that loading a value failed.
+     * @return The number of times that loading a value failed.
+     */
+    public long getLoadFailureCount()
+    {
+        return this.loadFailureCount.get();
+    }
+
+    /**
+     * Get the number of entries that were evicted because the Cache was full.
+     * @return The number of entries that were evicted because the Cache was full.
+     */
+    public long getEvictionCount()
+    {
+        return this.evictionCount.get();
+    }
+
+    /**
+     * Get the number of entries that were removed because they expired.
+     * @return The number of entries that were removed because they expired.
+     */
+    public long getExpirationCount()
+    {
+        return this.expirationCount.get();
+    }
+
+    void incrementHitCount()
+    {
+        this.hitCount.incrementAndGet();
+    }
+
+    void incrementMissCount()
+    {
+        this.missCount.incrementAndGet();
+    }
+
+    void incrementLoadSuccessCount()
+    {
+        this.loadSuccessCount.incrementAndGet();
+    }
+
+    void incrementLoadFailureCount()
+    {
+        this.loadFailureCount.incrementAndGet();
+    }
+
+    void incrementEvictionCount()
+    {
+        this.evictionCount.incrementAndGet();
+    }
+
+    void incrementExpirationCount()
+    {
+        this.expirationCount.incrementAndGet();
+    }
+
+    /**
+     * Get a JSON representation of these statistics.
+     * @return A JSON representation of these statistics.
+     */
+    public JSONObject toJson()
+    {
+        final JSONObject result = JSONObject.create()
+            .setNumber("hitCount", this.getHitCount())
+            .setNumber("missCount", this.getMissCount())
+            .setNumber("hitRate", this.getHitRate())
+            .setNumber("loadSuccessCount", this.getLoadSuccessCount())
+            .setNumber("loadFailureCount", this.getLoadFailureCount())
+            .setNumber("evictionCount", this.getEvictionCount())
+            .setNumber("expirationCount", this.getExpirationCount());
+
+        PostCondition.assertNotNull(result, "result");
+
+        return result;
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.toJson().toString();
+    }
+}
@@ -0,0 +1,424 @@
+package qub;
+
+/**
+ * A signal that an operation's caller is no longer interested in the operation's result.
+ * Cancellation is cooperative: cancelling a CancellationToken doesn't stop any code by itself, but
+ * the code that is watching the token can check it, or register a callback with it, and stop
+ * early by throwing a CancelledException.
+ */
+public class CancellationToken implements Disposable
+{
+    private volatile boolean cancelled;
+    private volatile boolean disposed;
+    /**
+     * The token that this token follows, or null if this token doesn't follow another token. This
+     * token counts as cancelled when its parent is cancelled. This is cleared by
+     * detachFromParent().
+     */
+    private volatile CancellationToken parent;
+    /**
+     * The registration of this token's cancel() with its parent token. This is only created the
+     * first time that a callback is registered with this token so that a token that is never
+     * watched doesn't add anything to its parent. This is guarded by this token's monitor.
+     */
+    private Disposable parentRegistration;
+    /**
+     * Whether or not this token has started registering its cancel() with its parent token. This
+     * is guarded by this token's monitor.
+     */
+    private boolean followingParent;
+    /**
+     * The callbacks that will be run when this token is cancelled. This is lazily created and
+     * guarded by this token's monitor.
+     */
+    private List<Action0> callbacks;
+    /**
+     * The tasks that were scheduled by cancelAt() to cancel this token. They are cancelled when
+     * this token is cancelled or disposed so that their Clock doesn't keep them (and this token)
+     * alive until their deadlines arrive. This is lazily created and guarded by this token's
+     * monitor.
+     */
+    private List<Result<Void>> deadlineTasks;
+
+    private CancellationToken(CancellationToken parent)
+    {
+        this.parent = parent;
+    }
+
+    /**
+     * Create a new CancellationToken that has not been cancelled.
+     * @return The new CancellationToken.
+     */
+    public static CancellationToken create()
+    {
+        return new CancellationToken(null);
+    }
+
+    /**
+     * Create a new CancellationToken that is cancelled when this CancellationToken is cancelled.
+     * Cancelling the returned token doesn't cancel this token. The link is lazy: checking the
+     * returned token walks up to this token, and the returned token only registers with this
+     * token once a callback is registered with it.
+     * @return The new CancellationToken.
+     */
+    CancellationToken createChild()
+    {
+        return new CancellationToken(this);
+    }
+
+    /**
+     * Get whether or not this CancellationToken has been cancelled.
+     * @return Whether or not this CancellationToken has been cancelled.
+     */
+    public boolean isCancelled()
+    {
+        boolean result = this.cancelled;
+        CancellationToken parent = this.parent;
+        while (!result && parent != null)
+        {
+            result = parent.cancelled;
+            parent = parent.parent;
+        }
+        return result;
+    }
+
+    /**
+     * Throw a CancelledException if this CancellationToken has been cancelled.
+     */
+    public void throwIfCancelled()
+    {
+        if (this.isCancelled())
+        {
+            throw new CancelledException();
+        }
+    }
+
+    /**
+     * Cancel this CancellationToken and run each of its registered callbacks.
+     * @return Whether or not this call cancelled this CancellationToken. This will be false if this
+     * CancellationToken was already cancelled.
+     */
+    public boolean cancel()
+    {
+        final List<Action0> callbacksToRun;
+        final List<Result<Void>> deadlineTasksToCancel;
+        final Disposable parentRegistrationToDispose;
+        synchronized (this)
+        {
+            if (this.cancelled)
+            {
+                return false;
+            }
+            this.cancelled = true;
+            callbacksToRun = this.callbacks;
+            this.callbacks = null;
+            deadlineTasksToCancel = this.deadlineTasks;
+            this.deadlineTasks = null;
+            parentRegistrationToDispose = this.parentRegistration;
+            this.parentRegistration = null;
+        }
+
+        CancellationToken.disposeParentRegistration(parentRegistrationToDispose);
+        CancellationToken.cancelDeadlineTasks(deadlineTasksToCancel);
+        if (callbacksToRun != null)
+        {
+            for (final Action0 callback : callbacksToRun)
+            {
+                callback.run();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Cancel this CancellationToken when the provided Clock reaches the provided DateTime.
+     * @param clock The Clock that will cancel this CancellationToken.
+     * @param deadline The DateTime that this CancellationToken will be cancelled at.
+     * @return This CancellationToken for method chaining.
+     */
+    public CancellationToken cancelAt(Clock clock, DateTime deadline)
+    {
+        PreCondition.assertNotNull(clock, "clock");
+        PreCondition.assertNotNull(deadline, "deadline");
+        PreCondition.assertNotDisposed(this, "this");
+
+        final Result<Void> deadlineTask = clock.scheduleAt(deadline, this::cancel);
+        boolean cancelDeadlineTask = false;
+        synchronized (this)
+        {
+            if (this.cancelled || this.disposed)
+            {
+                cancelDeadlineTask = true;
+            }
+            else
+            {
+                if (this.deadlineTasks == null)
+                {
+                    this.deadlineTasks = List.create();
+                }
+                this.deadlineTasks.add(deadlineTask);
+            }
+        }
+
+        if (cancelDeadlineTask)
+        {
+            deadlineTask.cancel();
+        }
+
+        return this;
+    }
+
+    /**
+     * Cancel this CancellationToken after the provided Duration has passed on the provided Clock.
+     * @param clock The Clock that will cancel this CancellationToken.
+     * @param timeout The amount of time to wait before this CancellationToken is cancelled.
+     * @return This CancellationToken for method chaining.
+     */
+    public CancellationToken cancelAfter(Clock clock, Duration timeout)
+    {
+        PreCondition.assertNotNull(clock, "clock");
+        PreCondition.assertNotNull(timeout, "timeout");
+
+        return this.cancelAt(clock, clock.getCurrentDateTime().plus(timeout));
+    }
+
+    /**
+     * Register the provided callback to be run when this CancellationToken is cancelled. If this
+     * CancellationToken has already been cancelled, then the callback will be run immediately. If
+     * this CancellationToken was disposed before it was cancelled, then the callback will never be
+     * run.
+     * Blocking operations use this to wake up a waiting thread so that it can notice that it has
+     * been cancelled.
+     * @param callback The callback to run when this CancellationToken is cancelled.
+     * @return A Disposable that will unregister the callback when it is disposed.
+     */
+    public Disposable onCancelled(Action0 callback)
+    {
+        PreCondition.assertNotNull(callback, "callback");
+
+        this.followParent();
+
+        boolean runNow = false;
+        synchronized (this)
+        {
+            if (this.cancelled)
+            {
+                runNow = true;
+            }
+            else if (!this.disposed)
+            {
+                if (this.callbacks == null)
+                {
+                    this.callbacks = List.create();
+                }
+                this.callbacks.add(callback);
+            }
+        }
+
+        if (runNow)
+        {
+            callback.run();
+        }
+
+        final Disposable result = DisposableAction.create(() ->
+        {
+            synchronized (this)
+            {
+                if (this.callbacks != null)
+                {
+                    this.callbacks.remove(callback);
+                }
+            }
+        });
+
+        PostCondition.assertNotNull(result, "result");
+
+        return result;
+    }
+
+    /**
+     * Register this token's cancel() with its parent token if this token has a parent and hasn't
+     * already registered with it. This cancels this token right away if its parent has already
+     * been cancelled.
+     */
+    private void followParent()
+    {
+        final CancellationToken parent = this.parent;
+        if (parent != null)
+        {
+            boolean register = false;
+            synchronized (this)
+            {
+                if (!this.followingParent && !this.cancelled && !this.disposed)
+                {
+                    this.followingParent = true;
+                    register = true;
+                }
+            }
+
+            if (register)
+            {
+                final Disposable registration = parent.onCancelled(this::cancel);
+                boolean disposeRegistration = false;
+                synchronized (this)
+                {
+                    if (this.parent == null || this.cancelled || this.disposed)
+                    {
+                        disposeRegistration = true;
+                    }
+                    else
+                    {
+                        this.parentRegistration = registration;
+                    }
+                }
+                if (disposeRegistration)
+                {
+                    registration.dispose().await();
+                }
+            }
+        }
+    }
+
+    /**
+     * Stop following this token's parent token. If the parent has already been cancelled, then
+     * this token is cancelled first so that it stays cancelled after the link is dropped.
+     */
+    void detachFromParent()
+    {
+        final CancellationToken parent = this.parent;
+        if (parent != null)
+        {
+            final Disposable parentRegistrationToDispose;
+            synchronized (this)
+            {
+                this.parent = null;
+                parentRegistrationToDispose = this.parentRegistration;
+                this.parentRegistration = null;
+            }
+
+            if (parent.isCancelled())
+            {
+                this.cancel();
+            }
+            CancellationToken.disposeParentRegistration(parentRegistrationToDispose);
+        }
+    }
+
+    /**
+     * Dispose the provided registration of a token's cancel() with its parent token.
+     * @param parentRegistration The registration to dispose. This can be null.
+     */
+    private static void disposeParentRegistration(Disposable parentRegistration)
+    {
+        if (parentRegistration != null)
+        {
+            parentRegistration.dispose().await();
+        }
+    }
+
+    /**
+     * Cancel each of the provided deadline tasks.
+     * @param deadlineTasks The deadline tasks to cancel. This can be null.
+     */
+    private static void cancelDeadlineTasks(List<Result<Void>> deadlineTasks)
+    {
+        if (deadlineTasks != null)
+        {
+            for (final Result<Void> deadlineTask : deadlineTasks)
+            {
+                deadlineTask.cancel();
+            }
+        }
+    }
+
+    @Override
+    public boolean isDisposed()
+    {
+        return this.disposed;
+    }
+
+    /**
+     * Dispose this CancellationToken without cancelling it. Its registered callbacks are dropped
+     * without being run, and the deadlines that were set by cancelAt() and cancelAfter() are
+     * cancelled.
+     * @return Whether or not this call disposed this CancellationToken.
+     */
+    @Override
+    public Result<Boolean> dispose()
+    {
+        final boolean result;
+        final List<Result<Void>> deadlineTasksToCancel;
+        final Disposable parentRegistrationToDispose;
+        synchronized (this)
+        {
+            result = !this.disposed;
+            this.disposed = true;
+            this.callbacks = null;
+            deadlineTasksToCancel = this.deadlineTasks;
+            this.deadlineTasks = null;
+            parentRegistrationToDispose = this.parentRegistration;
+            this.parentRegistration = null;
+        }
+
+        CancellationToken.disposeParentRegistration(parentRegistrationToDispose);
+        CancellationToken.cancelDeadlineTasks(deadlineTasksToCancel);
+
+        return Result.success(result);
+    }
+
+    /**
+     * Register a callback that will unpark the current thread when this CancellationToken is
+     * cancelled.
+     * @return A Disposable that will unregister the callback when it is disposed.
+     */
+    Disposable unparkCurrentThreadOnCancelled()
+    {
+        final java.lang.Thread currentThread = java.lang.Thread.currentThread();
+        return this.onCancelled(() -> java.util.concurrent.locks.LockSupport.unpark(currentThread));
+    }
+
+    /**
+     * Register a callback that will interrupt the current thread when this CancellationToken is
+     * cancelled. This wakes up a thread that is blocked in a Java API that can only be woken up by
+     * an interrupt. Disposing the returned Disposable unregisters the callback and clears the
+     * interrupt if the callback delivered one, so it can't leak into the thread's later blocking
+     * calls.
+     * @return A Disposable that will unregister the callback when it is disposed.
+     */
+    Disposable interruptCurrentThreadOnCancelled()
+    {
+        final java.lang.Thread currentThread = java.lang.Thread.currentThread();
+        // Both values are guarded by the registered value's monitor so that the callback can't
+        // interrupt the thread after the registration has been disposed.
+        final BooleanValue registered = BooleanValue.create(true);
+        final BooleanValue interrupted = BooleanValue.create(false);
+        final Disposable registration = this.onCancelled(() ->
+        {
+            synchronized (registered)
+            {
+                if (registered.get())
+                {
+                    interrupted.set(true);
+                    currentThread.interrupt();
+                }
+            }
+        });
+
+        final Disposable result = DisposableAction.create(() ->
+        {
+            registration.dispose().await();
+            synchronized (registered)
+            {
+                registered.set(false);
+                if (interrupted.get())
+                {
+                    java.lang.Thread.interrupted();
+                }
+            }
+        });
+
+        PostCondition.assertNotNull(result, "result");
+
+        return result;
+    }
+}
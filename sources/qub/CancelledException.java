@@ -0,0 +1,17 @@
+package qub;
+
+/**
+ * An exception that is thrown when an operation stops because it was cancelled.
+ */
+public class CancelledException extends RuntimeException
+{
+    public CancelledException()
+    {
+        super();
+    }
+
+    public CancelledException(String message)
+    {
+        super(message);
+    }
+}
@@ -82,12 +82,41 @@ public class CharacterArray implements Array<Character>
         return characters[index];
     }
 
+    /**
+     * Sort the characters in this CharacterArray in place by their UTF-16 code unit values.
+     * @return This CharacterArray after it has been sorted.
+     */
+    public CharacterArray sort()
+    {
+        java.util.Arrays.sort(this.characters);
+
+        return this;
+    }
+
+    /**
+     * Search this CharacterArray for the provided character. The characters must already be
+     * sorted, such as by sort().
+     * @param value The character to search for.
+     * @return The index of the character, or (-insertionIndex - 1) if it isn't in this
+     * CharacterArray.
+     */
+    public int binarySearch(char value)
+    {
+        return java.util.Arrays.binarySearch(this.characters, value);
+    }
+
     @Override
     public boolean equals(Object rhs)
     {
         return Iterable.equals(this, rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return Iterable.hashCode(this);
+    }
+
     @Override
     public String toString()
     {
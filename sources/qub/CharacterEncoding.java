@@ -43,16 +43,16 @@ public interface CharacterEncoding
 
         return Result.create(() ->
         {
-            final InMemoryByteStream byteStream = InMemoryByteStream.create();
-            this.encodeCharacters(text, byteStream).await();
-            return byteStream.getBytes();
+            final byte[] result = new byte[this.getEncodedByteCount(text, 0, text.length())];
+            this.encode(text, 0, text.length(), result, 0);
+            return result;
         });
-
     }
 
     /**
      * Encode the provided String of characters and write the encoded bytes to the provided
-     * ByteWriteStream. Return the number of bytes that were written.
+     * ByteWriteStream. Return the number of bytes that were written. The characters are encoded
+     * and written a chunk at a time, so the whole text is never encoded into one byte[].
      * @param text The String of characters to encode.
      * @param byteWriteStream The ByteWriteStream to write the encoded bytes to.
      * @return The number of bytes that were written.
@@ -63,7 +63,25 @@ public interface CharacterEncoding
         PreCondition.assertNotNull(byteWriteStream, "byteWriteStream");
         PreCondition.assertNotDisposed(byteWriteStream, "byteWriteStream");
 
-        return this.encodeCharacters(Strings.iterable(text), byteWriteStream);
+        return Result.create(() ->
+        {
+            int result = 0;
+            byte[] buffer = null;
+            int chunkStartIndex = 0;
+            while (chunkStartIndex < text.length())
+            {
+                final int chunkLength = CharacterEncoding.getChunkLength(text, chunkStartIndex, text.length());
+                final int chunkByteCount = this.getEncodedByteCount(text, chunkStartIndex, chunkLength);
+                if (buffer == null || buffer.length < chunkByteCount)
+                {
+                    buffer = new byte[chunkByteCount];
+                }
+                this.encode(text, chunkStartIndex, chunkLength, buffer, 0);
+                result += byteWriteStream.writeAll(buffer, 0, chunkByteCount).await();
+                chunkStartIndex += chunkLength;
+            }
+            return result;
+        });
     }
 
     /**
@@ -101,13 +119,22 @@ public interface CharacterEncoding
 
         return Result.create(() ->
         {
-            final InMemoryByteStream byteStream = InMemoryByteStream.create();
-            this.encodeCharacters(characters, startIndex, length, byteStream).await();
-            return byteStream.getBytes();
+            final byte[] result = new byte[this.getEncodedByteCount(characters, startIndex, length)];
+            this.encode(characters, startIndex, length, result, 0);
+            return result;
         });
-
     }
 
+    /**
+     * Encode the provided characters and write the encoded bytes to the provided ByteWriteStream.
+     * The characters are encoded and written a chunk at a time, so the whole array is never encoded
+     * into one byte[].
+     * @param characters The characters to encode.
+     * @param startIndex The index of the first character to encode.
+     * @param length The number of characters to encode.
+     * @param byteWriteStream The ByteWriteStream to write the encoded bytes to.
+     * @return The number of bytes that were written.
+     */
     default Result<Integer> encodeCharacters(char[] characters, int startIndex, int length, ByteWriteStream byteWriteStream)
     {
         PreCondition.assertNotNull(characters, "characters");
@@ -118,18 +145,142 @@ public interface CharacterEncoding
 
         return Result.create(() ->
         {
-            int result = 0;
-
             final int endIndex = startIndex + length;
-            for (int i = startIndex; i < endIndex; ++i)
+            int result = 0;
+            byte[] buffer = null;
+            int chunkStartIndex = startIndex;
+            while (chunkStartIndex < endIndex)
             {
-                result += this.encodeCharacter(characters[i], byteWriteStream).await();
+                final int chunkLength = CharacterEncoding.getChunkLength(characters, chunkStartIndex, endIndex);
+                final int chunkByteCount = this.getEncodedByteCount(characters, chunkStartIndex, chunkLength);
+                if (buffer == null || buffer.length < chunkByteCount)
+                {
+                    buffer = new byte[chunkByteCount];
+                }
+                this.encode(characters, chunkStartIndex, chunkLength, buffer, 0);
+                result += byteWriteStream.writeAll(buffer, 0, chunkByteCount).await();
+                chunkStartIndex += chunkLength;
             }
-
             return result;
         });
     }
 
+    /**
+     * Get the number of characters that should be encoded in the chunk that starts at the provided
+     * index. A chunk never ends between the two characters of a surrogate pair.
+     * @param text The text that is being encoded.
+     * @param chunkStartIndex The index of the first character in the chunk.
+     * @param endIndex The index after the last character that is being encoded.
+     * @return The number of characters that should be encoded in the chunk.
+     */
+    private static int getChunkLength(String text, int chunkStartIndex, int endIndex)
+    {
+        int result = Math.minimum(1024, endIndex - chunkStartIndex);
+        if (chunkStartIndex + result < endIndex && UTF16CharacterEncoding.isHighSurrogate(text.charAt(chunkStartIndex + result - 1)))
+        {
+            --result;
+        }
+        return result;
+    }
+
+    /**
+     * Get the number of characters that should be encoded in the chunk that starts at the provided
+     * index. A chunk never ends between the two characters of a surrogate pair.
+     * @param characters The characters that are being encoded.
+     * @param chunkStartIndex The index of the first character in the chunk.
+     * @param endIndex The index after the last character that is being encoded.
+     * @return The number of characters that should be encoded in the chunk.
+     */
+    private static int getChunkLength(char[] characters, int chunkStartIndex, int endIndex)
+    {
+        int result = Math.minimum(1024, endIndex - chunkStartIndex);
+        if (chunkStartIndex + result < endIndex && UTF16CharacterEncoding.isHighSurrogate(characters[chunkStartIndex + result - 1]))
+        {
+            --result;
+        }
+        return result;
+    }
+
+    /**
+     * Get the number of bytes that the provided characters will be encoded as.
+     * @param characters The characters to encode.
+     * @param startIndex The index of the first character to encode.
+     * @param length The number of characters to encode.
+     * @return The number of bytes that the provided characters will be encoded as.
+     */
+    default int getEncodedByteCount(char[] characters, int startIndex, int length)
+    {
+        PreCondition.assertNotNull(characters, "characters");
+        PreCondition.assertStartIndex(startIndex, characters.length);
+        PreCondition.assertLength(length, startIndex, characters.length);
+
+        return this.encodeCharacters(CharacterArray.create(characters, startIndex, length).iterate(), CountingByteWriteStream.create()).await();
+    }
+
+    /**
+     * Get the number of bytes that the provided characters will be encoded as.
+     * @param text The String that contains the characters to encode.
+     * @param startIndex The index of the first character to encode.
+     * @param length The number of characters to encode.
+     * @return The number of bytes that the provided characters will be encoded as.
+     */
+    default int getEncodedByteCount(String text, int startIndex, int length)
+    {
+        PreCondition.assertNotNull(text, "text");
+        PreCondition.assertStartIndex(startIndex, text.length());
+        PreCondition.assertLength(length, startIndex, text.length());
+
+        return this.encodeCharacters(Strings.iterate(text).skip(startIndex).take(length), CountingByteWriteStream.create()).await();
+    }
+
+    /**
+     * Encode the provided characters into the provided byte[]. outputBytes must have room for
+     * getEncodedByteCount() bytes after outputStartIndex.
+     * @param characters The characters to encode.
+     * @param startIndex The index of the first character to encode.
+     * @param length The number of characters to encode.
+     * @param outputBytes The byte[] to write the encoded bytes to.
+     * @param outputStartIndex The index in outputBytes to write the first encoded byte to.
+     * @return The number of bytes that were written to outputBytes.
+     */
+    default int encode(char[] characters, int startIndex, int length, byte[] outputBytes, int outputStartIndex)
+    {
+        PreCondition.assertNotNull(characters, "characters");
+        PreCondition.assertStartIndex(startIndex, characters.length);
+        PreCondition.assertLength(length, startIndex, characters.length);
+        PreCondition.assertNotNull(outputBytes, "outputBytes");
+        PreCondition.assertBetween(0, outputStartIndex, outputBytes.length, "outputStartIndex");
+
+        final InMemoryByteStream byteStream = InMemoryByteStream.create();
+        final int result = this.encodeCharacters(CharacterArray.create(characters, startIndex, length).iterate(), byteStream).await();
+        Array.copy(byteStream.getBytes(), 0, outputBytes, outputStartIndex, result);
+        return result;
+    }
+
+    /**
+     * Encode the provided characters into the provided byte[]. outputBytes must have room for
+     * getEncodedByteCount() bytes after outputStartIndex.
+     * @param text The String that contains the characters to encode.
+     * @param startIndex The index of the first character to encode.
+     * @param length The number of characters to encode.
+     * @param outputBytes The byte[] to write the encoded bytes to.
+     * @param outputStartIndex The index in outputBytes to write the first encoded byte to.
+     * @return The number of bytes that were written to outputBytes.
+     */
+    default int encode(String text, int startIndex, int length, byte[] outputBytes, int outputStartIndex)
+    {
+        PreCondition.assertNotNull(text, "text");
+        PreCondition.assertStartIndex(startIndex, text.length());
+        PreCondition.assertLength(length, startIndex, text.length());
+        PreCondition.assertNotNull(outputBytes, "outputBytes");
+        PreCondition.assertBetween(0, outputStartIndex, outputBytes.length, "outputStartIndex");
+
+        final InMemoryByteStream byteStream = InMemoryByteStream.create();
+        final int result = this.encodeCharacters(Strings.iterate(text).skip(startIndex).take(length), byteStream).await();
+        Array.copy(byteStream.getBytes(), 0, outputBytes, outputStartIndex, result);
+        return result;
+    }
+
     /**
      * Write the encoded byte representations of the provided characters to the provided
      * byteWriteStream.
@@ -235,6 +386,60 @@ public interface CharacterEncoding
         });
     }
 
+    /**
+     * Decode the provided bytes into the provided char[] without allocating. The bytes must only
+     * contain complete characters, so callers that decode a stream one buffer at a time should use
+     * getPartialCharacterByteCount() to hold back the bytes of a character that continues in the
+     * next buffer. Decoding never produces more characters than there are bytes, so
+     * outputCharacters must have room for at least length characters.
+     * @param bytes The bytes to decode.
+     * @param startIndex The index of the first byte to decode.
+     * @param length The number of bytes to decode.
+     * @param outputCharacters The char[] to write the decoded characters to.
+     * @param outputStartIndex The index in outputCharacters to write the first decoded character
+     *                         to.
+     * @return The number of characters that were written to outputCharacters.
+     */
+    default int decode(byte[] bytes, int startIndex, int length, char[] outputCharacters, int outputStartIndex)
+    {
+        PreCondition.assertNotNull(bytes, "bytes");
+        PreCondition.assertStartIndex(startIndex, bytes.length);
+        PreCondition.assertLength(length, startIndex, bytes.length);
+        PreCondition.assertNotNull(outputCharacters, "outputCharacters");
+        PreCondition.assertBetween(0, outputStartIndex, outputCharacters.length, "outputStartIndex");
+        PreCondition.assertGreaterThanOrEqualTo(outputCharacters.length - outputStartIndex, length, "outputCharacters.length - outputStartIndex");
+
+        int result = 0;
+        for (final Character character : this.iterateDecodedCharacters(Iterator.create(bytes, startIndex, length)))
+        {
+            outputCharacters[outputStartIndex + result] = character;
+            ++result;
+        }
+
+        PostCondition.assertBetween(0, result, length, "result");
+
+        return result;
+    }
+
+    /**
+     * Get the number of bytes at the end of the provided range that begin a character whose
+     * remaining bytes are not in the range. Encodings that use one byte for every character always
+     * return 0.
+     * @param bytes The bytes to check.
+     * @param startIndex The index of the first byte to check.
+     * @param length The number of bytes to check.
+     * @return The number of bytes at the end of the provided range that begin an incomplete
+     * character.
+     */
+    default int getPartialCharacterByteCount(byte[] bytes, int startIndex, int length)
+    {
+        PreCondition.assertNotNull(bytes, "bytes");
+        PreCondition.assertStartIndex(startIndex, bytes.length);
+        PreCondition.assertLength(length, startIndex, bytes.length);
+
+        return 0;
+    }
+
     /**
      * Decode the provided byte[] into a String.
      * @param bytes The byte[] to decode.
@@ -348,4 +553,16 @@ public interface CharacterEncoding
     {
         return rhs != null && this.getClass().equals(rhs.getClass());
     }
+
+    /**
+     * Get the hash code of the provided CharacterEncoding.
+     * @param characterEncoding The CharacterEncoding to get the hash code of.
+     * @return The hash code of the provided CharacterEncoding.
+     */
+    static int hashCode(CharacterEncoding characterEncoding)
+    {
+        PreCondition.assertNotNull(characterEncoding, "characterEncoding");
+
+        return characterEncoding.getClass().hashCode();
+    }
 }
@@ -279,6 +279,12 @@ public class CharacterList implements List<Character>
         return Iterable.equals(this, rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return Iterable.hashCode(this);
+    }
+
     @Override
     public String toString()
     {
@@ -21,6 +21,22 @@ public interface CharacterReadStream extends Disposable
      */
     Result<Character> readCharacter();
 
+    /**
+     * Read a single character from this stream without wrapping it in a Result. This will block
+     * until a character is available. Streams that can read a character without allocating should
+     * override this so that character-at-a-time readers don't pay for a Result per character.
+     * @return The character that was read, or -1 if the end of the stream has been reached.
+     */
+    default int readCharacterOrEnd()
+    {
+        PreCondition.assertNotDisposed(this, "this");
+
+        final Character result = this.readCharacter()
+            .catchError(EndOfStreamException.class)
+            .await();
+        return result == null ? -1 : result;
+    }
+
     /**
      * Read up to the provided charactersToRead number of characters create this stream. If fewer
      * characters than charactersToRead are available, then fewer than charactersToRead characters
@@ -80,10 +96,8 @@ public interface CharacterReadStream extends Disposable
             int charactersRead = 0;
             while(charactersRead < length)
             {
-                final Character c = this.readCharacter()
-                    .catchError(EndOfStreamException.class)
-                    .await();
-                if (c == null)
+                final int c = this.readCharacterOrEnd();
+                if (c == -1)
                 {
                     if (charactersRead == 0)
                     {
@@ -93,7 +107,7 @@ public interface CharacterReadStream extends Disposable
                 }
                 else
                 {
-                    outputCharacters[startIndex + charactersRead] = c;
+                    outputCharacters[startIndex + charactersRead] = (char)c;
                     ++charactersRead;
                 }
             }
@@ -158,21 +172,17 @@ public interface CharacterReadStream extends Disposable
         return Result.create(() ->
         {
             final CharacterList list = CharacterList.create();
-            Character currentCharacter = this.readCharacter()
-                .catchError(EndOfStreamException.class)
-                .await();
-            while (currentCharacter != null)
+            int currentCharacter = this.readCharacterOrEnd();
+            while (currentCharacter != -1)
             {
-                list.add(currentCharacter);
+                list.add((char)currentCharacter);
 
                 if (list.endsWith(value))
                 {
                     break;
                 }
 
-                currentCharacter = this.readCharacter()
-                    .catchError(EndOfStreamException.class)
-                    .await();
+                currentCharacter = this.readCharacterOrEnd();
             }
 
             if (!list.any())
@@ -389,4 +399,27 @@ public interface CharacterReadStream extends Disposable
 
         return CharacterReadStreamIterator.create(characterReadStream);
     }
+
+    /**
+     * Create a new BufferedCharacterReadStream that decodes the bytes of the provided
+     * ByteReadStream as UTF-8.
+     * @param byteReadStream The ByteReadStream to read bytes from.
+     * @return The new BufferedCharacterReadStream.
+     */
+    static BufferedCharacterReadStream buffer(ByteReadStream byteReadStream)
+    {
+        return BufferedCharacterReadStream.create(byteReadStream);
+    }
+
+    /**
+     * Create a new BufferedCharacterReadStream that decodes the bytes of the provided
+     * ByteReadStream with the provided CharacterEncoding.
+     * @param byteReadStream The ByteReadStream to read bytes from.
+     * @param characterEncoding The CharacterEncoding to decode the bytes with.
+     * @return The new BufferedCharacterReadStream.
+     */
+    static BufferedCharacterReadStream buffer(ByteReadStream byteReadStream, CharacterEncoding characterEncoding)
+    {
+        return BufferedCharacterReadStream.create(byteReadStream, characterEncoding);
+    }
 }
@@ -50,16 +50,8 @@ public class CharacterReadStreamIterator implements Iterator<Character>
     {
         this.hasStarted = true;
 
-        this.characterReadStream.readCharacter()
-            .then((Character readByte) ->
-            {
-                this.current = readByte;
-            })
-            .catchError(EndOfStreamException.class, () ->
-            {
-                this.current = null;
-            })
-            .await();
+        final int characterRead = this.characterReadStream.readCharacterOrEnd();
+        this.current = characterRead == -1 ? null : (char)characterRead;
 
         return this.hasCurrent();
     }
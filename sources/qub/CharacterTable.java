@@ -290,6 +290,12 @@ public class CharacterTable
         return rhs instanceof CharacterTable && this.equals((CharacterTable)rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return this.rows.hashCode();
+    }
+
     /**
      * Get whether or not this CharacterTable equals the provided CharacterTable.
      * @param rhs The CharacterTable to compare against this CharacterTable.
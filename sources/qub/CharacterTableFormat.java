@@ -482,6 +482,12 @@ public class CharacterTableFormat
         return rhs instanceof CharacterTableFormat && this.equals((CharacterTableFormat)rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return Hash.getHashCode(this.columnSeparator, this.rowSeparator, this.newLine, this.leftBorder, this.rightBorder, this.topBorder, this.bottomBorder, this.columnHorizontalAlignment);
+    }
+
     public boolean equals(CharacterTableFormat rhs)
     {
         return rhs != null &&
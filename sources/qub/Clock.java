@@ -56,6 +56,19 @@ public interface Clock
         return this.scheduleAfter(duration, Action0.empty);
     }
 
+    /**
+     * Create a Deadline that will expire when this Clock reaches the provided DateTime. The caller
+     * should dispose the returned Deadline when it is no longer needed.
+     * @param dateTime The DateTime that the returned Deadline will expire at.
+     * @return The new Deadline.
+     */
+    default Deadline createDeadline(DateTime dateTime)
+    {
+        PreCondition.assertNotNull(dateTime, "dateTime");
+
+        return ClockDeadline.create(this, dateTime);
+    }
+
     /**
      * Create a Stopwatch object based on this Clock.
      * @return The Stopwatch object based on this Clock.
@@ -0,0 +1,65 @@
+package qub;
+
+/**
+ * A Deadline that compares a DateTime against the current date and time of a Clock each time it
+ * is checked.
+ */
+public class ClockDeadline implements Deadline
+{
+    private final Clock clock;
+    private final DateTime dateTime;
+    private volatile boolean disposed;
+
+    private ClockDeadline(Clock clock, DateTime dateTime)
+    {
+        PreCondition.assertNotNull(clock, "clock");
+        PreCondition.assertNotNull(dateTime, "dateTime");
+
+        this.clock = clock;
+        this.dateTime = dateTime;
+    }
+
+    /**
+     * Create a new ClockDeadline that will expire when the provided Clock reaches the provided
+     * DateTime.
+     * @param clock The Clock that will be used to get the current date and time.
+     * @param dateTime The DateTime that the returned Deadline will expire at.
+     * @return The new ClockDeadline.
+     */
+    public static ClockDeadline create(Clock clock, DateTime dateTime)
+    {
+        return new ClockDeadline(clock, dateTime);
+    }
+
+    /**
+     * Get the DateTime that this Deadline will expire at.
+     * @return The DateTime that this Deadline will expire at.
+     */
+    public DateTime getDateTime()
+    {
+        return this.dateTime;
+    }
+
+    @Override
+    public boolean isExpired()
+    {
+        return this.dateTime.lessThanOrEqualTo(this.clock.getCurrentDateTime());
+    }
+
+    @Override
+    public boolean isDisposed()
+    {
+        return this.disposed;
+    }
+
+    @Override
+    public Result<Boolean> dispose()
+    {
+        return Result.create(() ->
+        {
+            final boolean result = !this.disposed;
+            this.disposed = true;
+            return result;
+        });
+    }
+}
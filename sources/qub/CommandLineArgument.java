@@ -69,6 +69,12 @@ public class CommandLineArgument
         return rhs instanceof CommandLineArgument && equals((CommandLineArgument)rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return Hash.getHashCode(this.name, this.value);
+    }
+
     /**
      * Get whether this CommandLineArgument is equal to the provided CommandLineArgument.
      * @param rhs The CommandLineArgument to compare to this CommandLineArgument.
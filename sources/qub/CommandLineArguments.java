@@ -43,6 +43,12 @@ public class CommandLineArguments implements Indexable<CommandLineArgument>
         return Iterable.equals(this, rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return Iterable.hashCode(this);
+    }
+
     public CommandLineArguments addNamedArgument(String argumentName)
     {
         PreCondition.assertNotNullAndNotEmpty(argumentName, "argumentName");
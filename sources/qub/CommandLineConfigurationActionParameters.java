@@ -169,6 +169,18 @@ public class CommandLineConfigurationActionParameters
             Comparer.equal(this.defaultConfiguration, rhs.defaultConfiguration);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return Hash.getHashCode(
+            this.dataFolder,
+            this.defaultApplicationLauncher,
+            this.configurationSchemaFileRelativePath,
+            this.configurationFileRelativePath,
+            this.configurationSchema,
+            this.defaultConfiguration);
+    }
+
     @Override
     public String toString()
     {
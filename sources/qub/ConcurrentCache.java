@@ -0,0 +1,325 @@
+package qub;
+
+/**
+ * A Cache that can be used by many threads at the same time. Each operation runs on a BasicCache
+ * while holding a Mutex. When several threads call getOrCompute() for a key that isn't in the Cache,
+ * only the first thread runs its loader (without holding the Mutex) and the other threads wait for
+ * and share its result. A loaded value isn't added to the Cache if the key was set or removed while
+ * its loader was running.
+ * @param <TKey> The type of keys that are stored in this Cache.
+ * @param <TValue> The type of values that are stored in this Cache.
+ */
+public class ConcurrentCache<TKey,TValue> implements Cache<TKey,TValue>
+{
+    private final BasicCache<TKey,TValue> cache;
+    private final Mutex mutex;
+    /**
+     * The loads that are currently running, keyed by the key that is being loaded.
+     */
+    private final HashMap<TKey,Load<TValue>> loads;
+    private final MutexCondition loadCompleted;
+
+    private ConcurrentCache(CacheParameters<TKey,TValue> parameters)
+    {
+        this.cache = BasicCache.create(parameters);
+        this.mutex = ParkingMutex.create();
+        this.loads = HashMap.create();
+        this.loadCompleted = this.mutex.createCondition();
+    }
+
+    /**
+     * Create a new ConcurrentCache.
+     * @param parameters The parameters that describe how the new ConcurrentCache limits and expires
+     *                   its entries.
+     * @param <TKey> The type of keys that are stored in the new ConcurrentCache.
+     * @param <TValue> The type of values that are stored in the new ConcurrentCache.
+     * @return The new ConcurrentCache.
+     */
+    public static <TKey,TValue> ConcurrentCache<TKey,TValue> create(CacheParameters<TKey,TValue> parameters)
+    {
+        PreCondition.assertNotNull(parameters, "parameters");
+
+        return new ConcurrentCache<>(parameters);
+    }
+
+    /**
+     * Get the total weight of the entries in this Cache. If this Cache is limited by size, then
+     * this is the number of bytes in this Cache.
+     * @return The total weight of the entries in this Cache.
+     */
+    public long getWeight()
+    {
+        return this.mutex.criticalSection(this.cache::getWeight).await();
+    }
+
+    @Override
+    public CacheStatistics getStatistics()
+    {
+        return this.cache.getStatistics();
+    }
+
+    @Override
+    public int getCount()
+    {
+        return this.mutex.criticalSection(this.cache::getCount).await();
+    }
+
+    @Override
+    public boolean any()
+    {
+        return this.mutex.criticalSection(this.cache::any).await();
+    }
+
+    @Override
+    public ConcurrentCache<TKey,TValue> clear()
+    {
+        this.mutex.criticalSection(() ->
+        {
+            this.cache.clear();
+            for (final Load<TValue> load : this.loads.getValues())
+            {
+                load.invalidate();
+            }
+        }).await();
+        return this;
+    }
+
+    @Override
+    public boolean containsKey(TKey key)
+    {
+        return this.mutex.criticalSection(() -> this.cache.containsKey(key)).await();
+    }
+
+    @Override
+    public Result<TValue> get(TKey key)
+    {
+        return this.mutex.criticalSection(() -> this.cache.get(key).await());
+    }
+
+    @Override
+    public Result<TValue> getOrCompute(TKey key, Function1<TKey,TValue> loader)
+    {
+        PreCondition.assertNotNull(loader, "loader");
+
+        return Result.create(() ->
+        {
+            final Value<TValue> cachedValue = Value.create();
+            final Value<Boolean> isLoader = Value.create(false);
+            final Load<TValue> load = this.mutex.criticalSection(() ->
+            {
+                Load<TValue> result = null;
+                if (this.cache.containsKey(key))
+                {
+                    cachedValue.set(this.cache.get(key).await());
+                }
+                else
+                {
+                    result = this.loads.getOrDefault(key, null);
+                    if (result != null && result.isLoadingThread())
+                    {
+                        // Waiting for this load would wait for the current thread forever.
+                        throw new IllegalStateException("The loader for the provided key (" + key + ") cannot load the same key.");
+                    }
+
+                    this.cache.getStatistics().incrementMissCount();
+                    if (result == null)
+                    {
+                        result = new Load<>();
+                        this.loads.set(key, result);
+                        isLoader.set(true);
+                    }
+                }
+                return result;
+            }).await();
+
+            if (load == null)
+            {
+                return cachedValue.get();
+            }
+
+            if (isLoader.get())
+            {
+                TValue value = null;
+                Throwable error = null;
+                try
+                {
+                    value = loader.run(key);
+                }
+                catch (Throwable e)
+                {
+                    error = e;
+                }
+
+                final TValue loadedValue = value;
+                final Throwable loadError = error;
+                this.mutex.criticalSection(() ->
+                {
+                    if (loadError == null)
+                    {
+                        this.cache.getStatistics().incrementLoadSuccessCount();
+                        if (!load.isInvalidated())
+                        {
+                            this.cache.set(key, loadedValue);
+                        }
+                    }
+                    else
+                    {
+                        this.cache.getStatistics().incrementLoadFailureCount();
+                    }
+                    this.loads.remove(key).await();
+                    load.complete(loadedValue, loadError);
+                    this.loadCompleted.signalAll();
+                }).await();
+            }
+            else
+            {
+                this.mutex.criticalSection(() ->
+                {
+                    while (!load.isCompleted())
+                    {
+                        this.loadCompleted.watch().await();
+                    }
+                }).await();
+            }
+
+            if (load.error != null)
+            {
+                throw Exceptions.asRuntime(load.error);
+            }
+            return load.value;
+        });
+    }
+
+    @Override
+    public ConcurrentCache<TKey,TValue> set(TKey key, TValue value)
+    {
+        this.mutex.criticalSection(() ->
+        {
+            this.cache.set(key, value);
+            this.invalidateLoad(key);
+        }).await();
+        return this;
+    }
+
+    @Override
+    public Result<TValue> remove(TKey key)
+    {
+        return this.mutex.criticalSection(() ->
+        {
+            this.invalidateLoad(key);
+            return this.cache.remove(key).await();
+        });
+    }
+
+    @Override
+    public ConcurrentCache<TKey,TValue> removeExpiredEntries()
+    {
+        this.mutex.criticalSection(this.cache::removeExpiredEntries).await();
+        return this;
+    }
+
+    @Override
+    public Iterable<TKey> getKeys()
+    {
+        return this.map(MapEntry::getKey);
+    }
+
+    @Override
+    public Iterable<TValue> getValues()
+    {
+        return this.map(MapEntry::getValue);
+    }
+
+    /**
+     * Iterate over a snapshot of the entries in this Cache. Changes that are made to this Cache
+     * while the entries are being iterated over won't be seen by the returned Iterator.
+     * @return An Iterator over a snapshot of the entries in this Cache.
+     */
+    @Override
+    public Iterator<MapEntry<TKey,TValue>> iterate()
+    {
+        return this.mutex.criticalSection(() -> this.cache.toList()).await().iterate();
+    }
+
+    @Override
+    public boolean equals(Object rhs)
+    {
+        return Iterable.equals(this, rhs);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Iterable.hashCode(this);
+    }
+
+    @Override
+    public String toString()
+    {
+        return Iterable.toString(this);
+    }
+
+    /**
+     * Stop the load that is running for the provided key (if there is one) from adding its value
+     * to the Cache. This must be called while the Mutex is held.
+     * @param key The key that was set or removed.
+     */
+    private void invalidateLoad(TKey key)
+    {
+        final Load<TValue> load = this.loads.getOrDefault(key, null);
+        if (load != null)
+        {
+            load.invalidate();
+        }
+    }
+
+    /**
+     * The result of a loader that is being run for a key that wasn't in the Cache. Its fields are
+     * only read and written while the Cache's Mutex is held.
+     * @param <TValue> The type of value that is being loaded.
+     */
+    private static class Load<TValue>
+    {
+        private final java.lang.Thread loadingThread;
+        private boolean invalidated;
+        private boolean completed;
+        private TValue value;
+        private Throwable error;
+
+        private Load()
+        {
+            this.loadingThread = java.lang.Thread.currentThread();
+        }
+
+        /**
+         * Get whether the current thread is the thread that is running this load's loader.
+         * @return Whether the current thread is the thread that is running this load's loader.
+         */
+        private boolean isLoadingThread()
+        {
+            return this.loadingThread == java.lang.Thread.currentThread();
+        }
+
+        private boolean isInvalidated()
+        {
+            return this.invalidated;
+        }
+
+        private void invalidate()
+        {
+            this.invalidated = true;
+        }
+
+        private boolean isCompleted()
+        {
+            return this.completed;
+        }
+
+        private void complete(TValue value, Throwable error)
+        {
+            this.value = value;
+            this.error = error;
+            this.completed = true;
+        }
+    }
+}
@@ -77,6 +77,12 @@ public class ConcurrentHashMap<TKey,TValue> implements MutableMap<TKey,TValue>
         return Iterable.equals(this, rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return Iterable.hashCode(this);
+    }
+
     @Override
     public String toString()
     {
@@ -0,0 +1,71 @@
+package qub;
+
+/**
+ * A ByteWriteStream that doesn't store the bytes that are written to it, but only counts them.
+ */
+public class CountingByteWriteStream implements ByteWriteStream
+{
+    private long byteCount;
+    private boolean disposed;
+
+    private CountingByteWriteStream()
+    {
+    }
+
+    public static CountingByteWriteStream create()
+    {
+        return new CountingByteWriteStream();
+    }
+
+    /**
+     * Get the number of bytes that have been written to this stream.
+     * @return The number of bytes that have been written to this stream.
+     */
+    public long getByteCount()
+    {
+        return this.byteCount;
+    }
+
+    @Override
+    public Result<Integer> write(byte toWrite)
+    {
+        PreCondition.assertNotDisposed(this, "this");
+
+        ++this.byteCount;
+        return Result.success(1);
+    }
+
+    @Override
+    public Result<Integer> write(byte[] toWrite, int startIndex, int length)
+    {
+        PreCondition.assertNotNull(toWrite, "toWrite");
+        PreCondition.assertStartIndex(startIndex, toWrite.length);
+        PreCondition.assertLength(length, startIndex, toWrite.length);
+        PreCondition.assertNotDisposed(this, "this");
+
+        this.byteCount += length;
+        return Result.success(length);
+    }
+
+    @Override
+    public boolean isDisposed()
+    {
+        return this.disposed;
+    }
+
+    @Override
+    public Result<Boolean> dispose()
+    {
+        Result<Boolean> result;
+        if (this.disposed)
+        {
+            result = Result.successFalse();
+        }
+        else
+        {
+            this.disposed = true;
+            result = Result.successTrue();
+        }
+        return result;
+    }
+}
@@ -6,6 +6,10 @@ public final class CurrentThread
      * The mapping of thread IDs to registered ResultAsyncSchedulers.
      */
     private static MutableMap<Long,AsyncScheduler> asyncSchedulers = new ConcurrentHashMap<>();
+    /**
+     * The CancellationToken of the AsyncTask that each thread is currently running.
+     */
+    private static final java.lang.ThreadLocal<CancellationToken> cancellationTokens = new java.lang.ThreadLocal<>();
 
     /**
      * Get the ID of the current thread.
@@ -54,6 +58,34 @@ public final class CurrentThread
             .convertError(NotFoundException.class, () -> new NotFoundException("No AsyncRunner has been registered with thread id " + currentThreadId + "."));
     }
 
+    /**
+     * Get the CancellationToken of the AsyncTask that the current thread is running. Blocking
+     * operations use this to stop waiting when the task that they are running in is cancelled.
+     * @return The CancellationToken of the AsyncTask that the current thread is running, or null if
+     * the current thread isn't running an AsyncTask.
+     */
+    static CancellationToken getCancellationToken()
+    {
+        return CurrentThread.cancellationTokens.get();
+    }
+
+    /**
+     * Set the CancellationToken of the AsyncTask that the current thread is running.
+     * @param cancellationToken The CancellationToken of the AsyncTask that the current thread is
+     *                          running, or null if the current thread isn't running an AsyncTask.
+     */
+    static void setCancellationToken(CancellationToken cancellationToken)
+    {
+        if (cancellationToken == null)
+        {
+            CurrentThread.cancellationTokens.remove();
+        }
+        else
+        {
+            CurrentThread.cancellationTokens.set(cancellationToken);
+        }
+    }
+
     /**
      * Run the provided action using the provided ManualAsyncRunner as the current thread's
      * AsyncRunner. The previous AsyncRunner for the current thread will be returned to the current
@@ -99,7 +131,17 @@ public final class CurrentThread
         PreCondition.assertNotNull(action, "action");
 
         final T asyncScheduler = creator.run();
-        CurrentThread.withAsyncScheduler(asyncScheduler, () -> action.run(asyncScheduler));
+        try
+        {
+            CurrentThread.withAsyncScheduler(asyncScheduler, () -> action.run(asyncScheduler));
+        }
+        finally
+        {
+            if (asyncScheduler instanceof Disposable)
+            {
+                ((Disposable)asyncScheduler).dispose().await();
+            }
+        }
     }
 
     /**
@@ -5059,6 +5059,12 @@ public class DataSize implements ComparableWithError<DataSize>
         return rhs instanceof DataSize && this.equals((DataSize)rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return Doubles.hashCode(this.convertTo(DataSizeUnit.Bytes).value);
+    }
+
     public boolean equals(DataSize rhs)
     {
         boolean result = false;
@@ -170,6 +170,12 @@ public class Date implements Comparable<Date>
         return rhs instanceof Date && this.equals((Date)rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return this.dateTime.hashCode();
+    }
+
     public boolean equals(Date rhs)
     {
         return rhs != null && this.dateTime.equals(rhs.dateTime);
@@ -343,6 +343,12 @@ public class DateTime implements Comparable<DateTime>
         return obj instanceof DateTime && equals((DateTime)obj);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return this.offsetDateTime.hashCode();
+    }
+
     public boolean equals(DateTime value)
     {
         return Comparable.equals(this, value);
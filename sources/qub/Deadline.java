@@ -0,0 +1,27 @@
+package qub;
+
+/**
+ * A point in time that a waiting operation can check to determine whether or not it has timed
+ * out. Disposing a Deadline releases any resources that were used to track it.
+ */
+public interface Deadline extends Disposable
+{
+    /**
+     * Get whether or not this Deadline has passed.
+     * @return Whether or not this Deadline has passed.
+     */
+    boolean isExpired();
+
+    /**
+     * Get the number of real-time nanoseconds until this Deadline passes, or null if this
+     * Deadline isn't measured in real time. A waiting thread can park for exactly the returned
+     * number of nanoseconds instead of waking up periodically to check whether this Deadline has
+     * passed.
+     * @return The number of real-time nanoseconds until this Deadline passes, or null if this
+     * Deadline isn't measured in real time.
+     */
+    default Long getRemainingNanoseconds()
+    {
+        return null;
+    }
+}
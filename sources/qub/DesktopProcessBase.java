@@ -10,7 +10,12 @@ public abstract class DesktopProcessBase extends ProcessBase implements DesktopP
 
     protected DesktopProcessBase(CommandLineArguments commandLineArguments, AsyncScheduler mainAsyncRunner)
     {
-        super(mainAsyncRunner);
+        this(commandLineArguments, mainAsyncRunner, ParallelAsyncRunner.create());
+    }
+
+    protected DesktopProcessBase(CommandLineArguments commandLineArguments, AsyncScheduler mainAsyncRunner, AsyncScheduler parallelAsyncRunner)
+    {
+        super(mainAsyncRunner, parallelAsyncRunner);
 
         PreCondition.assertNotNull(commandLineArguments, "commandLineArguments");
 
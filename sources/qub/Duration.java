@@ -230,6 +230,13 @@ public interface Duration extends ComparableWithError<Duration>
         return this.compareWith(rhs) == Comparison.Equal;
     }
 
+    static int hashCode(Duration duration)
+    {
+        PreCondition.assertNotNull(duration, "duration");
+
+        return Doubles.hashCode(duration.toSeconds().getValue());
+    }
+
     default Comparison compareWith(Duration rhs)
     {
         return this.compareTo(rhs, Duration.zero);
@@ -0,0 +1,188 @@
+package qub;
+
+/**
+ * A thread-safe histogram of durations. Each duration is counted in one of a fixed number of
+ * buckets that double in size (measured in nanoseconds), so adding a duration never allocates and
+ * the histogram's size doesn't depend on how many durations have been added. Percentiles are
+ * reported as the upper bound of the bucket that contains them.
+ */
+public class DurationHistogram
+{
+    private static final int bucketCount = 64;
+
+    /**
+     * The number of durations in each bucket. Bucket 0 counts durations of 0 nanoseconds, and
+     * bucket i counts durations that are at least 2^(i-1) nanoseconds and less than 2^i
+     * nanoseconds.
+     */
+    private final java.util.concurrent.atomic.AtomicLongArray buckets;
+    private final java.util.concurrent.atomic.AtomicLong count;
+    private final java.util.concurrent.atomic.AtomicLong totalNanoseconds;
+    private final java.util.concurrent.atomic.AtomicLong maximumNanoseconds;
+
+    private DurationHistogram()
+    {
+        this.buckets = new java.util.concurrent.atomic.AtomicLongArray(DurationHistogram.bucketCount);
+        this.count = new java.util.concurrent.atomic.AtomicLong();
+        this.totalNanoseconds = new java.util.concurrent.atomic.AtomicLong();
+        this.maximumNanoseconds = new java.util.concurrent.atomic.AtomicLong();
+    }
+
+    /**
+     * Create a new empty DurationHistogram.
+     * @return The new DurationHistogram.
+     */
+    public static DurationHistogram create()
+    {
+        return new DurationHistogram();
+    }
+
+    /**
+     * Add the provided number of nanoseconds to this histogram.
+     * @param nanoseconds The number of nanoseconds to add. Negative values are counted as 0.
+     */
+    public void addNanoseconds(long nanoseconds)
+    {
+        if (nanoseconds < 0)
+        {
+            nanoseconds = 0;
+        }
+
+        this.buckets.incrementAndGet(DurationHistogram.getBucketIndex(nanoseconds));
+        this.count.incrementAndGet();
+        this.totalNanoseconds.addAndGet(nanoseconds);
+        this.maximumNanoseconds.accumulateAndGet(nanoseconds, java.lang.Math::max);
+    }
+
+    /**
+     * Add the provided Duration to this histogram.
+     * @param duration The Duration to add.
+     */
+    public void add(Duration duration)
+    {
+        PreCondition.assertNotNull(duration, "duration");
+
+        this.addNanoseconds((long)duration.toNanoseconds().getValue());
+    }
+
+    /**
+     * Get the number of durations that have been added to this histogram.
+     * @return The number of durations that have been added to this histogram.
+     */
+    public long getCount()
+    {
+        return this.count.get();
+    }
+
+    /**
+     * Get the sum of the durations that have been added to this histogram.
+     * @return The sum of the durations that have been added to this histogram.
+     */
+    public Duration getTotal()
+    {
+        return Duration.nanoseconds(this.totalNanoseconds.get());
+    }
+
+    /**
+     * Get the longest duration that has been added to this histogram.
+     * @return The longest duration that has been added to this histogram.
+     */
+    public Duration getMaximum()
+    {
+        return Duration.nanoseconds(this.maximumNanoseconds.get());
+    }
+
+    /**
+     * Get the average of the durations that have been added to this histogram.
+     * @return The average of the durations that have been added to this histogram, or 0 if no
+     * durations have been added.
+     */
+    public Duration getAverage()
+    {
+        final long count = this.count.get();
+        return Duration.nanoseconds(count == 0 ? 0 : (double)this.totalNanoseconds.get() / count);
+    }
+
+    /**
+     * Get an upper bound for the provided percentile of the durations that have been added to this
+     * histogram.
+     * @param percentile The percentile to get, between 0 and 100.
+     * @return The upper bound of the bucket that contains the provided percentile, or 0 if no
+     * durations have been added.
+     */
+    public Duration getPercentile(double percentile)
+    {
+        PreCondition.assertBetween(0, percentile, 100, "percentile");
+
+        long result = 0;
+        final long count = this.count.get();
+        if (count > 0)
+        {
+            final long rank = java.lang.Math.max(1, (long)java.lang.Math.ceil(count * percentile / 100));
+            long seenCount = 0;
+            for (int i = 0; i < DurationHistogram.bucketCount; ++i)
+            {
+                seenCount += this.buckets.get(i);
+                if (seenCount >= rank)
+                {
+                    result = DurationHistogram.getBucketUpperBoundNanoseconds(i);
+                    break;
+                }
+            }
+            result = java.lang.Math.min(result, this.maximumNanoseconds.get());
+        }
+        return Duration.nanoseconds(result);
+    }
+
+    /**
+     * Get a JSON representation of this histogram. Durations are written as nanoseconds, and only
+     * the buckets that contain durations are written.
+     * @return A JSON representation of this histogram.
+     */
+    public JSONObject toJson()
+    {
+        final JSONObject result = JSONObject.create()
+            .setNumber("count", this.getCount())
+            .setNumber("totalNanoseconds", this.totalNanoseconds.get())
+            .setNumber("averageNanoseconds", this.getAverage().getValue())
+            .setNumber("maximumNanoseconds", this.maximumNanoseconds.get())
+            .setNumber("p50Nanoseconds", this.getPercentile(50).getValue())
+            .setNumber("p90Nanoseconds", this.getPercentile(90).getValue())
+            .setNumber("p99Nanoseconds", this.getPercentile(99).getValue());
+
+        final JSONArray buckets = JSONArray.create();
+        for (int i = 0; i < DurationHistogram.bucketCount; ++i)
+        {
+            final long bucketCount = this.buckets.get(i);
+            if (bucketCount > 0)
+            {
+                buckets.add(JSONObject.create()
+                    .setNumber("upperBoundNanoseconds", DurationHistogram.getBucketUpperBoundNanoseconds(i))
+                    .setNumber("count", bucketCount));
+            }
+        }
+        result.setArray("buckets", buckets);
+
+        PostCondition.assertNotNull(result, "result");
+
+        return result;
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.toJson().toString();
+    }
+
+    private static int getBucketIndex(long nanoseconds)
+    {
+        return java.lang.Math.min(DurationHistogram.bucketCount - 1, 64 - java.lang.Long.numberOfLeadingZeros(nanoseconds));
+    }
+
+    private static long getBucketUpperBoundNanoseconds(int bucketIndex)
+    {
+        return bucketIndex == DurationHistogram.bucketCount - 1
+            ? java.lang.Long.MAX_VALUE
+            : (1L << bucketIndex) - 1;
+    }
+}
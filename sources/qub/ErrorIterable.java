@@ -62,6 +62,12 @@ public class ErrorIterable extends RuntimeException implements Iterable<Throwabl
         return Iterable.equals(this, rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return Iterable.hashCode(this);
+    }
+
     @Override
     public Iterator<Throwable> iterate()
     {
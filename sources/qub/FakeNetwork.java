@@ -12,7 +12,7 @@ public class FakeNetwork implements Network
     private FakeNetwork(Clock clock)
     {
         this.clock = clock;
-        this.mutex = (clock == null ? SpinMutex.create() : SpinMutex.create(clock));
+        this.mutex = (clock == null ? ParkingMutex.create() : ParkingMutex.create(clock));
         this.boundTCPServerAvailable = mutex.createCondition();
         this.boundTCPClients = Map.create();
         this.boundTCPServers = Map.create();
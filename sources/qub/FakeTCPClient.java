@@ -91,6 +91,12 @@ public class FakeTCPClient implements TCPClient
         return this.socketReadStream.readByte();
     }
 
+    @Override
+    public int readByteOrEnd()
+    {
+        return this.socketReadStream.readByteOrEnd();
+    }
+
     @Override
     public Result<Integer> readBytes(byte[] outputBytes, int startIndex, int length)
     {
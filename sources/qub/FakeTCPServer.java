@@ -6,8 +6,8 @@ public class FakeTCPServer implements TCPServer
     private final IPv4Address localIPAddress;
     private final int localPort;
     private final FakeNetwork network;
-    private final SpinMutex mutex;
-    private final SpinMutexCondition hasClientsToAccept;
+    private final ParkingMutex mutex;
+    private final ParkingMutexCondition hasClientsToAccept;
     private final List<FakeTCPClient> clientsToAccept;
     private volatile boolean disposed;
 
@@ -22,7 +22,7 @@ public class FakeTCPServer implements TCPServer
         this.localPort = localPort;
         this.network = network;
         this.clientsToAccept = List.create();
-        this.mutex = (clock == null ? SpinMutex.create() : SpinMutex.create(clock));
+        this.mutex = (clock == null ? ParkingMutex.create() : ParkingMutex.create(clock));
         this.hasClientsToAccept = this.mutex.createCondition(() -> this.isDisposed() || this.clientsToAccept.any());
     }
 
@@ -182,6 +182,12 @@ public class File extends FileSystemEntry
         return rhs instanceof File && equals((File)rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return Hash.getHashCode(this.getFileSystem(), this.getPath());
+    }
+
     public boolean equals(File rhs)
     {
         return rhs != null &&
@@ -944,6 +944,96 @@ public interface FileSystem
         return copyFileTo(sourceFilePath, destinationFilePath);
     }
 
+    /**
+     * Copy the provided sourceFolder and all of its contents to the provided destinationFolder.
+     * @param sourceFolder The folder to copy.
+     * @param destinationFolder The folder to copy to.
+     * @return The result of copying the folder.
+     */
+    default Result<Void> copyFolderTo(Folder sourceFolder, Folder destinationFolder)
+    {
+        PreCondition.assertNotNull(sourceFolder, "sourceFolder");
+        PreCondition.assertNotNull(destinationFolder, "destinationFolder");
+
+        return this.copyFolderTo(sourceFolder.getPath(), destinationFolder.getPath());
+    }
+
+    /**
+     * Copy the provided sourceFolder and all of its contents to the provided
+     * destinationFolderPath.
+     * @param sourceFolder The folder to copy.
+     * @param destinationFolderPath The path to copy the folder to.
+     * @return The result of copying the folder.
+     */
+    default Result<Void> copyFolderTo(Folder sourceFolder, Path destinationFolderPath)
+    {
+        PreCondition.assertNotNull(sourceFolder, "sourceFolder");
+        FileSystem.validateRootedFolderPath(destinationFolderPath, "destinationFolderPath");
+
+        return this.copyFolderTo(sourceFolder.getPath(), destinationFolderPath);
+    }
+
+    /**
+     * Copy the folder at the provided sourceFolderPath and all of its contents to the provided
+     * destinationFolder.
+     * @param sourceFolderPath The path to the folder to copy.
+     * @param destinationFolder The folder to copy to.
+     * @return The result of copying the folder.
+     */
+    default Result<Void> copyFolderTo(Path sourceFolderPath, Folder destinationFolder)
+    {
+        FileSystem.validateRootedFolderPath(sourceFolderPath, "sourceFolderPath");
+        PreCondition.assertNotNull(destinationFolder, "destinationFolder");
+
+        return this.copyFolderTo(sourceFolderPath, destinationFolder.getPath());
+    }
+
+    /**
+     * Copy the folder at the provided sourceFolderPath and all of its contents to the provided
+     * destinationFolderPath. The destination folder will be created if it doesn't exist, and
+     * files that already exist in the destination folder will be overwritten.
+     * @param sourceFolderPath The path to the folder to copy.
+     * @param destinationFolderPath The path to copy the folder to.
+     * @return The result of copying the folder.
+     */
+    default Result<Void> copyFolderTo(Path sourceFolderPath, Path destinationFolderPath)
+    {
+        FileSystem.validateRootedFolderPath(sourceFolderPath, "sourceFolderPath");
+        FileSystem.validateRootedFolderPath(destinationFolderPath, "destinationFolderPath");
+
+        return Result.create(() ->
+        {
+            if (!this.folderExists(sourceFolderPath).await())
+            {
+                throw new FolderNotFoundException(sourceFolderPath);
+            }
+
+            // Get all of the entries before creating the destination folder so that a destination
+            // folder that is inside of the source folder isn't copied into itself.
+            final Iterable<FileSystemEntry> entries = this.iterateEntriesRecursively(sourceFolderPath).toList();
+
+            this.createFolder(destinationFolderPath)
+                .catchError(FolderAlreadyExistsException.class)
+                .await();
+
+            for (final FileSystemEntry entry : entries)
+            {
+                final Path entryPath = entry.getPath();
+                final Path destinationEntryPath = destinationFolderPath.concatenateSegment(entryPath.relativeTo(sourceFolderPath));
+                if (entry instanceof Folder)
+                {
+                    this.createFolder(destinationEntryPath)
+                        .catchError(FolderAlreadyExistsException.class)
+                        .await();
+                }
+                else
+                {
+                    this.copyFileTo(entryPath, destinationEntryPath).await();
+                }
+            }
+        });
+    }
+
     static void validateRootedFolderPath(String rootedFolderPath)
     {
         validateRootedFolderPath(rootedFolderPath, "rootedFolderPath");
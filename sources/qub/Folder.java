@@ -52,6 +52,26 @@ public class Folder extends FileSystemEntry
         return getFileSystem().createFolder(getPath()).then(() -> {});
     }
 
+    /**
+     * Copy this folder and all of its contents to the provided destinationFolderPath.
+     * @param destinationFolderPath The path to copy this folder to.
+     * @return The result of copying this folder.
+     */
+    public Result<Void> copyTo(Path destinationFolderPath)
+    {
+        return this.getFileSystem().copyFolderTo(this, destinationFolderPath);
+    }
+
+    /**
+     * Copy this folder and all of its contents to the provided destinationFolder.
+     * @param destinationFolder The folder to copy this folder to.
+     * @return The result of copying this folder.
+     */
+    public Result<Void> copyTo(Folder destinationFolder)
+    {
+        return this.getFileSystem().copyFolderTo(this, destinationFolder);
+    }
+
     /**
      * Get whether or not the folder at the provided relativeFolderPath exists.
      * @param relativeFolderPath The relative path to the folder.
@@ -406,6 +426,12 @@ public class Folder extends FileSystemEntry
         return rhs instanceof Folder && this.equals((Folder)rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return Hash.getHashCode(this.getFileSystem(), this.getPath().hashCode(false));
+    }
+
     public boolean equals(Folder rhs)
     {
         return rhs != null &&
@@ -0,0 +1,147 @@
+package qub;
+
+/**
+ * A count-min sketch that estimates how often each key has been used recently. Each key is counted
+ * in four 4-bit counters that are packed into an array of longs, so the sketch uses 8 bytes for
+ * every 16 counters no matter how many keys it sees. When the sketch has counted a sample of uses,
+ * all of its counters are halved so that old uses count for less than new ones.
+ */
+class FrequencySketch
+{
+    private static final long[] seeds = new long[]
+    {
+        0xc3a5c85c97cb3127L,
+        0xb492b66fbe98f273L,
+        0x9ae16a3b2f90404fL,
+        0xcbf29ce484222325L,
+    };
+    private static final long resetMask = 0x7777777777777777L;
+    private static final int maximumCounterValue = 15;
+    private static final int minimumTableLength = 16;
+    private static final int maximumTableLength = 1 << 26;
+
+    private long[] table;
+    private int tableMask;
+    private int sampleSize;
+    /**
+     * The number of uses that have been counted since the counters were last halved.
+     */
+    private int additions;
+
+    private FrequencySketch(int expectedKeyCount)
+    {
+        this.setTable(expectedKeyCount);
+    }
+
+    /**
+     * Create a new FrequencySketch that is sized for the provided number of keys.
+     * @param expectedKeyCount The number of keys that the sketch is expected to count.
+     * @return The new FrequencySketch.
+     */
+    static FrequencySketch create(int expectedKeyCount)
+    {
+        PreCondition.assertGreaterThanOrEqualTo(expectedKeyCount, 0, "expectedKeyCount");
+
+        return new FrequencySketch(expectedKeyCount);
+    }
+
+    /**
+     * Make sure that this sketch is large enough to count the provided number of keys accurately.
+     * If it isn't, then it is replaced with a larger sketch and its counts are lost.
+     * @param expectedKeyCount The number of keys that the sketch is expected to count.
+     */
+    void ensureCapacity(int expectedKeyCount)
+    {
+        if (this.table.length < expectedKeyCount && this.table.length < FrequencySketch.maximumTableLength)
+        {
+            this.setTable(expectedKeyCount);
+        }
+    }
+
+    /**
+     * Get the estimated number of times that the provided key has been used recently. This will
+     * never be more than 15.
+     * @param key The key.
+     * @return The estimated number of times that the provided key has been used recently.
+     */
+    int getFrequency(Object key)
+    {
+        final int hash = FrequencySketch.spread(java.util.Objects.hashCode(key));
+        final int start = (hash & 3) << 2;
+        int result = FrequencySketch.maximumCounterValue;
+        for (int i = 0; i < 4; ++i)
+        {
+            final int index = this.getTableIndex(hash, i);
+            final int offset = (start + i) << 2;
+            final int counter = (int)((this.table[index] >>> offset) & 0xfL);
+            result = java.lang.Math.min(result, counter);
+        }
+        return result;
+    }
+
+    /**
+     * Count one use of the provided key.
+     * @param key The key that was used.
+     */
+    void increment(Object key)
+    {
+        final int hash = FrequencySketch.spread(java.util.Objects.hashCode(key));
+        final int start = (hash & 3) << 2;
+        boolean incremented = false;
+        for (int i = 0; i < 4; ++i)
+        {
+            final int index = this.getTableIndex(hash, i);
+            final int offset = (start + i) << 2;
+            if (((this.table[index] >>> offset) & 0xfL) < FrequencySketch.maximumCounterValue)
+            {
+                this.table[index] += 1L << offset;
+                incremented = true;
+            }
+        }
+
+        if (incremented && ++this.additions >= this.sampleSize)
+        {
+            this.reset();
+        }
+    }
+
+    /**
+     * Halve all of the counters in this sketch.
+     */
+    private void reset()
+    {
+        for (int i = 0; i < this.table.length; ++i)
+        {
+            this.table[i] = (this.table[i] >>> 1) & FrequencySketch.resetMask;
+        }
+        this.additions >>>= 1;
+    }
+
+    private void setTable(int expectedKeyCount)
+    {
+        int tableLength = FrequencySketch.minimumTableLength;
+        while (tableLength < expectedKeyCount && tableLength < FrequencySketch.maximumTableLength)
+        {
+            tableLength <<= 1;
+        }
+
+        this.table = new long[tableLength];
+        this.tableMask = tableLength - 1;
+        this.sampleSize = 10 * tableLength;
+        this.additions = 0;
+    }
+
+    private int getTableIndex(int hash, int depth)
+    {
+        long result = (hash + FrequencySketch.seeds[depth]) * FrequencySketch.seeds[depth];
+        result += result >>> 32;
+        return (int)result & this.tableMask;
+    }
+
+    private static int spread(int hash)
+    {
+        int result = hash * 0x9e3779b9;
+        result ^= result >>> 16;
+        return result;
+    }
+}
@@ -50,4 +50,19 @@ public class Hash
 
         return result;
     }
+
+    /**
+     * Get the slot that the provided hash belongs in within an open addressing table whose length
+     * is a power of two. This uses Fibonacci hashing: the hash is multiplied by 2^32 divided by the
+     * golden ratio and the top bits of the product are kept. This spreads nearby hashes (such as
+     * sequential ids or small Integers) across the table so that linear probing doesn't create long
+     * clusters.
+     * @param hash The hash to get the slot of.
+     * @param tableShift 32 minus the base-2 logarithm of the table's length.
+     * @return The slot that the provided hash belongs in.
+     */
+    static int getFibonacciSlot(int hash, int tableShift)
+    {
+        return (hash * 0x9E3779B9) >>> tableShift;
+    }
 }
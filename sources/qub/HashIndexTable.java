@@ -0,0 +1,402 @@
+package qub;
+
+/**
+ * The open-addressing index that HashMap and the primitive-keyed maps use to find their entries.
+ * The maps store their keys and values in insertion-ordered entry arrays, and this table maps the
+ * int hash of each entry's key to the entry's index with linear probing. This table also keeps
+ * track of each entry's hash and of which entries have been removed, so it never needs to look at
+ * (or box) the keys themselves. The maps only own the probe loops that compare keys.
+ */
+class HashIndexTable
+{
+    private static final int minimumTableLength = 8;
+
+    private final double loadFactor;
+    /**
+     * The open-addressing table. Each element is either 0 (an empty slot) or the index of an entry
+     * plus 1. The length of the table is always a power of two.
+     */
+    private int[] table;
+    /**
+     * The number of bits to shift a scrambled hash by to get its home slot in the table.
+     */
+    private int tableShift;
+    /**
+     * The hash of the entry at each index.
+     */
+    private int[] hashes;
+    /**
+     * Whether or not the entry at each index has been removed.
+     */
+    private boolean[] removed;
+    /**
+     * The number of entry slots that have been used, including the slots of removed entries.
+     */
+    private int entryEndIndex;
+    /**
+     * The number of entries that haven't been removed.
+     */
+    private int count;
+
+    private HashIndexTable(int initialCapacity, double loadFactor)
+    {
+        this.loadFactor = loadFactor;
+
+        int tableLength = HashIndexTable.minimumTableLength;
+        while (HashIndexTable.getEntryCapacity(tableLength, loadFactor) < initialCapacity)
+        {
+            tableLength *= 2;
+        }
+        this.setTable(new int[tableLength]);
+        this.hashes = new int[initialCapacity];
+        this.removed = new boolean[initialCapacity];
+    }
+
+    /**
+     * Create a new empty HashIndexTable.
+     * @param initialCapacity The number of entries that the table can hold before it needs to grow.
+     *                        The entry arrays of the map that owns the table must start with this
+     *                        length.
+     * @param loadFactor The fraction of the table that can be filled before the table grows.
+     * @return The new HashIndexTable.
+     */
+    static HashIndexTable create(int initialCapacity, double loadFactor)
+    {
+        PreCondition.assertGreaterThanOrEqualTo(initialCapacity, 0, "initialCapacity");
+        PreCondition.assertBetween(0.1, loadFactor, 0.95, "loadFactor");
+
+        return new HashIndexTable(initialCapacity, loadFactor);
+    }
+
+    /**
+     * Get the fraction of this table that can be filled before the table grows.
+     * @return The fraction of this table that can be filled before the table grows.
+     */
+    double getLoadFactor()
+    {
+        return this.loadFactor;
+    }
+
+    /**
+     * Get the number of entries that haven't been removed.
+     * @return The number of entries that haven't been removed.
+     */
+    int getCount()
+    {
+        return this.count;
+    }
+
+    /**
+     * Get the number of entry slots that have been used, including the slots of removed entries.
+     * @return The number of entry slots that have been used.
+     */
+    int getEntryEndIndex()
+    {
+        return this.entryEndIndex;
+    }
+
+    /**
+     * Get whether or not the entry at the provided index has been removed.
+     * @param entryIndex The index of the entry.
+     * @return Whether or not the entry at the provided index has been removed.
+     */
+    boolean isRemoved(int entryIndex)
+    {
+        return this.removed[entryIndex];
+    }
+
+    /**
+     * Get the hash of the entry at the provided index.
+     * @param entryIndex The index of the entry.
+     * @return The hash of the entry at the provided index.
+     */
+    int getHash(int entryIndex)
+    {
+        return this.hashes[entryIndex];
+    }
+
+    /**
+     * Get the slot that a probe for the provided hash starts at.
+     * @param hash The hash to probe for.
+     * @return The slot that a probe for the provided hash starts at.
+     */
+    int getHomeSlot(int hash)
+    {
+        return Hash.getFibonacciSlot(hash, this.tableShift);
+    }
+
+    /**
+     * Get the slot that a probe visits after the provided slot.
+     * @param slot The slot that was just visited.
+     * @return The slot that a probe visits after the provided slot.
+     */
+    int getNextSlot(int slot)
+    {
+        return (slot + 1) & (this.table.length - 1);
+    }
+
+    /**
+     * Get the index of the entry in the provided slot.
+     * @param slot The slot to get the entry index of.
+     * @return The index of the entry in the provided slot, or -1 if the slot is empty. A probe stops
+     * at the first empty slot.
+     */
+    int getEntryIndex(int slot)
+    {
+        return this.table[slot] - 1;
+    }
+
+    /**
+     * Get whether or not the entry arrays are full and must grow before another entry is added.
+     * @return Whether or not the entry arrays are full.
+     */
+    boolean isFull()
+    {
+        return this.entryEndIndex == this.hashes.length;
+    }
+
+    /**
+     * Add a new entry with the provided hash. The entry arrays must not be full.
+     * @param hash The hash of the new entry's key.
+     * @return The index that the new entry's key and value must be stored at.
+     */
+    int addEntry(int hash)
+    {
+        final int result = this.entryEndIndex++;
+        this.hashes[result] = hash;
+        this.insertIntoTable(result);
+        ++this.count;
+        return result;
+    }
+
+    /**
+     * Remove the entry in the provided slot. The entry's index is marked as removed, and any
+     * removed entries at the end of the entry arrays are released so that they can be reused.
+     * @param slot The slot of the entry to remove.
+     */
+    void removeEntry(int slot)
+    {
+        final int entryIndex = this.table[slot] - 1;
+        this.removeFromTable(slot);
+        this.removed[entryIndex] = true;
+        --this.count;
+
+        // Entries at the end of the entry arrays can be reused right away.
+        while (this.entryEndIndex > 0 && this.removed[this.entryEndIndex - 1])
+        {
+            this.removed[--this.entryEndIndex] = false;
+        }
+    }
+
+    /**
+     * Remove all of the entries. The map that owns this table must clear its own entry arrays
+     * first, up to getEntryEndIndex().
+     */
+    void clear()
+    {
+        java.util.Arrays.fill(this.table, 0);
+        java.util.Arrays.fill(this.removed, 0, this.entryEndIndex, false);
+        this.entryEndIndex = 0;
+        this.count = 0;
+    }
+
+    /**
+     * Get the capacity that the entry arrays will have after the next call to growEntries(). To
+     * make room for at least one more entry, a map that is full calls moveEntries() for each of its
+     * entry arrays with this capacity and then calls growEntries() with it.
+     * @return The capacity that the entry arrays will have after they grow.
+     */
+    int getGrownEntryCapacity()
+    {
+        final int entryCapacity = HashIndexTable.getEntryCapacity(this.table.length, this.loadFactor);
+        final int result;
+        if (this.hashes.length < entryCapacity)
+        {
+            // The table hasn't been filled yet, so only the entry arrays need to grow.
+            result = java.lang.Math.min(entryCapacity, java.lang.Math.max(4, this.hashes.length * 2));
+        }
+        else
+        {
+            result = HashIndexTable.getEntryCapacity(this.getGrownTableLength(), this.loadFactor);
+        }
+        return result;
+    }
+
+    /**
+     * Copy the provided entry array into a new array with the provided capacity. If growing the
+     * entries will compact them, then the slots of removed entries are dropped.
+     * @param entries The entry array to move.
+     * @param newEntryCapacity The value returned by getGrownEntryCapacity().
+     * @return The new entry array.
+     */
+    int[] moveEntries(int[] entries, int newEntryCapacity)
+    {
+        final int[] result = java.util.Arrays.copyOf(entries, newEntryCapacity);
+        if (this.willCompact())
+        {
+            int newEntryIndex = 0;
+            for (int entryIndex = 0; entryIndex < this.entryEndIndex; ++entryIndex)
+            {
+                if (!this.removed[entryIndex])
+                {
+                    result[newEntryIndex++] = entries[entryIndex];
+                }
+            }
+            java.util.Arrays.fill(result, newEntryIndex, newEntryCapacity, 0);
+        }
+        return result;
+    }
+
+    /**
+     * Copy the provided entry array into a new array with the provided capacity. If growing the
+     * entries will compact them, then the slots of removed entries are dropped.
+     * @param entries The entry array to move.
+     * @param newEntryCapacity The value returned by getGrownEntryCapacity().
+     * @return The new entry array.
+     */
+    long[] moveEntries(long[] entries, int newEntryCapacity)
+    {
+        final long[] result = java.util.Arrays.copyOf(entries, newEntryCapacity);
+        if (this.willCompact())
+        {
+            int newEntryIndex = 0;
+            for (int entryIndex = 0; entryIndex < this.entryEndIndex; ++entryIndex)
+            {
+                if (!this.removed[entryIndex])
+                {
+                    result[newEntryIndex++] = entries[entryIndex];
+                }
+            }
+            java.util.Arrays.fill(result, newEntryIndex, newEntryCapacity, 0);
+        }
+        return result;
+    }
+
+    /**
+     * Copy the provided entry array into a new array with the provided capacity. If growing the
+     * entries will compact them, then the slots of removed entries are dropped.
+     * @param entries The entry array to move.
+     * @param newEntryCapacity The value returned by getGrownEntryCapacity().
+     * @return The new entry array.
+     */
+    Object[] moveEntries(Object[] entries, int newEntryCapacity)
+    {
+        final Object[] result = java.util.Arrays.copyOf(entries, newEntryCapacity);
+        if (this.willCompact())
+        {
+            int newEntryIndex = 0;
+            for (int entryIndex = 0; entryIndex < this.entryEndIndex; ++entryIndex)
+            {
+                if (!this.removed[entryIndex])
+                {
+                    result[newEntryIndex++] = entries[entryIndex];
+                }
+            }
+            java.util.Arrays.fill(result, newEntryIndex, newEntryCapacity, null);
+        }
+        return result;
+    }
+
+    /**
+     * Make room for at least one more entry, either by growing the entry arrays or by compacting
+     * removed entries out of the entry arrays and growing the table. The map that owns this table
+     * must have moved its own entry arrays with moveEntries() first.
+     * @param newEntryCapacity The value returned by getGrownEntryCapacity().
+     */
+    void growEntries(int newEntryCapacity)
+    {
+        if (!this.willCompact())
+        {
+            this.hashes = java.util.Arrays.copyOf(this.hashes, newEntryCapacity);
+            this.removed = java.util.Arrays.copyOf(this.removed, newEntryCapacity);
+        }
+        else
+        {
+            final int tableLength = this.getGrownTableLength();
+            this.hashes = this.moveEntries(this.hashes, newEntryCapacity);
+            this.removed = new boolean[newEntryCapacity];
+            this.entryEndIndex = this.count;
+
+            this.setTable(new int[tableLength]);
+            for (int entryIndex = 0; entryIndex < this.entryEndIndex; ++entryIndex)
+            {
+                this.insertIntoTable(entryIndex);
+            }
+        }
+    }
+
+    /**
+     * Get whether or not the next call to growEntries() will compact the entry arrays and rebuild
+     * the table, rather than only growing the entry arrays.
+     * @return Whether or not the next call to growEntries() will compact the entry arrays.
+     */
+    private boolean willCompact()
+    {
+        return this.hashes.length >= HashIndexTable.getEntryCapacity(this.table.length, this.loadFactor);
+    }
+
+    /**
+     * Get the length that the table will have after the entry arrays are compacted. The table only
+     * doubles if at least half of its entry capacity is still in use, so a map that has had most of
+     * its entries removed reuses its table instead of growing it.
+     * @return The length that the table will have after the entry arrays are compacted.
+     */
+    private int getGrownTableLength()
+    {
+        final int tableLength = this.table.length;
+        return this.count >= HashIndexTable.getEntryCapacity(tableLength, this.loadFactor) / 2 ? tableLength * 2 : tableLength;
+    }
+
+    private void insertIntoTable(int entryIndex)
+    {
+        final int mask = this.table.length - 1;
+        int slot = this.getHomeSlot(this.hashes[entryIndex]);
+        while (this.table[slot] != 0)
+        {
+            slot = (slot + 1) & mask;
+        }
+        this.table[slot] = entryIndex + 1;
+    }
+
+    /**
+     * Empty the provided table slot and shift back any entries later in the same probe sequence so
+     * that lookups never need to step over removed slots.
+     * @param slot The slot to empty.
+     */
+    private void removeFromTable(int slot)
+    {
+        final int mask = this.table.length - 1;
+        int emptySlot = slot;
+        int currentSlot = slot;
+        while (true)
+        {
+            currentSlot = (currentSlot + 1) & mask;
+            final int tableValue = this.table[currentSlot];
+            if (tableValue == 0)
+            {
+                break;
+            }
+
+            // An entry can only be moved back to the empty slot if its home slot isn't cyclically
+            // between the empty slot (exclusive) and its current slot (inclusive).
+            final int homeSlot = this.getHomeSlot(this.hashes[tableValue - 1]);
+            if (((currentSlot - homeSlot) & mask) >= ((currentSlot - emptySlot) & mask))
+            {
+                this.table[emptySlot] = tableValue;
+                emptySlot = currentSlot;
+            }
+        }
+        this.table[emptySlot] = 0;
+    }
+
+    private void setTable(int[] table)
+    {
+        this.table = table;
+        this.tableShift = java.lang.Integer.numberOfLeadingZeros(table.length) + 1;
+    }
+
+    private static int getEntryCapacity(int tableLength, double loadFactor)
+    {
+        return java.lang.Math.max(1, (int)(tableLength * loadFactor));
+    }
+}
@@ -0,0 +1,435 @@
+package qub;
+
+/**
+ * A MutableMap that finds its keys by hashing them into an open-addressing table with linear
+ * probing. Entries are stored in insertion order in separate arrays from the table, so iterating
+ * over a HashMap returns its entries in the order that their keys were first added.
+ * @param <TKey> The type of keys that are stored in this Map.
+ * @param <TValue> The type of values that are associated with the keys in this Map.
+ */
+public class HashMap<TKey,TValue> implements MutableMap<TKey,TValue>
+{
+    /**
+     * The default fraction of the table that can be filled before the table grows.
+     */
+    public static final double defaultLoadFactor = 0.75;
+
+    /**
+     * The table that maps the hash of each key to the index of its entry.
+     */
+    private final HashIndexTable indexTable;
+    private Object[] keys;
+    private Object[] values;
+
+    private HashMap(int initialCapacity, double loadFactor)
+    {
+        PreCondition.assertGreaterThanOrEqualTo(initialCapacity, 0, "initialCapacity");
+        PreCondition.assertBetween(0.1, loadFactor, 0.95, "loadFactor");
+
+        this.indexTable = HashIndexTable.create(initialCapacity, loadFactor);
+        this.keys = new Object[initialCapacity];
+        this.values = new Object[initialCapacity];
+    }
+
+    /**
+     * Create a new empty HashMap.
+     * @param <TKey> The type of keys that are stored in the HashMap.
+     * @param <TValue> The type of values that are stored in the HashMap.
+     * @return The new HashMap.
+     */
+    public static <TKey,TValue> HashMap<TKey,TValue> create()
+    {
+        return HashMap.create(0, HashMap.defaultLoadFactor);
+    }
+
+    /**
+     * Create a new empty HashMap that can hold the provided number of entries before it needs to
+     * grow.
+     * @param initialCapacity The number of entries that the HashMap can hold before it needs to
+     *                        grow.
+     * @param loadFactor The fraction of the HashMap's table that can be filled before the table
+     *                   grows. Smaller values use more memory but have shorter probe sequences.
+     * @param <TKey> The type of keys that are stored in the HashMap.
+     * @param <TValue> The type of values that are stored in the HashMap.
+     * @return The new HashMap.
+     */
+    public static <TKey,TValue> HashMap<TKey,TValue> create(int initialCapacity, double loadFactor)
+    {
+        return new HashMap<>(initialCapacity, loadFactor);
+    }
+
+    /**
+     * Create a new HashMap that contains the provided entries.
+     * @param entries The entries to add to the HashMap.
+     * @param <TKey> The type of keys that are stored in the HashMap.
+     * @param <TValue> The type of values that are stored in the HashMap.
+     * @return The new HashMap.
+     */
+    @SafeVarargs
+    public static <TKey,TValue> HashMap<TKey,TValue> create(MapEntry<TKey,TValue>... entries)
+    {
+        PreCondition.assertNotNull(entries, "entries");
+
+        return HashMap.create(Iterable.create(entries));
+    }
+
+    /**
+     * Create a new HashMap that contains the provided entries.
+     * @param entries The entries to add to the HashMap.
+     * @param <TKey> The type of keys that are stored in the HashMap.
+     * @param <TValue> The type of values that are stored in the HashMap.
+     * @return The new HashMap.
+     */
+    public static <TKey,TValue> HashMap<TKey,TValue> create(Iterable<MapEntry<TKey,TValue>> entries)
+    {
+        PreCondition.assertNotNull(entries, "entries");
+
+        return HashMap.create(entries.iterate());
+    }
+
+    /**
+     * Create a new HashMap that contains the provided entries.
+     * @param entries The entries to add to the HashMap.
+     * @param <TKey> The type of keys that are stored in the HashMap.
+     * @param <TValue> The type of values that are stored in the HashMap.
+     * @return The new HashMap.
+     */
+    public static <TKey,TValue> HashMap<TKey,TValue> create(Iterator<MapEntry<TKey,TValue>> entries)
+    {
+        PreCondition.assertNotNull(entries, "entries");
+
+        final HashMap<TKey,TValue> result = HashMap.create();
+        for (final MapEntry<TKey,TValue> entry : entries)
+        {
+            result.set(entry);
+        }
+
+        PostCondition.assertNotNull(result, "result");
+
+        return result;
+    }
+
+    /**
+     * Get the fraction of this HashMap's table that can be filled before the table grows.
+     * @return The fraction of this HashMap's table that can be filled before the table grows.
+     */
+    public double getLoadFactor()
+    {
+        return this.indexTable.getLoadFactor();
+    }
+
+    /**
+     * Clone the contents of this HashMap.
+     * @return A new clone of this HashMap.
+     */
+    public HashMap<TKey,TValue> clone()
+    {
+        final HashMap<TKey,TValue> result = HashMap.create(this.getCount(), this.getLoadFactor());
+        for (final MapEntry<TKey,TValue> entry : this)
+        {
+            result.set(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    @Override
+    public int getCount()
+    {
+        return this.indexTable.getCount();
+    }
+
+    @Override
+    public boolean any()
+    {
+        return this.indexTable.getCount() > 0;
+    }
+
+    @Override
+    public HashMap<TKey,TValue> clear()
+    {
+        final int entryEndIndex = this.indexTable.getEntryEndIndex();
+        java.util.Arrays.fill(this.keys, 0, entryEndIndex, null);
+        java.util.Arrays.fill(this.values, 0, entryEndIndex, null);
+        this.indexTable.clear();
+
+        return this;
+    }
+
+    @Override
+    public boolean containsKey(TKey key)
+    {
+        return this.findEntryIndex(key, HashMap.hash(key)) != -1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Result<TValue> get(TKey key)
+    {
+        final int entryIndex = this.findEntryIndex(key, HashMap.hash(key));
+        return entryIndex != -1
+            ? Result.success((TValue)this.values[entryIndex])
+            : this.createNotFoundResult(key);
+    }
+
+    /**
+     * Get the value associated with the provided key, or the provided defaultValue if the key
+     * doesn't exist in this HashMap. Unlike get(TKey), this doesn't allocate a Result.
+     * @param key The key to look for.
+     * @param defaultValue The value to return if the key doesn't exist in this HashMap.
+     * @return The value associated with the provided key, or the provided default value.
+     */
+    @SuppressWarnings("unchecked")
+    public TValue getOrDefault(TKey key, TValue defaultValue)
+    {
+        final int entryIndex = this.findEntryIndex(key, HashMap.hash(key));
+        return entryIndex != -1 ? (TValue)this.values[entryIndex] : defaultValue;
+    }
+
+    @Override
+    public HashMap<TKey,TValue> set(TKey key, TValue value)
+    {
+        final int hash = HashMap.hash(key);
+        final int entryIndex = this.findEntryIndex(key, hash);
+        if (entryIndex != -1)
+        {
+            this.values[entryIndex] = value;
+        }
+        else
+        {
+            if (this.indexTable.isFull())
+            {
+                this.growEntries();
+            }
+
+            final int newEntryIndex = this.indexTable.addEntry(hash);
+            this.keys[newEntryIndex] = key;
+            this.values[newEntryIndex] = value;
+        }
+        return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Result<TValue> remove(TKey key)
+    {
+        final int hash = HashMap.hash(key);
+        final HashIndexTable indexTable = this.indexTable;
+        int slot = indexTable.getHomeSlot(hash);
+        int entryIndex;
+        while ((entryIndex = indexTable.getEntryIndex(slot)) != -1)
+        {
+            if (indexTable.getHash(entryIndex) == hash && Comparer.equal(this.keys[entryIndex], key))
+            {
+                final TValue removedValue = (TValue)this.values[entryIndex];
+                indexTable.removeEntry(slot);
+                this.keys[entryIndex] = null;
+                this.values[entryIndex] = null;
+
+                return Result.success(removedValue);
+            }
+            slot = indexTable.getNextSlot(slot);
+        }
+        return this.createNotFoundResult(key);
+    }
+
+    @Override
+    public Iterable<TKey> getKeys()
+    {
+        return this.map(MapEntry::getKey);
+    }
+
+    @Override
+    public Iterable<TValue> getValues()
+    {
+        return this.map(MapEntry::getValue);
+    }
+
+    @Override
+    public Iterator<MapEntry<TKey,TValue>> iterate()
+    {
+        return new EntryIterator<MapEntry<TKey,TValue>>()
+        {
+            @Override
+            @SuppressWarnings("unchecked")
+            protected MapEntry<TKey,TValue> getEntry(int entryIndex)
+            {
+                return MapEntry.create((TKey)HashMap.this.keys[entryIndex], (TValue)HashMap.this.values[entryIndex]);
+            }
+        };
+    }
+
+    /**
+     * Iterate over the keys of this HashMap in insertion order without creating a MapEntry for
+     * each key.
+     * @return An Iterator over the keys of this HashMap.
+     */
+    Iterator<TKey> iterateKeys()
+    {
+        return new EntryIterator<TKey>()
+        {
+            @Override
+            @SuppressWarnings("unchecked")
+            protected TKey getEntry(int entryIndex)
+            {
+                return (TKey)HashMap.this.keys[entryIndex];
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object rhs)
+    {
+        return Iterable.equals(this, rhs);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Iterable.hashCode(this);
+    }
+
+    @Override
+    public String toString()
+    {
+        return Iterable.toString(this);
+    }
+
+    /**
+     * Get the index of the entry with the provided key.
+     * @param key The key to look for.
+     * @param hash The hash of the key.
+     * @return The index of the entry with the provided key, or -1 if the key wasn't found.
+     */
+    private int findEntryIndex(Object key, int hash)
+    {
+        int result = -1;
+        final HashIndexTable indexTable = this.indexTable;
+        if (indexTable.getCount() > 0)
+        {
+            int slot = indexTable.getHomeSlot(hash);
+            int entryIndex;
+            while ((entryIndex = indexTable.getEntryIndex(slot)) != -1)
+            {
+                if (indexTable.getHash(entryIndex) == hash && Comparer.equal(this.keys[entryIndex], key))
+                {
+                    result = entryIndex;
+                    break;
+                }
+                slot = indexTable.getNextSlot(slot);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Make room for at least one more entry.
+     */
+    private void growEntries()
+    {
+        final int newEntryCapacity = this.indexTable.getGrownEntryCapacity();
+        this.keys = this.indexTable.moveEntries(this.keys, newEntryCapacity);
+        this.values = this.indexTable.moveEntries(this.values, newEntryCapacity);
+        this.indexTable.growEntries(newEntryCapacity);
+    }
+
+    /**
+     * Get the hash of the provided key. This must agree with Comparer.equal(Object,Object), which
+     * compares arrays by their contents and Throwables by their types and messages. Every other
+     * key is hashed by its hashCode(), so key types must override hashCode() when they override
+     * equals(Object).
+     * @param key The key to get the hash of.
+     * @return The hash of the provided key.
+     */
+    static int hash(Object key)
+    {
+        int result;
+        if (key == null)
+        {
+            result = 0;
+        }
+        else if (key instanceof Throwable)
+        {
+            result = key.getClass().hashCode();
+        }
+        else if (key instanceof Object[])
+        {
+            result = 1;
+            for (final Object element : (Object[])key)
+            {
+                result = 31 * result + HashMap.hash(element);
+            }
+        }
+        else if (key.getClass().isArray())
+        {
+            result = java.util.Arrays.deepHashCode(new Object[] { key });
+        }
+        else
+        {
+            result = key.hashCode();
+        }
+        return result;
+    }
+
+    /**
+     * An Iterator that visits the entries of this HashMap in insertion order.
+     * @param <U> The type of value that is returned for each entry.
+     */
+    private abstract class EntryIterator<U> implements Iterator<U>
+    {
+        private int currentEntryIndex;
+        private boolean hasStarted;
+        private boolean hasCurrent;
+        private U current;
+
+        /**
+         * Get the value to return for the entry at the provided index.
+         * @param entryIndex The index of the entry.
+         * @return The value to return for the entry.
+         */
+        protected abstract U getEntry(int entryIndex);
+
+        @Override
+        public boolean hasStarted()
+        {
+            return this.hasStarted;
+        }
+
+        @Override
+        public boolean hasCurrent()
+        {
+            return this.hasCurrent;
+        }
+
+        @Override
+        public U getCurrent()
+        {
+            PreCondition.assertTrue(this.hasCurrent(), "this.hasCurrent()");
+
+            return this.current;
+        }
+
+        @Override
+        public boolean next()
+        {
+            if (!this.hasStarted)
+            {
+                this.hasStarted = true;
+            }
+            else if (this.hasCurrent)
+            {
+                ++this.currentEntryIndex;
+            }
+
+            final HashIndexTable indexTable = HashMap.this.indexTable;
+            while (this.currentEntryIndex < indexTable.getEntryEndIndex() && indexTable.isRemoved(this.currentEntryIndex))
+            {
+                ++this.currentEntryIndex;
+            }
+
+            this.hasCurrent = this.currentEntryIndex < indexTable.getEntryEndIndex();
+            this.current = this.hasCurrent ? this.getEntry(this.currentEntryIndex) : null;
+
+            return this.hasCurrent;
+        }
+    }
+}
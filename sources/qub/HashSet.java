@@ -0,0 +1,129 @@
+package qub;
+
+/**
+ * A Set that stores its values as the keys of a HashMap, so adding, removing and finding values
+ * doesn't depend on how many values the Set contains. Values are iterated in the order that they
+ * were first added.
+ * @param <T> The type of values contained by this Set.
+ */
+public class HashSet<T> implements Set<T>
+{
+    private final HashMap<T,Boolean> values;
+
+    private HashSet()
+    {
+        this.values = HashMap.create();
+    }
+
+    /**
+     * Create a new HashSet that contains the provided values.
+     * @param values The values that the new HashSet will contain.
+     * @param <T> The type of values contained by the new HashSet.
+     * @return The new HashSet.
+     */
+    @SafeVarargs
+    public static <T> HashSet<T> create(T... values)
+    {
+        PreCondition.assertNotNull(values, "values");
+
+        return HashSet.create(Iterable.create(values));
+    }
+
+    /**
+     * Create a new HashSet that contains the provided values.
+     * @param values The values that the new HashSet will contain.
+     * @param <T> The type of values contained by the new HashSet.
+     * @return The new HashSet.
+     */
+    public static <T> HashSet<T> create(Iterable<T> values)
+    {
+        PreCondition.assertNotNull(values, "values");
+
+        return HashSet.create(values.iterate());
+    }
+
+    /**
+     * Create a new HashSet that contains the provided values.
+     * @param values The values that the new HashSet will contain.
+     * @param <T> The type of values contained by the new HashSet.
+     * @return The new HashSet.
+     */
+    public static <T> HashSet<T> create(Iterator<T> values)
+    {
+        PreCondition.assertNotNull(values, "values");
+
+        final HashSet<T> result = new HashSet<>();
+        result.addAll(values);
+
+        PostCondition.assertNotNull(result, "result");
+
+        return result;
+    }
+
+    @Override
+    public HashSet<T> add(T value)
+    {
+        if (!this.values.containsKey(value))
+        {
+            this.values.set(value, true);
+        }
+        return this;
+    }
+
+    @Override
+    public Result<Void> remove(T value)
+    {
+        return this.values.remove(value)
+            .then(() -> {})
+            .convertError(NotFoundException.class, () -> new NotFoundException("Could not find the value " + value + "."));
+    }
+
+    @Override
+    public HashSet<T> clear()
+    {
+        this.values.clear();
+        return this;
+    }
+
+    @Override
+    public boolean contains(T value)
+    {
+        return this.values.containsKey(value);
+    }
+
+    @Override
+    public int getCount()
+    {
+        return this.values.getCount();
+    }
+
+    @Override
+    public boolean any()
+    {
+        return this.values.any();
+    }
+
+    @Override
+    public Iterator<T> iterate()
+    {
+        return this.values.iterateKeys();
+    }
+
+    @Override
+    public String toString()
+    {
+        return Set.toString(this);
+    }
+
+    @Override
+    public boolean equals(Object rhs)
+    {
+        return Set.equals(this, rhs);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Iterable.hashCode(this);
+    }
+}
@@ -15,7 +15,7 @@ public class InMemoryByteStream implements ByteReadStream, ByteWriteStream
         PreCondition.assertNotNull(bytes, "bytes");
 
         this.bytes = ByteList.createFromBytes(bytes);
-        this.mutex = SpinMutex.create();
+        this.mutex = ParkingMutex.create();
         this.bytesAvailable = this.mutex.createCondition(() -> isDisposed() || this.endOfStream || this.bytes.any());
 
         this.disposedEvent = Event0.create();
@@ -76,6 +76,34 @@ public class InMemoryByteStream implements ByteReadStream, ByteWriteStream
         });
     }
 
+    @Override
+    public int readByteOrEnd()
+    {
+        PreCondition.assertNotDisposed(this, "this");
+
+        int result;
+        this.mutex.acquire().await();
+        try
+        {
+            while (!this.isDisposed() && !this.endOfStream && !this.bytes.any())
+            {
+                bytesAvailable.watch().await();
+            }
+
+            if (this.isDisposed())
+            {
+                throw new IllegalStateException("this.isDisposed() cannot be true.");
+            }
+
+            result = this.bytes.any() ? Bytes.toUnsignedInt(this.bytes.removeFirst()) : -1;
+        }
+        finally
+        {
+            this.mutex.release().await();
+        }
+        return result;
+    }
+
     @Override
     public Result<Integer> readBytes(byte[] outputBytes, int startIndex, int length)
     {
@@ -189,10 +217,7 @@ public class InMemoryByteStream implements ByteReadStream, ByteWriteStream
 
         return mutex.criticalSection(() ->
         {
-            for (int i = 0; i < length; ++i)
-            {
-                this.bytes.add(bytes[startIndex + i]);
-            }
+            this.bytes.addAll(bytes, startIndex, length);
             bytesAvailable.signalAll();
             return length;
         });
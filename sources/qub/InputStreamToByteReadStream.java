@@ -3,17 +3,42 @@ package qub;
 /**
  * An adapter that converts a java.io.InputStream to a qub.ByteReadStream.
  */
-public class InputStreamToByteReadStream implements ByteReadStream
+public class InputStreamToByteReadStream implements ByteReadStream, JavaChannelStream
 {
     private final java.io.InputStream inputStream;
+    private final java.nio.channels.Channel channel;
 
     private boolean disposed;
 
     public InputStreamToByteReadStream(java.io.InputStream inputStream)
+    {
+        this(inputStream, inputStream instanceof java.io.FileInputStream ? ((java.io.FileInputStream)inputStream).getChannel() : null);
+    }
+
+    private InputStreamToByteReadStream(java.io.InputStream inputStream, java.nio.channels.Channel channel)
     {
         PreCondition.assertNotNull(inputStream, "inputStream");
 
         this.inputStream = inputStream;
+        this.channel = channel;
+    }
+
+    /**
+     * Create a new InputStreamToByteReadStream that reads from the provided FileChannel.
+     * @param fileChannel The FileChannel to read from.
+     * @return The new InputStreamToByteReadStream.
+     */
+    public static InputStreamToByteReadStream create(java.nio.channels.FileChannel fileChannel)
+    {
+        PreCondition.assertNotNull(fileChannel, "fileChannel");
+
+        return new InputStreamToByteReadStream(java.nio.channels.Channels.newInputStream(fileChannel), fileChannel);
+    }
+
+    @Override
+    public java.nio.channels.Channel getChannel()
+    {
+        return this.channel;
     }
 
     @Override
@@ -71,6 +96,21 @@ public class InputStreamToByteReadStream implements ByteReadStream
         return result;
     }
 
+    @Override
+    public int readByteOrEnd()
+    {
+        PreCondition.assertNotDisposed(this, "this");
+
+        try
+        {
+            return inputStream.read();
+        }
+        catch (java.io.IOException e)
+        {
+            throw Exceptions.asRuntime(e);
+        }
+    }
+
     @Override
     public Result<Integer> readBytes(byte[] outputBytes, int startIndex, int length)
     {
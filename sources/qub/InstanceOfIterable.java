@@ -23,6 +23,12 @@ class InstanceOfIterable<TInner,TOuter> implements Iterable<TOuter>
         return Iterable.equals(this, rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return Iterable.hashCode(this);
+    }
+
     @Override
     public String toString()
     {
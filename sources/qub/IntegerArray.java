@@ -65,12 +65,40 @@ public class IntegerArray implements Array<Integer>
         return values[index];
     }
 
+    /**
+     * Sort the values in this IntegerArray in place in ascending order.
+     * @return This IntegerArray after it has been sorted.
+     */
+    public IntegerArray sort()
+    {
+        java.util.Arrays.sort(this.values);
+
+        return this;
+    }
+
+    /**
+     * Search this IntegerArray for the provided value. The values must already be sorted in
+     * ascending order, such as by sort().
+     * @param value The value to search for.
+     * @return The index of the value, or (-insertionIndex - 1) if it isn't in this IntegerArray.
+     */
+    public int binarySearch(int value)
+    {
+        return java.util.Arrays.binarySearch(this.values, value);
+    }
+
     @Override
     public boolean equals(Object rhs)
     {
         return Iterable.equals(this, rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return Iterable.hashCode(this);
+    }
+
     @Override
     public String toString()
     {
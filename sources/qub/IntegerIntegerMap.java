@@ -0,0 +1,323 @@
+package qub;
+
+/**
+ * A MutableMap with int keys and int values that stores its entries in an int[] of keys and an
+ * int[] of values and finds them with open addressing, so the int-typed methods never box their
+ * keys or values. Entries are iterated in the order that their keys were first added. The methods
+ * inherited from MutableMap unbox their arguments and delegate to the int-typed methods.
+ */
+public class IntegerIntegerMap implements MutableMap<Integer,Integer>
+{
+    /**
+     * The table that maps each key (as its own hash) to the index of its entry.
+     */
+    private final HashIndexTable indexTable;
+    private int[] keys;
+    private int[] values;
+
+    private IntegerIntegerMap(int initialCapacity, double loadFactor)
+    {
+        PreCondition.assertGreaterThanOrEqualTo(initialCapacity, 0, "initialCapacity");
+        PreCondition.assertBetween(0.1, loadFactor, 0.95, "loadFactor");
+
+        this.indexTable = HashIndexTable.create(initialCapacity, loadFactor);
+        this.keys = new int[initialCapacity];
+        this.values = new int[initialCapacity];
+    }
+
+    /**
+     * Create a new empty IntegerIntegerMap.
+     * @return The new IntegerIntegerMap.
+     */
+    public static IntegerIntegerMap create()
+    {
+        return IntegerIntegerMap.create(0, HashMap.defaultLoadFactor);
+    }
+
+    /**
+     * Create a new empty IntegerIntegerMap that can hold the provided number of entries before it needs to
+     * grow.
+     * @param initialCapacity The number of entries that the IntegerIntegerMap can hold before it needs to
+     *                        grow.
+     * @param loadFactor The fraction of the IntegerIntegerMap's table that can be filled before the table
+     *                   grows.
+     * @return The new IntegerIntegerMap.
+     */
+    public static IntegerIntegerMap create(int initialCapacity, double loadFactor)
+    {
+        return new IntegerIntegerMap(initialCapacity, loadFactor);
+    }
+
+    /**
+     * Get the fraction of this IntegerIntegerMap's table that can be filled before the table grows.
+     * @return The fraction of this IntegerIntegerMap's table that can be filled before the table grows.
+     */
+    public double getLoadFactor()
+    {
+        return this.indexTable.getLoadFactor();
+    }
+
+    @Override
+    public int getCount()
+    {
+        return this.indexTable.getCount();
+    }
+
+    @Override
+    public boolean any()
+    {
+        return this.indexTable.getCount() > 0;
+    }
+
+    @Override
+    public IntegerIntegerMap clear()
+    {
+        this.indexTable.clear();
+
+        return this;
+    }
+
+    /**
+     * Get whether or not the provided key exists in this IntegerIntegerMap.
+     * @param key The key to check.
+     * @return Whether or not the provided key exists in this IntegerIntegerMap.
+     */
+    public boolean containsKey(int key)
+    {
+        return this.findEntryIndex(key) != -1;
+    }
+
+    @Override
+    public boolean containsKey(Integer key)
+    {
+        return key != null && this.containsKey(key.intValue());
+    }
+
+    /**
+     * Get the value associated with the provided key.
+     * @param key The key to get the value for.
+     * @return The value associated with the provided key, or a NotFoundException if the key doesn't
+     * exist in this IntegerIntegerMap.
+     */
+    public Result<Integer> get(int key)
+    {
+        final int entryIndex = this.findEntryIndex(key);
+        return entryIndex != -1
+            ? Result.success(this.values[entryIndex])
+            : this.createNotFoundResult(key);
+    }
+
+    @Override
+    public Result<Integer> get(Integer key)
+    {
+        return key != null ? this.get(key.intValue()) : this.createNotFoundResult(key);
+    }
+
+    /**
+     * Get the value associated with the provided key, or the provided default value if the key
+     * doesn't exist in this IntegerIntegerMap. Unlike get(), this doesn't allocate a Result.
+     * @param key The key to get the value for.
+     * @param defaultValue The value to return if the key doesn't exist in this IntegerIntegerMap.
+     * @return The value associated with the provided key, or the provided default value.
+     */
+    public int getOrDefault(int key, int defaultValue)
+    {
+        final int entryIndex = this.findEntryIndex(key);
+        return entryIndex != -1 ? this.values[entryIndex] : defaultValue;
+    }
+
+    /**
+     * Set the association between the provided key and value.
+     * @param key The key.
+     * @param value The value.
+     * @return This IntegerIntegerMap for chaining methods.
+     */
+    public IntegerIntegerMap set(int key, int value)
+    {
+        final int entryIndex = this.findEntryIndex(key);
+        if (entryIndex != -1)
+        {
+            this.values[entryIndex] = value;
+        }
+        else
+        {
+            if (this.indexTable.isFull())
+            {
+                this.growEntries();
+            }
+
+            final int newEntryIndex = this.indexTable.addEntry(key);
+            this.keys[newEntryIndex] = key;
+            this.values[newEntryIndex] = value;
+        }
+        return this;
+    }
+
+    @Override
+    public IntegerIntegerMap set(Integer key, Integer value)
+    {
+        PreCondition.assertNotNull(key, "key");
+        PreCondition.assertNotNull(value, "value");
+
+        return this.set(key.intValue(), value.intValue());
+    }
+
+    /**
+     * Remove the entry with the provided key.
+     * @param key The key of the entry to remove.
+     * @return The value of the removed entry, or a NotFoundException if the key doesn't exist in
+     * this IntegerIntegerMap.
+     */
+    public Result<Integer> remove(int key)
+    {
+        final HashIndexTable indexTable = this.indexTable;
+        int slot = indexTable.getHomeSlot(key);
+        int entryIndex;
+        while ((entryIndex = indexTable.getEntryIndex(slot)) != -1)
+        {
+            if (this.keys[entryIndex] == key)
+            {
+                final int removedValue = this.values[entryIndex];
+                indexTable.removeEntry(slot);
+
+                return Result.success(removedValue);
+            }
+            slot = indexTable.getNextSlot(slot);
+        }
+        return this.createNotFoundResult(key);
+    }
+
+    @Override
+    public Result<Integer> remove(Integer key)
+    {
+        return key != null ? this.remove(key.intValue()) : this.createNotFoundResult(key);
+    }
+
+    @Override
+    public Iterable<Integer> getKeys()
+    {
+        return this.map(MapEntry::getKey);
+    }
+
+    @Override
+    public Iterable<Integer> getValues()
+    {
+        return this.map(MapEntry::getValue);
+    }
+
+    @Override
+    public Iterator<MapEntry<Integer,Integer>> iterate()
+    {
+        return new Iterator<MapEntry<Integer,Integer>>()
+        {
+            private int currentEntryIndex;
+            private boolean hasStarted;
+            private MapEntry<Integer,Integer> current;
+
+            @Override
+            public boolean hasStarted()
+            {
+                return this.hasStarted;
+            }
+
+            @Override
+            public boolean hasCurrent()
+            {
+                return this.current != null;
+            }
+
+            @Override
+            public MapEntry<Integer,Integer> getCurrent()
+            {
+                PreCondition.assertTrue(this.hasCurrent(), "this.hasCurrent()");
+
+                return this.current;
+            }
+
+            @Override
+            public boolean next()
+            {
+                if (!this.hasStarted)
+                {
+                    this.hasStarted = true;
+                }
+                else if (this.current != null)
+                {
+                    ++this.currentEntryIndex;
+                }
+
+                final HashIndexTable indexTable = IntegerIntegerMap.this.indexTable;
+                while (this.currentEntryIndex < indexTable.getEntryEndIndex() && indexTable.isRemoved(this.currentEntryIndex))
+                {
+                    ++this.currentEntryIndex;
+                }
+
+                this.current = this.currentEntryIndex < indexTable.getEntryEndIndex()
+                    ? MapEntry.create(IntegerIntegerMap.this.keys[this.currentEntryIndex], IntegerIntegerMap.this.values[this.currentEntryIndex])
+                    : null;
+
+                return this.current != null;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object rhs)
+    {
+        return Iterable.equals(this, rhs);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Iterable.hashCode(this);
+    }
+
+    @Override
+    public String toString()
+    {
+        return Iterable.toString(this);
+    }
+
+    private Result<Integer> createNotFoundResult(int key)
+    {
+        return Result.error(new NotFoundException("Could not find the provided key (" + key + ") in this Map."));
+    }
+
+    /**
+     * Get the index of the entry with the provided key.
+     * @param key The key to look for.
+     * @return The index of the entry with the provided key, or -1 if the key wasn't found.
+     */
+    private int findEntryIndex(int key)
+    {
+        int result = -1;
+        final HashIndexTable indexTable = this.indexTable;
+        if (indexTable.getCount() > 0)
+        {
+            int slot = indexTable.getHomeSlot(key);
+            int entryIndex;
+            while ((entryIndex = indexTable.getEntryIndex(slot)) != -1)
+            {
+                if (this.keys[entryIndex] == key)
+                {
+                    result = entryIndex;
+                    break;
+                }
+                slot = indexTable.getNextSlot(slot);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Make room for at least one more entry.
+     */
+    private void growEntries()
+    {
+        final int newEntryCapacity = this.indexTable.getGrownEntryCapacity();
+        this.keys = this.indexTable.moveEntries(this.keys, newEntryCapacity);
+        this.values = this.indexTable.moveEntries(this.values, newEntryCapacity);
+        this.indexTable.growEntries(newEntryCapacity);
+    }
+}
@@ -168,6 +168,12 @@ public class IntegerValue implements Value<java.lang.Integer>, Comparable<java.l
         return result;
     }
 
+    @Override
+    public int hashCode()
+    {
+        return this.hasValue() ? this.getAsInt() : 0;
+    }
+
     public boolean equals(int rhs)
     {
         return this.get() == rhs;
@@ -34,6 +34,12 @@ public class Issue
         return rhs instanceof Issue && equals((Issue)rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return Hash.getHashCode(this.message, this.span, this.type);
+    }
+
     public boolean equals(Issue rhs)
     {
         return rhs != null &&
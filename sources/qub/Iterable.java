@@ -389,6 +389,24 @@ public interface Iterable<T> extends java.lang.Iterable<T>
         return rhs instanceof Iterable && lhs.equals((Iterable<T>)rhs);
     }
 
+    /**
+     * Get the hash code of the provided Iterable. Iterables are equal to Sets that contain the same
+     * values in any order, so this hash code doesn't depend on the order of the values.
+     * @param iterable The Iterable to get the hash code of.
+     * @return The hash code of the provided Iterable.
+     */
+    static int hashCode(Iterable<?> iterable)
+    {
+        PreCondition.assertNotNull(iterable, "iterable");
+
+        int result = 0;
+        for (final Object value : iterable)
+        {
+            result += HashMap.hash(value);
+        }
+        return result;
+    }
+
     /**
      * Get whether or not the provided Iterable is null or empty.
      * @param value The Iterable to check.
@@ -470,6 +488,36 @@ public interface Iterable<T> extends java.lang.Iterable<T>
         return toArray().sort(lessThan);
     }
 
+    /**
+     * Order the values in this Iterable using the provided comparer. This will create a copy of
+     * this Iterable and will leave the original Iterable unchanged.
+     * @param comparer The function to use to compare two values.
+     * @return The ordered Iterable.
+     */
+    default Iterable<T> orderWithComparer(Function2<T,T,Comparison> comparer)
+    {
+        PreCondition.assertNotNull(comparer, "comparer");
+
+        return toArray().sortWithComparer(comparer);
+    }
+
+    /**
+     * Order the values in this Iterable by sorting chunks of the values in parallel on the provided
+     * AsyncScheduler. This will create a copy of this Iterable and will leave the original Iterable
+     * unchanged. The order is stable, so the result is identical to calling order(lessThan).
+     * @param asyncScheduler The AsyncScheduler to sort the values on.
+     * @param lessThan The function to use to compare two values.
+     * @return A Result that contains the ordered Iterable.
+     */
+    default Result<Iterable<T>> parallelOrder(AsyncScheduler asyncScheduler, Function2<T,T,Boolean> lessThan)
+    {
+        PreCondition.assertNotNull(asyncScheduler, "asyncScheduler");
+        PreCondition.assertNotNull(lessThan, "lessThan");
+
+        return toArray().parallelSort(asyncScheduler, lessThan)
+            .then((Array<T> orderedValues) -> (Iterable<T>)orderedValues);
+    }
+
     /**
      * Traverse a provided space starting with the provided value and using the getNextValues
      * function to find all reachable values.
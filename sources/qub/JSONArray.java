@@ -105,6 +105,12 @@ public class JSONArray implements JSONSegment, List<JSONSegment>
         return rhs instanceof JSONArray && this.equals((JSONArray)rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return this.elements.hashCode();
+    }
+
     public boolean equals(JSONArray rhs)
     {
         return rhs != null && this.elements.equals(rhs.elements);
@@ -55,6 +55,12 @@ public class JSONBoolean implements JSONSegment
         return rhs instanceof JSONBoolean && this.equals((JSONBoolean)rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return java.lang.Boolean.hashCode(this.value);
+    }
+
     public boolean equals(JSONBoolean rhs)
     {
         return rhs != null && this.value == rhs.value;
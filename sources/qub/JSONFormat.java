@@ -123,6 +123,12 @@ public class JSONFormat
         return rhs instanceof JSONFormat && this.equals((JSONFormat)rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return Hash.getHashCode(this.newLine, this.singleIndent, this.afterPropertySeparator);
+    }
+
     public boolean equals(JSONFormat rhs)
     {
         return rhs != null &&
@@ -28,4 +28,10 @@ public class JSONNull implements JSONSegment
     {
         return rhs instanceof JSONNull;
     }
+
+    @Override
+    public int hashCode()
+    {
+        return JSONNull.class.hashCode();
+    }
 }
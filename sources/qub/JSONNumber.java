@@ -84,6 +84,12 @@ public class JSONNumber implements JSONSegment
         return rhs instanceof JSONNumber && this.equals((JSONNumber)rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return this.text.hashCode();
+    }
+
     public boolean equals(JSONNumber rhs)
     {
         return rhs != null &&
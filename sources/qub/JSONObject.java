@@ -490,6 +490,12 @@ public class JSONObject implements JSONSegment, MutableMap<String,JSONSegment>
         return rhs instanceof JSONObject && this.equals((JSONObject)rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return this.properties.hashCode();
+    }
+
     public boolean equals(JSONObject rhs)
     {
         return rhs != null &&
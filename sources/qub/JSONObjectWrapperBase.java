@@ -28,4 +28,10 @@ public abstract class JSONObjectWrapperBase implements JSONObjectWrapper
     {
         return JSONObjectWrapper.equals(this, rhs);
     }
+
+    @Override
+    public int hashCode()
+    {
+        return JSONObjectWrapper.hashCode(this);
+    }
 }
@@ -240,6 +240,12 @@ public class JSONProperty implements MapEntry<String,JSONSegment>
         return rhs instanceof JSONProperty && this.equals((JSONProperty)rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return Hash.getHashCode(this.name, this.value);
+    }
+
     public boolean equals(JSONProperty rhs)
     {
         return rhs != null &&
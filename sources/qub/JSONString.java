@@ -99,6 +99,12 @@ public class JSONString implements JSONSegment
         return rhs instanceof JSONString && this.equals((JSONString)rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return Hash.getHashCode(this.text, this.quote);
+    }
+
     public boolean equals(JSONString rhs)
     {
         return rhs != null &&
@@ -46,6 +46,12 @@ public class JSONToken
         return rhs instanceof JSONToken && this.equals((JSONToken)rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return Hash.getHashCode(this.text, this.type);
+    }
+
     /**
      * Get whether or not this JSONToken is equal to the provided JSONToken.
      * @param rhs The JSONToken to compare this JSONToken against.
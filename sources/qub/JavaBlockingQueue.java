@@ -35,6 +35,13 @@ public class JavaBlockingQueue<T> implements BlockingQueue<T>
     @Override
     public Result<Void> enqueue(T value)
     {
+        // The Java queue's put() and take() only wake up early when they are interrupted, so the
+        // current thread is interrupted if the AsyncTask that it is running gets cancelled.
+        final CancellationToken cancellationToken = CurrentThread.getCancellationToken();
+        final Disposable cancellationRegistration = cancellationToken == null
+            ? null
+            : cancellationToken.interruptCurrentThreadOnCancelled();
+
         Result<Void> result;
         try
         {
@@ -43,7 +50,11 @@ public class JavaBlockingQueue<T> implements BlockingQueue<T>
         }
         catch (InterruptedException e)
         {
-            result = Result.error(e);
+            result = Result.error(JavaBlockingQueue.getInterruptedError(cancellationToken, e));
+        }
+        finally
+        {
+            JavaBlockingQueue.disposeCancellationRegistration(cancellationRegistration);
         }
         return result;
     }
@@ -51,6 +62,11 @@ public class JavaBlockingQueue<T> implements BlockingQueue<T>
     @Override
     public Result<T> dequeue()
     {
+        final CancellationToken cancellationToken = CurrentThread.getCancellationToken();
+        final Disposable cancellationRegistration = cancellationToken == null
+            ? null
+            : cancellationToken.interruptCurrentThreadOnCancelled();
+
         Result<T> result;
         try
         {
@@ -58,11 +74,41 @@ public class JavaBlockingQueue<T> implements BlockingQueue<T>
         }
         catch (InterruptedException e)
         {
-            result = Result.error(e);
+            result = Result.error(JavaBlockingQueue.getInterruptedError(cancellationToken, e));
+        }
+        finally
+        {
+            JavaBlockingQueue.disposeCancellationRegistration(cancellationRegistration);
         }
 
         PostCondition.assertNotNull(result, "result");
 
         return result;
     }
+
+    /**
+     * Get the error that should be returned when a blocking call on the Java queue is interrupted.
+     * @param cancellationToken The CancellationToken of the current thread. This can be null.
+     * @param error The InterruptedException that was thrown.
+     * @return A CancelledException if the interrupt came from the CancellationToken, or the
+     * provided error otherwise.
+     */
+    private static Throwable getInterruptedError(CancellationToken cancellationToken, InterruptedException error)
+    {
+        return cancellationToken != null && cancellationToken.isCancelled()
+            ? new CancelledException()
+            : error;
+    }
+
+    /**
+     * Dispose the provided cancellation registration if there is one.
+     * @param cancellationRegistration The cancellation registration to dispose. This can be null.
+     */
+    private static void disposeCancellationRegistration(Disposable cancellationRegistration)
+    {
+        if (cancellationRegistration != null)
+        {
+            cancellationRegistration.dispose().await();
+        }
+    }
 }
@@ -0,0 +1,81 @@
+package qub;
+
+/**
+ * A stream that reads from or writes to a java.nio.channels.Channel. When both sides of
+ * ByteWriteStream.writeAll() have channels, the bytes can be moved by the operating system instead
+ * of being copied through a byte[].
+ */
+public interface JavaChannelStream
+{
+    /**
+     * Get the channel that this stream reads from or writes to, or null if this stream isn't
+     * backed by a channel.
+     * @return The channel that this stream reads from or writes to, or null if this stream isn't
+     * backed by a channel.
+     */
+    java.nio.channels.Channel getChannel();
+
+    /**
+     * Get the channel of the provided stream, or null if the provided stream isn't backed by a
+     * channel.
+     * @param stream The stream to get the channel of.
+     * @return The channel of the provided stream, or null if the provided stream isn't backed by a
+     * channel.
+     */
+    static java.nio.channels.Channel getChannel(Object stream)
+    {
+        return stream instanceof JavaChannelStream
+            ? ((JavaChannelStream)stream).getChannel()
+            : null;
+    }
+
+    /**
+     * Move the remaining bytes of the provided ByteReadStream to the provided ByteWriteStream with
+     * FileChannel.transferTo(). This only moves bytes when the ByteReadStream is backed by a
+     * FileChannel and the ByteWriteStream is backed by a WritableByteChannel. Otherwise no bytes
+     * are moved and the caller should copy the bytes itself.
+     * @param byteReadStream The ByteReadStream to move bytes from.
+     * @param byteWriteStream The ByteWriteStream to move bytes to.
+     * @return The number of bytes that were moved.
+     */
+    static long transfer(ByteReadStream byteReadStream, ByteWriteStream byteWriteStream)
+    {
+        PreCondition.assertNotNull(byteReadStream, "byteReadStream");
+        PreCondition.assertNotNull(byteWriteStream, "byteWriteStream");
+
+        long result = 0;
+
+        final java.nio.channels.Channel readChannel = JavaChannelStream.getChannel(byteReadStream);
+        if (readChannel instanceof java.nio.channels.FileChannel)
+        {
+            final java.nio.channels.Channel writeChannel = JavaChannelStream.getChannel(byteWriteStream);
+            if (writeChannel instanceof java.nio.channels.WritableByteChannel)
+            {
+                final java.nio.channels.FileChannel fileChannel = (java.nio.channels.FileChannel)readChannel;
+                try
+                {
+                    // transferTo() doesn't move the FileChannel's position, so the position is
+                    // updated afterwards to mark the transferred bytes as read.
+                    long position = fileChannel.position();
+                    final long size = fileChannel.size();
+                    long bytesTransferred = 1;
+                    while (position < size && bytesTransferred > 0)
+                    {
+                        bytesTransferred = fileChannel.transferTo(position, size - position, (java.nio.channels.WritableByteChannel)writeChannel);
+                        position += bytesTransferred;
+                        result += bytesTransferred;
+                    }
+                    fileChannel.position(position);
+                }
+                catch (java.io.IOException e)
+                {
+                    throw Exceptions.asRuntime(e);
+                }
+            }
+        }
+
+        PostCondition.assertGreaterThanOrEqualTo(result, 0, "result");
+
+        return result;
+    }
+}
@@ -1,22 +1,47 @@
 package qub;
 
 /**
- * A Clock implementation that uses the real date and time.
+ * A Clock implementation that uses the real date and time. Scheduled actions are tracked by a
+ * TimerWheel and are run on the provided AsyncRunner when they are due. Deadlines are plain
+ * System.nanoTime() comparisons so that waiting threads can park until they expire.
  */
 public class JavaClock implements Clock
 {
     private final AsyncRunner parallelAsyncRunner;
+    private final TimerWheel timerWheel;
 
-    private JavaClock(AsyncRunner parallelAsyncRunner)
+    private JavaClock(AsyncRunner parallelAsyncRunner, TimerWheel timerWheel)
     {
         PreCondition.assertNotNull(parallelAsyncRunner, "parallelAsyncRunner");
+        PreCondition.assertNotNull(timerWheel, "timerWheel");
 
         this.parallelAsyncRunner = parallelAsyncRunner;
+        this.timerWheel = timerWheel;
     }
 
     public static JavaClock create(AsyncRunner parallelAsyncRunner)
     {
-        return new JavaClock(parallelAsyncRunner);
+        return JavaClock.create(parallelAsyncRunner, TimerWheel.create());
+    }
+
+    /**
+     * Create a new JavaClock that will use the provided TimerWheel to track scheduled actions.
+     * @param parallelAsyncRunner The AsyncRunner that scheduled actions will be run on.
+     * @param timerWheel The TimerWheel that will track scheduled actions.
+     * @return The new JavaClock.
+     */
+    public static JavaClock create(AsyncRunner parallelAsyncRunner, TimerWheel timerWheel)
+    {
+        return new JavaClock(parallelAsyncRunner, timerWheel);
+    }
+
+    /**
+     * Get the TimerWheel that this Clock uses to track scheduled actions.
+     * @return The TimerWheel that this Clock uses to track scheduled actions.
+     */
+    public TimerWheel getTimerWheel()
+    {
+        return this.timerWheel;
     }
 
     @Override
@@ -41,18 +66,46 @@ public class JavaClock implements Clock
         PreCondition.assertNotNull(dateTime, "dateTime");
         PreCondition.assertNotNull(action, "action");
 
-        return Result.create(() ->
+        final PausedAsyncTask<Void> result = this.parallelAsyncRunner.create(action);
+        final Duration delay = dateTime.minus(this.getCurrentDateTime());
+        if (delay.lessThanOrEqualTo(Duration.zero))
         {
-            if (this.getCurrentDateTime().lessThan(dateTime))
+            result.schedule();
+        }
+        else
+        {
+            final TimerWheelTimeout timeout = this.timerWheel.schedule(delay, result::schedule);
+            if (result instanceof AsyncTask<?>)
             {
-                this.parallelAsyncRunner.schedule(() ->
+                // Cancelling the task removes its timeout so that the TimerWheel doesn't hold on to
+                // the task until its DateTime arrives. The task is scheduled right away instead so
+                // that it completes with a CancelledException.
+                ((AsyncTask<?>)result).getCancellationToken().onCancelled(() ->
                 {
-                    while (this.getCurrentDateTime().lessThan(dateTime))
+                    if (timeout.cancel())
                     {
+                        result.schedule();
                     }
-                }).await();
+                });
             }
-            action.run();
-        });
+        }
+
+        PostCondition.assertNotNull(result, "result");
+
+        return result;
+    }
+
+    @Override
+    public Deadline createDeadline(DateTime dateTime)
+    {
+        PreCondition.assertNotNull(dateTime, "dateTime");
+
+        final Duration delay = dateTime.minus(this.getCurrentDateTime());
+        final long delayNanoseconds = Math.maximum(0L, (long)delay.toNanoseconds().getValue());
+        final Deadline result = NanoTimeDeadline.create(System.nanoTime() + delayNanoseconds);
+
+        PostCondition.assertNotNull(result, "result");
+
+        return result;
     }
 }
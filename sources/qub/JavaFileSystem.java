@@ -334,8 +334,55 @@ public class JavaFileSystem implements FileSystem
             {
                 final String rootedFilePathString = rootedFilePath.toString();
                 final java.nio.file.Path filePath = java.nio.file.Paths.get(rootedFilePathString);
-                final java.io.InputStream fileContentsInputStream = java.nio.file.Files.newInputStream(filePath);
-                result = CharacterToByteReadStream.create(new InputStreamToByteReadStream(fileContentsInputStream));
+                final java.nio.channels.FileChannel fileChannel = java.nio.channels.FileChannel.open(filePath, java.nio.file.StandardOpenOption.READ);
+                result = CharacterToByteReadStream.create(InputStreamToByteReadStream.create(fileChannel));
+            }
+            catch (java.nio.file.NoSuchFileException e)
+            {
+                throw new FileNotFoundException(rootedFilePath);
+            }
+            catch (java.io.IOException e)
+            {
+                throw Exceptions.asRuntime(e);
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Get a ByteReadStream to the contents of the file at the provided rootedFilePath that reads
+     * the file by mapping it into memory. This is faster than getFileContentReadStream() for
+     * random access into large files. The mapping is released when the returned stream is
+     * disposed.
+     * @param rootedFilePath The rooted file path to the file.
+     * @return A memory mapped ByteReadStream to the contents of the file.
+     */
+    public Result<MemoryMappedByteReadStream> getFileContentMemoryMappedReadStream(String rootedFilePath)
+    {
+        FileSystem.validateRootedFilePath(rootedFilePath);
+
+        return this.getFileContentMemoryMappedReadStream(Path.parse(rootedFilePath));
+    }
+
+    /**
+     * Get a ByteReadStream to the contents of the file at the provided rootedFilePath that reads
+     * the file by mapping it into memory. This is faster than getFileContentReadStream() for
+     * random access into large files. The mapping is released when the returned stream is
+     * disposed.
+     * @param rootedFilePath The rooted file path to the file.
+     * @return A memory mapped ByteReadStream to the contents of the file.
+     */
+    public Result<MemoryMappedByteReadStream> getFileContentMemoryMappedReadStream(Path rootedFilePath)
+    {
+        FileSystem.validateRootedFilePath(rootedFilePath);
+
+        return Result.create(() ->
+        {
+            MemoryMappedByteReadStream result;
+            final java.nio.file.Path filePath = java.nio.file.Paths.get(rootedFilePath.toString());
+            try (final java.nio.channels.FileChannel fileChannel = java.nio.channels.FileChannel.open(filePath, java.nio.file.StandardOpenOption.READ))
+            {
+                result = MemoryMappedByteReadStream.create(fileChannel).await();
             }
             catch (java.nio.file.NoSuchFileException e)
             {
@@ -364,13 +411,14 @@ public class JavaFileSystem implements FileSystem
             final java.nio.file.StandardOpenOption[] openWriteOptions = new java.nio.file.StandardOpenOption[]
             {
                 java.nio.file.StandardOpenOption.CREATE,
+                java.nio.file.StandardOpenOption.WRITE,
                 openWriteOption
             };
             try
             {
                 result = BufferedByteWriteStream.create(
                             OutputStreamToByteWriteStream.create(
-                                java.nio.file.Files.newOutputStream(
+                                java.nio.channels.FileChannel.open(
                                     java.nio.file.Paths.get(rootedFilePath.toString()),
                                     openWriteOptions)));
             }
@@ -381,7 +429,7 @@ public class JavaFileSystem implements FileSystem
                     this.createFolder(rootedFilePath.getParent().await()).await();
                     result = BufferedByteWriteStream.create(
                                 OutputStreamToByteWriteStream.create(
-                                    java.nio.file.Files.newOutputStream(
+                                    java.nio.channels.FileChannel.open(
                                         java.nio.file.Paths.get(rootedFilePath.toString()),
                                         openWriteOptions)));
                 }
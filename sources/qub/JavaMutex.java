@@ -38,8 +38,34 @@ public class JavaMutex implements Mutex
     @Override
     public Result<Void> acquire()
     {
-        this.lock.lock();
-        return Result.success();
+        Result<Void> result = Result.success();
+        if (!this.lock.tryLock())
+        {
+            final CancellationToken cancellationToken = CurrentThread.getCancellationToken();
+            if (cancellationToken == null)
+            {
+                this.lock.lock();
+            }
+            else
+            {
+                // A thread that is waiting for the lock only wakes up early when it is interrupted,
+                // so the current thread is interrupted if its AsyncTask gets cancelled.
+                final Disposable cancellationRegistration = cancellationToken.interruptCurrentThreadOnCancelled();
+                try
+                {
+                    this.lock.lockInterruptibly();
+                }
+                catch (java.lang.InterruptedException e)
+                {
+                    result = Result.error(cancellationToken.isCancelled() ? new CancelledException() : e);
+                }
+                finally
+                {
+                    cancellationRegistration.dispose().await();
+                }
+            }
+        }
+        return result;
     }
 
     @Override
@@ -27,7 +27,16 @@ public class JavaNetwork implements Network
         {
             final byte[] remoteIPAddressBytes = remoteIPAddress.toBytes();
             final java.net.InetAddress remoteInetAddress = java.net.InetAddress.getByAddress(remoteIPAddressBytes);
-            final java.net.Socket socket = new java.net.Socket(remoteInetAddress, remotePort);
+            final java.net.Socket socket = JavaNetwork.createSocket();
+            try
+            {
+                socket.connect(new java.net.InetSocketAddress(remoteInetAddress, remotePort));
+            }
+            catch (java.io.IOException e)
+            {
+                socket.close();
+                throw e;
+            }
             result = JavaTCPClient.create(socket);
         }
         catch (java.io.IOException e)
@@ -51,8 +60,16 @@ public class JavaNetwork implements Network
             final byte[] remoteIPAddressBytes = remoteIPAddress.toBytes();
             final java.net.InetAddress remoteInetAddress = java.net.InetAddress.getByAddress(remoteIPAddressBytes);
             final java.net.SocketAddress socketAddress = new java.net.InetSocketAddress(remoteInetAddress, remotePort);
-            final java.net.Socket socket = new java.net.Socket();
-            socket.connect(socketAddress, (int)timeout.toMilliseconds().getValue());
+            final java.net.Socket socket = JavaNetwork.createSocket();
+            try
+            {
+                socket.connect(socketAddress, (int)timeout.toMilliseconds().getValue());
+            }
+            catch (java.io.IOException e)
+            {
+                socket.close();
+                throw e;
+            }
 
             result = JavaTCPClient.create(socket);
         }
@@ -91,4 +108,14 @@ public class JavaNetwork implements Network
 
         return JavaTCPServer.create(localIPAddress, localPort, clock);
     }
+
+    /**
+     * Create an unconnected socket. The socket is created from a SocketChannel so that
+     * ByteWriteStream.writeAll() can send a file's bytes to it with FileChannel.transferTo().
+     * @return An unconnected socket.
+     */
+    private static java.net.Socket createSocket() throws java.io.IOException
+    {
+        return java.nio.channels.SocketChannel.open().socket();
+    }
 }
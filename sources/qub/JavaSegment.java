@@ -49,6 +49,12 @@ public class JavaSegment
         return rhs instanceof JavaSegment && equals((JavaSegment)rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return this.lexes.hashCode();
+    }
+
     public boolean equals(JavaSegment rhs)
     {
         return rhs != null && lexes.equals(rhs.lexes);
@@ -1,15 +1,17 @@
 package qub;
 
-class JavaTCPClient implements TCPClient
+class JavaTCPClient implements TCPClient, JavaChannelStream
 {
     private final java.net.Socket socket;
+    private final BufferedSocketInputStream socketInputStream;
     private final ByteReadStream socketReadStream;
     private final ByteWriteStream socketWriteStream;
 
-    private JavaTCPClient(java.net.Socket socket, ByteReadStream socketReadStream, ByteWriteStream socketWriteStream)
+    private JavaTCPClient(java.net.Socket socket, java.io.InputStream socketInputStream, ByteWriteStream socketWriteStream)
     {
         this.socket = socket;
-        this.socketReadStream = socketReadStream;
+        this.socketInputStream = new BufferedSocketInputStream(socketInputStream);
+        this.socketReadStream = new InputStreamToByteReadStream(this.socketInputStream);
         this.socketWriteStream = socketWriteStream;
     }
 
@@ -23,9 +25,8 @@ class JavaTCPClient implements TCPClient
             TCPClient result;
             try
             {
-                final ByteReadStream socketReadStream = new InputStreamToByteReadStream(socket.getInputStream());
                 final ByteWriteStream socketWriteStream = OutputStreamToByteWriteStream.create(socket.getOutputStream());
-                result = new JavaTCPClient(socket, socketReadStream, socketWriteStream);
+                result = new JavaTCPClient(socket, socket.getInputStream(), socketWriteStream);
             }
             catch (Throwable e)
             {
@@ -62,6 +63,16 @@ class JavaTCPClient implements TCPClient
         });
     }
 
+    @Override
+    public java.nio.channels.Channel getChannel()
+    {
+        // Bytes that are read from the channel directly would skip any bytes that are still in the
+        // read buffer.
+        return this.socketInputStream.getBufferedByteCount() == 0
+            ? this.socket.getChannel()
+            : null;
+    }
+
     @Override
     public IPv4Address getLocalIPAddress()
     {
@@ -99,13 +110,109 @@ class JavaTCPClient implements TCPClient
     @Override
     public Result<Byte> readByte()
     {
-        return this.socketReadStream.readByte();
+        return this.read(this.socketReadStream::readByte);
+    }
+
+    @Override
+    public int readByteOrEnd()
+    {
+        int result;
+        if (this.socketInputStream.getBufferedByteCount() > 0)
+        {
+            result = this.socketReadStream.readByteOrEnd();
+        }
+        else
+        {
+            result = this.read(() -> Result.create(this.socketReadStream::readByteOrEnd)).await();
+        }
+        return result;
     }
 
     @Override
     public Result<Integer> readBytes(byte[] outputBytes, int startIndex, int length)
     {
-        return this.socketReadStream.readBytes(outputBytes, startIndex, length);
+        return this.read(() -> this.socketReadStream.readBytes(outputBytes, startIndex, length));
+    }
+
+    /**
+     * Run the provided read function. If the AsyncTask that the current thread is running is
+     * cancelled while the read is blocked, then this TCPClient will be disposed (a blocked socket
+     * read can only be woken up by closing the socket) and the read's error will be replaced with a
+     * CancelledException.
+     * @param readFunction The function that reads from the socket.
+     * @return The result of the read.
+     */
+    private <T> Result<T> read(Function0<Result<T>> readFunction)
+    {
+        final CancellationToken cancellationToken = CurrentThread.getCancellationToken();
+
+        Result<T> result;
+        if (cancellationToken == null)
+        {
+            result = readFunction.run();
+        }
+        else if (cancellationToken.isCancelled())
+        {
+            result = Result.error(new CancelledException());
+        }
+        else
+        {
+            final Disposable cancellationRegistration = this.disposeOnCancelledIfReadWouldBlock(cancellationToken);
+            try
+            {
+                result = readFunction.run();
+            }
+            finally
+            {
+                JavaTCPClient.disposeCancellationRegistration(cancellationRegistration);
+            }
+            if (cancellationToken.isCancelled())
+            {
+                result = result.convertError(() -> new CancelledException());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * If a read from the socket would block, then register a callback with the provided
+     * CancellationToken that disposes this TCPClient. A read that won't block doesn't need to be
+     * woken up, so no callback is registered for it.
+     * @param cancellationToken The CancellationToken to register the callback with.
+     * @return The registration of the callback, or null if no callback was registered.
+     */
+    private Disposable disposeOnCancelledIfReadWouldBlock(CancellationToken cancellationToken)
+    {
+        PreCondition.assertNotNull(cancellationToken, "cancellationToken");
+
+        int availableByteCount = this.socketInputStream.getBufferedByteCount();
+        if (availableByteCount == 0)
+        {
+            try
+            {
+                availableByteCount = this.socketInputStream.available();
+            }
+            catch (java.io.IOException e)
+            {
+                // Let the read report the error.
+            }
+        }
+
+        return availableByteCount > 0
+            ? null
+            : cancellationToken.onCancelled(() -> this.dispose().catchError().await());
+    }
+
+    /**
+     * Dispose the provided cancellation registration if there is one.
+     * @param cancellationRegistration The cancellation registration to dispose. This can be null.
+     */
+    private static void disposeCancellationRegistration(Disposable cancellationRegistration)
+    {
+        if (cancellationRegistration != null)
+        {
+            cancellationRegistration.dispose().await();
+        }
     }
 
     @Override
@@ -119,4 +226,25 @@ class JavaTCPClient implements TCPClient
     {
         return this.socketWriteStream.write(toWrite, startIndex, length);
     }
+
+    /**
+     * A BufferedInputStream that can report how many bytes are in its buffer, so that reads that
+     * can be served from the buffer skip the socket's cancellation handling.
+     */
+    private static class BufferedSocketInputStream extends java.io.BufferedInputStream
+    {
+        BufferedSocketInputStream(java.io.InputStream socketInputStream)
+        {
+            super(socketInputStream);
+        }
+
+        /**
+         * Get the number of unread bytes in the buffer.
+         * @return The number of unread bytes in the buffer.
+         */
+        int getBufferedByteCount()
+        {
+            return this.count - this.pos;
+        }
+    }
 }
@@ -55,6 +55,12 @@ public class Lex
         return rhs instanceof Lex && equals((Lex)rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return Hash.getHashCode(this.text, this.startIndex, this.type);
+    }
+
     public boolean equals(Lex rhs)
     {
         return rhs != null &&
@@ -196,6 +196,12 @@ public class ListMap<TKey,TValue> implements MutableMap<TKey,TValue>
         return Iterable.equals(this, rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return Iterable.hashCode(this);
+    }
+
     @Override
     public String toString()
     {
@@ -18,7 +18,7 @@ public class ListQueue<T> implements Queue<T>
 
     public static <T> ListQueue<T> create()
     {
-        return new ListQueue<>(List.create());
+        return new ListQueue<>(ArrayDeque.create());
     }
 
     @Override
@@ -51,4 +51,10 @@ public class ListSet<T> implements Set<T>
     {
         return Set.equals(this, rhs);
     }
+
+    @Override
+    public int hashCode()
+    {
+        return Iterable.hashCode(this);
+    }
 }
@@ -65,12 +65,40 @@ public class LongArray implements Array<Long>
         return this.values[index];
     }
 
+    /**
+     * Sort the values in this LongArray in place in ascending order.
+     * @return This LongArray after it has been sorted.
+     */
+    public LongArray sort()
+    {
+        java.util.Arrays.sort(this.values);
+
+        return this;
+    }
+
+    /**
+     * Search this LongArray for the provided value. The values must already be sorted in
+     * ascending order, such as by sort().
+     * @param value The value to search for.
+     * @return The index of the value, or (-insertionIndex - 1) if it isn't in this LongArray.
+     */
+    public int binarySearch(long value)
+    {
+        return java.util.Arrays.binarySearch(this.values, value);
+    }
+
     @Override
     public boolean equals(Object rhs)
     {
         return Iterable.equals(this, rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return Iterable.hashCode(this);
+    }
+
     @Override
     public String toString()
     {
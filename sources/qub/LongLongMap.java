@@ -0,0 +1,323 @@
+package qub;
+
+/**
+ * A MutableMap with long keys and long values that stores its entries in a long[] of keys and a
+ * long[] of values and finds them with open addressing, so the long-typed methods never box their
+ * keys or values. Entries are iterated in the order that their keys were first added. The methods
+ * inherited from MutableMap unbox their arguments and delegate to the long-typed methods.
+ */
+public class LongLongMap implements MutableMap<Long,Long>
+{
+    /**
+     * The table that maps the hash of each key to the index of its entry.
+     */
+    private final HashIndexTable indexTable;
+    private long[] keys;
+    private long[] values;
+
+    private LongLongMap(int initialCapacity, double loadFactor)
+    {
+        PreCondition.assertGreaterThanOrEqualTo(initialCapacity, 0, "initialCapacity");
+        PreCondition.assertBetween(0.1, loadFactor, 0.95, "loadFactor");
+
+        this.indexTable = HashIndexTable.create(initialCapacity, loadFactor);
+        this.keys = new long[initialCapacity];
+        this.values = new long[initialCapacity];
+    }
+
+    /**
+     * Create a new empty LongLongMap.
+     * @return The new LongLongMap.
+     */
+    public static LongLongMap create()
+    {
+        return LongLongMap.create(0, HashMap.defaultLoadFactor);
+    }
+
+    /**
+     * Create a new empty LongLongMap that can hold the provided number of entries before it needs to
+     * grow.
+     * @param initialCapacity The number of entries that the LongLongMap can hold before it needs to
+     *                        grow.
+     * @param loadFactor The fraction of the LongLongMap's table that can be filled before the table
+     *                   grows.
+     * @return The new LongLongMap.
+     */
+    public static LongLongMap create(int initialCapacity, double loadFactor)
+    {
+        return new LongLongMap(initialCapacity, loadFactor);
+    }
+
+    /**
+     * Get the fraction of this LongLongMap's table that can be filled before the table grows.
+     * @return The fraction of this LongLongMap's table that can be filled before the table grows.
+     */
+    public double getLoadFactor()
+    {
+        return this.indexTable.getLoadFactor();
+    }
+
+    @Override
+    public int getCount()
+    {
+        return this.indexTable.getCount();
+    }
+
+    @Override
+    public boolean any()
+    {
+        return this.indexTable.getCount() > 0;
+    }
+
+    @Override
+    public LongLongMap clear()
+    {
+        this.indexTable.clear();
+
+        return this;
+    }
+
+    /**
+     * Get whether or not the provided key exists in this LongLongMap.
+     * @param key The key to check.
+     * @return Whether or not the provided key exists in this LongLongMap.
+     */
+    public boolean containsKey(long key)
+    {
+        return this.findEntryIndex(key) != -1;
+    }
+
+    @Override
+    public boolean containsKey(Long key)
+    {
+        return key != null && this.containsKey(key.longValue());
+    }
+
+    /**
+     * Get the value associated with the provided key.
+     * @param key The key to get the value for.
+     * @return The value associated with the provided key, or a NotFoundException if the key doesn't
+     * exist in this LongLongMap.
+     */
+    public Result<Long> get(long key)
+    {
+        final int entryIndex = this.findEntryIndex(key);
+        return entryIndex != -1
+            ? Result.success(this.values[entryIndex])
+            : this.createNotFoundResult(key);
+    }
+
+    @Override
+    public Result<Long> get(Long key)
+    {
+        return key != null ? this.get(key.longValue()) : this.createNotFoundResult(key);
+    }
+
+    /**
+     * Get the value associated with the provided key, or the provided default value if the key
+     * doesn't exist in this LongLongMap. Unlike get(), this doesn't allocate a Result.
+     * @param key The key to get the value for.
+     * @param defaultValue The value to return if the key doesn't exist in this LongLongMap.
+     * @return The value associated with the provided key, or the provided default value.
+     */
+    public long getOrDefault(long key, long defaultValue)
+    {
+        final int entryIndex = this.findEntryIndex(key);
+        return entryIndex != -1 ? this.values[entryIndex] : defaultValue;
+    }
+
+    /**
+     * Set the association between the provided key and value.
+     * @param key The key.
+     * @param value The value.
+     * @return This LongLongMap for chaining methods.
+     */
+    public LongLongMap set(long key, long value)
+    {
+        final int entryIndex = this.findEntryIndex(key);
+        if (entryIndex != -1)
+        {
+            this.values[entryIndex] = value;
+        }
+        else
+        {
+            if (this.indexTable.isFull())
+            {
+                this.growEntries();
+            }
+
+            final int newEntryIndex = this.indexTable.addEntry(java.lang.Long.hashCode(key));
+            this.keys[newEntryIndex] = key;
+            this.values[newEntryIndex] = value;
+        }
+        return this;
+    }
+
+    @Override
+    public LongLongMap set(Long key, Long value)
+    {
+        PreCondition.assertNotNull(key, "key");
+        PreCondition.assertNotNull(value, "value");
+
+        return this.set(key.longValue(), value.longValue());
+    }
+
+    /**
+     * Remove the entry with the provided key.
+     * @param key The key of the entry to remove.
+     * @return The value of the removed entry, or a NotFoundException if the key doesn't exist in
+     * this LongLongMap.
+     */
+    public Result<Long> remove(long key)
+    {
+        final HashIndexTable indexTable = this.indexTable;
+        int slot = indexTable.getHomeSlot(java.lang.Long.hashCode(key));
+        int entryIndex;
+        while ((entryIndex = indexTable.getEntryIndex(slot)) != -1)
+        {
+            if (this.keys[entryIndex] == key)
+            {
+                final long removedValue = this.values[entryIndex];
+                indexTable.removeEntry(slot);
+
+                return Result.success(removedValue);
+            }
+            slot = indexTable.getNextSlot(slot);
+        }
+        return this.createNotFoundResult(key);
+    }
+
+    @Override
+    public Result<Long> remove(Long key)
+    {
+        return key != null ? this.remove(key.longValue()) : this.createNotFoundResult(key);
+    }
+
+    @Override
+    public Iterable<Long> getKeys()
+    {
+        return this.map(MapEntry::getKey);
+    }
+
+    @Override
+    public Iterable<Long> getValues()
+    {
+        return this.map(MapEntry::getValue);
+    }
+
+    @Override
+    public Iterator<MapEntry<Long,Long>> iterate()
+    {
+        return new Iterator<MapEntry<Long,Long>>()
+        {
+            private int currentEntryIndex;
+            private boolean hasStarted;
+            private MapEntry<Long,Long> current;
+
+            @Override
+            public boolean hasStarted()
+            {
+                return this.hasStarted;
+            }
+
+            @Override
+            public boolean hasCurrent()
+            {
+                return this.current != null;
+            }
+
+            @Override
+            public MapEntry<Long,Long> getCurrent()
+            {
+                PreCondition.assertTrue(this.hasCurrent(), "this.hasCurrent()");
+
+                return this.current;
+            }
+
+            @Override
+            public boolean next()
+            {
+                if (!this.hasStarted)
+                {
+                    this.hasStarted = true;
+                }
+                else if (this.current != null)
+                {
+                    ++this.currentEntryIndex;
+                }
+
+                final HashIndexTable indexTable = LongLongMap.this.indexTable;
+                while (this.currentEntryIndex < indexTable.getEntryEndIndex() && indexTable.isRemoved(this.currentEntryIndex))
+                {
+                    ++this.currentEntryIndex;
+                }
+
+                this.current = this.currentEntryIndex < indexTable.getEntryEndIndex()
+                    ? MapEntry.create(LongLongMap.this.keys[this.currentEntryIndex], LongLongMap.this.values[this.currentEntryIndex])
+                    : null;
+
+                return this.current != null;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object rhs)
+    {
+        return Iterable.equals(this, rhs);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Iterable.hashCode(this);
+    }
+
+    @Override
+    public String toString()
+    {
+        return Iterable.toString(this);
+    }
+
+    private Result<Long> createNotFoundResult(long key)
+    {
+        return Result.error(new NotFoundException("Could not find the provided key (" + key + ") in this Map."));
+    }
+
+    /**
+     * Get the index of the entry with the provided key.
+     * @param key The key to look for.
+     * @return The index of the entry with the provided key, or -1 if the key wasn't found.
+     */
+    private int findEntryIndex(long key)
+    {
+        int result = -1;
+        final HashIndexTable indexTable = this.indexTable;
+        if (indexTable.getCount() > 0)
+        {
+            int slot = indexTable.getHomeSlot(java.lang.Long.hashCode(key));
+            int entryIndex;
+            while ((entryIndex = indexTable.getEntryIndex(slot)) != -1)
+            {
+                if (this.keys[entryIndex] == key)
+                {
+                    result = entryIndex;
+                    break;
+                }
+                slot = indexTable.getNextSlot(slot);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Make room for at least one more entry.
+     */
+    private void growEntries()
+    {
+        final int newEntryCapacity = this.indexTable.getGrownEntryCapacity();
+        this.keys = this.indexTable.moveEntries(this.keys, newEntryCapacity);
+        this.values = this.indexTable.moveEntries(this.values, newEntryCapacity);
+        this.indexTable.growEntries(newEntryCapacity);
+    }
+}
@@ -222,6 +222,22 @@ public class LongValue implements Value<java.lang.Long>, Comparable<java.lang.Lo
             (!hasValue() || (this.getAsLong() == rhs.getAsLong()));
     }
 
+    @Override
+    public int hashCode()
+    {
+        int result = 0;
+        if (this.hasValue())
+        {
+            final long value = this.getAsLong();
+            // This LongValue can be equal to an Integer, so values that fit in an int must have the
+            // same hash code as that Integer.
+            result = (Integers.minimum <= value && value <= Integers.maximum)
+                ? (int)value
+                : java.lang.Long.hashCode(value);
+        }
+        return result;
+    }
+
     @Override
     public String toString()
     {
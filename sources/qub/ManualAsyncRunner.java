@@ -10,10 +10,21 @@ public class ManualAsyncRunner implements AsyncScheduler
      * The AsyncTasks that have been scheduled to run on this AsyncRunner.
      */
     private final Locked<List<AsyncTask<?>>> scheduledTasks;
+    /**
+     * The threads that are parked in await() until either a task is scheduled or the Result that
+     * they are awaiting is completed.
+     */
+    private final java.util.concurrent.ConcurrentLinkedQueue<java.lang.Thread> awaitingThreads;
+    /**
+     * The metrics that the tasks run by this ManualAsyncRunner are recorded to, or null if metrics
+     * aren't being collected.
+     */
+    private volatile AsyncSchedulerMetrics metrics;
 
     private ManualAsyncRunner()
     {
         this.scheduledTasks = Locked.create(List.create());
+        this.awaitingThreads = new java.util.concurrent.ConcurrentLinkedQueue<>();
     }
 
     public static ManualAsyncRunner create()
@@ -39,6 +50,20 @@ public class ManualAsyncRunner implements AsyncScheduler
         return this.scheduledTasks.unlock((List<AsyncTask<?>> tasks) -> tasks.getCount());
     }
 
+    @Override
+    public AsyncSchedulerMetrics getMetrics()
+    {
+        return this.metrics;
+    }
+
+    @Override
+    public ManualAsyncRunner setMetrics(AsyncSchedulerMetrics metrics)
+    {
+        this.metrics = metrics;
+
+        return this;
+    }
+
     @Override
     public AsyncTask<Void> schedule(Action0 action)
     {
@@ -77,11 +102,22 @@ public class ManualAsyncRunner implements AsyncScheduler
         PreCondition.assertNotNull(task, "task");
         PreCondition.assertFalse(task.isCompleted(), "task.isCompleted()");
 
+        final AsyncSchedulerMetrics metrics = this.metrics;
+        if (metrics != null)
+        {
+            metrics.onTaskScheduled(task);
+        }
+
         this.scheduledTasks.unlock((List<AsyncTask<?>> tasks) ->
         {
             tasks.add(task);
         });
 
+        for (final java.lang.Thread awaitingThread : this.awaitingThreads)
+        {
+            java.util.concurrent.locks.LockSupport.unpark(awaitingThread);
+        }
+
         return task;
     }
 
@@ -95,7 +131,19 @@ public class ManualAsyncRunner implements AsyncScheduler
             final AsyncTask<?> asyncTask = this.scheduledTasks.unlock((List<AsyncTask<?>> tasks) -> tasks.any() ? tasks.removeFirst() : null);
             if (asyncTask != null)
             {
-                asyncTask.run();
+                final AsyncSchedulerMetrics metrics = this.metrics;
+                if (metrics == null)
+                {
+                    asyncTask.run();
+                }
+                else
+                {
+                    metrics.runTask(asyncTask);
+                }
+            }
+            else if (result instanceof AsyncTask<?>)
+            {
+                this.parkUntilScheduledOrCompleted((AsyncTask<?>)result);
             }
             else
             {
@@ -103,4 +151,38 @@ public class ManualAsyncRunner implements AsyncScheduler
             }
         }
     }
+
+    /**
+     * Park the current thread until either a task is scheduled on this ManualAsyncRunner or the
+     * provided AsyncTask is completed.
+     * @param asyncTask The AsyncTask that the current thread is awaiting.
+     */
+    private void parkUntilScheduledOrCompleted(AsyncTask<?> asyncTask)
+    {
+        final java.lang.Thread currentThread = java.lang.Thread.currentThread();
+        this.awaitingThreads.add(currentThread);
+        try
+        {
+            if (asyncTask.addWaitingThread(currentThread))
+            {
+                try
+                {
+                    // Check again after registering so that a task that was scheduled or completed
+                    // before this thread was registered isn't missed.
+                    if (this.getScheduledTaskCount() == 0 && !asyncTask.isCompleted())
+                    {
+                        java.util.concurrent.locks.LockSupport.park(this);
+                    }
+                }
+                finally
+                {
+                    asyncTask.removeWaitingThread(currentThread);
+                }
+            }
+        }
+        finally
+        {
+            this.awaitingThreads.remove(currentThread);
+        }
+    }
 }
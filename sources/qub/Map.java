@@ -38,7 +38,7 @@ public interface Map<TKey,TValue> extends Iterable<MapEntry<TKey,TValue>>
      */
     static <TKey,TValue> MutableMap<TKey,TValue> create(Iterator<MapEntry<TKey,TValue>> entries)
     {
-        return ListMap.create(entries);
+        return HashMap.create(entries);
     }
 
     /**
@@ -47,6 +47,13 @@ public interface MapEntry<TKey,TValue>
         return rhs instanceof MapEntry && lhs.equals((MapEntry<TKey,TValue>)rhs);
     }
 
+    static int hashCode(MapEntry<?,?> entry)
+    {
+        PreCondition.assertNotNull(entry, "entry");
+
+        return HashMap.hash(entry.getKey()) * 31 + HashMap.hash(entry.getValue());
+    }
+
     /**
      * Get whether or not this MapEntry equals the provided MapEntry.
      * @param rhs The MapEntry to compare against this MapEntry.
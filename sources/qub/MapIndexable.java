@@ -46,6 +46,12 @@ class MapIndexable<TInner,TOuter> implements Indexable<TOuter>
         return Iterable.equals(this, rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return Iterable.hashCode(this);
+    }
+
     @Override
     public String toString()
     {
@@ -38,6 +38,12 @@ class MapIterable<TInner,TOuter> implements Iterable<TOuter>
         return Iterable.equals(this, rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return Iterable.hashCode(this);
+    }
+
     @Override
     public String toString()
     {
@@ -0,0 +1,349 @@
+package qub;
+
+/**
+ * A ByteReadStream that reads the contents of a file that has been mapped into memory. Besides
+ * reading the bytes in order, the bytes can also be accessed at any index without moving the
+ * stream. A single MappedByteBuffer can only address Integer.MAX_VALUE bytes, so larger files are
+ * mapped as multiple segments. Every segment has the same power-of-two size so that an index can be
+ * split into a segment and an offset with a shift and a mask.
+ */
+public class MemoryMappedByteReadStream implements ByteReadStream
+{
+    private static final int defaultSegmentSize = 1 << 30;
+
+    /**
+     * The segments that this stream reads from, or null if this stream has been disposed. Reads
+     * hold a read lock on the lock while they use the segments, and dispose() holds the write lock
+     * while it clears this field, so a segment is never read after it has been unmapped.
+     */
+    private volatile java.nio.MappedByteBuffer[] segments;
+    private final java.util.concurrent.locks.StampedLock lock;
+    private final int segmentShift;
+    private final int segmentMask;
+    private final long count;
+    private long currentIndex;
+
+    private MemoryMappedByteReadStream(java.nio.MappedByteBuffer[] segments, int segmentSize, long count)
+    {
+        PreCondition.assertNotNull(segments, "segments");
+        PreCondition.assertTrue(MemoryMappedByteReadStream.isPowerOfTwo(segmentSize), "MemoryMappedByteReadStream.isPowerOfTwo(segmentSize)");
+        PreCondition.assertGreaterThanOrEqualTo(count, 0, "count");
+
+        this.segments = segments;
+        this.lock = new java.util.concurrent.locks.StampedLock();
+        this.segmentShift = java.lang.Integer.numberOfTrailingZeros(segmentSize);
+        this.segmentMask = segmentSize - 1;
+        this.count = count;
+    }
+
+    /**
+     * Map the contents of the provided FileChannel into memory. The mapping stays valid after the
+     * FileChannel is closed, so the FileChannel can be closed as soon as this function returns.
+     * @param fileChannel The FileChannel to map into memory.
+     * @return The new MemoryMappedByteReadStream.
+     */
+    public static Result<MemoryMappedByteReadStream> create(java.nio.channels.FileChannel fileChannel)
+    {
+        return MemoryMappedByteReadStream.create(fileChannel, MemoryMappedByteReadStream.defaultSegmentSize);
+    }
+
+    static Result<MemoryMappedByteReadStream> create(java.nio.channels.FileChannel fileChannel, int segmentSize)
+    {
+        PreCondition.assertNotNull(fileChannel, "fileChannel");
+        PreCondition.assertTrue(fileChannel.isOpen(), "fileChannel.isOpen()");
+        PreCondition.assertTrue(MemoryMappedByteReadStream.isPowerOfTwo(segmentSize), "MemoryMappedByteReadStream.isPowerOfTwo(segmentSize)");
+
+        return Result.create(() ->
+        {
+            MemoryMappedByteReadStream result;
+            try
+            {
+                final long count = fileChannel.size();
+                final int segmentCount = (int)((count + segmentSize - 1) / segmentSize);
+                final java.nio.MappedByteBuffer[] segments = new java.nio.MappedByteBuffer[segmentCount];
+                for (int i = 0; i < segmentCount; ++i)
+                {
+                    final long segmentStart = (long)i * segmentSize;
+                    final long segmentLength = Math.minimum(segmentSize, count - segmentStart);
+                    segments[i] = fileChannel.map(java.nio.channels.FileChannel.MapMode.READ_ONLY, segmentStart, segmentLength);
+                }
+                result = new MemoryMappedByteReadStream(segments, segmentSize, count);
+            }
+            catch (java.io.IOException e)
+            {
+                throw Exceptions.asRuntime(e);
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Get the number of bytes in this stream.
+     * @return The number of bytes in this stream.
+     */
+    public long getCount()
+    {
+        return this.count;
+    }
+
+    /**
+     * Get the index of the next byte that will be read from this stream.
+     * @return The index of the next byte that will be read from this stream.
+     */
+    public long getCurrentIndex()
+    {
+        return this.currentIndex;
+    }
+
+    /**
+     * Set the index of the next byte that will be read from this stream.
+     * @param currentIndex The index of the next byte that will be read from this stream. This can
+     * be equal to getCount() to move this stream to its end.
+     * @return This object for method chaining.
+     */
+    public MemoryMappedByteReadStream setCurrentIndex(long currentIndex)
+    {
+        PreCondition.assertBetween(0, currentIndex, this.count, "currentIndex");
+        PreCondition.assertNotDisposed(this, "this");
+
+        this.currentIndex = currentIndex;
+
+        return this;
+    }
+
+    /**
+     * Get the byte at the provided index without moving this stream.
+     * @param index The index of the byte to get.
+     * @return The byte at the provided index.
+     */
+    public byte get(long index)
+    {
+        PreCondition.assertBetween(0, index, this.count - 1, "index");
+
+        final long stamp = this.lock.readLock();
+        try
+        {
+            PreCondition.assertNotDisposed(this, "this");
+
+            return this.segments[(int)(index >>> this.segmentShift)].get((int)index & this.segmentMask);
+        }
+        finally
+        {
+            this.lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Copy the bytes that start at the provided index into the provided outputBytes without moving
+     * this stream.
+     * @param index The index of the first byte to copy.
+     * @param outputBytes The array to copy the bytes into.
+     * @param startIndex The index in outputBytes to start copying bytes to.
+     * @param length The maximum number of bytes to copy.
+     * @return The number of bytes that were copied. This will be less than length if there are
+     * fewer than length bytes after the provided index.
+     */
+    public int get(long index, byte[] outputBytes, int startIndex, int length)
+    {
+        PreCondition.assertBetween(0, index, this.count, "index");
+        PreCondition.assertNotNull(outputBytes, "outputBytes");
+        PreCondition.assertStartIndex(startIndex, outputBytes.length);
+        PreCondition.assertLength(length, startIndex, outputBytes.length);
+
+        final int result = (int)Math.minimum(length, this.count - index);
+
+        final long stamp = this.lock.readLock();
+        try
+        {
+            PreCondition.assertNotDisposed(this, "this");
+
+            final java.nio.MappedByteBuffer[] segments = this.segments;
+            long byteIndex = index;
+            int outputIndex = startIndex;
+            int bytesRemaining = result;
+            while (bytesRemaining > 0)
+            {
+                // Read through a duplicate so that reads from other threads don't move the shared
+                // segment's position.
+                final java.nio.ByteBuffer segment = segments[(int)(byteIndex >>> this.segmentShift)].duplicate();
+                final int segmentIndex = (int)byteIndex & this.segmentMask;
+                final int bytesToCopy = Math.minimum(bytesRemaining, segment.limit() - segmentIndex);
+
+                segment.position(segmentIndex);
+                segment.get(outputBytes, outputIndex, bytesToCopy);
+
+                byteIndex += bytesToCopy;
+                outputIndex += bytesToCopy;
+                bytesRemaining -= bytesToCopy;
+            }
+        }
+        finally
+        {
+            this.lock.unlockRead(stamp);
+        }
+
+        PostCondition.assertBetween(0, result, length, "result");
+
+        return result;
+    }
+
+    @Override
+    public Result<Byte> readByte()
+    {
+        PreCondition.assertNotDisposed(this, "this");
+
+        Result<Byte> result;
+        if (this.currentIndex == this.count)
+        {
+            result = Result.endOfStream();
+        }
+        else
+        {
+            result = Result.success(this.get(this.currentIndex++));
+        }
+        return result;
+    }
+
+    @Override
+    public int readByteOrEnd()
+    {
+        PreCondition.assertNotDisposed(this, "this");
+
+        return this.currentIndex == this.count
+            ? -1
+            : Bytes.toUnsignedInt(this.get(this.currentIndex++));
+    }
+
+    @Override
+    public Result<Integer> readBytes(byte[] outputBytes, int startIndex, int length)
+    {
+        PreCondition.assertNotNull(outputBytes, "outputBytes");
+        PreCondition.assertStartIndex(startIndex, outputBytes.length);
+        PreCondition.assertLength(length, startIndex, outputBytes.length);
+        PreCondition.assertNotDisposed(this, "this");
+
+        Result<Integer> result;
+        if (length == 0)
+        {
+            result = Result.successZero();
+        }
+        else if (this.currentIndex == this.count)
+        {
+            result = Result.endOfStream();
+        }
+        else
+        {
+            final int bytesRead = this.get(this.currentIndex, outputBytes, startIndex, length);
+            this.currentIndex += bytesRead;
+            result = Result.success(bytesRead);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isDisposed()
+    {
+        return this.segments == null;
+    }
+
+    @Override
+    public Result<Boolean> dispose()
+    {
+        Result<Boolean> result;
+        if (this.isDisposed())
+        {
+            result = Result.successFalse();
+        }
+        else
+        {
+            java.nio.MappedByteBuffer[] segments;
+            final long stamp = this.lock.writeLock();
+            try
+            {
+                segments = this.segments;
+                this.segments = null;
+            }
+            finally
+            {
+                this.lock.unlockWrite(stamp);
+            }
+
+            if (segments == null)
+            {
+                result = Result.successFalse();
+            }
+            else
+            {
+                result = Result.create(() ->
+                {
+                    for (final java.nio.MappedByteBuffer segment : segments)
+                    {
+                        MemoryMappedByteReadStream.unmap(segment);
+                    }
+                    return true;
+                });
+            }
+        }
+        return result;
+    }
+
+    private static boolean isPowerOfTwo(int value)
+    {
+        return value > 0 && (value & (value - 1)) == 0;
+    }
+
+    /**
+     * Release the memory mapping of the provided buffer now instead of waiting for the buffer to
+     * be garbage collected. The buffer must not be used after this function is called.
+     * @param buffer The buffer to unmap.
+     */
+    private static void unmap(java.nio.MappedByteBuffer buffer)
+    {
+        if (Unmapper.invokeCleaner != null)
+        {
+            try
+            {
+                Unmapper.invokeCleaner.invoke(Unmapper.unsafe, buffer);
+            }
+            catch (ReflectiveOperationException e)
+            {
+                // The mapping will be released when the buffer is garbage collected.
+            }
+        }
+    }
+
+    /**
+     * The reflected Unsafe.invokeCleaner() method that is used to unmap buffers. It is only looked
+     * up once, the first time that a buffer is unmapped.
+     */
+    private static class Unmapper
+    {
+        private static final Object unsafe;
+        /**
+         * The Unsafe.invokeCleaner() method, or null if this runtime doesn't support unmapping
+         * buffers. In that case each mapping is released when its buffer is garbage collected.
+         */
+        private static final java.lang.reflect.Method invokeCleaner;
+
+        static
+        {
+            Object unsafeObject = null;
+            java.lang.reflect.Method invokeCleanerMethod = null;
+            try
+            {
+                final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+                final java.lang.reflect.Field theUnsafeField = unsafeClass.getDeclaredField("theUnsafe");
+                theUnsafeField.setAccessible(true);
+                unsafeObject = theUnsafeField.get(null);
+                invokeCleanerMethod = unsafeClass.getMethod("invokeCleaner", java.nio.ByteBuffer.class);
+            }
+            catch (ReflectiveOperationException e)
+            {
+                // This runtime doesn't support unmapping buffers.
+                invokeCleanerMethod = null;
+            }
+            unsafe = unsafeObject;
+            invokeCleaner = invokeCleanerMethod;
+        }
+    }
+}
@@ -48,34 +48,52 @@ public interface MutableIndexable<T> extends Indexable<T>
 
     /**
      * Sort the values in this MutableIndexable using the provided lessThan method. This will change
-     * this MutableIndexable if the values are not already in sorted order.
+     * this MutableIndexable if the values are not already in sorted order. The sort is stable, so
+     * values that are equal to each other will keep their original relative order. Runs of values
+     * that are already sorted are detected, so sorting values that are already (or nearly) in order
+     * is close to linear.
      * @param lessThan The function to use to compare the values.
      * @return This MutableIndexable after it has been sorted.
      */
+    @SuppressWarnings("unchecked")
     default MutableIndexable<T> sort(Function2<T,T,Boolean> lessThan)
     {
         PreCondition.assertNotNull(lessThan, "lessThan");
 
-        final int count = getCount();
-        for (int i = 0; i < count; ++i)
+        final int count = this.getCount();
+        if (count >= 2)
         {
-            int minimumValueIndex = i;
-            T minimumValue = get(i);
-            for (int j = i + 1; j < count; ++j)
+            final Object[] values = new Object[count];
+            for (int i = 0; i < count; ++i)
             {
-                final T currentValue = get(j);
-                if (lessThan.run(currentValue, minimumValue))
-                {
-                    minimumValueIndex = j;
-                    minimumValue = currentValue;
-                }
+                values[i] = this.get(i);
+            }
+
+            StableSort.sort(values, 0, count, lessThan);
+
+            for (int i = 0; i < count; ++i)
+            {
+                this.set(i, (T)values[i]);
             }
-            swap(i, minimumValueIndex);
         }
 
         return this;
     }
 
+    /**
+     * Sort the values in this MutableIndexable using the provided comparer. This will change this
+     * MutableIndexable if the values are not already in sorted order. The sort is stable, so values
+     * that the comparer considers equal will keep their original relative order.
+     * @param comparer The function to use to compare the values.
+     * @return This MutableIndexable after it has been sorted.
+     */
+    default MutableIndexable<T> sortWithComparer(Function2<T,T,Comparison> comparer)
+    {
+        PreCondition.assertNotNull(comparer, "comparer");
+
+        return this.sort((T lhs, T rhs) -> comparer.run(lhs, rhs) == Comparison.LessThan);
+    }
+
     /**
      * Sort the values in the provided MutableIndexable using their compareTo() method. This will
      * change the MutableIndexable if the values are not already in sorted order.
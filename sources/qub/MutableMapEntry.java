@@ -53,4 +53,10 @@ public class MutableMapEntry<TKey,TValue> implements MapEntry<TKey,TValue>
     {
         return MapEntry.equals(this, rhs);
     }
+
+    @Override
+    public int hashCode()
+    {
+        return MapEntry.hashCode(this);
+    }
 }
@@ -143,4 +143,10 @@ public class MutableUIPadding implements UIPadding
     {
         return UIPadding.equals(this, rhs);
     }
+
+    @Override
+    public int hashCode()
+    {
+        return UIPadding.hashCode(this);
+    }
 }
@@ -143,4 +143,10 @@ public class MutableUIPaddingInPixels implements UIPaddingInPixels
     {
         return UIPaddingInPixels.equals(this, rhs);
     }
+
+    @Override
+    public int hashCode()
+    {
+        return UIPaddingInPixels.hashCode(this);
+    }
 }
@@ -265,6 +265,12 @@ public class MutableURL implements URL
         return URL.equals(this, rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return URL.hashCode(this);
+    }
+
     @Override
     public String toString()
     {
@@ -0,0 +1,66 @@
+package qub;
+
+/**
+ * A Deadline that compares a System.nanoTime() value against the current System.nanoTime() each
+ * time it is checked.
+ */
+public class NanoTimeDeadline implements Deadline
+{
+    private final long deadlineNanoTime;
+    private volatile boolean disposed;
+
+    private NanoTimeDeadline(long deadlineNanoTime)
+    {
+        this.deadlineNanoTime = deadlineNanoTime;
+    }
+
+    /**
+     * Create a new NanoTimeDeadline that will expire when System.nanoTime() reaches the provided
+     * value.
+     * @param deadlineNanoTime The System.nanoTime() value that the returned Deadline will expire
+     *                         at.
+     * @return The new NanoTimeDeadline.
+     */
+    public static NanoTimeDeadline create(long deadlineNanoTime)
+    {
+        return new NanoTimeDeadline(deadlineNanoTime);
+    }
+
+    /**
+     * Get the System.nanoTime() value that this Deadline will expire at.
+     * @return The System.nanoTime() value that this Deadline will expire at.
+     */
+    public long getDeadlineNanoTime()
+    {
+        return this.deadlineNanoTime;
+    }
+
+    @Override
+    public boolean isExpired()
+    {
+        return System.nanoTime() - this.deadlineNanoTime >= 0;
+    }
+
+    @Override
+    public Long getRemainingNanoseconds()
+    {
+        return Math.maximum(0L, this.deadlineNanoTime - System.nanoTime());
+    }
+
+    @Override
+    public boolean isDisposed()
+    {
+        return this.disposed;
+    }
+
+    @Override
+    public Result<Boolean> dispose()
+    {
+        return Result.create(() ->
+        {
+            final boolean result = !this.disposed;
+            this.disposed = true;
+            return result;
+        });
+    }
+}
@@ -15,7 +15,7 @@ public class Node2<T>
      * Create a new Node2 with the provided value.
      * @param value The value to store in the new Node2.
      */
-    private Node2(T value)
+    protected Node2(T value)
     {
         this.value = value;
     }
@@ -66,12 +66,41 @@ public class ObjectArray<T> implements Array<T>
         return (T)values[index];
     }
 
+    @Override
+    public ObjectArray<T> sort(Function2<T,T,Boolean> lessThan)
+    {
+        PreCondition.assertNotNull(lessThan, "lessThan");
+
+        StableSort.sort(this.values, 0, this.values.length, lessThan);
+
+        return this;
+    }
+
+    @Override
+    public Result<Array<T>> parallelSort(AsyncScheduler asyncScheduler, Function2<T,T,Boolean> lessThan)
+    {
+        PreCondition.assertNotNull(asyncScheduler, "asyncScheduler");
+        PreCondition.assertNotNull(lessThan, "lessThan");
+
+        return Result.create(() ->
+        {
+            StableSort.parallelSort(asyncScheduler, this.values, lessThan, java.lang.Runtime.getRuntime().availableProcessors());
+            return this;
+        });
+    }
+
     @Override
     public boolean equals(Object rhs)
     {
         return Iterable.equals(this, rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return Iterable.hashCode(this);
+    }
+
     @Override
     public String toString()
     {
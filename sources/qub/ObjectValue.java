@@ -69,6 +69,12 @@ public class ObjectValue<T> implements Value<T>
         return result;
     }
 
+    @Override
+    public int hashCode()
+    {
+        return this.hasValue() ? HashMap.hash(this.get()) : 0;
+    }
+
     public boolean equals(Value<T> rhs)
     {
         return rhs != null &&
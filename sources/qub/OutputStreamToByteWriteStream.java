@@ -1,16 +1,18 @@
 package qub;
 
-public class OutputStreamToByteWriteStream extends BasicDisposable implements ByteWriteStream
+public class OutputStreamToByteWriteStream extends BasicDisposable implements ByteWriteStream, JavaChannelStream
 {
     private final java.io.OutputStream outputStream;
     private final boolean autoFlush;
+    private final java.nio.channels.Channel channel;
 
-    private OutputStreamToByteWriteStream(java.io.OutputStream outputStream, boolean autoFlush)
+    private OutputStreamToByteWriteStream(java.io.OutputStream outputStream, boolean autoFlush, java.nio.channels.Channel channel)
     {
         PreCondition.assertNotNull(outputStream, "outputStream");
 
         this.outputStream = outputStream;
         this.autoFlush = autoFlush;
+        this.channel = channel;
     }
 
     public static OutputStreamToByteWriteStream create(java.io.OutputStream outputStream)
@@ -20,7 +22,28 @@ public class OutputStreamToByteWriteStream extends BasicDisposable implements By
 
     public static OutputStreamToByteWriteStream create(java.io.OutputStream outputStream, boolean autoFlush)
     {
-        return new OutputStreamToByteWriteStream(outputStream, autoFlush);
+        final java.nio.channels.Channel channel = outputStream instanceof java.io.FileOutputStream
+            ? ((java.io.FileOutputStream)outputStream).getChannel()
+            : null;
+        return new OutputStreamToByteWriteStream(outputStream, autoFlush, channel);
+    }
+
+    /**
+     * Create a new OutputStreamToByteWriteStream that writes to the provided FileChannel.
+     * @param fileChannel The FileChannel to write to.
+     * @return The new OutputStreamToByteWriteStream.
+     */
+    public static OutputStreamToByteWriteStream create(java.nio.channels.FileChannel fileChannel)
+    {
+        PreCondition.assertNotNull(fileChannel, "fileChannel");
+
+        return new OutputStreamToByteWriteStream(java.nio.channels.Channels.newOutputStream(fileChannel), true, fileChannel);
+    }
+
+    @Override
+    public java.nio.channels.Channel getChannel()
+    {
+        return this.channel;
     }
 
     public Result<Void> flush()
@@ -1,17 +1,160 @@
 package qub;
 
 /**
- * An AsyncRunner implementation that runs its tasks on a thread pool.
+ * An AsyncRunner implementation that runs its tasks on a thread pool. Each worker thread in the
+ * pool has its own deque of tasks, and idle worker threads steal tasks from busy worker threads.
+ * Worker threads are added as needed up to the pool's parallelism. A worker thread that awaits a
+ * Result runs other waiting tasks until the Result is completed, so tasks that await tasks that
+ * they scheduled can be nested to any depth without running out of worker threads. If every worker
+ * thread is blocked some other way while tasks are waiting to be run, then additional worker
+ * threads are added (up to the pool's maximum worker count) so that the waiting tasks don't
+ * starve. Those additional worker threads exit after they have been idle for a while.
  */
-public class ParallelAsyncRunner implements AsyncScheduler
+public class ParallelAsyncRunner implements AsyncScheduler, Disposable
 {
-    private ParallelAsyncRunner()
+    /**
+     * The number of milliseconds that an idle worker thread that exceeds the pool's parallelism
+     * will wait for a new task before it exits.
+     */
+    private static final long idleWorkerTimeoutMilliseconds = 10000;
+    /**
+     * The number of milliseconds between checks for whether or not the waiting tasks are starving.
+     */
+    private static final long starvationCheckIntervalMilliseconds = 10;
+
+    private final int parallelism;
+    private final int maximumWorkerCount;
+    /**
+     * The tasks that were scheduled from threads that are not worker threads in this pool.
+     */
+    private final java.util.concurrent.ConcurrentLinkedDeque<AsyncTask<?>> sharedTasks;
+    /**
+     * The number of tasks that are in the shared deque or in any of the worker deques.
+     */
+    private final java.util.concurrent.atomic.AtomicInteger queuedTaskCount;
+    /**
+     * The number of tasks that have been taken from a deque by a worker thread.
+     */
+    private final java.util.concurrent.atomic.AtomicLong startedTaskCount;
+    /**
+     * The worker threads that are parked until a new task is scheduled.
+     */
+    private final java.util.concurrent.ConcurrentLinkedQueue<Worker> idleWorkers;
+    /**
+     * The worker threads in this pool. Only modified while synchronized on this object.
+     */
+    private volatile Worker[] workers;
+    private int nextWorkerNumber;
+    private java.lang.Thread starvationMonitor;
+    private volatile boolean disposed;
+    private volatile AsyncSchedulerMetrics metrics;
+
+    private ParallelAsyncRunner(int parallelism, int maximumWorkerCount)
     {
+        PreCondition.assertGreaterThanOrEqualTo(parallelism, 1, "parallelism");
+        PreCondition.assertGreaterThanOrEqualTo(maximumWorkerCount, parallelism, "maximumWorkerCount");
+
+        this.parallelism = parallelism;
+        this.maximumWorkerCount = maximumWorkerCount;
+        this.sharedTasks = new java.util.concurrent.ConcurrentLinkedDeque<>();
+        this.queuedTaskCount = new java.util.concurrent.atomic.AtomicInteger();
+        this.startedTaskCount = new java.util.concurrent.atomic.AtomicLong();
+        this.idleWorkers = new java.util.concurrent.ConcurrentLinkedQueue<>();
+        this.workers = new Worker[0];
     }
 
+    /**
+     * Create a new ParallelAsyncRunner that will use as many worker threads as there are available
+     * processors.
+     * @return The new ParallelAsyncRunner.
+     */
     public static ParallelAsyncRunner create()
     {
-        return new ParallelAsyncRunner();
+        return ParallelAsyncRunner.create(java.lang.Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Create a new ParallelAsyncRunner that will use the provided number of worker threads to run
+     * tasks.
+     * @param parallelism The number of worker threads that will run tasks when none of the worker
+     *                    threads are blocked.
+     * @return The new ParallelAsyncRunner.
+     */
+    public static ParallelAsyncRunner create(int parallelism)
+    {
+        PreCondition.assertGreaterThanOrEqualTo(parallelism, 1, "parallelism");
+
+        return ParallelAsyncRunner.create(parallelism, Math.maximum(256, parallelism));
+    }
+
+    /**
+     * Create a new ParallelAsyncRunner that will use the provided number of worker threads to run
+     * tasks.
+     * @param parallelism The number of worker threads that will run tasks when none of the worker
+     *                    threads are blocked.
+     * @param maximumWorkerCount The maximum number of worker threads that can exist at one time,
+     *                           including the worker threads that are added when the other worker
+     *                           threads are blocked.
+     * @return The new ParallelAsyncRunner.
+     */
+    public static ParallelAsyncRunner create(int parallelism, int maximumWorkerCount)
+    {
+        PreCondition.assertGreaterThanOrEqualTo(parallelism, 1, "parallelism");
+        PreCondition.assertGreaterThanOrEqualTo(maximumWorkerCount, parallelism, "maximumWorkerCount");
+
+        return new ParallelAsyncRunner(parallelism, maximumWorkerCount);
+    }
+
+    /**
+     * Get the number of worker threads that will run tasks when none of the worker threads are
+     * blocked.
+     * @return The number of worker threads that will run tasks when none of the worker threads are
+     * blocked.
+     */
+    public int getParallelism()
+    {
+        return this.parallelism;
+    }
+
+    /**
+     * Get the maximum number of worker threads that can exist at one time.
+     * @return The maximum number of worker threads that can exist at one time.
+     */
+    public int getMaximumWorkerCount()
+    {
+        return this.maximumWorkerCount;
+    }
+
+    /**
+     * Get the number of worker threads that currently exist.
+     * @return The number of worker threads that currently exist.
+     */
+    public int getWorkerCount()
+    {
+        return this.workers.length;
+    }
+
+    /**
+     * Get the number of tasks that have been scheduled but haven't started running yet.
+     * @return The number of tasks that have been scheduled but haven't started running yet.
+     */
+    public int getQueuedTaskCount()
+    {
+        return this.queuedTaskCount.get();
+    }
+
+    @Override
+    public AsyncSchedulerMetrics getMetrics()
+    {
+        return this.metrics;
+    }
+
+    @Override
+    public ParallelAsyncRunner setMetrics(AsyncSchedulerMetrics metrics)
+    {
+        this.metrics = metrics;
+
+        return this;
     }
 
     @Override
@@ -51,12 +194,27 @@ public class ParallelAsyncRunner implements AsyncScheduler
     {
         PreCondition.assertNotNull(task, "task");
         PreCondition.assertFalse(task.isCompleted(), "task.isCompleted()");
+        PreCondition.assertNotDisposed(this, "this");
+
+        final AsyncSchedulerMetrics metrics = this.metrics;
+        if (metrics != null)
+        {
+            metrics.onTaskScheduled(task);
+        }
 
-        new Thread(() ->
+        final Worker currentWorker = this.getCurrentWorker();
+        if (currentWorker != null)
+        {
+            currentWorker.tasks.addLast(task);
+        }
+        else
         {
-            CurrentThread.setAsyncRunner(this);
-            task.run();
-        }).start();
+            this.sharedTasks.addLast(task);
+        }
+        this.queuedTaskCount.incrementAndGet();
+
+        this.signalWorker();
+
         return task;
     }
 
@@ -65,9 +223,372 @@ public class ParallelAsyncRunner implements AsyncScheduler
     {
         PreCondition.assertNotNull(result, "result");
 
-        while (!result.isCompleted())
+        if (!result.isCompleted())
+        {
+            final Worker currentWorker = this.getCurrentWorker();
+            if (currentWorker != null)
+            {
+                currentWorker.helpUntilCompleted(result);
+            }
+            else if (result instanceof AsyncTask<?>)
+            {
+                ((AsyncTask<?>)result).awaitCompletion();
+            }
+            else
+            {
+                while (!result.isCompleted())
+                {
+                    CurrentThread.yield();
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean isDisposed()
+    {
+        return this.disposed;
+    }
+
+    /**
+     * Stop this ParallelAsyncRunner from accepting new tasks. Tasks that have already been
+     * scheduled will still be run, and the worker threads will exit once they are finished.
+     * @return Whether or not this ParallelAsyncRunner was disposed.
+     */
+    @Override
+    public Result<Boolean> dispose()
+    {
+        return Result.create(() ->
+        {
+            boolean result;
+            synchronized (this)
+            {
+                result = !this.disposed;
+                if (result)
+                {
+                    this.disposed = true;
+                }
+            }
+
+            if (result)
+            {
+                for (final Worker worker : this.workers)
+                {
+                    java.util.concurrent.locks.LockSupport.unpark(worker);
+                }
+                java.util.concurrent.locks.LockSupport.unpark(this.starvationMonitor);
+            }
+
+            return result;
+        });
+    }
+
+    /**
+     * Get the worker thread of this pool that is the current thread, or null if the current
+     * thread isn't one of this pool's worker threads.
+     * @return The current thread's Worker or null.
+     */
+    private Worker getCurrentWorker()
+    {
+        final java.lang.Thread currentThread = java.lang.Thread.currentThread();
+        return currentThread instanceof Worker && ((Worker)currentThread).asyncRunner == this
+            ? (Worker)currentThread
+            : null;
+    }
+
+    /**
+     * Make sure that a worker thread is available to run the tasks that have been scheduled.
+     */
+    private void signalWorker()
+    {
+        final Worker idleWorker = this.idleWorkers.poll();
+        if (idleWorker != null)
         {
-            CurrentThread.yield();
+            java.util.concurrent.locks.LockSupport.unpark(idleWorker);
+        }
+        else if (!this.addWorker(this.parallelism))
+        {
+            java.util.concurrent.locks.LockSupport.unpark(this.starvationMonitor);
+        }
+    }
+
+    /**
+     * Add a new worker thread to this pool if there are fewer than the provided number of worker
+     * threads.
+     * @param workerCountLimit The number of worker threads that this pool must have fewer than in
+     *                         order for a new worker thread to be added.
+     * @return Whether or not a new worker thread was added.
+     */
+    private synchronized boolean addWorker(int workerCountLimit)
+    {
+        final Worker[] workers = this.workers;
+        final boolean result = !this.disposed &&
+            workers.length < Math.minimum(workerCountLimit, this.maximumWorkerCount);
+        if (result)
+        {
+            final Worker worker = new Worker(this, ++this.nextWorkerNumber);
+            final Worker[] newWorkers = java.util.Arrays.copyOf(workers, workers.length + 1);
+            newWorkers[workers.length] = worker;
+            this.workers = newWorkers;
+            worker.start();
+
+            if (this.starvationMonitor == null)
+            {
+                this.starvationMonitor = new java.lang.Thread(this::monitorStarvation, "ParallelAsyncRunner-starvation-monitor");
+                this.starvationMonitor.setDaemon(true);
+                this.starvationMonitor.start();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Remove the provided worker thread from this pool.
+     * @param worker The worker thread to remove.
+     */
+    private synchronized void removeWorker(Worker worker)
+    {
+        final Worker[] workers = this.workers;
+        int workerIndex = 0;
+        while (workerIndex < workers.length && workers[workerIndex] != worker)
+        {
+            ++workerIndex;
+        }
+
+        if (workerIndex < workers.length)
+        {
+            final Worker[] newWorkers = new Worker[workers.length - 1];
+            System.arraycopy(workers, 0, newWorkers, 0, workerIndex);
+            System.arraycopy(workers, workerIndex + 1, newWorkers, workerIndex, newWorkers.length - workerIndex);
+            this.workers = newWorkers;
+        }
+    }
+
+    /**
+     * Get the next task for the provided worker thread to run. The worker's own deque is checked
+     * first, then the shared deque, and then the other workers' deques.
+     * @param worker The worker thread that will run the task.
+     * @return The next task to run, or null if no tasks are waiting to be run.
+     */
+    private AsyncTask<?> takeTask(Worker worker)
+    {
+        AsyncTask<?> result = worker.tasks.pollLast();
+        if (result == null)
+        {
+            result = this.sharedTasks.pollFirst();
+            if (result == null)
+            {
+                for (final Worker otherWorker : this.workers)
+                {
+                    if (otherWorker != worker)
+                    {
+                        result = otherWorker.tasks.pollFirst();
+                        if (result != null)
+                        {
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+
+        if (result != null)
+        {
+            this.queuedTaskCount.decrementAndGet();
+            this.startedTaskCount.incrementAndGet();
+        }
+
+        return result;
+    }
+
+    /**
+     * Add worker threads while tasks are waiting to be run and none of the existing worker threads
+     * are taking them.
+     */
+    private void monitorStarvation()
+    {
+        long previousStartedTaskCount = this.startedTaskCount.get();
+        while (!this.disposed || this.workers.length > 0)
+        {
+            if (this.queuedTaskCount.get() == 0)
+            {
+                java.util.concurrent.locks.LockSupport.park(this);
+            }
+            else
+            {
+                java.util.concurrent.locks.LockSupport.parkNanos(this, ParallelAsyncRunner.starvationCheckIntervalMilliseconds * 1000000);
+            }
+
+            final long currentStartedTaskCount = this.startedTaskCount.get();
+            if (currentStartedTaskCount == previousStartedTaskCount &&
+                this.queuedTaskCount.get() > 0 &&
+                this.idleWorkers.isEmpty())
+            {
+                this.addWorker(this.maximumWorkerCount);
+            }
+            previousStartedTaskCount = currentStartedTaskCount;
+        }
+    }
+
+    /**
+     * A worker thread within a ParallelAsyncRunner's thread pool.
+     */
+    private static class Worker extends java.lang.Thread
+    {
+        private final ParallelAsyncRunner asyncRunner;
+        /**
+         * The tasks that were scheduled from this worker thread. This worker takes tasks from the
+         * end of the deque and other workers steal tasks from the start of the deque.
+         */
+        private final java.util.concurrent.ConcurrentLinkedDeque<AsyncTask<?>> tasks;
+
+        private Worker(ParallelAsyncRunner asyncRunner, int workerNumber)
+        {
+            super("ParallelAsyncRunner-worker-" + workerNumber);
+
+            this.asyncRunner = asyncRunner;
+            this.tasks = new java.util.concurrent.ConcurrentLinkedDeque<>();
+
+            this.setDaemon(true);
+        }
+
+        @Override
+        public void run()
+        {
+            final ParallelAsyncRunner asyncRunner = this.asyncRunner;
+            try
+            {
+                while (true)
+                {
+                    final AsyncTask<?> task = asyncRunner.takeTask(this);
+                    if (task != null)
+                    {
+                        this.runTask(task);
+                    }
+                    else if (asyncRunner.disposed && asyncRunner.queuedTaskCount.get() == 0)
+                    {
+                        break;
+                    }
+                    else if (!this.waitForTask())
+                    {
+                        break;
+                    }
+                }
+            }
+            finally
+            {
+                asyncRunner.removeWorker(this);
+                CurrentThread.setAsyncRunner(null);
+            }
+        }
+
+        private void runTask(AsyncTask<?> task)
+        {
+            try
+            {
+                CurrentThread.setAsyncRunner(this.asyncRunner);
+                final AsyncSchedulerMetrics metrics = this.asyncRunner.metrics;
+                if (metrics == null)
+                {
+                    task.run();
+                }
+                else
+                {
+                    metrics.runTask(task);
+                }
+            }
+            catch (Throwable error)
+            {
+                this.getUncaughtExceptionHandler().uncaughtException(this, error);
+            }
+        }
+
+        /**
+         * Run the tasks that are waiting to be run until the provided Result is completed. When
+         * there are no tasks to run, this worker parks as an idle worker so that it is woken up
+         * either when the Result is completed or when a new task is scheduled.
+         * @param result The Result to wait for.
+         */
+        private void helpUntilCompleted(Result<?> result)
+        {
+            final ParallelAsyncRunner asyncRunner = this.asyncRunner;
+            final AsyncTask<?> asyncTask = result instanceof AsyncTask<?> ? (AsyncTask<?>)result : null;
+            if (asyncTask == null || asyncTask.addWaitingThread(this))
+            {
+                try
+                {
+                    while (!result.isCompleted())
+                    {
+                        final AsyncTask<?> task = asyncRunner.takeTask(this);
+                        if (task != null)
+                        {
+                            this.runTask(task);
+                        }
+                        else if (asyncTask == null)
+                        {
+                            CurrentThread.yield();
+                        }
+                        else
+                        {
+                            asyncRunner.idleWorkers.add(this);
+
+                            // Check again after registering as idle so that a task that was
+                            // scheduled before this worker was registered isn't missed.
+                            if (asyncRunner.queuedTaskCount.get() == 0 && !asyncTask.isCompleted())
+                            {
+                                java.util.concurrent.locks.LockSupport.park(asyncTask);
+                            }
+
+                            asyncRunner.idleWorkers.remove(this);
+                        }
+                    }
+                }
+                finally
+                {
+                    if (asyncTask != null)
+                    {
+                        asyncTask.removeWaitingThread(this);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Park this worker until a task is scheduled.
+         * @return Whether or not this worker should continue running.
+         */
+        private boolean waitForTask()
+        {
+            final ParallelAsyncRunner asyncRunner = this.asyncRunner;
+
+            asyncRunner.idleWorkers.add(this);
+
+            // Check again after registering as idle so that a task that was scheduled before this
+            // worker was registered isn't missed.
+            boolean result = true;
+            if (asyncRunner.queuedTaskCount.get() == 0 && !asyncRunner.disposed)
+            {
+                java.util.concurrent.locks.LockSupport.parkNanos(this, ParallelAsyncRunner.idleWorkerTimeoutMilliseconds * 1000000);
+
+                if (asyncRunner.queuedTaskCount.get() == 0 && !asyncRunner.disposed)
+                {
+                    synchronized (asyncRunner)
+                    {
+                        // Workers beyond the pool's parallelism exit when they have been idle for
+                        // too long.
+                        result = asyncRunner.workers.length <= asyncRunner.parallelism ||
+                            !asyncRunner.idleWorkers.remove(this);
+                        if (!result)
+                        {
+                            asyncRunner.removeWorker(this);
+                        }
+                    }
+                }
+            }
+
+            asyncRunner.idleWorkers.remove(this);
+
+            return result;
         }
     }
 }
@@ -0,0 +1,204 @@
+package qub;
+
+/**
+ * An operation that runs a function on each of a set of values using a bounded number of tasks on
+ * an AsyncScheduler. Each task takes the next value that hasn't been started yet until there are
+ * no values left or the operation is stopped. When the operation is stopped or the last task
+ * finishes, a completion task is scheduled that produces the operation's result. Tasks that are
+ * still running when the operation is stopped are cancelled rather than waited for, and cancelling
+ * the operation's result stops the operation.
+ * @param <T> The type of the values that the function is run on.
+ * @param <U> The type of value that the function returns.
+ */
+class ParallelResultOperation<T,U>
+{
+    private final Indexable<T> inputs;
+    private final Function1<T,U> function;
+    /**
+     * Whether or not values that haven't been started yet should be skipped after the function
+     * throws an error.
+     */
+    private final boolean failFast;
+    /**
+     * Whether or not values that haven't been started yet should be skipped after the function
+     * returns successfully.
+     */
+    private final boolean stopOnSuccess;
+    private final Object[] outputs;
+    private final Throwable[] errors;
+    private final java.util.concurrent.atomic.AtomicInteger nextIndex;
+    private final java.util.concurrent.atomic.AtomicInteger runningTaskCount;
+    private final java.util.concurrent.atomic.AtomicInteger firstSuccessIndex;
+    private volatile boolean stopped;
+    private final java.util.concurrent.atomic.AtomicBoolean completionScheduled;
+    private AsyncTask<?>[] workerTasks;
+
+    private ParallelResultOperation(Iterable<T> inputs, Function1<T,U> function, boolean failFast, boolean stopOnSuccess)
+    {
+        this.inputs = List.create(inputs);
+        this.function = function;
+        this.failFast = failFast;
+        this.stopOnSuccess = stopOnSuccess;
+        this.outputs = new Object[this.inputs.getCount()];
+        this.errors = new Throwable[this.inputs.getCount()];
+        this.nextIndex = new java.util.concurrent.atomic.AtomicInteger();
+        this.runningTaskCount = new java.util.concurrent.atomic.AtomicInteger();
+        this.firstSuccessIndex = new java.util.concurrent.atomic.AtomicInteger(-1);
+        this.completionScheduled = new java.util.concurrent.atomic.AtomicBoolean();
+    }
+
+    /**
+     * Run the provided function on each of the provided values.
+     * @param asyncScheduler The AsyncScheduler to run the function on.
+     * @param inputs The values to run the function on.
+     * @param function The function to run.
+     * @param maximumConcurrency The maximum number of values that the function will be run on at
+     *                           the same time.
+     * @param failFast Whether or not values that haven't been started yet will be skipped after the
+     *                 function throws an error.
+     * @return A Result that contains the function's outputs in the same order as the inputs, or
+     * the errors that the function threw.
+     */
+    static <T,U> AsyncTask<Iterable<U>> map(AsyncScheduler asyncScheduler, Iterable<T> inputs, Function1<T,U> function, int maximumConcurrency, boolean failFast)
+    {
+        final ParallelResultOperation<T,U> operation = new ParallelResultOperation<>(inputs, function, failFast, false);
+        return operation.start(asyncScheduler, maximumConcurrency, operation::getOutputs);
+    }
+
+    /**
+     * Run the provided functions until one of them returns successfully.
+     * @param asyncScheduler The AsyncScheduler to run the functions on.
+     * @param functions The functions to run.
+     * @return A Result that contains the value of the first function that returned successfully,
+     * or the errors that all of the functions threw.
+     */
+    static <T> AsyncTask<T> any(AsyncScheduler asyncScheduler, Iterable<Function0<T>> functions)
+    {
+        final ParallelResultOperation<Function0<T>,T> operation = new ParallelResultOperation<>(functions, Function0::run, false, true);
+        return operation.start(asyncScheduler, operation.inputs.getCount(), operation::getFirstSuccessOutput);
+    }
+
+    private <V> AsyncTask<V> start(AsyncScheduler asyncScheduler, int maximumConcurrency, Function0<V> completionFunction)
+    {
+        final AsyncTask<V> result = asyncScheduler.create(completionFunction);
+
+        final int taskCount = java.lang.Math.min(maximumConcurrency, this.inputs.getCount());
+        if (taskCount == 0)
+        {
+            result.schedule();
+        }
+        else
+        {
+            this.runningTaskCount.set(taskCount);
+            this.workerTasks = new AsyncTask<?>[taskCount];
+            for (int i = 0; i < taskCount; ++i)
+            {
+                this.workerTasks[i] = asyncScheduler.create(() -> this.runTask(result));
+            }
+            result.getCancellationToken().onCancelled(() -> this.stop(result));
+            for (final AsyncTask<?> workerTask : this.workerTasks)
+            {
+                asyncScheduler.schedule(workerTask);
+            }
+        }
+
+        return result;
+    }
+
+    private void runTask(AsyncTask<?> completionTask)
+    {
+        final int inputCount = this.inputs.getCount();
+        while (!this.stopped)
+        {
+            final int index = this.nextIndex.getAndIncrement();
+            if (index >= inputCount)
+            {
+                break;
+            }
+
+            try
+            {
+                this.outputs[index] = this.function.run(this.inputs.get(index));
+                if (this.stopOnSuccess && this.firstSuccessIndex.compareAndSet(-1, index))
+                {
+                    this.stop(completionTask);
+                }
+            }
+            catch (Throwable error)
+            {
+                if (this.stopped && Exceptions.getInstanceOf(error, CancelledException.class) != null)
+                {
+                    // This value was cancelled because the operation was stopped by another task.
+                    break;
+                }
+
+                this.errors[index] = error;
+                if (this.failFast)
+                {
+                    this.stop(completionTask);
+                }
+            }
+        }
+
+        if (this.runningTaskCount.decrementAndGet() == 0)
+        {
+            this.scheduleCompletion(completionTask);
+        }
+    }
+
+    /**
+     * Stop starting new values, cancel the tasks that are still running, and complete the operation
+     * without waiting for them.
+     * @param completionTask The task that produces the operation's result.
+     */
+    private void stop(AsyncTask<?> completionTask)
+    {
+        this.stopped = true;
+        for (final AsyncTask<?> workerTask : this.workerTasks)
+        {
+            workerTask.cancel();
+        }
+        this.scheduleCompletion(completionTask);
+    }
+
+    private void scheduleCompletion(AsyncTask<?> completionTask)
+    {
+        if (this.completionScheduled.compareAndSet(false, true))
+        {
+            completionTask.schedule();
+        }
+    }
+
+    private void throwErrors()
+    {
+        final RuntimeException error = ErrorIterable.create(Iterable.create(this.errors));
+        if (error != null)
+        {
+            throw error;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Iterable<U> getOutputs()
+    {
+        this.throwErrors();
+
+        final List<U> result = List.create();
+        for (final Object output : this.outputs)
+        {
+            result.add((U)output);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private U getFirstSuccessOutput()
+    {
+        final int firstSuccessIndex = this.firstSuccessIndex.get();
+        if (firstSuccessIndex == -1)
+        {
+            this.throwErrors();
+        }
+        return (U)this.outputs[firstSuccessIndex];
+    }
+}
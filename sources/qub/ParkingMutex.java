@@ -0,0 +1,415 @@
+package qub;
+
+/**
+ * A reentrant mutex/lock that can be used to synchronize access to shared resources between
+ * multiple threads. A thread that finds this lock acquired by another thread spins for a short
+ * while (since most critical sections are short), and then parks until the lock is released. The
+ * lock can optionally be fair, in which case waiting threads acquire the lock in the order that
+ * they started waiting. This lock also keeps statistics about how often it is contended, how long
+ * threads wait to acquire it, and how long it is held.
+ */
+public class ParkingMutex implements Mutex
+{
+    /**
+     * The number of times that a thread will attempt to acquire a contended lock before it parks.
+     */
+    private static final int spinCount = 100;
+    /**
+     * The maximum number of nanoseconds that a thread will park for while it is waiting with a
+     * Deadline that isn't measured in real time. Real-time Deadlines park until they expire.
+     */
+    private static final long timeoutCheckIntervalNanoseconds = 1000000;
+    private static final long noThreadId = -1;
+
+    private final Clock clock;
+    private final boolean fair;
+    private final java.util.concurrent.atomic.AtomicLong acquiredByThreadId;
+    private final java.util.concurrent.ConcurrentLinkedQueue<java.lang.Thread> waitingThreads;
+    /**
+     * The number of times that the thread that has acquired this lock has acquired it. Only
+     * accessed by the thread that has acquired this lock.
+     */
+    private int acquiredCount;
+    /**
+     * The System.nanoTime() value when this lock was last acquired. Only accessed by the thread
+     * that has acquired this lock.
+     */
+    private long acquiredNanoTime;
+
+    private volatile long acquisitionCount;
+    private volatile long contendedAcquisitionCount;
+    private volatile long totalWaitNanoseconds;
+    private volatile long maximumHoldNanoseconds;
+
+    private ParkingMutex(Clock clock, boolean fair)
+    {
+        this.clock = clock;
+        this.fair = fair;
+        this.acquiredByThreadId = new java.util.concurrent.atomic.AtomicLong(ParkingMutex.noThreadId);
+        this.waitingThreads = new java.util.concurrent.ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Create a new unfair ParkingMutex that cannot time out while acquiring.
+     * @return The new ParkingMutex.
+     */
+    public static ParkingMutex create()
+    {
+        return new ParkingMutex(null, false);
+    }
+
+    /**
+     * Create a new ParkingMutex that cannot time out while acquiring.
+     * @param fair Whether or not waiting threads will acquire the returned lock in the order that
+     *             they started waiting.
+     * @return The new ParkingMutex.
+     */
+    public static ParkingMutex create(boolean fair)
+    {
+        return new ParkingMutex(null, fair);
+    }
+
+    /**
+     * Create a new unfair ParkingMutex that will use the provided clock to determine whether or not
+     * an acquire attempt has timed out.
+     * @param clock The clock to use when determining whether or not an acquire attempt has timed
+     *              out.
+     * @return The new ParkingMutex.
+     */
+    public static ParkingMutex create(Clock clock)
+    {
+        return ParkingMutex.create(clock, false);
+    }
+
+    /**
+     * Create a new ParkingMutex that will use the provided clock to determine whether or not an
+     * acquire attempt has timed out.
+     * @param clock The clock to use when determining whether or not an acquire attempt has timed
+     *              out.
+     * @param fair Whether or not waiting threads will acquire the returned lock in the order that
+     *             they started waiting.
+     * @return The new ParkingMutex.
+     */
+    public static ParkingMutex create(Clock clock, boolean fair)
+    {
+        PreCondition.assertNotNull(clock, "clock");
+
+        return new ParkingMutex(clock, fair);
+    }
+
+    /**
+     * Get whether or not waiting threads acquire this lock in the order that they started waiting.
+     * @return Whether or not this lock is fair.
+     */
+    public boolean isFair()
+    {
+        return this.fair;
+    }
+
+    /**
+     * Get the number of times that this lock has been acquired. Reentrant acquisitions by the
+     * thread that already holds the lock are not counted.
+     * @return The number of times that this lock has been acquired.
+     */
+    public long getAcquisitionCount()
+    {
+        return this.acquisitionCount;
+    }
+
+    /**
+     * Get the number of times that a thread had to wait for another thread to release this lock
+     * before it could acquire it.
+     * @return The number of contended acquisitions of this lock.
+     */
+    public long getContendedAcquisitionCount()
+    {
+        return this.contendedAcquisitionCount;
+    }
+
+    /**
+     * Get the total amount of time that threads have spent waiting to acquire this lock.
+     * @return The total amount of time that threads have spent waiting to acquire this lock.
+     */
+    public Duration getTotalWaitDuration()
+    {
+        return Duration.nanoseconds(this.totalWaitNanoseconds);
+    }
+
+    /**
+     * Get the longest amount of time that this lock has been held before it was released.
+     * @return The longest amount of time that this lock has been held.
+     */
+    public Duration getMaximumHoldDuration()
+    {
+        return Duration.nanoseconds(this.maximumHoldNanoseconds);
+    }
+
+    @Override
+    public boolean isAcquired()
+    {
+        return this.acquiredByThreadId.get() != ParkingMutex.noThreadId;
+    }
+
+    @Override
+    public boolean isAcquiredByCurrentThread()
+    {
+        return this.acquiredByThreadId.get() == java.lang.Thread.currentThread().getId();
+    }
+
+    @Override
+    public Result<Void> acquire()
+    {
+        Result<Void> result;
+        try
+        {
+            this.acquire(null, true);
+            result = Result.success();
+        }
+        catch (CancelledException error)
+        {
+            result = Result.error(error);
+        }
+        return result;
+    }
+
+    @Override
+    public Result<Void> acquire(Duration durationTimeout)
+    {
+        PreCondition.assertNotNull(durationTimeout, "durationTimeout");
+        PreCondition.assertGreaterThan(durationTimeout, Duration.zero, "durationTimeout");
+        PreCondition.assertNotNull(this.clock, "this.clock");
+
+        return this.acquire(this.clock.getCurrentDateTime().plus(durationTimeout));
+    }
+
+    @Override
+    public Result<Void> acquire(DateTime dateTimeTimeout)
+    {
+        PreCondition.assertNotNull(dateTimeTimeout, "dateTimeTimeout");
+        PreCondition.assertNotNull(this.clock, "this.clock");
+
+        return Result.create(() ->
+        {
+            try (final Deadline deadline = this.clock.createDeadline(dateTimeTimeout))
+            {
+                if (deadline.isExpired() || !this.acquire(deadline, true))
+                {
+                    throw new TimeoutException();
+                }
+            }
+        });
+    }
+
+    @Override
+    public Result<Boolean> tryAcquire()
+    {
+        final long threadId = java.lang.Thread.currentThread().getId();
+        boolean acquired = true;
+        if (this.acquiredByThreadId.get() == threadId)
+        {
+            ++this.acquiredCount;
+        }
+        else if (this.tryAcquire(threadId, true))
+        {
+            this.onAcquired(0);
+        }
+        else
+        {
+            acquired = false;
+        }
+        return Result.success(acquired);
+    }
+
+    @Override
+    public Result<Void> release()
+    {
+        this.releaseCurrentThread();
+        return Result.success();
+    }
+
+    @Override
+    public ParkingMutexCondition createCondition()
+    {
+        return ParkingMutexCondition.create(this, this.clock);
+    }
+
+    @Override
+    public ParkingMutexCondition createCondition(Function0<Boolean> condition)
+    {
+        PreCondition.assertNotNull(condition, "condition");
+
+        return ParkingMutexCondition.create(this, this.clock, condition);
+    }
+
+    /**
+     * Acquire this lock for the current thread.
+     * @param deadline The deadline that the current thread will stop waiting at, or null if the
+     *                 current thread should wait forever.
+     * @param cancellable Whether or not the current thread will stop waiting and throw a
+     *                    CancelledException if the AsyncTask that it is running is cancelled.
+     * @return Whether or not this lock was acquired.
+     */
+    boolean acquire(Deadline deadline, boolean cancellable)
+    {
+        final long threadId = java.lang.Thread.currentThread().getId();
+        boolean result = true;
+        if (this.acquiredByThreadId.get() == threadId)
+        {
+            ++this.acquiredCount;
+        }
+        else if (this.tryAcquire(threadId, false))
+        {
+            this.onAcquired(0);
+        }
+        else
+        {
+            final long startNanoTime = System.nanoTime();
+            result = this.spinAcquire(threadId) || this.parkAcquire(threadId, deadline, cancellable ? CurrentThread.getCancellationToken() : null);
+            if (result)
+            {
+                this.onAcquired(System.nanoTime() - startNanoTime);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Release this lock completely, no matter how many times the current thread has acquired it.
+     * @return The number of times that the current thread had acquired this lock, or 0 if the
+     * current thread hadn't acquired this lock.
+     */
+    int releaseCompletely()
+    {
+        int result = 0;
+        if (this.isAcquiredByCurrentThread())
+        {
+            result = this.acquiredCount;
+            this.acquiredCount = 1;
+            this.releaseCurrentThread();
+        }
+        return result;
+    }
+
+    /**
+     * Reacquire this lock after it was completely released.
+     * @param acquiredCount The number of times that the current thread had acquired this lock
+     *                      before it was completely released.
+     */
+    void reacquire(int acquiredCount)
+    {
+        if (acquiredCount > 0)
+        {
+            this.acquire(null, false);
+            this.acquiredCount = acquiredCount;
+        }
+    }
+
+    private boolean tryAcquire(long threadId, boolean barge)
+    {
+        return (barge || !this.fair || this.waitingThreads.isEmpty()) &&
+            this.acquiredByThreadId.compareAndSet(ParkingMutex.noThreadId, threadId);
+    }
+
+    private boolean spinAcquire(long threadId)
+    {
+        boolean result = false;
+        for (int i = 0; !result && i < ParkingMutex.spinCount; ++i)
+        {
+            java.lang.Thread.onSpinWait();
+            result = (this.acquiredByThreadId.get() == ParkingMutex.noThreadId) && this.tryAcquire(threadId, false);
+        }
+        return result;
+    }
+
+    private boolean parkAcquire(long threadId, Deadline deadline, CancellationToken cancellationToken)
+    {
+        final java.lang.Thread currentThread = java.lang.Thread.currentThread();
+        this.waitingThreads.add(currentThread);
+        final Disposable cancellationRegistration = cancellationToken == null ? null : cancellationToken.unparkCurrentThreadOnCancelled();
+
+        boolean result = false;
+        try
+        {
+            while (true)
+            {
+                // Only the first waiting thread may acquire a fair lock. The waiting thread must
+                // be added to the queue before this check so that a releasing thread either sees
+                // it in the queue or this thread sees that the lock was released.
+                if ((!this.fair || this.waitingThreads.peek() == currentThread) &&
+                    this.acquiredByThreadId.compareAndSet(ParkingMutex.noThreadId, threadId))
+                {
+                    result = true;
+                    break;
+                }
+                else if (cancellationToken != null && cancellationToken.isCancelled())
+                {
+                    throw new CancelledException();
+                }
+                else if (deadline == null)
+                {
+                    java.util.concurrent.locks.LockSupport.park(this);
+                }
+                else if (deadline.isExpired())
+                {
+                    break;
+                }
+                else
+                {
+                    final Long remainingNanoseconds = deadline.getRemainingNanoseconds();
+                    java.util.concurrent.locks.LockSupport.parkNanos(this, remainingNanoseconds != null ? remainingNanoseconds : ParkingMutex.timeoutCheckIntervalNanoseconds);
+                }
+            }
+        }
+        finally
+        {
+            this.waitingThreads.remove(currentThread);
+            if (cancellationRegistration != null)
+            {
+                cancellationRegistration.dispose().await();
+            }
+            if (!result)
+            {
+                // This thread may have been woken up by a release that was meant to hand the lock
+                // to it, so pass the wake-up on to the next waiting thread.
+                this.unparkFirstWaitingThread();
+            }
+        }
+        return result;
+    }
+
+    private void onAcquired(long waitNanoseconds)
+    {
+        this.acquiredCount = 1;
+        this.acquiredNanoTime = System.nanoTime();
+        ++this.acquisitionCount;
+        if (waitNanoseconds > 0)
+        {
+            ++this.contendedAcquisitionCount;
+            this.totalWaitNanoseconds += waitNanoseconds;
+        }
+    }
+
+    private void releaseCurrentThread()
+    {
+        if (this.isAcquiredByCurrentThread() && --this.acquiredCount == 0)
+        {
+            final long holdNanoseconds = System.nanoTime() - this.acquiredNanoTime;
+            if (holdNanoseconds > this.maximumHoldNanoseconds)
+            {
+                this.maximumHoldNanoseconds = holdNanoseconds;
+            }
+
+            this.acquiredByThreadId.set(ParkingMutex.noThreadId);
+            this.unparkFirstWaitingThread();
+        }
+    }
+
+    private void unparkFirstWaitingThread()
+    {
+        final java.lang.Thread waitingThread = this.waitingThreads.peek();
+        if (waitingThread != null)
+        {
+            java.util.concurrent.locks.LockSupport.unpark(waitingThread);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package qub;
+
+/**
+ * A MutexCondition for a ParkingMutex. Threads that watch this condition park until the condition
+ * is signaled instead of spinning.
+ */
+public class ParkingMutexCondition implements MutexCondition
+{
+    /**
+     * The maximum number of nanoseconds that a thread will park for while it is watching with a
+     * Deadline that isn't measured in real time. Real-time Deadlines park until they expire.
+     */
+    private static final long timeoutCheckIntervalNanoseconds = 1000000;
+
+    private final ParkingMutex mutex;
+    private final Clock clock;
+    private final Function0<Boolean> condition;
+    private final java.util.concurrent.ConcurrentLinkedQueue<java.lang.Thread> watchingThreads;
+    /**
+     * The number of times that this condition has been signaled.
+     */
+    private volatile long signalCount;
+
+    private ParkingMutexCondition(ParkingMutex mutex, Clock clock, Function0<Boolean> condition)
+    {
+        PreCondition.assertNotNull(mutex, "mutex");
+
+        this.mutex = mutex;
+        this.clock = clock;
+        this.condition = condition;
+        this.watchingThreads = new java.util.concurrent.ConcurrentLinkedQueue<>();
+    }
+
+    public static ParkingMutexCondition create(ParkingMutex mutex, Clock clock)
+    {
+        PreCondition.assertNotNull(mutex, "mutex");
+
+        return new ParkingMutexCondition(mutex, clock, null);
+    }
+
+    public static ParkingMutexCondition create(ParkingMutex mutex, Clock clock, Function0<Boolean> condition)
+    {
+        PreCondition.assertNotNull(mutex, "mutex");
+        PreCondition.assertNotNull(condition, "condition");
+
+        return new ParkingMutexCondition(mutex, clock, condition);
+    }
+
+    @Override
+    public Result<Void> watch()
+    {
+        PreCondition.assertTrue(this.mutex.isAcquiredByCurrentThread(), "this.mutex.isAcquiredByCurrentThread()");
+
+        return Result.create(() ->
+        {
+            this.watch((Deadline)null);
+        });
+    }
+
+    @Override
+    public Result<Void> watch(Duration timeout)
+    {
+        PreCondition.assertNotNull(timeout, "timeout");
+        PreCondition.assertGreaterThan(timeout, Duration.zero, "timeout");
+        PreCondition.assertTrue(this.mutex.isAcquiredByCurrentThread(), "this.mutex.isAcquiredByCurrentThread()");
+        PreCondition.assertNotNull(this.clock, "this.clock");
+
+        final DateTime dateTimeTimeout = this.clock.getCurrentDateTime().plus(timeout);
+        return this.watch(dateTimeTimeout);
+    }
+
+    @Override
+    public Result<Void> watch(DateTime timeout)
+    {
+        PreCondition.assertNotNull(timeout, "timeout");
+        PreCondition.assertTrue(this.mutex.isAcquiredByCurrentThread(), "this.mutex.isAcquiredByCurrentThread()");
+        PreCondition.assertNotNull(this.clock, "this.clock");
+
+        return Result.create(() ->
+        {
+            try (final Deadline deadline = this.clock.createDeadline(timeout))
+            {
+                this.watch(deadline);
+            }
+        });
+    }
+
+    @Override
+    public void signalAll()
+    {
+        PreCondition.assertTrue(this.mutex.isAcquiredByCurrentThread(), "this.mutex.isAcquiredByCurrentThread()");
+
+        ++this.signalCount;
+        for (final java.lang.Thread watchingThread : this.watchingThreads)
+        {
+            java.util.concurrent.locks.LockSupport.unpark(watchingThread);
+        }
+    }
+
+    /**
+     * Release this condition's mutex and park until this condition is satisfied.
+     * @param deadline The deadline that the current thread will stop watching at, or null if the
+     *                 current thread should watch forever.
+     */
+    private void watch(Deadline deadline)
+    {
+        final java.lang.Thread currentThread = java.lang.Thread.currentThread();
+        final CancellationToken cancellationToken = CurrentThread.getCancellationToken();
+
+        boolean done = (this.condition != null && this.condition.run());
+        while (!done)
+        {
+            final long signalCount = this.signalCount;
+            this.watchingThreads.add(currentThread);
+            final Disposable cancellationRegistration = cancellationToken == null ? null : cancellationToken.unparkCurrentThreadOnCancelled();
+            final int acquiredCount = this.mutex.releaseCompletely();
+            try
+            {
+                while (this.signalCount == signalCount)
+                {
+                    if (cancellationToken != null && cancellationToken.isCancelled())
+                    {
+                        throw new CancelledException();
+                    }
+                    else if (deadline == null)
+                    {
+                        java.util.concurrent.locks.LockSupport.park(this);
+                    }
+                    else if (deadline.isExpired())
+                    {
+                        throw new TimeoutException();
+                    }
+                    else
+                    {
+                        final Long remainingNanoseconds = deadline.getRemainingNanoseconds();
+                        java.util.concurrent.locks.LockSupport.parkNanos(this, remainingNanoseconds != null ? remainingNanoseconds : ParkingMutexCondition.timeoutCheckIntervalNanoseconds);
+                    }
+                }
+            }
+            finally
+            {
+                this.watchingThreads.remove(currentThread);
+                if (cancellationRegistration != null)
+                {
+                    cancellationRegistration.dispose().await();
+                }
+                this.mutex.reacquire(acquiredCount);
+            }
+
+            done = (this.condition == null || this.condition.run());
+        }
+    }
+}
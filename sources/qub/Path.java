@@ -551,6 +551,37 @@ public class Path
         return result;
     }
 
+    /**
+     * Get the hash code of this Path. Paths that are equal to each other (and Strings that are
+     * equal to this Path's resolved form) will have the same hash code.
+     * @return The hash code of this Path.
+     */
+    @Override
+    public int hashCode()
+    {
+        return this.hashCode(true);
+    }
+
+    /**
+     * Get the hash code of this Path that matches equals(Path,boolean).
+     * @param checkTrailingSlash Whether a trailing slash is part of the hash code.
+     * @return The hash code of this Path.
+     */
+    public int hashCode(boolean checkTrailingSlash)
+    {
+        // A Path that can't be resolved can't be equal to anything, so it is hashed by its
+        // normalized form instead of throwing.
+        final Path resolvedPath = this.resolve()
+            .catchError(IllegalArgumentException.class, this::normalize)
+            .await();
+        String resolvedPathString = resolvedPath.toString();
+        if (!checkTrailingSlash && resolvedPath.endsWith('/'))
+        {
+            resolvedPathString = resolvedPathString.substring(0, resolvedPathString.length() - 1);
+        }
+        return resolvedPathString.hashCode();
+    }
+
     /**
      * Get the String representation of this Path.
      * @return The String representation of this Path.
@@ -90,6 +90,12 @@ public class PathPattern
         return rhs instanceof PathPattern && equals((PathPattern)rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return this.originalString.hashCode();
+    }
+
     public boolean equals(PathPattern rhs)
     {
         return rhs != null && originalString.equals(rhs.originalString);
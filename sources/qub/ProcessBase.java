@@ -26,8 +26,21 @@ public abstract class ProcessBase implements Process
     private final Disposable disposable;
 
     protected ProcessBase(AsyncScheduler mainAsyncRunner)
+    {
+        this(mainAsyncRunner, ParallelAsyncRunner.create());
+    }
+
+    /**
+     * Create a new ProcessBase object.
+     * @param mainAsyncRunner The AsyncScheduler that runs tasks on the main thread.
+     * @param parallelAsyncRunner The AsyncScheduler that runs tasks on background threads. If this
+     *                            AsyncScheduler is Disposable, then it will be disposed when this
+     *                            Process is disposed.
+     */
+    protected ProcessBase(AsyncScheduler mainAsyncRunner, AsyncScheduler parallelAsyncRunner)
     {
         PreCondition.assertNotNull(mainAsyncRunner, "mainAsyncRunner");
+        PreCondition.assertNotNull(parallelAsyncRunner, "parallelAsyncRunner");
 
         this.outputWriteStream = Value.create();
         this.shouldDisposeOutputWriteStream = true;
@@ -51,7 +64,7 @@ public abstract class ProcessBase implements Process
         this.mainAsyncRunner = mainAsyncRunner;
         CurrentThread.setAsyncRunner(mainAsyncRunner);
 
-        this.parallelAsyncRunner = ParallelAsyncRunner.create();
+        this.parallelAsyncRunner = parallelAsyncRunner;
 
         this.disposable = Disposable.create(() ->
         {
@@ -69,6 +82,11 @@ public abstract class ProcessBase implements Process
             {
                 this.errorWriteStream.get().dispose().await();
             }
+
+            if (this.parallelAsyncRunner instanceof Disposable)
+            {
+                ((Disposable)this.parallelAsyncRunner).dispose().await();
+            }
         });
     }
 
@@ -13,7 +13,7 @@ public interface Queue<T>
      */
     static <T> Queue<T> create()
     {
-        return ListQueue.create();
+        return ArrayDeque.create();
     }
 
     /**
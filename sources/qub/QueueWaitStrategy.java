@@ -0,0 +1,25 @@
+package qub;
+
+/**
+ * The different ways that a thread can wait for a BlockingQueue to have room for a new value or to
+ * have a value to remove.
+ */
+public enum QueueWaitStrategy
+{
+    /**
+     * Busy-wait on the current thread. This has the lowest latency, but it keeps a processor busy
+     * for the whole time that the thread is waiting.
+     */
+    Spin,
+
+    /**
+     * Yield the current thread's processor to other threads between each check.
+     */
+    Yield,
+
+    /**
+     * Park the current thread until another thread changes the queue. This uses no processor time
+     * while the thread is waiting, but waking the thread up takes longer.
+     */
+    Park
+}
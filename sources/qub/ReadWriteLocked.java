@@ -0,0 +1,153 @@
+package qub;
+
+/**
+ * A class that wraps an object that is read much more often than it is written. Any number of
+ * threads can read the object at the same time, but a thread that writes the object has exclusive
+ * access to it. Reads can also be optimistic, in which case they don't acquire a lock at all unless
+ * a write happened while they were reading. The lock is not reentrant, so a read or write must not
+ * start another write on the same ReadWriteLocked object.
+ * @param <T> The type of object that this class wraps.
+ */
+public class ReadWriteLocked<T>
+{
+    private final T value;
+    private final java.util.concurrent.locks.StampedLock lock;
+
+    private ReadWriteLocked(T value)
+    {
+        this.value = value;
+        this.lock = new java.util.concurrent.locks.StampedLock();
+    }
+
+    /**
+     * Create a new ReadWriteLocked wrapper around the provided value.
+     * @param value The value to lock.
+     */
+    public static <T> ReadWriteLocked<T> create(T value)
+    {
+        return new ReadWriteLocked<>(value);
+    }
+
+    /**
+     * Get whether or not a thread is currently writing this ReadWriteLocked object's value.
+     * @return Whether or not a thread is currently writing this ReadWriteLocked object's value.
+     */
+    public boolean isWriting()
+    {
+        return this.lock.isWriteLocked();
+    }
+
+    /**
+     * Get the number of threads that are currently reading this ReadWriteLocked object's value
+     * while holding a read lock. Optimistic reads are not counted.
+     * @return The number of threads that are currently reading this ReadWriteLocked object's value.
+     */
+    public int getReaderCount()
+    {
+        return this.lock.getReadLockCount();
+    }
+
+    /**
+     * Perform the provided function with this ReadWriteLocked object's value while holding a read
+     * lock. Other threads may read the value at the same time, but no thread can write it.
+     * @param function The function to perform with this ReadWriteLocked object's value.
+     * @return The result of the provided function.
+     */
+    public <U> U read(Function1<T,U> function)
+    {
+        PreCondition.assertNotNull(function, "function");
+
+        final long stamp = this.lock.readLock();
+        try
+        {
+            return function.run(this.value);
+        }
+        finally
+        {
+            this.lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Perform the provided function with this ReadWriteLocked object's value without acquiring a
+     * lock. If a thread writes the value while the function is running, then the function's result
+     * is discarded and the function is run again while holding a read lock. Because the function
+     * may see the value in the middle of a write, it must not have any side effects and it must be
+     * able to tolerate reading inconsistent state.
+     * @param function The function to perform with this ReadWriteLocked object's value.
+     * @return The result of the provided function.
+     */
+    public <U> U optimisticRead(Function1<T,U> function)
+    {
+        PreCondition.assertNotNull(function, "function");
+
+        U result = null;
+        boolean valid = false;
+        final long stamp = this.lock.tryOptimisticRead();
+        if (stamp != 0)
+        {
+            try
+            {
+                result = function.run(this.value);
+                valid = this.lock.validate(stamp);
+            }
+            catch (RuntimeException e)
+            {
+                // The exception may have been caused by reading inconsistent state, so only
+                // report it if no write happened while the function was running.
+                if (this.lock.validate(stamp))
+                {
+                    throw e;
+                }
+            }
+        }
+
+        if (!valid)
+        {
+            result = this.read(function);
+        }
+
+        return result;
+    }
+
+    /**
+     * Perform the provided action with this ReadWriteLocked object's value while holding the write
+     * lock. No other thread can read or write the value while the action runs.
+     * @param action The action to perform with this ReadWriteLocked object's value.
+     */
+    public void write(Action1<T> action)
+    {
+        PreCondition.assertNotNull(action, "action");
+
+        final long stamp = this.lock.writeLock();
+        try
+        {
+            action.run(this.value);
+        }
+        finally
+        {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Perform the provided function with this ReadWriteLocked object's value while holding the
+     * write lock. No other thread can read or write the value while the function runs.
+     * @param function The function to perform with this ReadWriteLocked object's value.
+     * @return The result of the provided function.
+     */
+    public <U> U writeAndGet(Function1<T,U> function)
+    {
+        PreCondition.assertNotNull(function, "function");
+
+        final long stamp = this.lock.writeLock();
+        try
+        {
+            return function.run(this.value);
+        }
+        finally
+        {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+}
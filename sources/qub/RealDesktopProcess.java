@@ -44,14 +44,37 @@ public class RealDesktopProcess extends DesktopProcessBase
         PreCondition.assertNotNull(commandLineArguments, "commandLineArguments");
         PreCondition.assertNotNull(mainAsyncRunner, "mainAsyncRunner");
 
-        return new RealDesktopProcess(commandLineArguments, mainAsyncRunner);
+        return RealDesktopProcess.create(commandLineArguments, mainAsyncRunner, ParallelAsyncRunner.create());
     }
-    
+
+    /**
+     * Create a new RealDesktopProcess object with the provided command line arguments.
+     * @param commandLineArguments The command line arguments provided to the new RealDesktopProcess.
+     * @param mainAsyncRunner The AsyncScheduler that will run tasks on the main thread.
+     * @param parallelAsyncRunner The AsyncScheduler that will run tasks on background threads,
+     *                            such as a ParallelAsyncRunner or a VirtualThreadAsyncRunner. The
+     *                            new RealDesktopProcess will dispose this AsyncScheduler when it is
+     *                            disposed.
+     */
+    public static RealDesktopProcess create(CommandLineArguments commandLineArguments, AsyncScheduler mainAsyncRunner, AsyncScheduler parallelAsyncRunner)
+    {
+        PreCondition.assertNotNull(commandLineArguments, "commandLineArguments");
+        PreCondition.assertNotNull(mainAsyncRunner, "mainAsyncRunner");
+        PreCondition.assertNotNull(parallelAsyncRunner, "parallelAsyncRunner");
+
+        return new RealDesktopProcess(commandLineArguments, mainAsyncRunner, parallelAsyncRunner);
+    }
+
     protected RealDesktopProcess(CommandLineArguments commandLineArguments, AsyncScheduler mainAsyncRunner)
     {
         super(commandLineArguments, mainAsyncRunner);
     }
 
+    protected RealDesktopProcess(CommandLineArguments commandLineArguments, AsyncScheduler mainAsyncRunner, AsyncScheduler parallelAsyncRunner)
+    {
+        super(commandLineArguments, mainAsyncRunner, parallelAsyncRunner);
+    }
+
     @Override
     protected long getProcessIdValue()
     {
@@ -26,6 +26,18 @@ public interface Result<T>
      */
     <TError extends Throwable> T await(Class<TError> expectedErrorType) throws TError;
 
+    /**
+     * Request that the operation that produces this Result be cancelled. Cancellation is
+     * cooperative, so the operation may still complete normally if it doesn't notice the request
+     * in time. If it does notice, then this Result will contain a CancelledException.
+     * @return Whether or not this call cancelled the operation. Results that can't be cancelled or
+     * that have already been cancelled or completed will return false.
+     */
+    default boolean cancel()
+    {
+        return false;
+    }
+
     /**
      * If this Result doesn't have an error, then run the provided action and return a new Result
      * object with the action's result.
@@ -657,6 +669,96 @@ public interface Result<T>
         return result;
     }
 
+    /**
+     * Run each of the provided functions as its own task on the provided AsyncScheduler. The
+     * returned Result completes when all of the functions have finished.
+     * @param asyncScheduler The AsyncScheduler to run the functions on.
+     * @param functions The functions to run.
+     * @return A Result that contains the values returned by the functions in the same order as the
+     * functions, or the errors thrown by the functions.
+     */
+    static <T> Result<Iterable<T>> whenAll(AsyncScheduler asyncScheduler, Iterable<Function0<T>> functions)
+    {
+        return Result.whenAll(asyncScheduler, functions, false);
+    }
+
+    /**
+     * Run each of the provided functions as its own task on the provided AsyncScheduler. The
+     * returned Result completes when all of the functions have finished.
+     * @param asyncScheduler The AsyncScheduler to run the functions on.
+     * @param functions The functions to run.
+     * @param failFast Whether or not functions that haven't started yet will be skipped after one
+     *                 of the functions throws an error.
+     * @return A Result that contains the values returned by the functions in the same order as the
+     * functions, or the errors thrown by the functions.
+     */
+    static <T> Result<Iterable<T>> whenAll(AsyncScheduler asyncScheduler, Iterable<Function0<T>> functions, boolean failFast)
+    {
+        PreCondition.assertNotNull(asyncScheduler, "asyncScheduler");
+        PreCondition.assertNotNull(functions, "functions");
+        PreCondition.assertFalse(functions.contains((Function0<T>)null), "functions.contains(null)");
+
+        return ParallelResultOperation.map(asyncScheduler, functions, Function0::run, java.lang.Math.max(1, functions.getCount()), failFast);
+    }
+
+    /**
+     * Run each of the provided functions as its own task on the provided AsyncScheduler. The
+     * returned Result completes when one of the functions returns successfully or when all of the
+     * functions have thrown an error. Functions that haven't started when one of the functions
+     * returns successfully will be skipped.
+     * @param asyncScheduler The AsyncScheduler to run the functions on.
+     * @param functions The functions to run.
+     * @return A Result that contains the value returned by the first function to return
+     * successfully, or the errors thrown by all of the functions.
+     */
+    static <T> Result<T> whenAny(AsyncScheduler asyncScheduler, Iterable<Function0<T>> functions)
+    {
+        PreCondition.assertNotNull(asyncScheduler, "asyncScheduler");
+        PreCondition.assertNotNullAndNotEmpty(functions, "functions");
+        PreCondition.assertFalse(functions.contains((Function0<T>)null), "functions.contains(null)");
+
+        return ParallelResultOperation.any(asyncScheduler, functions);
+    }
+
+    /**
+     * Run the provided function on each of the provided values using at most maximumConcurrency
+     * tasks on the provided AsyncScheduler at a time.
+     * @param asyncScheduler The AsyncScheduler to run the function on.
+     * @param values The values to run the function on.
+     * @param function The function to run on each value.
+     * @param maximumConcurrency The maximum number of values that the function will be run on at
+     *                           the same time.
+     * @return A Result that contains the values returned by the function in the same order as the
+     * provided values, or the errors thrown by the function.
+     */
+    static <T,U> Result<Iterable<U>> parallelMap(AsyncScheduler asyncScheduler, Iterable<T> values, Function1<T,U> function, int maximumConcurrency)
+    {
+        return Result.parallelMap(asyncScheduler, values, function, maximumConcurrency, false);
+    }
+
+    /**
+     * Run the provided function on each of the provided values using at most maximumConcurrency
+     * tasks on the provided AsyncScheduler at a time.
+     * @param asyncScheduler The AsyncScheduler to run the function on.
+     * @param values The values to run the function on.
+     * @param function The function to run on each value.
+     * @param maximumConcurrency The maximum number of values that the function will be run on at
+     *                           the same time.
+     * @param failFast Whether or not values that haven't been started yet will be skipped after the
+     *                 function throws an error.
+     * @return A Result that contains the values returned by the function in the same order as the
+     * provided values, or the errors thrown by the function.
+     */
+    static <T,U> Result<Iterable<U>> parallelMap(AsyncScheduler asyncScheduler, Iterable<T> values, Function1<T,U> function, int maximumConcurrency, boolean failFast)
+    {
+        PreCondition.assertNotNull(asyncScheduler, "asyncScheduler");
+        PreCondition.assertNotNull(values, "values");
+        PreCondition.assertNotNull(function, "function");
+        PreCondition.assertGreaterThanOrEqualTo(maximumConcurrency, 1, "maximumConcurrency");
+
+        return ParallelResultOperation.map(asyncScheduler, values, function, maximumConcurrency, failFast);
+    }
+
     static <T> String toString(Result<T> result)
     {
         PreCondition.assertNotNull(result, "result");
@@ -0,0 +1,424 @@
+package qub;
+
+/**
+ * A bounded BlockingQueue that can be used by many producer and consumer threads at the same time.
+ * Values are stored in a pre-allocated ring buffer whose capacity is a power of two. Each slot in
+ * the ring buffer has a sequence number that tells producers when the slot is free and consumers
+ * when the slot has been filled, so adding and removing values doesn't take a lock or allocate any
+ * objects. When a thread has to wait for room in the queue or for a value to be added, it waits
+ * using the queue's QueueWaitStrategy.
+ * @param <T> The type of value stored in the Queue.
+ */
+public class RingBufferBlockingQueue<T> implements BlockingQueue<T>
+{
+    private final int capacity;
+    private final int mask;
+    private final java.util.concurrent.atomic.AtomicReferenceArray<T> values;
+    /**
+     * The sequence number of each slot. A slot is free for the producer of position p when its
+     * sequence number is p, and it has been filled for the consumer of position p when its
+     * sequence number is p + 1.
+     */
+    private final java.util.concurrent.atomic.AtomicLongArray sequences;
+    /**
+     * The next position that will be claimed by a producer.
+     */
+    private final java.util.concurrent.atomic.AtomicLong enqueuePosition;
+    /**
+     * The next position that will be claimed by a consumer.
+     */
+    private final java.util.concurrent.atomic.AtomicLong dequeuePosition;
+    private final QueueWaitStrategy waitStrategy;
+    /**
+     * The threads that are parked until there is room in the queue.
+     */
+    private final java.util.concurrent.ConcurrentLinkedQueue<java.lang.Thread> waitingProducers;
+    /**
+     * The threads that are parked until there is a value in the queue.
+     */
+    private final java.util.concurrent.ConcurrentLinkedQueue<java.lang.Thread> waitingConsumers;
+
+    private RingBufferBlockingQueue(int capacity, QueueWaitStrategy waitStrategy)
+    {
+        PreCondition.assertBetween(1, capacity, 1 << 30, "capacity");
+        PreCondition.assertNotNull(waitStrategy, "waitStrategy");
+
+        int roundedCapacity = 1;
+        while (roundedCapacity < capacity)
+        {
+            roundedCapacity <<= 1;
+        }
+
+        this.capacity = roundedCapacity;
+        this.mask = roundedCapacity - 1;
+        this.values = new java.util.concurrent.atomic.AtomicReferenceArray<>(roundedCapacity);
+        this.sequences = new java.util.concurrent.atomic.AtomicLongArray(roundedCapacity);
+        for (int i = 0; i < roundedCapacity; ++i)
+        {
+            this.sequences.set(i, i);
+        }
+        this.enqueuePosition = new java.util.concurrent.atomic.AtomicLong();
+        this.dequeuePosition = new java.util.concurrent.atomic.AtomicLong();
+        this.waitStrategy = waitStrategy;
+        this.waitingProducers = new java.util.concurrent.ConcurrentLinkedQueue<>();
+        this.waitingConsumers = new java.util.concurrent.ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Create a new RingBufferBlockingQueue that parks threads that have to wait.
+     * @param capacity The maximum number of values that the queue can hold. This will be rounded up
+     *                 to the next power of two.
+     * @return The new RingBufferBlockingQueue.
+     */
+    public static <T> RingBufferBlockingQueue<T> create(int capacity)
+    {
+        return RingBufferBlockingQueue.create(capacity, QueueWaitStrategy.Park);
+    }
+
+    /**
+     * Create a new RingBufferBlockingQueue.
+     * @param capacity The maximum number of values that the queue can hold. This will be rounded up
+     *                 to the next power of two.
+     * @param waitStrategy The way that threads will wait for room in the queue or for a value to be
+     *                     added to the queue.
+     * @return The new RingBufferBlockingQueue.
+     */
+    public static <T> RingBufferBlockingQueue<T> create(int capacity, QueueWaitStrategy waitStrategy)
+    {
+        return new RingBufferBlockingQueue<>(capacity, waitStrategy);
+    }
+
+    /**
+     * Get the maximum number of values that this queue can hold.
+     * @return The maximum number of values that this queue can hold.
+     */
+    public int getCapacity()
+    {
+        return this.capacity;
+    }
+
+    /**
+     * Get the way that threads wait for room in this queue or for a value to be added to this queue.
+     * @return The way that threads wait for this queue.
+     */
+    public QueueWaitStrategy getWaitStrategy()
+    {
+        return this.waitStrategy;
+    }
+
+    @Override
+    public int getCount()
+    {
+        final long dequeuePosition = this.dequeuePosition.get();
+        final long enqueuePosition = this.enqueuePosition.get();
+        return (int)java.lang.Math.max(0, java.lang.Math.min(this.capacity, enqueuePosition - dequeuePosition));
+    }
+
+    @Override
+    public boolean any()
+    {
+        return this.getCount() > 0;
+    }
+
+    /**
+     * Add the provided value to this queue if there is room for it.
+     * @param value The value to add.
+     * @return Whether or not the value was added.
+     */
+    public boolean tryEnqueue(T value)
+    {
+        PreCondition.assertNotNull(value, "value");
+
+        boolean result = false;
+        long position = this.enqueuePosition.get();
+        while (true)
+        {
+            final int index = (int)(position & this.mask);
+            final long difference = this.sequences.get(index) - position;
+            if (difference == 0)
+            {
+                if (this.enqueuePosition.compareAndSet(position, position + 1))
+                {
+                    this.values.set(index, value);
+                    this.sequences.set(index, position + 1);
+                    result = true;
+                    break;
+                }
+                position = this.enqueuePosition.get();
+            }
+            else if (difference < 0)
+            {
+                // The slot still holds the value from the previous lap, so the queue is full.
+                break;
+            }
+            else
+            {
+                position = this.enqueuePosition.get();
+            }
+        }
+
+        if (result)
+        {
+            RingBufferBlockingQueue.unparkAll(this.waitingConsumers);
+        }
+
+        return result;
+    }
+
+    /**
+     * Remove and return the next value from this queue if there is one.
+     * @return The next value from this queue, or null if this queue is empty.
+     */
+    public T tryDequeue()
+    {
+        T result = null;
+        long position = this.dequeuePosition.get();
+        while (true)
+        {
+            final int index = (int)(position & this.mask);
+            final long difference = this.sequences.get(index) - (position + 1);
+            if (difference == 0)
+            {
+                if (this.dequeuePosition.compareAndSet(position, position + 1))
+                {
+                    result = this.takeValue(index, position);
+                    break;
+                }
+                position = this.dequeuePosition.get();
+            }
+            else if (difference < 0)
+            {
+                // The slot hasn't been filled for this lap yet, so the queue is empty.
+                break;
+            }
+            else
+            {
+                position = this.dequeuePosition.get();
+            }
+        }
+
+        if (result != null)
+        {
+            RingBufferBlockingQueue.unparkAll(this.waitingProducers);
+        }
+
+        return result;
+    }
+
+    @Override
+    public Result<Void> enqueue(T value)
+    {
+        PreCondition.assertNotNull(value, "value");
+
+        Result<Void> result = Result.success();
+        try
+        {
+            while (!this.tryEnqueue(value))
+            {
+                this.waitFor(this.waitingProducers, () -> this.getCount() < this.capacity);
+            }
+        }
+        catch (CancelledException error)
+        {
+            result = Result.error(error);
+        }
+        return result;
+    }
+
+    @Override
+    public Result<T> dequeue()
+    {
+        Result<T> result;
+        try
+        {
+            T value;
+            while ((value = this.tryDequeue()) == null)
+            {
+                this.waitFor(this.waitingConsumers, this::any);
+            }
+            result = Result.success(value);
+        }
+        catch (CancelledException error)
+        {
+            result = Result.error(error);
+        }
+        return result;
+    }
+
+    /**
+     * Add all of the provided values to this queue. Producers claim as many slots as are free in a
+     * single step, so adding a batch of values is cheaper than adding each value separately. If
+     * this queue doesn't have room for all of the values, then the current thread will block until
+     * it does.
+     * @param values The values to add.
+     * @return The result of adding the values.
+     */
+    public Result<Void> enqueueAll(Iterable<T> values)
+    {
+        PreCondition.assertNotNull(values, "values");
+        PreCondition.assertFalse(values.contains((T)null), "values.contains(null)");
+
+        return Result.create(() ->
+        {
+            final java.util.Iterator<T> iterator = values.iterator();
+            int remaining = values.getCount();
+            while (remaining > 0)
+            {
+                final long position = this.enqueuePosition.get();
+                final long available = this.capacity - (position - this.dequeuePosition.get());
+                if (available <= 0)
+                {
+                    this.waitFor(this.waitingProducers, () -> this.getCount() < this.capacity);
+                }
+                else
+                {
+                    final int claimed = (int)java.lang.Math.min(remaining, available);
+                    if (this.enqueuePosition.compareAndSet(position, position + claimed))
+                    {
+                        for (long p = position; p < position + claimed; ++p)
+                        {
+                            final int index = (int)(p & this.mask);
+                            // A consumer may have claimed this slot's previous value but not yet
+                            // taken it.
+                            while (this.sequences.get(index) != p)
+                            {
+                                java.lang.Thread.onSpinWait();
+                            }
+                            this.values.set(index, iterator.next());
+                            this.sequences.set(index, p + 1);
+                        }
+                        remaining -= claimed;
+                        RingBufferBlockingQueue.unparkAll(this.waitingConsumers);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Remove and return up to the provided number of values from this queue. Consumers claim as
+     * many values as are available in a single step, so removing a batch of values is cheaper than
+     * removing each value separately. If this queue is empty, then the current thread will block
+     * until at least one value is added.
+     * @param maximumCount The maximum number of values to remove.
+     * @return The values that were removed, in the order that they were added.
+     */
+    public Result<List<T>> dequeueUpTo(int maximumCount)
+    {
+        PreCondition.assertGreaterThanOrEqualTo(maximumCount, 1, "maximumCount");
+
+        return Result.create(() ->
+        {
+            List<T> result = null;
+            while (result == null)
+            {
+                final long position = this.dequeuePosition.get();
+                final long available = this.enqueuePosition.get() - position;
+                if (available <= 0)
+                {
+                    this.waitFor(this.waitingConsumers, this::any);
+                }
+                else
+                {
+                    final int claimed = (int)java.lang.Math.min(maximumCount, available);
+                    if (this.dequeuePosition.compareAndSet(position, position + claimed))
+                    {
+                        result = List.create();
+                        for (long p = position; p < position + claimed; ++p)
+                        {
+                            final int index = (int)(p & this.mask);
+                            // A producer may have claimed this slot but not yet filled it.
+                            while (this.sequences.get(index) != p + 1)
+                            {
+                                java.lang.Thread.onSpinWait();
+                            }
+                            result.add(this.takeValue(index, p));
+                        }
+                        RingBufferBlockingQueue.unparkAll(this.waitingProducers);
+                    }
+                }
+            }
+
+            PostCondition.assertNotNull(result, "result");
+            PostCondition.assertBetween(1, result.getCount(), maximumCount, "result.getCount()");
+
+            return result;
+        });
+    }
+
+    /**
+     * Take the value out of the slot at the provided index and free the slot for the producer of
+     * the next lap.
+     * @param index The index of the slot.
+     * @param position The position that the slot was filled for.
+     * @return The value that was in the slot.
+     */
+    private T takeValue(int index, long position)
+    {
+        final T result = this.values.get(index);
+        this.values.set(index, null);
+        this.sequences.set(index, position + this.capacity);
+        return result;
+    }
+
+    /**
+     * Wait once using this queue's wait strategy. The caller is responsible for checking whether
+     * the queue has changed after this returns. If the AsyncTask that the current thread is running
+     * has been cancelled, then this will throw a CancelledException instead of waiting.
+     * @param waitingThreads The threads that are parked waiting for the same change.
+     * @param isReady A check for whether or not the change has already happened. The current
+     *                thread will not park if this returns true after the thread is registered as
+     *                waiting.
+     */
+    private void waitFor(java.util.concurrent.ConcurrentLinkedQueue<java.lang.Thread> waitingThreads, Function0<Boolean> isReady)
+    {
+        final CancellationToken cancellationToken = CurrentThread.getCancellationToken();
+        if (cancellationToken != null)
+        {
+            cancellationToken.throwIfCancelled();
+        }
+
+        switch (this.waitStrategy)
+        {
+            case Spin:
+                java.lang.Thread.onSpinWait();
+                break;
+
+            case Yield:
+                java.lang.Thread.yield();
+                break;
+
+            case Park:
+                final java.lang.Thread currentThread = java.lang.Thread.currentThread();
+                waitingThreads.add(currentThread);
+                final Disposable cancellationRegistration = cancellationToken == null ? null : cancellationToken.unparkCurrentThreadOnCancelled();
+                try
+                {
+                    if (!isReady.run() && (cancellationToken == null || !cancellationToken.isCancelled()))
+                    {
+                        java.util.concurrent.locks.LockSupport.park(this);
+                    }
+                }
+                finally
+                {
+                    waitingThreads.remove(currentThread);
+                    if (cancellationRegistration != null)
+                    {
+                        cancellationRegistration.dispose().await();
+                    }
+                }
+                break;
+        }
+    }
+
+    private static void unparkAll(java.util.concurrent.ConcurrentLinkedQueue<java.lang.Thread> waitingThreads)
+    {
+        if (!waitingThreads.isEmpty())
+        {
+            for (final java.lang.Thread waitingThread : waitingThreads)
+            {
+                java.util.concurrent.locks.LockSupport.unpark(waitingThread);
+            }
+        }
+    }
+}
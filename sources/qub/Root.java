@@ -76,6 +76,12 @@ public class Root
         return rhs != null && rhs instanceof Root && this.equals((Root)rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return this.getPath().hashCode();
+    }
+
     public boolean equals(Root rhs)
     {
         return rhs != null && this.getPath().equals(rhs.getPath());
@@ -83,4 +83,10 @@ public class SaveableValue<T> implements Value<T>, Saveable
     {
         return this.value.equals(rhs);
     }
+
+    @Override
+    public int hashCode()
+    {
+        return this.value.hashCode();
+    }
 }
@@ -39,9 +39,7 @@ public interface Set<T> extends Iterable<T>
     {
         PreCondition.assertNotNull(initialValues, "initialValues");
 
-        final Set<T> result = new ListSet<>();
-        result.addAll(initialValues);
-        return result;
+        return HashSet.create(initialValues);
     }
 
     /**
@@ -111,6 +109,87 @@ public interface Set<T> extends Iterable<T>
      */
     Set<T> clear();
 
+    /**
+     * Get a new Set that contains the values in this Set followed by the provided values that
+     * aren't in this Set.
+     * @param values The values to add to the values in this Set.
+     * @return A new Set that contains the values that are in either this Set or the provided
+     * values.
+     */
+    default Set<T> union(Iterable<T> values)
+    {
+        PreCondition.assertNotNull(values, "values");
+
+        final Set<T> result = Set.create(this);
+        result.addAll(values);
+
+        PostCondition.assertNotNull(result, "result");
+
+        return result;
+    }
+
+    /**
+     * Get a new Set that contains the values in this Set that are also in the provided values.
+     * @param values The values to intersect with the values in this Set.
+     * @return A new Set that contains the values that are in both this Set and the provided values.
+     */
+    default Set<T> intersect(Iterable<T> values)
+    {
+        PreCondition.assertNotNull(values, "values");
+
+        final Set<T> valuesSet = Set.toHashSet(values);
+        final Set<T> result = Set.create();
+        for (final T value : this)
+        {
+            if (valuesSet.contains(value))
+            {
+                result.add(value);
+            }
+        }
+
+        PostCondition.assertNotNull(result, "result");
+
+        return result;
+    }
+
+    /**
+     * Get a new Set that contains the values in this Set that aren't in the provided values.
+     * @param values The values to remove from the values in this Set.
+     * @return A new Set that contains the values that are in this Set but not in the provided
+     * values.
+     */
+    default Set<T> except(Iterable<T> values)
+    {
+        PreCondition.assertNotNull(values, "values");
+
+        final Set<T> valuesSet = Set.toHashSet(values);
+        final Set<T> result = Set.create();
+        for (final T value : this)
+        {
+            if (!valuesSet.contains(value))
+            {
+                result.add(value);
+            }
+        }
+
+        PostCondition.assertNotNull(result, "result");
+
+        return result;
+    }
+
+    /**
+     * Get a Set with constant-time lookups that contains the provided values. If the provided
+     * values are already a HashSet, then they will be returned as is.
+     * @param values The values to put in the Set.
+     * @param <T> The type of values in the Set.
+     * @return The provided values if they are already a HashSet, or a new HashSet that contains
+     * them.
+     */
+    private static <T> Set<T> toHashSet(Iterable<T> values)
+    {
+        return values instanceof HashSet ? (HashSet<T>)values : HashSet.create(values);
+    }
+
     /**
      * Get whether or not the lhs Iterable contains equal elements in the same order as the provided
      * rhs Iterable.
@@ -34,6 +34,12 @@ public class SkipIndexable<T> implements Indexable<T>
         return Iterable.equals(this, rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return Iterable.hashCode(this);
+    }
+
     @Override
     public String toString()
     {
@@ -43,6 +43,12 @@ class SkipIterable<T> implements Iterable<T>
         return Iterable.equals(this, rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return Iterable.hashCode(this);
+    }
+
     @Override
     public String toString()
     {
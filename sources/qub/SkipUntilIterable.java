@@ -26,6 +26,12 @@ public class SkipUntilIterable<T> implements Iterable<T>
         return Iterable.equals(this, rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return Iterable.hashCode(this);
+    }
+
     @Override
     public String toString()
     {
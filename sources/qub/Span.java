@@ -43,6 +43,12 @@ public class Span
         return rhs instanceof Span && equals((Span)rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return Hash.getHashCode(this.startIndex, this.length);
+    }
+
     public boolean equals(Span rhs)
     {
         return rhs != null &&
@@ -147,20 +147,23 @@ public class SpinGate implements Gate
         final Clock clock = this.getClock();
         return Result.create(() ->
         {
-            while (true)
+            try (final Deadline deadline = clock.createDeadline(timeout))
             {
-                if (timeout.lessThanOrEqualTo(clock.getCurrentDateTime()))
+                while (true)
                 {
-                    throw new TimeoutException();
-                }
-                else if (open.get())
-                {
-                    break;
-                }
-                else
-                {
-                    onWait.run();
-                    CurrentThread.yield();
+                    if (deadline.isExpired())
+                    {
+                        throw new TimeoutException();
+                    }
+                    else if (open.get())
+                    {
+                        break;
+                    }
+                    else
+                    {
+                        onWait.run();
+                        CurrentThread.yield();
+                    }
                 }
             }
         });
@@ -46,14 +46,20 @@ public class SpinMutex implements Mutex
     public Result<Void> acquire()
     {
         final long threadId = Thread.currentThread().getId();
-        if (this.acquiredByThreadId.get() != threadId)
+        if (this.acquiredByThreadId.get() != threadId && !this.acquiredByThreadId.compareAndSet(-1, threadId))
         {
-            while (!this.acquiredByThreadId.compareAndSet(-1, threadId))
+            final CancellationToken cancellationToken = CurrentThread.getCancellationToken();
+            do
             {
                 while (this.isAcquired())
                 {
+                    if (cancellationToken != null && cancellationToken.isCancelled())
+                    {
+                        return Result.error(new CancelledException());
+                    }
                 }
             }
+            while (!this.acquiredByThreadId.compareAndSet(-1, threadId));
         }
         this.acquiredCount.increment();
 
@@ -78,15 +84,24 @@ public class SpinMutex implements Mutex
 
         return Result.create(() ->
         {
-            while (true)
+            final long threadId = Thread.currentThread().getId();
+            final CancellationToken cancellationToken = CurrentThread.getCancellationToken();
+            try (final Deadline deadline = this.clock.createDeadline(dateTimeTimeout))
             {
-                if (this.clock.getCurrentDateTime().greaterThanOrEqualTo(dateTimeTimeout))
+                while (true)
                 {
-                    throw new TimeoutException();
-                }
-                else if (this.tryAcquire().await())
-                {
-                    break;
+                    if (deadline.isExpired())
+                    {
+                        throw new TimeoutException();
+                    }
+                    else if (cancellationToken != null && cancellationToken.isCancelled())
+                    {
+                        throw new CancelledException();
+                    }
+                    else if (this.tryAcquire(threadId))
+                    {
+                        break;
+                    }
                 }
             }
         });
@@ -95,13 +110,17 @@ public class SpinMutex implements Mutex
     @Override
     public Result<Boolean> tryAcquire()
     {
-        final long threadId = Thread.currentThread().getId();
+        return Result.success(this.tryAcquire(Thread.currentThread().getId()));
+    }
+
+    private boolean tryAcquire(long threadId)
+    {
         final boolean acquired = this.acquiredByThreadId.get() == threadId || this.acquiredByThreadId.compareAndSet(-1, threadId);
         if (acquired)
         {
             this.acquiredCount.increment();
         }
-        return Result.success(acquired);
+        return acquired;
     }
 
     @Override
@@ -0,0 +1,356 @@
+package qub;
+
+/**
+ * A stable, natural merge sort in the style of TimSort. Runs of values that are already in order
+ * (or in strictly reverse order) are found and reused, short runs are extended with a binary
+ * insertion sort, and runs are merged in a way that keeps the number of pending runs logarithmic.
+ * Values that are equal to each other keep their original relative order.
+ */
+final class StableSort
+{
+    /**
+     * Ranges that are shorter than this will be sorted with a binary insertion sort instead of
+     * being broken up into runs.
+     */
+    private static final int minimumMergeLength = 32;
+
+    /**
+     * The smallest number of values that parallelSort() will give to each chunk. Smaller chunks
+     * aren't worth the cost of scheduling a task.
+     */
+    static final int minimumParallelChunkLength = 8192;
+
+    private StableSort()
+    {
+    }
+
+    /**
+     * Sort the values in the provided array between the provided start index (inclusive) and end
+     * index (exclusive).
+     * @param values The values to sort.
+     * @param startIndex The index of the first value to sort.
+     * @param endIndex The index after the last value to sort.
+     * @param lessThan The function to use to compare the values.
+     * @param <T> The type of values to sort.
+     */
+    static <T> void sort(Object[] values, int startIndex, int endIndex, Function2<T,T,Boolean> lessThan)
+    {
+        PreCondition.assertNotNull(values, "values");
+        PreCondition.assertBetween(0, startIndex, values.length, "startIndex");
+        PreCondition.assertBetween(startIndex, endIndex, values.length, "endIndex");
+        PreCondition.assertNotNull(lessThan, "lessThan");
+
+        final int count = endIndex - startIndex;
+        if (count >= 2)
+        {
+            if (count < StableSort.minimumMergeLength)
+            {
+                final int runEndIndex = StableSort.findRunEnd(values, startIndex, endIndex, lessThan);
+                StableSort.binaryInsertionSort(values, startIndex, runEndIndex, endIndex, lessThan);
+            }
+            else
+            {
+                final int minimumRunLength = StableSort.getMinimumRunLength(count);
+                final int[] runStartIndexes = new int[49];
+                final int[] runLengths = new int[49];
+                int runCount = 0;
+                Object[] buffer = null;
+
+                int runStartIndex = startIndex;
+                while (runStartIndex < endIndex)
+                {
+                    int runEndIndex = StableSort.findRunEnd(values, runStartIndex, endIndex, lessThan);
+                    if (runEndIndex - runStartIndex < minimumRunLength)
+                    {
+                        final int extendedRunEndIndex = java.lang.Math.min(endIndex, runStartIndex + minimumRunLength);
+                        StableSort.binaryInsertionSort(values, runStartIndex, runEndIndex, extendedRunEndIndex, lessThan);
+                        runEndIndex = extendedRunEndIndex;
+                    }
+
+                    runStartIndexes[runCount] = runStartIndex;
+                    runLengths[runCount] = runEndIndex - runStartIndex;
+                    ++runCount;
+
+                    // Merge pending runs until the run lengths satisfy the TimSort invariants.
+                    while (runCount > 1)
+                    {
+                        int mergeIndex = runCount - 2;
+                        if ((mergeIndex > 0 && runLengths[mergeIndex - 1] <= runLengths[mergeIndex] + runLengths[mergeIndex + 1]) ||
+                            (mergeIndex > 1 && runLengths[mergeIndex - 2] <= runLengths[mergeIndex - 1] + runLengths[mergeIndex]))
+                        {
+                            if (runLengths[mergeIndex - 1] < runLengths[mergeIndex + 1])
+                            {
+                                --mergeIndex;
+                            }
+                        }
+                        else if (runLengths[mergeIndex] > runLengths[mergeIndex + 1])
+                        {
+                            break;
+                        }
+                        buffer = StableSort.mergeRuns(values, runStartIndexes, runLengths, mergeIndex, buffer, lessThan);
+                        --runCount;
+                    }
+
+                    runStartIndex = runEndIndex;
+                }
+
+                while (runCount > 1)
+                {
+                    int mergeIndex = runCount - 2;
+                    if (mergeIndex > 0 && runLengths[mergeIndex - 1] < runLengths[mergeIndex + 1])
+                    {
+                        --mergeIndex;
+                    }
+                    buffer = StableSort.mergeRuns(values, runStartIndexes, runLengths, mergeIndex, buffer, lessThan);
+                    --runCount;
+                }
+            }
+        }
+    }
+
+    /**
+     * Sort the values in the provided array by sorting chunks of the array in parallel on the
+     * provided AsyncScheduler and then merging neighboring chunks in parallel until only one chunk
+     * remains. Since each chunk is sorted stably and neighboring chunks are merged stably, the
+     * result is identical to sorting the array with sort().
+     * @param asyncScheduler The AsyncScheduler to sort and merge the chunks on.
+     * @param values The values to sort.
+     * @param lessThan The function to use to compare the values.
+     * @param maximumChunkCount The maximum number of chunks to split the values into.
+     * @param <T> The type of values to sort.
+     */
+    static <T> void parallelSort(AsyncScheduler asyncScheduler, Object[] values, Function2<T,T,Boolean> lessThan, int maximumChunkCount)
+    {
+        PreCondition.assertNotNull(asyncScheduler, "asyncScheduler");
+        PreCondition.assertNotNull(values, "values");
+        PreCondition.assertNotNull(lessThan, "lessThan");
+        PreCondition.assertGreaterThanOrEqualTo(maximumChunkCount, 1, "maximumChunkCount");
+
+        final int count = values.length;
+        final int chunkCount = java.lang.Math.min(maximumChunkCount, count / StableSort.minimumParallelChunkLength);
+        if (chunkCount <= 1)
+        {
+            StableSort.sort(values, 0, count, lessThan);
+        }
+        else
+        {
+            int[] chunkStartIndexes = new int[chunkCount + 1];
+            for (int i = 0; i < chunkCount; ++i)
+            {
+                chunkStartIndexes[i] = (int)((long)count * i / chunkCount);
+            }
+            chunkStartIndexes[chunkCount] = count;
+
+            final List<Function0<Void>> sortFunctions = List.create();
+            for (int i = 0; i < chunkCount; ++i)
+            {
+                final int startIndex = chunkStartIndexes[i];
+                final int endIndex = chunkStartIndexes[i + 1];
+                sortFunctions.add(() ->
+                {
+                    StableSort.sort(values, startIndex, endIndex, lessThan);
+                    return null;
+                });
+            }
+            Result.whenAll(asyncScheduler, sortFunctions, true).await();
+
+            while (chunkStartIndexes.length > 2)
+            {
+                final int currentChunkCount = chunkStartIndexes.length - 1;
+                final int[] currentChunkStartIndexes = chunkStartIndexes;
+                final List<Function0<Void>> mergeFunctions = List.create();
+                for (int i = 0; i + 1 < currentChunkCount; i += 2)
+                {
+                    final int startIndex = currentChunkStartIndexes[i];
+                    final int middleIndex = currentChunkStartIndexes[i + 1];
+                    final int endIndex = currentChunkStartIndexes[i + 2];
+                    mergeFunctions.add(() ->
+                    {
+                        StableSort.merge(values, startIndex, middleIndex, endIndex, null, lessThan);
+                        return null;
+                    });
+                }
+                Result.whenAll(asyncScheduler, mergeFunctions, true).await();
+
+                // Every pair of chunks is now one chunk. If there was an odd number of chunks, then
+                // the last chunk is carried over to the next round unchanged.
+                final int nextChunkCount = (currentChunkCount + 1) / 2;
+                chunkStartIndexes = new int[nextChunkCount + 1];
+                for (int i = 0; i < nextChunkCount; ++i)
+                {
+                    chunkStartIndexes[i] = currentChunkStartIndexes[i * 2];
+                }
+                chunkStartIndexes[nextChunkCount] = count;
+            }
+        }
+    }
+
+    /**
+     * Merge the two adjacent sorted ranges [startIndex, middleIndex) and [middleIndex, endIndex)
+     * of the provided array into a single sorted range.
+     * @param values The values to merge.
+     * @param startIndex The index of the first value in the left range.
+     * @param middleIndex The index of the first value in the right range.
+     * @param endIndex The index after the last value in the right range.
+     * @param buffer A buffer that can be used while merging, or null if a new buffer should be
+     *               allocated.
+     * @param lessThan The function to use to compare the values.
+     * @param <T> The type of values to merge.
+     * @return The buffer that was used while merging, so that it can be reused by later merges.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Object[] merge(Object[] values, int startIndex, int middleIndex, int endIndex, Object[] buffer, Function2<T,T,Boolean> lessThan)
+    {
+        // If the first value of the right range isn't less than the last value of the left range,
+        // then the ranges are already in order relative to each other.
+        if (startIndex < middleIndex && middleIndex < endIndex &&
+            lessThan.run((T)values[middleIndex], (T)values[middleIndex - 1]))
+        {
+            // Values at the start of the left range that are not greater than the first value of
+            // the right range are already in their final positions.
+            final T firstRightValue = (T)values[middleIndex];
+            int leftIndex = startIndex;
+            while (!lessThan.run(firstRightValue, (T)values[leftIndex]))
+            {
+                ++leftIndex;
+            }
+
+            final int leftLength = middleIndex - leftIndex;
+            if (buffer == null || buffer.length < leftLength)
+            {
+                buffer = new Object[java.lang.Math.max(leftLength, buffer == null ? 0 : buffer.length * 2)];
+            }
+            java.lang.System.arraycopy(values, leftIndex, buffer, 0, leftLength);
+
+            int bufferIndex = 0;
+            int rightIndex = middleIndex;
+            int destinationIndex = leftIndex;
+            while (bufferIndex < leftLength && rightIndex < endIndex)
+            {
+                // Only take the right value when it is strictly less than the left value so that
+                // equal values keep their original order.
+                if (lessThan.run((T)values[rightIndex], (T)buffer[bufferIndex]))
+                {
+                    values[destinationIndex++] = values[rightIndex++];
+                }
+                else
+                {
+                    values[destinationIndex++] = buffer[bufferIndex++];
+                }
+            }
+            java.lang.System.arraycopy(buffer, bufferIndex, values, destinationIndex, leftLength - bufferIndex);
+            java.util.Arrays.fill(buffer, 0, leftLength, null);
+        }
+        return buffer;
+    }
+
+    private static <T> Object[] mergeRuns(Object[] values, int[] runStartIndexes, int[] runLengths, int mergeIndex, Object[] buffer, Function2<T,T,Boolean> lessThan)
+    {
+        final int startIndex = runStartIndexes[mergeIndex];
+        final int middleIndex = startIndex + runLengths[mergeIndex];
+        final int endIndex = middleIndex + runLengths[mergeIndex + 1];
+        final Object[] result = StableSort.merge(values, startIndex, middleIndex, endIndex, buffer, lessThan);
+
+        runLengths[mergeIndex] = endIndex - startIndex;
+        for (int i = mergeIndex + 1; i < runLengths.length - 1; ++i)
+        {
+            runStartIndexes[i] = runStartIndexes[i + 1];
+            runLengths[i] = runLengths[i + 1];
+        }
+
+        return result;
+    }
+
+    /**
+     * Find the end of the run that starts at the provided start index. If the run is strictly
+     * descending, then it will be reversed so that it is ascending.
+     * @return The index after the last value in the run.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> int findRunEnd(Object[] values, int startIndex, int endIndex, Function2<T,T,Boolean> lessThan)
+    {
+        int result = startIndex + 1;
+        if (result < endIndex)
+        {
+            if (lessThan.run((T)values[result], (T)values[startIndex]))
+            {
+                ++result;
+                while (result < endIndex && lessThan.run((T)values[result], (T)values[result - 1]))
+                {
+                    ++result;
+                }
+                StableSort.reverse(values, startIndex, result);
+            }
+            else
+            {
+                ++result;
+                while (result < endIndex && !lessThan.run((T)values[result], (T)values[result - 1]))
+                {
+                    ++result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static void reverse(Object[] values, int startIndex, int endIndex)
+    {
+        int leftIndex = startIndex;
+        int rightIndex = endIndex - 1;
+        while (leftIndex < rightIndex)
+        {
+            final Object temp = values[leftIndex];
+            values[leftIndex++] = values[rightIndex];
+            values[rightIndex--] = temp;
+        }
+    }
+
+    /**
+     * Sort the range [startIndex, endIndex) with a binary insertion sort, given that the range
+     * [startIndex, sortedEndIndex) is already sorted.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> void binaryInsertionSort(Object[] values, int startIndex, int sortedEndIndex, int endIndex, Function2<T,T,Boolean> lessThan)
+    {
+        for (int i = sortedEndIndex; i < endIndex; ++i)
+        {
+            final T value = (T)values[i];
+
+            // Find the first index whose value is greater than the value being inserted so that
+            // the value is inserted after any values that are equal to it.
+            int lowIndex = startIndex;
+            int highIndex = i;
+            while (lowIndex < highIndex)
+            {
+                final int middleIndex = (lowIndex + highIndex) >>> 1;
+                if (lessThan.run(value, (T)values[middleIndex]))
+                {
+                    highIndex = middleIndex;
+                }
+                else
+                {
+                    lowIndex = middleIndex + 1;
+                }
+            }
+
+            java.lang.System.arraycopy(values, lowIndex, values, lowIndex + 1, i - lowIndex);
+            values[lowIndex] = value;
+        }
+    }
+
+    /**
+     * Get the minimum run length for the provided number of values. This is a value between
+     * minimumMergeLength / 2 and minimumMergeLength such that count / result is close to (but not
+     * more than) a power of two, which keeps the final merges balanced.
+     */
+    private static int getMinimumRunLength(int count)
+    {
+        int lowBits = 0;
+        while (count >= StableSort.minimumMergeLength)
+        {
+            lowBits |= (count & 1);
+            count >>= 1;
+        }
+        return count + lowBits;
+    }
+}
@@ -6,14 +6,14 @@ package qub;
  */
 public class Stack<T>
 {
-    private final List<T> values;
+    private final ArrayDeque<T> values;
 
     /**
      * Create a new empty Stack.
      */
     private Stack()
     {
-        values = List.create();
+        values = ArrayDeque.create();
     }
 
     /**
@@ -117,7 +117,7 @@ public class Stack<T>
     public Result<T> pop()
     {
         return this.any()
-            ? Result.success(values.removeAt(this.getCount() - 1))
+            ? Result.success(values.removeLast())
             : Result.error(new StackEmptyException());
     }
 
@@ -128,7 +128,7 @@ public class Stack<T>
     public Result<T> peek()
     {
         return this.any()
-            ? Result.success(values.get(this.getCount() - 1))
+            ? Result.success(values.last())
             : Result.error(new StackEmptyException());
     }
 
@@ -84,6 +84,12 @@ public class TestGroup implements TestParent
         return rhs instanceof TestGroup && equals((TestGroup)rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return Hash.getHashCode(this.name, this.parent, this.skip);
+    }
+
     /**
      * Get whether or not this TestGroup equals the provided TestGroup.
      * @param rhs The TestGroup to compare against this TestGroup.
@@ -0,0 +1,406 @@
+package qub;
+
+/**
+ * A hashed timer wheel that runs actions after a delay. Timeouts are placed into one of a fixed
+ * number of buckets based on the tick that they expire at, so scheduling and cancelling a timeout
+ * are both constant time operations no matter how many timeouts are pending. A single timer thread
+ * advances the wheel one tick at a time and runs the actions of the timeouts that have expired.
+ * Because every action is run on the timer thread, actions should be short (such as scheduling a
+ * task onto an AsyncRunner). The timer thread is started when a timeout is scheduled and exits
+ * after it has been idle for a while.
+ */
+public class TimerWheel implements Disposable
+{
+    /**
+     * The number of milliseconds that the timer thread will wait for a new timeout before it exits.
+     */
+    private static final long idleTimerThreadTimeoutMilliseconds = 10000;
+
+    private final long tickNanoseconds;
+    private final TimerWheelTimeout[] buckets;
+    private final int bucketMask;
+    /**
+     * The System.nanoTime() value that tick 0 starts at.
+     */
+    private final long startNanoTime;
+    /**
+     * The timeouts that have been scheduled but not yet put into a bucket by the timer thread.
+     */
+    private final java.util.concurrent.ConcurrentLinkedQueue<TimerWheelTimeout> newTimeouts;
+    /**
+     * The timeouts that have been cancelled but not yet removed from their bucket by the timer
+     * thread.
+     */
+    private final java.util.concurrent.ConcurrentLinkedQueue<TimerWheelTimeout> cancelledTimeouts;
+    /**
+     * The number of timeouts that have been scheduled but haven't yet expired or been cancelled.
+     */
+    private final java.util.concurrent.atomic.AtomicLong pendingTimeoutCount;
+    /**
+     * The timer thread, or null if the timer thread isn't running. Only modified while synchronized
+     * on this object.
+     */
+    private volatile java.lang.Thread timerThread;
+    /**
+     * Whether or not the timer thread is parked until a new timeout is scheduled.
+     */
+    private volatile boolean timerThreadIdle;
+    private int nextTimerThreadNumber;
+    private volatile boolean disposed;
+
+    /**
+     * The tick that the timer thread will process next. Only accessed by the timer thread.
+     */
+    private long currentTick;
+    /**
+     * The number of timeouts that are in the buckets. Only accessed by the timer thread.
+     */
+    private long bucketedTimeoutCount;
+
+    private TimerWheel(Duration tickDuration, int bucketCount)
+    {
+        PreCondition.assertNotNull(tickDuration, "tickDuration");
+        PreCondition.assertGreaterThanOrEqualTo(tickDuration, Duration.nanoseconds(1), "tickDuration");
+        PreCondition.assertBetween(1, bucketCount, 1 << 30, "bucketCount");
+
+        this.tickNanoseconds = (long)tickDuration.toNanoseconds().getValue();
+        this.buckets = new TimerWheelTimeout[TimerWheel.roundUpToPowerOfTwo(bucketCount)];
+        this.bucketMask = this.buckets.length - 1;
+        this.startNanoTime = System.nanoTime();
+        this.newTimeouts = new java.util.concurrent.ConcurrentLinkedQueue<>();
+        this.cancelledTimeouts = new java.util.concurrent.ConcurrentLinkedQueue<>();
+        this.pendingTimeoutCount = new java.util.concurrent.atomic.AtomicLong();
+    }
+
+    /**
+     * Create a new TimerWheel with a one millisecond tick and 512 buckets.
+     * @return The new TimerWheel.
+     */
+    public static TimerWheel create()
+    {
+        return TimerWheel.create(Duration.milliseconds(1), 512);
+    }
+
+    /**
+     * Create a new TimerWheel with the provided tick duration and number of buckets.
+     * @param tickDuration The amount of time that each tick of the wheel represents. Timeouts will
+     *                     not expire more precisely than this.
+     * @param bucketCount The number of buckets in the wheel. This will be rounded up to the next
+     *                    power of two.
+     * @return The new TimerWheel.
+     */
+    public static TimerWheel create(Duration tickDuration, int bucketCount)
+    {
+        return new TimerWheel(tickDuration, bucketCount);
+    }
+
+    /**
+     * Get the amount of time that each tick of this wheel represents.
+     * @return The amount of time that each tick of this wheel represents.
+     */
+    public Duration getTickDuration()
+    {
+        return Duration.nanoseconds(this.tickNanoseconds);
+    }
+
+    /**
+     * Get the number of buckets in this wheel.
+     * @return The number of buckets in this wheel.
+     */
+    public int getBucketCount()
+    {
+        return this.buckets.length;
+    }
+
+    /**
+     * Get the number of timeouts that have been scheduled but haven't yet expired or been
+     * cancelled.
+     * @return The number of timeouts that haven't yet expired or been cancelled.
+     */
+    public long getPendingTimeoutCount()
+    {
+        return this.pendingTimeoutCount.get();
+    }
+
+    /**
+     * Run the provided action on this wheel's timer thread after the provided delay. If the delay
+     * is not positive, then the action will be run on the next tick.
+     * @param delay The amount of time to wait before running the action.
+     * @param action The action to run.
+     * @return The timeout that can be used to cancel the action.
+     */
+    public TimerWheelTimeout schedule(Duration delay, Action0 action)
+    {
+        PreCondition.assertNotNull(delay, "delay");
+        PreCondition.assertNotNull(action, "action");
+        PreCondition.assertNotDisposed(this, "this");
+
+        final long delayNanoseconds = java.lang.Math.max(0, (long)delay.toNanoseconds().getValue());
+        final TimerWheelTimeout result = new TimerWheelTimeout(this, System.nanoTime() + delayNanoseconds, action);
+        this.pendingTimeoutCount.incrementAndGet();
+        this.newTimeouts.add(result);
+
+        if (this.timerThread == null || this.timerThreadIdle)
+        {
+            this.startOrWakeTimerThread();
+        }
+
+        PostCondition.assertNotNull(result, "result");
+
+        return result;
+    }
+
+    /**
+     * Called by a TimerWheelTimeout after it has been cancelled.
+     * @param timeout The timeout that was cancelled.
+     */
+    void onCancelled(TimerWheelTimeout timeout)
+    {
+        this.pendingTimeoutCount.decrementAndGet();
+        this.cancelledTimeouts.add(timeout);
+    }
+
+    @Override
+    public boolean isDisposed()
+    {
+        return this.disposed;
+    }
+
+    /**
+     * Stop this TimerWheel. Timeouts that haven't expired yet will never expire.
+     * @return Whether or not this TimerWheel was disposed.
+     */
+    @Override
+    public Result<Boolean> dispose()
+    {
+        return Result.create(() ->
+        {
+            java.lang.Thread timerThread;
+            boolean result;
+            synchronized (this)
+            {
+                result = !this.disposed;
+                this.disposed = true;
+                timerThread = this.timerThread;
+            }
+
+            if (timerThread != null)
+            {
+                java.util.concurrent.locks.LockSupport.unpark(timerThread);
+            }
+
+            return result;
+        });
+    }
+
+    /**
+     * Start the timer thread if it isn't running, or unpark it if it is. This is synchronized with
+     * the idle timer thread's decision to exit so that a newly scheduled timeout is never missed.
+     */
+    private synchronized void startOrWakeTimerThread()
+    {
+        if (this.timerThread != null)
+        {
+            java.util.concurrent.locks.LockSupport.unpark(this.timerThread);
+        }
+        else if (!this.disposed)
+        {
+            final java.lang.Thread timerThread = new java.lang.Thread(this::runTimerThread, "TimerWheel-timer-" + (++this.nextTimerThreadNumber));
+            timerThread.setDaemon(true);
+            this.timerThread = timerThread;
+            timerThread.start();
+        }
+    }
+
+    private void runTimerThread()
+    {
+        final java.lang.Thread currentThread = java.lang.Thread.currentThread();
+        try
+        {
+            while (!this.disposed)
+            {
+                final long currentNanoTime = System.nanoTime();
+                final long lastExpiredTick = java.lang.Math.floorDiv(currentNanoTime - this.startNanoTime, this.tickNanoseconds);
+                if (this.bucketedTimeoutCount == 0)
+                {
+                    // There's nothing in the buckets, so there's no need to visit the ticks that
+                    // passed while this thread was idle.
+                    this.currentTick = java.lang.Math.max(this.currentTick, lastExpiredTick);
+                }
+                this.transferNewTimeouts();
+                this.removeCancelledTimeouts();
+
+                while (this.currentTick <= lastExpiredTick)
+                {
+                    this.expireBucket(currentThread);
+                    ++this.currentTick;
+                }
+
+                if (this.bucketedTimeoutCount > 0)
+                {
+                    final long nextTickNanoTime = this.startNanoTime + (this.currentTick * this.tickNanoseconds);
+                    java.util.concurrent.locks.LockSupport.parkNanos(this, nextTickNanoTime - System.nanoTime());
+                }
+                else if (!this.waitForTimeout())
+                {
+                    break;
+                }
+            }
+        }
+        finally
+        {
+            synchronized (this)
+            {
+                if (this.timerThread == currentThread)
+                {
+                    this.timerThread = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Park the timer thread until a timeout is scheduled.
+     * @return Whether or not the timer thread should continue running.
+     */
+    private boolean waitForTimeout()
+    {
+        boolean result = true;
+
+        this.timerThreadIdle = true;
+        try
+        {
+            if (this.newTimeouts.isEmpty() && !this.disposed)
+            {
+                java.util.concurrent.locks.LockSupport.parkNanos(this, TimerWheel.idleTimerThreadTimeoutMilliseconds * 1000000L);
+                if (this.newTimeouts.isEmpty())
+                {
+                    synchronized (this)
+                    {
+                        if (this.newTimeouts.isEmpty())
+                        {
+                            this.timerThread = null;
+                            result = false;
+                        }
+                    }
+                }
+            }
+        }
+        finally
+        {
+            this.timerThreadIdle = false;
+        }
+
+        return result;
+    }
+
+    private void transferNewTimeouts()
+    {
+        TimerWheelTimeout timeout;
+        while ((timeout = this.newTimeouts.poll()) != null)
+        {
+            if (timeout.isPending())
+            {
+                // Round up so that a timeout never expires before its deadline.
+                final long expirationTick = java.lang.Math.max(this.currentTick, TimerWheel.ceilingDivide(timeout.getDeadlineNanoTime() - this.startNanoTime, this.tickNanoseconds));
+                timeout.remainingRounds = (expirationTick - this.currentTick) / this.buckets.length;
+                this.addToBucket((int)(expirationTick & this.bucketMask), timeout);
+            }
+        }
+    }
+
+    private void removeCancelledTimeouts()
+    {
+        TimerWheelTimeout timeout;
+        while ((timeout = this.cancelledTimeouts.poll()) != null)
+        {
+            if (timeout.bucketIndex >= 0)
+            {
+                this.removeFromBucket(timeout);
+            }
+        }
+    }
+
+    private void expireBucket(java.lang.Thread currentThread)
+    {
+        TimerWheelTimeout timeout = this.buckets[(int)(this.currentTick & this.bucketMask)];
+        while (timeout != null)
+        {
+            final TimerWheelTimeout next = timeout.next;
+            if (!timeout.isPending())
+            {
+                this.removeFromBucket(timeout);
+            }
+            else if (timeout.remainingRounds > 0)
+            {
+                --timeout.remainingRounds;
+            }
+            else
+            {
+                this.removeFromBucket(timeout);
+                if (timeout.expire())
+                {
+                    this.pendingTimeoutCount.decrementAndGet();
+                    try
+                    {
+                        timeout.getAction().run();
+                    }
+                    catch (Throwable error)
+                    {
+                        currentThread.getUncaughtExceptionHandler().uncaughtException(currentThread, error);
+                    }
+                }
+            }
+            timeout = next;
+        }
+    }
+
+    private void addToBucket(int bucketIndex, TimerWheelTimeout timeout)
+    {
+        final TimerWheelTimeout head = this.buckets[bucketIndex];
+        timeout.bucketIndex = bucketIndex;
+        timeout.previous = null;
+        timeout.next = head;
+        if (head != null)
+        {
+            head.previous = timeout;
+        }
+        this.buckets[bucketIndex] = timeout;
+        ++this.bucketedTimeoutCount;
+    }
+
+    private void removeFromBucket(TimerWheelTimeout timeout)
+    {
+        if (timeout.previous == null)
+        {
+            this.buckets[timeout.bucketIndex] = timeout.next;
+        }
+        else
+        {
+            timeout.previous.next = timeout.next;
+        }
+        if (timeout.next != null)
+        {
+            timeout.next.previous = timeout.previous;
+        }
+        timeout.bucketIndex = -1;
+        timeout.previous = null;
+        timeout.next = null;
+        --this.bucketedTimeoutCount;
+    }
+
+    private static long ceilingDivide(long dividend, long divisor)
+    {
+        return -java.lang.Math.floorDiv(-dividend, divisor);
+    }
+
+    private static int roundUpToPowerOfTwo(int value)
+    {
+        int result = 1;
+        while (result < value)
+        {
+            result <<= 1;
+        }
+        return result;
+    }
+}
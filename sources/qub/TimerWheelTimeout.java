@@ -0,0 +1,123 @@
+package qub;
+
+/**
+ * An action that has been scheduled to run on a TimerWheel after a delay. Disposing a
+ * TimerWheelTimeout cancels it.
+ */
+public class TimerWheelTimeout implements Deadline
+{
+    private static final int pending = 0;
+    private static final int cancelled = 1;
+    private static final int expired = 2;
+
+    private final TimerWheel timerWheel;
+    private final long deadlineNanoTime;
+    private final Action0 action;
+    private final java.util.concurrent.atomic.AtomicInteger state;
+
+    /**
+     * The number of times the timer wheel must go around before this timeout expires. Only
+     * accessed by the timer thread.
+     */
+    long remainingRounds;
+    /**
+     * The index of the bucket that this timeout is in, or -1 if it isn't in a bucket. Only accessed
+     * by the timer thread.
+     */
+    int bucketIndex;
+    TimerWheelTimeout previous;
+    TimerWheelTimeout next;
+
+    TimerWheelTimeout(TimerWheel timerWheel, long deadlineNanoTime, Action0 action)
+    {
+        PreCondition.assertNotNull(timerWheel, "timerWheel");
+        PreCondition.assertNotNull(action, "action");
+
+        this.timerWheel = timerWheel;
+        this.deadlineNanoTime = deadlineNanoTime;
+        this.action = action;
+        this.state = new java.util.concurrent.atomic.AtomicInteger(TimerWheelTimeout.pending);
+        this.bucketIndex = -1;
+    }
+
+    /**
+     * Get the System.nanoTime() value that this timeout expires at.
+     * @return The System.nanoTime() value that this timeout expires at.
+     */
+    long getDeadlineNanoTime()
+    {
+        return this.deadlineNanoTime;
+    }
+
+    Action0 getAction()
+    {
+        return this.action;
+    }
+
+    /**
+     * Get whether or not this timeout has neither expired nor been cancelled.
+     * @return Whether or not this timeout has neither expired nor been cancelled.
+     */
+    public boolean isPending()
+    {
+        return this.state.get() == TimerWheelTimeout.pending;
+    }
+
+    /**
+     * Get whether or not this timeout has been cancelled.
+     * @return Whether or not this timeout has been cancelled.
+     */
+    public boolean isCancelled()
+    {
+        return this.state.get() == TimerWheelTimeout.cancelled;
+    }
+
+    /**
+     * Get whether or not this timeout's deadline has passed. This can be true before the timer
+     * thread has run this timeout's action.
+     * @return Whether or not this timeout's deadline has passed.
+     */
+    @Override
+    public boolean isExpired()
+    {
+        final int state = this.state.get();
+        return state == TimerWheelTimeout.expired ||
+            (state == TimerWheelTimeout.pending && System.nanoTime() - this.deadlineNanoTime >= 0);
+    }
+
+    /**
+     * Mark this timeout as expired.
+     * @return Whether or not this timeout was pending before it was marked as expired.
+     */
+    boolean expire()
+    {
+        return this.state.compareAndSet(TimerWheelTimeout.pending, TimerWheelTimeout.expired);
+    }
+
+    /**
+     * Cancel this timeout so that its action will never be run.
+     * @return Whether or not this timeout was cancelled. This will return false if the timeout
+     * already expired or was already cancelled.
+     */
+    public boolean cancel()
+    {
+        final boolean result = this.state.compareAndSet(TimerWheelTimeout.pending, TimerWheelTimeout.cancelled);
+        if (result)
+        {
+            this.timerWheel.onCancelled(this);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isDisposed()
+    {
+        return !this.isPending();
+    }
+
+    @Override
+    public Result<Boolean> dispose()
+    {
+        return Result.create(this::cancel);
+    }
+}
@@ -0,0 +1,214 @@
+package qub;
+
+/**
+ * A MutableMap that stores its entries in a BalancedBinaryTree that is sorted by the entries' keys.
+ * Adding, removing, and finding entries takes O(log n) time, entries are iterated in sorted key
+ * order, and entries can be found by the keys that come before or after a provided key.
+ * @param <TKey> The type of keys that are stored in this Map.
+ * @param <TValue> The type of values that are associated with the keys in this Map.
+ */
+public class TreeMap<TKey,TValue> implements MutableMap<TKey,TValue>
+{
+    private final Function2<TKey,TKey,Comparison> comparer;
+    private final BalancedBinaryTree<MutableMapEntry<TKey,TValue>> entries;
+
+    private TreeMap(Function2<TKey,TKey,Comparison> comparer)
+    {
+        PreCondition.assertNotNull(comparer, "comparer");
+
+        this.comparer = comparer;
+        this.entries = BalancedBinaryTree.<MutableMapEntry<TKey,TValue>>create((MutableMapEntry<TKey,TValue> lhs, MutableMapEntry<TKey,TValue> rhs) -> comparer.run(lhs.getKey(), rhs.getKey()));
+    }
+
+    /**
+     * Create a new empty TreeMap that sorts its keys by using their compareTo() function.
+     * @param <TKey> The type of keys that are stored in the new TreeMap.
+     * @param <TValue> The type of values that are associated with the keys in the new TreeMap.
+     * @return The new TreeMap.
+     */
+    public static <TKey extends java.lang.Comparable<TKey>,TValue> TreeMap<TKey,TValue> create()
+    {
+        return TreeMap.create(Comparer::compare);
+    }
+
+    /**
+     * Create a new empty TreeMap that sorts its keys by using the provided comparer.
+     * @param comparer The function that will be used to compare the keys in the new TreeMap.
+     * @param <TKey> The type of keys that are stored in the new TreeMap.
+     * @param <TValue> The type of values that are associated with the keys in the new TreeMap.
+     * @return The new TreeMap.
+     */
+    public static <TKey,TValue> TreeMap<TKey,TValue> create(Function2<TKey,TKey,Comparison> comparer)
+    {
+        return new TreeMap<>(comparer);
+    }
+
+    @Override
+    public int getCount()
+    {
+        return this.entries.getCount();
+    }
+
+    @Override
+    public boolean any()
+    {
+        return this.entries.any();
+    }
+
+    @Override
+    public TreeMap<TKey,TValue> clear()
+    {
+        this.entries.clear();
+        return this;
+    }
+
+    @Override
+    public boolean containsKey(TKey key)
+    {
+        return this.entries.findNode(this.compareWith(key)) != null;
+    }
+
+    @Override
+    public Result<TValue> get(TKey key)
+    {
+        final Node2<MutableMapEntry<TKey,TValue>> node = this.entries.findNode(this.compareWith(key));
+        return node != null
+            ? Result.success(node.getValue().getValue())
+            : this.createNotFoundResult(key);
+    }
+
+    @Override
+    public TreeMap<TKey,TValue> set(TKey key, TValue value)
+    {
+        final Node2<MutableMapEntry<TKey,TValue>> node = this.entries.findNode(this.compareWith(key));
+        if (node != null)
+        {
+            node.getValue().setValue(value);
+        }
+        else
+        {
+            this.entries.addNode(new MutableMapEntry<>(key, value));
+        }
+        return this;
+    }
+
+    @Override
+    public Result<TValue> remove(TKey key)
+    {
+        final Node2<MutableMapEntry<TKey,TValue>> node = this.entries.removeNode(this.compareWith(key));
+        return node != null
+            ? Result.success(node.getValue().getValue())
+            : this.createNotFoundResult(key);
+    }
+
+    /**
+     * Get the entry in this TreeMap with the greatest key that is less than or equal to the
+     * provided key.
+     * @param key The key to look for.
+     * @return The entry with the greatest key that is less than or equal to the provided key, or a
+     * NotFoundException if there is no such entry.
+     */
+    public Result<MapEntry<TKey,TValue>> floor(TKey key)
+    {
+        final Node2<MutableMapEntry<TKey,TValue>> node = this.entries.floorNode(this.compareWith(key));
+        return node != null
+            ? Result.success(node.getValue())
+            : Result.error(new NotFoundException("Could not find a key less than or equal to " + key + " in this Map."));
+    }
+
+    /**
+     * Get the entry in this TreeMap with the smallest key that is greater than or equal to the
+     * provided key.
+     * @param key The key to look for.
+     * @return The entry with the smallest key that is greater than or equal to the provided key, or
+     * a NotFoundException if there is no such entry.
+     */
+    public Result<MapEntry<TKey,TValue>> ceiling(TKey key)
+    {
+        final Node2<MutableMapEntry<TKey,TValue>> node = this.entries.ceilingNode(this.compareWith(key));
+        return node != null
+            ? Result.success(node.getValue())
+            : Result.error(new NotFoundException("Could not find a key greater than or equal to " + key + " in this Map."));
+    }
+
+    /**
+     * Get the number of keys in this TreeMap that are less than the provided key.
+     * @param key The key to get the rank of.
+     * @return The number of keys in this TreeMap that are less than the provided key.
+     */
+    public int getRank(TKey key)
+    {
+        return this.entries.getRank(this.compareWith(key));
+    }
+
+    /**
+     * Get the entry at the provided index in this TreeMap's sorted key order.
+     * @param index The index of the entry to get.
+     * @return The entry at the provided index.
+     */
+    public MapEntry<TKey,TValue> getEntry(int index)
+    {
+        PreCondition.assertIndexAccess(index, this.getCount(), "index");
+
+        return this.entries.getNode(index).getValue();
+    }
+
+    /**
+     * Iterate over the entries in this TreeMap whose keys are greater than or equal to the provided
+     * startKey and less than the provided endKey, in sorted key order.
+     * @param startKey The smallest key to iterate over.
+     * @param endKey The key to stop iterating at. This key will not be iterated over.
+     * @return An Iterator over the entries in the provided range.
+     */
+    public Iterator<MapEntry<TKey,TValue>> iterateRange(TKey startKey, TKey endKey)
+    {
+        return this.entries.iterateNodes(this.compareWith(startKey), this.compareWith(endKey))
+            .map((Node2<MutableMapEntry<TKey,TValue>> node) -> (MapEntry<TKey,TValue>)node.getValue());
+    }
+
+    @Override
+    public Iterable<TKey> getKeys()
+    {
+        return this.map(MapEntry::getKey);
+    }
+
+    @Override
+    public Iterable<TValue> getValues()
+    {
+        return this.map(MapEntry::getValue);
+    }
+
+    @Override
+    public Iterator<MapEntry<TKey,TValue>> iterate()
+    {
+        return this.entries.iterate().map((MutableMapEntry<TKey,TValue> entry) -> (MapEntry<TKey,TValue>)entry);
+    }
+
+    @Override
+    public boolean equals(Object rhs)
+    {
+        return Iterable.equals(this, rhs);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Iterable.hashCode(this);
+    }
+
+    @Override
+    public String toString()
+    {
+        return Iterable.toString(this);
+    }
+
+    /**
+     * Create a function that compares the provided key to the key of an entry in this TreeMap.
+     * @param key The key to compare.
+     * @return A function that compares the provided key to the key of an entry in this TreeMap.
+     */
+    private Function1<MutableMapEntry<TKey,TValue>,Comparison> compareWith(TKey key)
+    {
+        return (MutableMapEntry<TKey,TValue> entry) -> this.comparer.run(key, entry.getKey());
+    }
+}
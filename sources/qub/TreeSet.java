@@ -0,0 +1,196 @@
+package qub;
+
+/**
+ * A Set that stores its values in a BalancedBinaryTree. Adding, removing, and finding values takes
+ * O(log n) time, values are iterated in sorted order, and values can be found by the values that
+ * come before or after a provided value.
+ * @param <T> The type of values contained by this Set.
+ */
+public class TreeSet<T> implements Set<T>
+{
+    private final BalancedBinaryTree<T> values;
+
+    private TreeSet(Function2<T,T,Comparison> comparer)
+    {
+        this.values = BalancedBinaryTree.create(comparer);
+    }
+
+    /**
+     * Create a new TreeSet that sorts its values by using the provided comparer.
+     * @param comparer The function that will be used to compare the values in the new TreeSet.
+     * @param values The values that the new TreeSet will contain.
+     * @param <T> The type of values contained by the new TreeSet.
+     * @return The new TreeSet.
+     */
+    @SafeVarargs
+    public static <T> TreeSet<T> create(Function2<T,T,Comparison> comparer, T... values)
+    {
+        PreCondition.assertNotNull(values, "values");
+
+        return TreeSet.create(comparer, Iterable.create(values));
+    }
+
+    /**
+     * Create a new TreeSet that sorts its values by using the provided comparer.
+     * @param comparer The function that will be used to compare the values in the new TreeSet.
+     * @param values The values that the new TreeSet will contain.
+     * @param <T> The type of values contained by the new TreeSet.
+     * @return The new TreeSet.
+     */
+    public static <T> TreeSet<T> create(Function2<T,T,Comparison> comparer, Iterable<T> values)
+    {
+        PreCondition.assertNotNull(comparer, "comparer");
+        PreCondition.assertNotNull(values, "values");
+
+        final TreeSet<T> result = new TreeSet<>(comparer);
+        result.addAll(values);
+
+        PostCondition.assertNotNull(result, "result");
+
+        return result;
+    }
+
+    /**
+     * Create a new TreeSet that sorts its values by using their compareTo() function.
+     * @param values The values that the new TreeSet will contain.
+     * @param <T> The type of values contained by the new TreeSet.
+     * @return The new TreeSet.
+     */
+    @SafeVarargs
+    public static <T extends java.lang.Comparable<T>> TreeSet<T> create(T... values)
+    {
+        return TreeSet.create(Comparer::compare, values);
+    }
+
+    /**
+     * Create a new TreeSet that sorts its values by using their compareTo() function.
+     * @param values The values that the new TreeSet will contain.
+     * @param <T> The type of values contained by the new TreeSet.
+     * @return The new TreeSet.
+     */
+    public static <T extends java.lang.Comparable<T>> TreeSet<T> create(Iterable<T> values)
+    {
+        return TreeSet.create(Comparer::compare, values);
+    }
+
+    @Override
+    public TreeSet<T> add(T value)
+    {
+        if (!this.values.contains(value))
+        {
+            this.values.add(value);
+        }
+        return this;
+    }
+
+    @Override
+    public Result<Void> remove(T value)
+    {
+        return this.values.remove(value)
+            ? Result.success()
+            : Result.error(new NotFoundException("Could not find the value " + value + "."));
+    }
+
+    @Override
+    public TreeSet<T> clear()
+    {
+        this.values.clear();
+        return this;
+    }
+
+    @Override
+    public boolean contains(T value)
+    {
+        return this.values.contains(value);
+    }
+
+    @Override
+    public int getCount()
+    {
+        return this.values.getCount();
+    }
+
+    @Override
+    public boolean any()
+    {
+        return this.values.any();
+    }
+
+    /**
+     * Get the greatest value in this TreeSet that is less than or equal to the provided value.
+     * @param value The value to look for.
+     * @return The greatest value in this TreeSet that is less than or equal to the provided value,
+     * or a NotFoundException if there is no such value.
+     */
+    public Result<T> floor(T value)
+    {
+        return this.values.floor(value);
+    }
+
+    /**
+     * Get the smallest value in this TreeSet that is greater than or equal to the provided value.
+     * @param value The value to look for.
+     * @return The smallest value in this TreeSet that is greater than or equal to the provided
+     * value, or a NotFoundException if there is no such value.
+     */
+    public Result<T> ceiling(T value)
+    {
+        return this.values.ceiling(value);
+    }
+
+    /**
+     * Get the number of values in this TreeSet that are less than the provided value.
+     * @param value The value to get the rank of.
+     * @return The number of values in this TreeSet that are less than the provided value.
+     */
+    public int getRank(T value)
+    {
+        return this.values.getRank(value);
+    }
+
+    /**
+     * Get the value at the provided index in this TreeSet's sorted order.
+     * @param index The index of the value to get.
+     * @return The value at the provided index.
+     */
+    public T get(int index)
+    {
+        return this.values.get(index);
+    }
+
+    /**
+     * Iterate over the values in this TreeSet that are greater than or equal to the provided
+     * startValue and less than the provided endValue, in sorted order.
+     * @param startValue The smallest value to iterate over.
+     * @param endValue The value to stop iterating at. This value will not be iterated over.
+     * @return An Iterator over the values in the provided range.
+     */
+    public Iterator<T> iterateRange(T startValue, T endValue)
+    {
+        return this.values.iterateRange(startValue, endValue);
+    }
+
+    @Override
+    public Iterator<T> iterate()
+    {
+        return this.values.iterate();
+    }
+
+    @Override
+    public String toString()
+    {
+        return Set.toString(this);
+    }
+
+    @Override
+    public boolean equals(Object rhs)
+    {
+        return Set.equals(this, rhs);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Iterable.hashCode(this);
+    }
+}
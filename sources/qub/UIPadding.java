@@ -138,4 +138,16 @@ public interface UIPadding
             this.getRight().equals(rhs.getRight()) &&
             this.getBottom().equals(rhs.getBottom());
     }
+
+    /**
+     * Get the hash code of the provided UIPadding.
+     * @param padding The UIPadding to get the hash code of.
+     * @return The hash code of the provided UIPadding.
+     */
+    static int hashCode(UIPadding padding)
+    {
+        PreCondition.assertNotNull(padding, "padding");
+
+        return Hash.getHashCode(padding.getLeft(), padding.getTop(), padding.getRight(), padding.getBottom());
+    }
 }
@@ -138,4 +138,16 @@ public interface UIPaddingInPixels
             this.getRight() == rhs.getRight() &&
             this.getBottom() == rhs.getBottom();
     }
+
+    /**
+     * Get the hash code of the provided UIPaddingInPixels.
+     * @param padding The UIPaddingInPixels to get the hash code of.
+     * @return The hash code of the provided UIPaddingInPixels.
+     */
+    static int hashCode(UIPaddingInPixels padding)
+    {
+        PreCondition.assertNotNull(padding, "padding");
+
+        return Hash.getHashCode(padding.getLeft(), padding.getTop(), padding.getRight(), padding.getBottom());
+    }
 }
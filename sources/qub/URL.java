@@ -83,6 +83,13 @@ public interface URL
             Comparer.equal(this.getFragment(), rhs.getFragment());
     }
 
+    static int hashCode(URL url)
+    {
+        PreCondition.assertNotNull(url, "url");
+
+        return Hash.getHashCode(url.getScheme(), url.getHost(), url.getPort(), url.getPath(), url.getQueryParameters(), url.getFragment());
+    }
+
     static void encodePath(String path, CharacterList output)
     {
         PreCondition.assertNotNull(output, "output");
@@ -12,6 +12,66 @@ public class USASCIICharacterEncoding implements CharacterEncoding
         return byteWriteStream.write((byte)character);
     }
 
+    @Override
+    public int getEncodedByteCount(char[] characters, int startIndex, int length)
+    {
+        PreCondition.assertNotNull(characters, "characters");
+        PreCondition.assertStartIndex(startIndex, characters.length);
+        PreCondition.assertLength(length, startIndex, characters.length);
+
+        return length;
+    }
+
+    @Override
+    public int getEncodedByteCount(String text, int startIndex, int length)
+    {
+        PreCondition.assertNotNull(text, "text");
+        PreCondition.assertStartIndex(startIndex, text.length());
+        PreCondition.assertLength(length, startIndex, text.length());
+
+        return length;
+    }
+
+    @Override
+    public int encode(char[] characters, int startIndex, int length, byte[] outputBytes, int outputStartIndex)
+    {
+        PreCondition.assertNotNull(characters, "characters");
+        PreCondition.assertStartIndex(startIndex, characters.length);
+        PreCondition.assertLength(length, startIndex, characters.length);
+        PreCondition.assertNotNull(outputBytes, "outputBytes");
+        PreCondition.assertBetween(0, outputStartIndex, outputBytes.length, "outputStartIndex");
+        PreCondition.assertGreaterThanOrEqualTo(outputBytes.length - outputStartIndex, length, "outputBytes.length - outputStartIndex");
+
+        for (int i = 0; i < length; ++i)
+        {
+            final char character = characters[startIndex + i];
+            PreCondition.assertBetween(0, character, 255, "character");
+
+            outputBytes[outputStartIndex + i] = (byte)character;
+        }
+        return length;
+    }
+
+    @Override
+    public int encode(String text, int startIndex, int length, byte[] outputBytes, int outputStartIndex)
+    {
+        PreCondition.assertNotNull(text, "text");
+        PreCondition.assertStartIndex(startIndex, text.length());
+        PreCondition.assertLength(length, startIndex, text.length());
+        PreCondition.assertNotNull(outputBytes, "outputBytes");
+        PreCondition.assertBetween(0, outputStartIndex, outputBytes.length, "outputStartIndex");
+        PreCondition.assertGreaterThanOrEqualTo(outputBytes.length - outputStartIndex, length, "outputBytes.length - outputStartIndex");
+
+        for (int i = 0; i < length; ++i)
+        {
+            final char character = text.charAt(startIndex + i);
+            PreCondition.assertBetween(0, character, 255, "character");
+
+            outputBytes[outputStartIndex + i] = (byte)character;
+        }
+        return length;
+    }
+
     @Override
     public Iterator<Character> iterateDecodedCharacters(Iterator<Byte> bytes)
     {
@@ -27,9 +87,32 @@ public class USASCIICharacterEncoding implements CharacterEncoding
         });
     }
 
+    @Override
+    public int decode(byte[] bytes, int startIndex, int length, char[] outputCharacters, int outputStartIndex)
+    {
+        PreCondition.assertNotNull(bytes, "bytes");
+        PreCondition.assertStartIndex(startIndex, bytes.length);
+        PreCondition.assertLength(length, startIndex, bytes.length);
+        PreCondition.assertNotNull(outputCharacters, "outputCharacters");
+        PreCondition.assertBetween(0, outputStartIndex, outputCharacters.length, "outputStartIndex");
+        PreCondition.assertGreaterThanOrEqualTo(outputCharacters.length - outputStartIndex, length, "outputCharacters.length - outputStartIndex");
+
+        for (int i = 0; i < length; ++i)
+        {
+            outputCharacters[outputStartIndex + i] = (char)Bytes.toUnsignedInt(bytes[startIndex + i]);
+        }
+        return length;
+    }
+
     @Override
     public boolean equals(Object rhs)
     {
         return CharacterEncoding.equals(this, rhs);
     }
+
+    @Override
+    public int hashCode()
+    {
+        return CharacterEncoding.hashCode(this);
+    }
 }
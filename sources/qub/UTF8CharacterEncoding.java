@@ -94,6 +94,332 @@ public class UTF8CharacterEncoding implements UnicodeCharacterEncoding
         });
     }
 
+    @Override
+    public int decode(byte[] bytes, int startIndex, int length, char[] outputCharacters, int outputStartIndex)
+    {
+        PreCondition.assertNotNull(bytes, "bytes");
+        PreCondition.assertStartIndex(startIndex, bytes.length);
+        PreCondition.assertLength(length, startIndex, bytes.length);
+        PreCondition.assertNotNull(outputCharacters, "outputCharacters");
+        PreCondition.assertBetween(0, outputStartIndex, outputCharacters.length, "outputStartIndex");
+        PreCondition.assertGreaterThanOrEqualTo(outputCharacters.length - outputStartIndex, length, "outputCharacters.length - outputStartIndex");
+
+        final int endIndex = startIndex + length;
+        int byteIndex = startIndex;
+        int characterIndex = outputStartIndex;
+        while (byteIndex < endIndex)
+        {
+            // ASCII bytes have their high bit clear, so if the bitwise OR of the next eight bytes
+            // isn't negative, then all eight bytes can be copied straight across.
+            if (endIndex - byteIndex >= 8 &&
+                (bytes[byteIndex] | bytes[byteIndex + 1] | bytes[byteIndex + 2] | bytes[byteIndex + 3] |
+                 bytes[byteIndex + 4] | bytes[byteIndex + 5] | bytes[byteIndex + 6] | bytes[byteIndex + 7]) >= 0)
+            {
+                for (int i = 0; i < 8; ++i)
+                {
+                    outputCharacters[characterIndex + i] = (char)bytes[byteIndex + i];
+                }
+                byteIndex += 8;
+                characterIndex += 8;
+            }
+            else if (bytes[byteIndex] >= 0)
+            {
+                outputCharacters[characterIndex++] = (char)bytes[byteIndex++];
+            }
+            else
+            {
+                final byte firstByte = bytes[byteIndex++];
+                if (UTF8CharacterEncoding.isContinuationByte(firstByte))
+                {
+                    throw new IllegalArgumentException("Expected a leading byte, but found a continuation byte (" + Bytes.toHexString(firstByte) + ") instead.");
+                }
+
+                final int bytesInCharacter = Bytes.getLeadingOneBits(firstByte);
+                if (bytesInCharacter >= 5)
+                {
+                    throw new IllegalArgumentException("Found an invalid leading byte (" + Bytes.toHexString(firstByte) + ").");
+                }
+
+                int unicodeCodePoint = Bytes.toUnsignedInt(firstByte) & (0xFF >>> (bytesInCharacter + 1));
+                for (int byteNumber = 2; byteNumber <= bytesInCharacter; ++byteNumber)
+                {
+                    if (byteIndex == endIndex)
+                    {
+                        throw new IllegalArgumentException("Missing " + UTF8CharacterEncoding.toOrdinal(byteNumber) + " byte of " + bytesInCharacter + " in decoded character.");
+                    }
+
+                    final byte continuationByte = bytes[byteIndex++];
+                    if (!UTF8CharacterEncoding.isContinuationByte(continuationByte))
+                    {
+                        throw new IllegalArgumentException("Expected " + UTF8CharacterEncoding.toOrdinal(byteNumber) + " byte of " + bytesInCharacter + " to be a continuation byte (10xxxxxx), but found " + Bytes.toHexString(continuationByte) + " instead.");
+                    }
+                    unicodeCodePoint = (unicodeCodePoint << 6) | (continuationByte & 0x3F);
+                }
+
+                if (unicodeCodePoint < 0x10000)
+                {
+                    outputCharacters[characterIndex++] = (char)unicodeCodePoint;
+                }
+                else
+                {
+                    outputCharacters[characterIndex++] = (char)(((unicodeCodePoint - 0x10000) >>> 10) + 0xD800);
+                    outputCharacters[characterIndex++] = (char)((unicodeCodePoint & 0x3FF) + 0xDC00);
+                }
+            }
+        }
+
+        final int result = characterIndex - outputStartIndex;
+
+        PostCondition.assertBetween(0, result, length, "result");
+
+        return result;
+    }
+
+    @Override
+    public int getPartialCharacterByteCount(byte[] bytes, int startIndex, int length)
+    {
+        PreCondition.assertNotNull(bytes, "bytes");
+        PreCondition.assertStartIndex(startIndex, bytes.length);
+        PreCondition.assertLength(length, startIndex, bytes.length);
+
+        // A character is at most 4 bytes long, so only the last 3 bytes can start a character that
+        // isn't complete.
+        final int endIndex = startIndex + length;
+        final int firstIndexToCheck = Math.maximum(startIndex, endIndex - 3);
+        int result = 0;
+        int index = endIndex - 1;
+        while (index >= firstIndexToCheck && UTF8CharacterEncoding.isContinuationByte(bytes[index]))
+        {
+            --index;
+        }
+        if (index >= firstIndexToCheck && bytes[index] < 0)
+        {
+            final int bytesInCharacter = Bytes.getLeadingOneBits(bytes[index]);
+            if (bytesInCharacter <= 4 && endIndex - index < bytesInCharacter)
+            {
+                result = endIndex - index;
+            }
+        }
+
+        PostCondition.assertBetween(0, result, 3, "result");
+
+        return result;
+    }
+
+    @Override
+    public int getEncodedByteCount(char[] characters, int startIndex, int length)
+    {
+        PreCondition.assertNotNull(characters, "characters");
+        PreCondition.assertStartIndex(startIndex, characters.length);
+        PreCondition.assertLength(length, startIndex, characters.length);
+
+        final int endIndex = startIndex + length;
+        int result = 0;
+        for (int i = startIndex; i < endIndex; ++i)
+        {
+            result += UTF8CharacterEncoding.getEncodedByteCount(characters[i]);
+        }
+
+        PostCondition.assertGreaterThanOrEqualTo(result, length, "result");
+
+        return result;
+    }
+
+    @Override
+    public int getEncodedByteCount(String text, int startIndex, int length)
+    {
+        PreCondition.assertNotNull(text, "text");
+        PreCondition.assertStartIndex(startIndex, text.length());
+        PreCondition.assertLength(length, startIndex, text.length());
+
+        final int endIndex = startIndex + length;
+        int result = 0;
+        for (int i = startIndex; i < endIndex; ++i)
+        {
+            result += UTF8CharacterEncoding.getEncodedByteCount(text.charAt(i));
+        }
+
+        PostCondition.assertGreaterThanOrEqualTo(result, length, "result");
+
+        return result;
+    }
+
+    /**
+     * Get the number of bytes that the provided character will be encoded as. Each half of a
+     * surrogate pair counts as 2 bytes so that the pair adds up to the 4 bytes it is encoded as.
+     * @param character The character to get the encoded byte count of.
+     * @return The number of bytes that the provided character will be encoded as.
+     */
+    private static int getEncodedByteCount(char character)
+    {
+        return character <= 0x7F ? 1
+            : character <= 0x7FF || Character.isSurrogate(character) ? 2
+            : 3;
+    }
+
+    @Override
+    public int encode(char[] characters, int startIndex, int length, byte[] outputBytes, int outputStartIndex)
+    {
+        PreCondition.assertNotNull(characters, "characters");
+        PreCondition.assertStartIndex(startIndex, characters.length);
+        PreCondition.assertLength(length, startIndex, characters.length);
+        PreCondition.assertNotNull(outputBytes, "outputBytes");
+        PreCondition.assertBetween(0, outputStartIndex, outputBytes.length, "outputStartIndex");
+
+        final int endIndex = startIndex + length;
+        int characterIndex = startIndex;
+        int byteIndex = outputStartIndex;
+        while (characterIndex < endIndex)
+        {
+            // ASCII characters are all less than 0x80, so if the bitwise OR of the next eight
+            // characters is less than 0x80, then all eight characters can be copied straight across.
+            if (endIndex - characterIndex >= 8 &&
+                (characters[characterIndex] | characters[characterIndex + 1] | characters[characterIndex + 2] | characters[characterIndex + 3] |
+                 characters[characterIndex + 4] | characters[characterIndex + 5] | characters[characterIndex + 6] | characters[characterIndex + 7]) <= 0x7F)
+            {
+                for (int i = 0; i < 8; ++i)
+                {
+                    outputBytes[byteIndex + i] = (byte)characters[characterIndex + i];
+                }
+                characterIndex += 8;
+                byteIndex += 8;
+            }
+            else
+            {
+                final char character = characters[characterIndex++];
+                if (character <= 0x7F)
+                {
+                    outputBytes[byteIndex++] = (byte)character;
+                }
+                else if (!Character.isSurrogate(character))
+                {
+                    byteIndex = UTF8CharacterEncoding.encodeUnicodeCodePoint(character, outputBytes, byteIndex);
+                }
+                else
+                {
+                    final int lowSurrogate = characterIndex < endIndex ? characters[characterIndex++] : -1;
+                    byteIndex = UTF8CharacterEncoding.encodeUnicodeCodePoint(UTF8CharacterEncoding.toUnicodeCodePoint(character, lowSurrogate), outputBytes, byteIndex);
+                }
+            }
+        }
+
+        final int result = byteIndex - outputStartIndex;
+
+        PostCondition.assertGreaterThanOrEqualTo(result, length, "result");
+
+        return result;
+    }
+
+    @Override
+    public int encode(String text, int startIndex, int length, byte[] outputBytes, int outputStartIndex)
+    {
+        PreCondition.assertNotNull(text, "text");
+        PreCondition.assertStartIndex(startIndex, text.length());
+        PreCondition.assertLength(length, startIndex, text.length());
+        PreCondition.assertNotNull(outputBytes, "outputBytes");
+        PreCondition.assertBetween(0, outputStartIndex, outputBytes.length, "outputStartIndex");
+
+        final int endIndex = startIndex + length;
+        int characterIndex = startIndex;
+        int byteIndex = outputStartIndex;
+        while (characterIndex < endIndex)
+        {
+            if (endIndex - characterIndex >= 8 &&
+                (text.charAt(characterIndex) | text.charAt(characterIndex + 1) | text.charAt(characterIndex + 2) | text.charAt(characterIndex + 3) |
+                 text.charAt(characterIndex + 4) | text.charAt(characterIndex + 5) | text.charAt(characterIndex + 6) | text.charAt(characterIndex + 7)) <= 0x7F)
+            {
+                for (int i = 0; i < 8; ++i)
+                {
+                    outputBytes[byteIndex + i] = (byte)text.charAt(characterIndex + i);
+                }
+                characterIndex += 8;
+                byteIndex += 8;
+            }
+            else
+            {
+                final char character = text.charAt(characterIndex++);
+                if (character <= 0x7F)
+                {
+                    outputBytes[byteIndex++] = (byte)character;
+                }
+                else if (!Character.isSurrogate(character))
+                {
+                    byteIndex = UTF8CharacterEncoding.encodeUnicodeCodePoint(character, outputBytes, byteIndex);
+                }
+                else
+                {
+                    final int lowSurrogate = characterIndex < endIndex ? text.charAt(characterIndex++) : -1;
+                    byteIndex = UTF8CharacterEncoding.encodeUnicodeCodePoint(UTF8CharacterEncoding.toUnicodeCodePoint(character, lowSurrogate), outputBytes, byteIndex);
+                }
+            }
+        }
+
+        final int result = byteIndex - outputStartIndex;
+
+        PostCondition.assertGreaterThanOrEqualTo(result, length, "result");
+
+        return result;
+    }
+
+    /**
+     * Combine the provided surrogate pair into the Unicode code point that it represents.
+     * @param highSurrogate The first character of the surrogate pair.
+     * @param lowSurrogate The second character of the surrogate pair, or -1 if the high surrogate
+     *                     was the last character to encode.
+     * @return The Unicode code point that the surrogate pair represents.
+     */
+    private static int toUnicodeCodePoint(char highSurrogate, int lowSurrogate)
+    {
+        if (UTF16CharacterEncoding.isLowSurrogate(highSurrogate))
+        {
+            throw new IllegalArgumentException("Expected to find a non-surrogate character (not between 0xD800 and 0xDFFF) or high-surrogate character (between 0xD800 and 0xDBFF, but found a low surrogate character instead (0x" + Integers.toHexString((int)highSurrogate, true) + ").");
+        }
+        else if (lowSurrogate == -1)
+        {
+            throw new IllegalArgumentException("Missing low-surrogate character (between 0xDC00 and 0xDFFF) after high-surrogate character (between 0xD800 and 0xDBFF).");
+        }
+        else if (!UTF16CharacterEncoding.isLowSurrogate((char)lowSurrogate))
+        {
+            throw new IllegalArgumentException("Expected low-surrogate character (between 0xDC00 and 0xDFFF) after high surrogate character (between 0xD800 and 0xDBFF), but found 0x" + Integers.toHexString(lowSurrogate, true) + " instead.");
+        }
+        return 0x10000 + ((highSurrogate - 0xD800) << 10) + (lowSurrogate - 0xDC00);
+    }
+
+    /**
+     * Write the UTF-8 bytes of the provided non-ASCII Unicode code point to the provided byte[].
+     * @param unicodeCodePoint The Unicode code point to encode.
+     * @param outputBytes The byte[] to write the encoded bytes to.
+     * @param outputIndex The index in outputBytes to write the first encoded byte to.
+     * @return The index in outputBytes after the last encoded byte.
+     */
+    private static int encodeUnicodeCodePoint(int unicodeCodePoint, byte[] outputBytes, int outputIndex)
+    {
+        if (unicodeCodePoint <= 0x0007FF)
+        {
+            outputBytes[outputIndex++] = (byte)(0xC0 | (unicodeCodePoint >>> 6));
+        }
+        else
+        {
+            if (unicodeCodePoint <= 0x00FFFF)
+            {
+                outputBytes[outputIndex++] = (byte)(0xE0 | (unicodeCodePoint >>> 12));
+            }
+            else
+            {
+                outputBytes[outputIndex++] = (byte)(0xF0 | (unicodeCodePoint >>> 18));
+                outputBytes[outputIndex++] = (byte)(0x80 | ((unicodeCodePoint >>> 12) & 0x3F));
+            }
+            outputBytes[outputIndex++] = (byte)(0x80 | ((unicodeCodePoint >>> 6) & 0x3F));
+        }
+        outputBytes[outputIndex++] = (byte)(0x80 | (unicodeCodePoint & 0x3F));
+        return outputIndex;
+    }
+
+    private static String toOrdinal(int byteNumber)
+    {
+        return byteNumber == 2 ? "2nd" : byteNumber == 3 ? "3rd" : "4th";
+    }
+
     @Override
     public UTF8BytesToUnicodeCodePointIterator iterateDecodedUnicodeCodePoints(Iterator<Byte> bytes)
     {
@@ -106,6 +432,12 @@ public class UTF8CharacterEncoding implements UnicodeCharacterEncoding
         return CharacterEncoding.equals(this, rhs);
     }
 
+    @Override
+    public int hashCode()
+    {
+        return CharacterEncoding.hashCode(this);
+    }
+
     /**
      * Get whether or not the provided byte is a continuation byte (has an unsigned binary prefix of
      * 10xxxxxx).
@@ -11,17 +11,6 @@ public interface UnicodeCharacterEncoding extends CharacterEncoding
         return this.encodeCharacters(Iterator.create(character), byteWriteStream);
     }
 
-    default Result<Integer> encodeCharacters(char[] characters, int startIndex, int length, ByteWriteStream byteWriteStream)
-    {
-        PreCondition.assertNotNull(characters, "characters");
-        PreCondition.assertStartIndex(startIndex, characters.length);
-        PreCondition.assertLength(length, startIndex, characters.length);
-        PreCondition.assertNotNull(byteWriteStream, "byteWriteStream");
-        PreCondition.assertNotDisposed(byteWriteStream, "byteWriteStream");
-
-        return this.encodeCharacters(CharacterArray.create(characters, startIndex, length).iterate(), byteWriteStream);
-    }
-
     @Override
     default Result<Integer> encodeCharacters(Iterator<Character> characters, ByteWriteStream byteWriteStream)
     {
@@ -118,6 +118,13 @@ public interface VersionNumber extends Comparable<VersionNumber>
             this.getSuffix().equals(rhs.getSuffix());
     }
 
+    static int hashCode(VersionNumber versionNumber)
+    {
+        PreCondition.assertNotNull(versionNumber, "versionNumber");
+
+        return Hash.getHashCode(versionNumber.getParts(), versionNumber.getSuffix());
+    }
+
     @Override
     default Comparison compareWith(VersionNumber rhs)
     {
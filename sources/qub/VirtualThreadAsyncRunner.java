@@ -0,0 +1,241 @@
+package qub;
+
+/**
+ * An AsyncRunner implementation that runs each of its tasks on its own virtual thread. If the
+ * current JVM doesn't support virtual threads, then the tasks will be run on a ParallelAsyncRunner
+ * instead.
+ */
+public class VirtualThreadAsyncRunner implements AsyncScheduler, Disposable
+{
+    /**
+     * The Thread.startVirtualThread(Runnable) method, or null if the current JVM doesn't support
+     * virtual threads.
+     */
+    private static final java.lang.reflect.Method startVirtualThreadMethod = VirtualThreadAsyncRunner.getStartVirtualThreadMethod();
+
+    /**
+     * The AsyncRunner that tasks will be run on if the current JVM doesn't support virtual threads.
+     */
+    private final ParallelAsyncRunner fallbackAsyncRunner;
+    private volatile boolean disposed;
+    private volatile AsyncSchedulerMetrics metrics;
+
+    private VirtualThreadAsyncRunner()
+    {
+        this.fallbackAsyncRunner = VirtualThreadAsyncRunner.isVirtualThreadSupported()
+            ? null
+            : ParallelAsyncRunner.create();
+    }
+
+    /**
+     * Create a new VirtualThreadAsyncRunner.
+     * @return The new VirtualThreadAsyncRunner.
+     */
+    public static VirtualThreadAsyncRunner create()
+    {
+        return new VirtualThreadAsyncRunner();
+    }
+
+    /**
+     * Get whether or not the current JVM supports virtual threads.
+     * @return Whether or not the current JVM supports virtual threads.
+     */
+    public static boolean isVirtualThreadSupported()
+    {
+        return VirtualThreadAsyncRunner.startVirtualThreadMethod != null;
+    }
+
+    /**
+     * Get whether or not this VirtualThreadAsyncRunner runs its tasks on virtual threads. If this
+     * returns false, then the tasks are run on a ParallelAsyncRunner instead.
+     * @return Whether or not this VirtualThreadAsyncRunner runs its tasks on virtual threads.
+     */
+    public boolean usesVirtualThreads()
+    {
+        return this.fallbackAsyncRunner == null;
+    }
+
+    @Override
+    public AsyncSchedulerMetrics getMetrics()
+    {
+        return this.metrics;
+    }
+
+    @Override
+    public VirtualThreadAsyncRunner setMetrics(AsyncSchedulerMetrics metrics)
+    {
+        this.metrics = metrics;
+        if (this.fallbackAsyncRunner != null)
+        {
+            this.fallbackAsyncRunner.setMetrics(metrics);
+        }
+
+        return this;
+    }
+
+    @Override
+    public AsyncTask<Void> schedule(Action0 action)
+    {
+        PreCondition.assertNotNull(action, "action");
+
+        return this.schedule(this.create(action));
+    }
+
+    @Override
+    public <T> AsyncTask<T> schedule(Function0<T> function)
+    {
+        PreCondition.assertNotNull(function, "function");
+
+        return this.schedule(this.create(function));
+    }
+
+    @Override
+    public AsyncTask<Void> create(Action0 action)
+    {
+        PreCondition.assertNotNull(action, "action");
+
+        return new AsyncTask<>(this, action);
+    }
+
+    @Override
+    public <T> AsyncTask<T> create(Function0<T> function)
+    {
+        PreCondition.assertNotNull(function, "function");
+
+        return new AsyncTask<>(this, function);
+    }
+
+    @Override
+    public <T> AsyncTask<T> schedule(AsyncTask<T> task)
+    {
+        PreCondition.assertNotNull(task, "task");
+        PreCondition.assertFalse(task.isCompleted(), "task.isCompleted()");
+        PreCondition.assertNotDisposed(this, "this");
+
+        if (this.fallbackAsyncRunner != null)
+        {
+            this.fallbackAsyncRunner.schedule(task);
+        }
+        else
+        {
+            final AsyncSchedulerMetrics metrics = this.metrics;
+            if (metrics != null)
+            {
+                metrics.onTaskScheduled(task);
+            }
+
+            final java.lang.Runnable runnable = () ->
+            {
+                CurrentThread.setAsyncRunner(this);
+                try
+                {
+                    if (metrics == null)
+                    {
+                        task.run();
+                    }
+                    else
+                    {
+                        metrics.runTask(task);
+                    }
+                }
+                finally
+                {
+                    CurrentThread.setAsyncRunner(null);
+                }
+            };
+
+            try
+            {
+                VirtualThreadAsyncRunner.startVirtualThreadMethod.invoke(null, runnable);
+            }
+            catch (java.lang.ReflectiveOperationException e)
+            {
+                throw Exceptions.asRuntime(e);
+            }
+        }
+
+        return task;
+    }
+
+    @Override
+    public void await(Result<?> result)
+    {
+        PreCondition.assertNotNull(result, "result");
+
+        if (this.fallbackAsyncRunner != null)
+        {
+            this.fallbackAsyncRunner.await(result);
+        }
+        else if (result instanceof AsyncTask<?>)
+        {
+            // Parking a virtual thread unmounts it from its carrier thread, so blocking here
+            // doesn't take a platform thread away from the other tasks.
+            ((AsyncTask<?>)result).awaitCompletion();
+        }
+        else
+        {
+            while (!result.isCompleted())
+            {
+                CurrentThread.yield();
+            }
+        }
+    }
+
+    @Override
+    public boolean isDisposed()
+    {
+        return this.disposed;
+    }
+
+    /**
+     * Stop this VirtualThreadAsyncRunner from accepting new tasks. Tasks that have already been
+     * scheduled will still be run.
+     * @return Whether or not this VirtualThreadAsyncRunner was disposed.
+     */
+    @Override
+    public Result<Boolean> dispose()
+    {
+        return Result.create(() ->
+        {
+            boolean result;
+            synchronized (this)
+            {
+                result = !this.disposed;
+                if (result)
+                {
+                    this.disposed = true;
+                }
+            }
+
+            if (result && this.fallbackAsyncRunner != null)
+            {
+                this.fallbackAsyncRunner.dispose().await();
+            }
+
+            return result;
+        });
+    }
+
+    /**
+     * Get the Thread.startVirtualThread(Runnable) method if the current JVM supports virtual
+     * threads. JVMs that only have virtual threads as a preview feature will have this method,
+     * but it will throw an UnsupportedOperationException unless preview features are enabled.
+     * @return The Thread.startVirtualThread(Runnable) method, or null if the current JVM doesn't
+     * support virtual threads.
+     */
+    private static java.lang.reflect.Method getStartVirtualThreadMethod()
+    {
+        java.lang.reflect.Method result;
+        try
+        {
+            result = java.lang.Thread.class.getMethod("startVirtualThread", java.lang.Runnable.class);
+            final java.lang.Thread thread = (java.lang.Thread)result.invoke(null, (java.lang.Runnable)() -> {});
+            thread.join();
+        }
+        catch (Throwable error)
+        {
+            result = null;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,188 @@
+package qub;
+
+public interface ArrayDequeTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(ArrayDeque.class, () ->
+        {
+            ListTests.test(runner, (Integer count) ->
+            {
+                final ArrayDeque<Integer> result = ArrayDeque.create();
+                for (int i = 0; i < count; ++i)
+                {
+                    result.add(i);
+                }
+                return result;
+            });
+
+            QueueTests.test(runner, ArrayDeque::create);
+
+            runner.testGroup("create(int)", () ->
+            {
+                runner.test("with negative", (Test test) ->
+                {
+                    test.assertThrows(() -> ArrayDeque.create(-1),
+                        new PreConditionFailure("initialCapacity (-1) must be between 0 and 1073741824."));
+                });
+
+                runner.test("with 0", (Test test) ->
+                {
+                    final ArrayDeque<Integer> deque = ArrayDeque.create(0);
+                    test.assertEqual(0, deque.getCount());
+                    test.assertEqual(1, deque.getCapacity());
+                });
+
+                runner.test("with 5", (Test test) ->
+                {
+                    final ArrayDeque<Integer> deque = ArrayDeque.create(5);
+                    test.assertEqual(0, deque.getCount());
+                    test.assertEqual(8, deque.getCapacity());
+                });
+            });
+
+            runner.testGroup("create(T...)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    test.assertThrows(() -> ArrayDeque.create((Integer[])null),
+                        new PreConditionFailure("values cannot be null."));
+                });
+
+                runner.test("with values", (Test test) ->
+                {
+                    final ArrayDeque<Integer> deque = ArrayDeque.create(1, 2, 3);
+                    test.assertEqual(Iterable.create(1, 2, 3), deque);
+                });
+            });
+
+            runner.test("addFirst(T)", (Test test) ->
+            {
+                final ArrayDeque<Integer> deque = ArrayDeque.create(2);
+                for (int i = 0; i < 10; ++i)
+                {
+                    deque.addFirst(i);
+                    test.assertEqual(i + 1, deque.getCount());
+                    test.assertEqual(i, deque.first());
+                    test.assertEqual(0, deque.last());
+                }
+                test.assertEqual(Iterable.create(9, 8, 7, 6, 5, 4, 3, 2, 1, 0), deque);
+            });
+
+            runner.test("addLast(T)", (Test test) ->
+            {
+                final ArrayDeque<Integer> deque = ArrayDeque.create(2);
+                for (int i = 0; i < 10; ++i)
+                {
+                    deque.addLast(i);
+                    test.assertEqual(i + 1, deque.getCount());
+                    test.assertEqual(0, deque.first());
+                    test.assertEqual(i, deque.last());
+                }
+                test.assertEqual(Iterable.create(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), deque);
+            });
+
+            runner.test("with values that wrap around the end of the array", (Test test) ->
+            {
+                final ArrayDeque<Integer> deque = ArrayDeque.create(4);
+                deque.addLast(1).addLast(2).addLast(3);
+                test.assertEqual(1, deque.removeFirst());
+                test.assertEqual(2, deque.removeFirst());
+                deque.addLast(4).addLast(5);
+                test.assertEqual(4, deque.getCapacity());
+                test.assertEqual(Iterable.create(3, 4, 5), deque);
+
+                deque.insert(1, 10);
+                test.assertEqual(Iterable.create(3, 10, 4, 5), deque);
+
+                deque.insert(3, 20);
+                test.assertEqual(8, deque.getCapacity());
+                test.assertEqual(Iterable.create(3, 10, 4, 20, 5), deque);
+
+                test.assertEqual(10, deque.removeAt(1));
+                test.assertEqual(20, deque.removeAt(2));
+                test.assertEqual(Iterable.create(3, 4, 5), deque);
+            });
+
+            runner.testGroup("removeFirst()", () ->
+            {
+                runner.test("when empty", (Test test) ->
+                {
+                    final ArrayDeque<Integer> deque = ArrayDeque.create();
+                    test.assertThrows(() -> deque.removeFirst(),
+                        new PreConditionFailure("Indexable length (0) must be greater than or equal to 1."));
+                });
+
+                runner.test("when not empty", (Test test) ->
+                {
+                    final ArrayDeque<Integer> deque = ArrayDeque.create(1, 2);
+                    test.assertEqual(1, deque.removeFirst());
+                    test.assertEqual(2, deque.removeFirst());
+                    test.assertFalse(deque.any());
+                });
+            });
+
+            runner.testGroup("removeLast()", () ->
+            {
+                runner.test("when empty", (Test test) ->
+                {
+                    final ArrayDeque<Integer> deque = ArrayDeque.create();
+                    test.assertThrows(() -> deque.removeLast(),
+                        new PreConditionFailure("Indexable length (0) must be greater than or equal to 1."));
+                });
+
+                runner.test("when not empty", (Test test) ->
+                {
+                    final ArrayDeque<Integer> deque = ArrayDeque.create(1, 2);
+                    test.assertEqual(2, deque.removeLast());
+                    test.assertEqual(1, deque.removeLast());
+                    test.assertFalse(deque.any());
+                });
+            });
+
+            runner.testGroup("pop()", () ->
+            {
+                runner.test("when empty", (Test test) ->
+                {
+                    final ArrayDeque<Integer> deque = ArrayDeque.create();
+                    test.assertThrows(() -> deque.pop().await(),
+                        new StackEmptyException());
+                });
+
+                runner.test("after push()", (Test test) ->
+                {
+                    final ArrayDeque<Integer> deque = ArrayDeque.create();
+                    deque.push(1).push(2).push(3);
+                    test.assertEqual(3, deque.peek().await());
+                    test.assertEqual(3, deque.pop().await());
+                    test.assertEqual(2, deque.pop().await());
+                    test.assertEqual(1, deque.pop().await());
+                    test.assertFalse(deque.any());
+                });
+            });
+
+            runner.test("with many values added and removed", (Test test) ->
+            {
+                final ArrayDeque<Integer> deque = ArrayDeque.create();
+                int nextValue = 0;
+                int expectedValue = 0;
+                for (int round = 0; round < 100; ++round)
+                {
+                    for (int i = 0; i < 3; ++i)
+                    {
+                        deque.enqueue(nextValue++);
+                    }
+                    test.assertEqual(expectedValue++, deque.dequeue().await());
+                    test.assertEqual(expectedValue++, deque.dequeue().await());
+                }
+                test.assertEqual(100, deque.getCount());
+                test.assertEqual(128, deque.getCapacity());
+
+                deque.clear();
+                test.assertFalse(deque.any());
+                test.assertNull(deque.first());
+                test.assertNull(deque.last());
+            });
+        });
+    }
+}
@@ -17,6 +17,61 @@ public interface ArrayTests
                 return result; 
             });
 
+            runner.testGroup("parallelSort(AsyncScheduler,Function2<T,T,Boolean>)", () ->
+            {
+                runner.test("with null asyncScheduler", (Test test) ->
+                {
+                    final Array<Integer> values = Array.create(3, 1, 2);
+                    test.assertThrows(() -> values.parallelSort(null, Comparer::lessThan),
+                        new PreConditionFailure("asyncScheduler cannot be null."));
+                });
+
+                runner.test("with null lessThan",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncScheduler asyncScheduler) ->
+                {
+                    final Array<Integer> values = Array.create(3, 1, 2);
+                    test.assertThrows(() -> values.parallelSort(asyncScheduler, null),
+                        new PreConditionFailure("lessThan cannot be null."));
+                });
+
+                runner.test("with few values",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncScheduler asyncScheduler) ->
+                {
+                    final Array<Integer> values = Array.create(3, 1, 2);
+                    test.assertSame(values, values.parallelSort(asyncScheduler, Comparer::lessThan).await());
+                    test.assertEqual(Iterable.create(1, 2, 3), values);
+                });
+
+                runner.test("with many values",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncScheduler asyncScheduler) ->
+                {
+                    final int count = 100000;
+                    final java.util.Random random = new java.util.Random(13);
+                    final Array<Integer> values = Array.createWithLength(count);
+                    for (int i = 0; i < count; ++i)
+                    {
+                        values.set(i, random.nextInt(count));
+                    }
+                    final Array<Integer> expectedValues = Array.create(values);
+                    expectedValues.sort(Comparer::lessThan);
+
+                    test.assertSame(values, values.parallelSort(asyncScheduler, Comparer::lessThan).await());
+                    test.assertEqual(expectedValues, values);
+                });
+
+                runner.test("with equal values",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncScheduler asyncScheduler) ->
+                {
+                    final Array<String> values = Array.create("bb", "a", "cc", "b", "aa", "c");
+                    test.assertSame(values, values.parallelSort(asyncScheduler, (String lhs, String rhs) -> lhs.length() < rhs.length()).await());
+                    test.assertEqual(Iterable.create("a", "b", "c", "bb", "cc", "aa"), values);
+                });
+            });
+
             runner.testGroup("create(Iterator<T>)", () ->
             {
                 runner.test("with null Iterator", (Test test) ->
@@ -0,0 +1,93 @@
+package qub;
+
+public interface AsyncSchedulerMetricsTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(AsyncSchedulerMetrics.class, () ->
+        {
+            runner.test("create()", (Test test) ->
+            {
+                final AsyncSchedulerMetrics metrics = AsyncSchedulerMetrics.create();
+                test.assertEqual(0, metrics.getScheduledTaskCount());
+                test.assertEqual(0, metrics.getStartedTaskCount());
+                test.assertEqual(0, metrics.getCompletedTaskCount());
+                test.assertEqual(0, metrics.getFailedTaskCount());
+                test.assertEqual(0, metrics.getQueueDepth());
+                test.assertEqual(0, metrics.getMaximumQueueDepth());
+                test.assertEqual(0, metrics.getActiveWorkerCount());
+                test.assertEqual(0, metrics.getMaximumActiveWorkerCount());
+                test.assertEqual(0, metrics.getQueueLatencies().getCount());
+                test.assertEqual(0, metrics.getRunDurations().getCount());
+            });
+
+            runner.test("onTaskScheduled()", (Test test) ->
+            {
+                final AsyncSchedulerMetrics metrics = AsyncSchedulerMetrics.create();
+                metrics.onTaskScheduled();
+                metrics.onTaskScheduled();
+                test.assertEqual(2, metrics.getScheduledTaskCount());
+                test.assertEqual(2, metrics.getQueueDepth());
+                test.assertEqual(2, metrics.getMaximumQueueDepth());
+            });
+
+            runner.test("onTaskStarted(long)", (Test test) ->
+            {
+                final AsyncSchedulerMetrics metrics = AsyncSchedulerMetrics.create();
+                metrics.onTaskScheduled();
+                metrics.onTaskScheduled();
+                metrics.onTaskStarted(50);
+                test.assertEqual(1, metrics.getStartedTaskCount());
+                test.assertEqual(1, metrics.getQueueDepth());
+                test.assertEqual(2, metrics.getMaximumQueueDepth());
+                test.assertEqual(1, metrics.getActiveWorkerCount());
+                test.assertEqual(1, metrics.getMaximumActiveWorkerCount());
+                test.assertEqual(Duration.nanoseconds(50), metrics.getQueueLatencies().getTotal());
+            });
+
+            runner.test("onTaskCompleted(long,boolean)", (Test test) ->
+            {
+                final AsyncSchedulerMetrics metrics = AsyncSchedulerMetrics.create();
+                metrics.onTaskScheduled();
+                metrics.onTaskScheduled();
+                metrics.onTaskStarted(1);
+                metrics.onTaskStarted(2);
+                test.assertEqual(2, metrics.getActiveWorkerCount());
+
+                metrics.onTaskCompleted(100, false);
+                metrics.onTaskCompleted(200, true);
+                test.assertEqual(2, metrics.getCompletedTaskCount());
+                test.assertEqual(1, metrics.getFailedTaskCount());
+                test.assertEqual(0, metrics.getActiveWorkerCount());
+                test.assertEqual(2, metrics.getMaximumActiveWorkerCount());
+                test.assertEqual(Duration.nanoseconds(300), metrics.getRunDurations().getTotal());
+            });
+
+            runner.test("toJson()", (Test test) ->
+            {
+                final AsyncSchedulerMetrics metrics = AsyncSchedulerMetrics.create();
+                metrics.onTaskScheduled();
+                metrics.onTaskStarted(10);
+                metrics.onTaskCompleted(20, false);
+
+                final JSONObject json = metrics.toJson();
+                test.assertEqual(
+                    Iterable.create(
+                        "scheduledTaskCount",
+                        "startedTaskCount",
+                        "completedTaskCount",
+                        "failedTaskCount",
+                        "queueDepth",
+                        "maximumQueueDepth",
+                        "activeWorkerCount",
+                        "maximumActiveWorkerCount",
+                        "queueLatencies",
+                        "runDurations"),
+                    json.getPropertyNames());
+                test.assertEqual(1, json.getLong("completedTaskCount").await());
+                test.assertEqual(metrics.getQueueLatencies().toJson(), json.getObject("queueLatencies").await());
+                test.assertEqual(metrics.getRunDurations().toJson(), json.getObject("runDurations").await());
+            });
+        });
+    }
+}
@@ -63,6 +63,67 @@ public interface AsyncSchedulerTests
                     });
                 });
             });
+
+            runner.test("getMetrics()", (Test test) ->
+            {
+                CurrentThread.withAsyncScheduler(creator, (AsyncScheduler asyncScheduler) ->
+                {
+                    test.assertNull(asyncScheduler.getMetrics());
+                });
+            });
+
+            runner.testGroup("setMetrics(AsyncSchedulerMetrics)", () ->
+            {
+                runner.test("with non-null metrics", (Test test) ->
+                {
+                    CurrentThread.withAsyncScheduler(creator, (AsyncScheduler asyncScheduler) ->
+                    {
+                        final AsyncSchedulerMetrics metrics = AsyncSchedulerMetrics.create();
+                        test.assertSame(asyncScheduler, asyncScheduler.setMetrics(metrics));
+                        test.assertSame(metrics, asyncScheduler.getMetrics());
+
+                        final Result<Integer> successfulTask = asyncScheduler.schedule(() -> 5);
+                        final Result<Integer> failingTask = asyncScheduler.schedule(() -> { throw new NotFoundException("blah"); });
+                        test.assertEqual(5, successfulTask.await());
+                        test.assertThrows(failingTask::await, new NotFoundException("blah"));
+
+                        // A task is completed before its scheduler records that it finished running.
+                        while (metrics.getCompletedTaskCount() < 2)
+                        {
+                            CurrentThread.yield();
+                        }
+                        test.assertEqual(2, metrics.getScheduledTaskCount());
+                        test.assertEqual(2, metrics.getStartedTaskCount());
+                        test.assertEqual(2, metrics.getCompletedTaskCount());
+                        test.assertEqual(1, metrics.getFailedTaskCount());
+                        test.assertEqual(0, metrics.getQueueDepth());
+                        test.assertEqual(0, metrics.getActiveWorkerCount());
+                        test.assertTrue(metrics.getMaximumActiveWorkerCount() >= 1);
+                        test.assertEqual(2, metrics.getQueueLatencies().getCount());
+                        test.assertEqual(2, metrics.getRunDurations().getCount());
+
+                        final JSONObject json = metrics.toJson();
+                        test.assertEqual(2, json.getLong("scheduledTaskCount").await());
+                        test.assertEqual(1, json.getLong("failedTaskCount").await());
+                        test.assertEqual(2, json.getObject("runDurations").await().getLong("count").await());
+                    });
+                });
+
+                runner.test("with null metrics", (Test test) ->
+                {
+                    CurrentThread.withAsyncScheduler(creator, (AsyncScheduler asyncScheduler) ->
+                    {
+                        final AsyncSchedulerMetrics metrics = AsyncSchedulerMetrics.create();
+                        asyncScheduler.setMetrics(metrics);
+                        test.assertSame(asyncScheduler, asyncScheduler.setMetrics(null));
+                        test.assertNull(asyncScheduler.getMetrics());
+
+                        test.assertEqual(5, asyncScheduler.schedule(() -> 5).await());
+                        test.assertEqual(0, metrics.getScheduledTaskCount());
+                        test.assertEqual(0, metrics.getCompletedTaskCount());
+                    });
+                });
+            });
         });
     }
 }
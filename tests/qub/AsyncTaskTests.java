@@ -108,6 +108,221 @@ public interface AsyncTaskTests
                 });
             });
 
+            runner.testGroup("awaitCompletion()", () ->
+            {
+                runner.test("when AsyncTask is already completed", (Test test) ->
+                {
+                    CurrentThread.withManualAsyncScheduler((ManualAsyncRunner asyncRunner) ->
+                    {
+                        final AsyncTask<Integer> asyncTask = asyncRunner.schedule(() -> 5);
+                        asyncTask.await();
+
+                        asyncTask.awaitCompletion();
+                        test.assertTrue(asyncTask.isCompleted());
+                    });
+                });
+
+                runner.test("when AsyncTask throws", (Test test) ->
+                {
+                    CurrentThread.withParallelAsyncScheduler((ParallelAsyncRunner asyncRunner) ->
+                    {
+                        final AsyncTask<Integer> asyncTask = asyncRunner.schedule(() -> { throw new NotFoundException("blah"); });
+
+                        asyncTask.awaitCompletion();
+                        test.assertTrue(asyncTask.isCompleted());
+                        test.assertThrows(asyncTask::await, new NotFoundException("blah"));
+                    });
+                });
+
+                runner.test("when AsyncTask is completed on a different thread", (Test test) ->
+                {
+                    CurrentThread.withParallelAsyncScheduler((ParallelAsyncRunner asyncRunner) ->
+                    {
+                        final SpinGate gate = SpinGate.create();
+                        final AsyncTask<Integer> asyncTask = asyncRunner.schedule(() ->
+                        {
+                            gate.passThrough().await();
+                            return 5;
+                        });
+                        test.assertFalse(asyncTask.isCompleted());
+
+                        final AsyncTask<Void> waitingTask = asyncRunner.schedule(() -> asyncTask.awaitCompletion());
+                        gate.open();
+
+                        waitingTask.awaitCompletion();
+                        test.assertTrue(asyncTask.isCompleted());
+                        test.assertEqual(5, asyncTask.await());
+                    });
+                });
+
+                runner.test("with many threads waiting on the same AsyncTask", (Test test) ->
+                {
+                    CurrentThread.withParallelAsyncScheduler((ParallelAsyncRunner asyncRunner) ->
+                    {
+                        final SpinGate gate = SpinGate.create();
+                        final AsyncTask<Integer> asyncTask = asyncRunner.schedule(() ->
+                        {
+                            gate.passThrough().await();
+                            return 5;
+                        });
+
+                        final List<AsyncTask<Integer>> waitingTasks = List.create();
+                        for (int i = 0; i < 10; ++i)
+                        {
+                            waitingTasks.add(asyncRunner.schedule(() ->
+                            {
+                                asyncTask.awaitCompletion();
+                                return asyncTask.await();
+                            }));
+                        }
+                        gate.open();
+
+                        for (final AsyncTask<Integer> waitingTask : waitingTasks)
+                        {
+                            test.assertEqual(5, waitingTask.await());
+                        }
+                    });
+                });
+            });
+
+            runner.testGroup("cancel()", () ->
+            {
+                runner.test("when AsyncTask hasn't been scheduled", (Test test) ->
+                {
+                    CurrentThread.withManualAsyncScheduler((ManualAsyncRunner asyncRunner) ->
+                    {
+                        final IntegerValue runCount = IntegerValue.create(0);
+                        final AsyncTask<Integer> asyncTask = asyncRunner.create(() -> runCount.increment().get());
+                        test.assertFalse(asyncTask.isCancelled());
+
+                        test.assertTrue(asyncTask.cancel());
+                        test.assertTrue(asyncTask.isCancelled());
+                        test.assertFalse(asyncTask.isCompleted());
+                        test.assertFalse(asyncTask.cancel());
+
+                        asyncTask.schedule();
+                        test.assertThrows(asyncTask::await, new CancelledException());
+                        test.assertTrue(asyncTask.isCompleted());
+                        test.assertEqual(0, runCount.get());
+                    });
+                });
+
+                runner.test("when AsyncTask is completed", (Test test) ->
+                {
+                    CurrentThread.withManualAsyncScheduler((ManualAsyncRunner asyncRunner) ->
+                    {
+                        final AsyncTask<Integer> asyncTask = asyncRunner.schedule(() -> 5);
+                        test.assertEqual(5, asyncTask.await());
+
+                        test.assertFalse(asyncTask.cancel());
+                        test.assertFalse(asyncTask.isCancelled());
+                        test.assertEqual(5, asyncTask.await());
+                    });
+                });
+
+                runner.test("with continuations", (Test test) ->
+                {
+                    CurrentThread.withManualAsyncScheduler((ManualAsyncRunner asyncRunner) ->
+                    {
+                        final IntegerValue runCount = IntegerValue.create(0);
+                        final AsyncTask<Integer> parentTask = asyncRunner.create(() -> runCount.increment().get());
+                        final AsyncTask<Integer> thenTask = parentTask.then((Integer value) -> runCount.increment().get());
+                        final AsyncTask<Integer> catchErrorTask = thenTask.catchError(CancelledException.class, (CancelledException error) -> runCount.increment().get());
+                        test.assertNotSame(parentTask.getCancellationToken(), thenTask.getCancellationToken());
+                        test.assertNotSame(thenTask.getCancellationToken(), catchErrorTask.getCancellationToken());
+
+                        test.assertTrue(parentTask.cancel());
+                        test.assertTrue(thenTask.isCancelled());
+                        test.assertTrue(catchErrorTask.isCancelled());
+
+                        parentTask.schedule();
+                        test.assertThrows(catchErrorTask::await, new CancelledException());
+                        test.assertThrows(parentTask::await, new CancelledException());
+                        test.assertThrows(thenTask::await, new CancelledException());
+                        test.assertEqual(0, runCount.get());
+                    });
+                });
+
+                runner.test("with a continuation that is cancelled", (Test test) ->
+                {
+                    CurrentThread.withManualAsyncScheduler((ManualAsyncRunner asyncRunner) ->
+                    {
+                        final IntegerValue runCount = IntegerValue.create(0);
+                        final AsyncTask<Integer> parentTask = asyncRunner.create(() -> runCount.increment().get());
+                        final AsyncTask<Integer> thenTask = parentTask.then((Integer value) -> runCount.increment().get());
+                        final AsyncTask<Integer> siblingTask = parentTask.then((Integer value) -> value + 10);
+                        final AsyncTask<Integer> grandchildTask = thenTask.then((Integer value) -> runCount.increment().get());
+
+                        test.assertTrue(thenTask.cancel());
+                        test.assertTrue(thenTask.isCancelled());
+                        test.assertTrue(grandchildTask.isCancelled());
+                        test.assertFalse(parentTask.isCancelled());
+                        test.assertFalse(siblingTask.isCancelled());
+
+                        parentTask.schedule();
+                        test.assertEqual(1, parentTask.await());
+                        test.assertEqual(11, siblingTask.await());
+                        test.assertThrows(thenTask::await, new CancelledException());
+                        test.assertThrows(grandchildTask::await, new CancelledException());
+                        test.assertEqual(1, runCount.get());
+                    });
+                });
+
+                runner.test("with a continuation that is cancelled while its parent is running", (Test test) ->
+                {
+                    CurrentThread.withParallelAsyncScheduler((ParallelAsyncRunner asyncRunner) ->
+                    {
+                        final SpinGate started = SpinGate.create();
+                        final SpinGate finish = SpinGate.create();
+                        final AsyncTask<Integer> parentTask = asyncRunner.schedule(() ->
+                        {
+                            started.open();
+                            finish.passThrough().await();
+                            CurrentThread.getCancellationToken().throwIfCancelled();
+                            return 5;
+                        });
+                        final AsyncTask<Integer> thenTask = parentTask.then((Integer value) -> value + 1);
+                        final AsyncTask<Integer> siblingTask = parentTask.then((Integer value) -> value + 2);
+
+                        started.passThrough().await();
+                        test.assertTrue(thenTask.cancel());
+                        finish.open();
+
+                        test.assertEqual(5, parentTask.await());
+                        test.assertEqual(7, siblingTask.await());
+                        test.assertThrows(thenTask::await, new CancelledException());
+                    });
+                });
+
+                runner.test("while AsyncTask is running", (Test test) ->
+                {
+                    CurrentThread.withParallelAsyncScheduler((ParallelAsyncRunner asyncRunner) ->
+                    {
+                        final SpinGate started = SpinGate.create();
+                        final IntegerValue thenRunCount = IntegerValue.create(0);
+                        final AsyncTask<Integer> asyncTask = asyncRunner.schedule(() ->
+                        {
+                            final CancellationToken cancellationToken = CurrentThread.getCancellationToken();
+                            started.open();
+                            while (!cancellationToken.isCancelled())
+                            {
+                                CurrentThread.yield();
+                            }
+                            cancellationToken.throwIfCancelled();
+                            return 5;
+                        });
+                        final AsyncTask<Integer> thenTask = asyncTask.then((Integer value) -> thenRunCount.increment().get());
+
+                        started.passThrough().await();
+                        test.assertTrue(asyncTask.cancel());
+
+                        test.assertThrows(thenTask::await, new CancelledException());
+                        test.assertThrows(asyncTask::await, new CancelledException());
+                        test.assertEqual(0, thenRunCount.get());
+                    });
+                });
+            });
+
             runner.testGroup("await()", () ->
             {
                 runner.test("when AsyncTask hasn't been awaited yet", (Test test) ->
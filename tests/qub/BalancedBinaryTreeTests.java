@@ -0,0 +1,222 @@
+package qub;
+
+public interface BalancedBinaryTreeTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(BalancedBinaryTree.class, () ->
+        {
+            BinaryTreeTests.test(runner, BalancedBinaryTree::create);
+
+            runner.testGroup("create(Function2<T,T,Comparison>,T...)", () ->
+            {
+                runner.test("with null comparer and no values", (Test test) ->
+                {
+                    test.assertThrows(() -> BalancedBinaryTree.create((Function2<Integer,Integer,Comparison>)null),
+                        new PreConditionFailure("comparer cannot be null."));
+                });
+
+                runner.test("with non-null comparer and two values", (Test test) ->
+                {
+                    final Function2<String,String,Comparison> comparer = (String lhs, String rhs) -> Comparer.compare(lhs.toLowerCase(), rhs.toLowerCase());
+                    final BalancedBinaryTree<String> tree = BalancedBinaryTree.create(comparer, "bananas", "Apples");
+                    test.assertSame(comparer, tree.getComparer());
+                    test.assertEqual(Iterable.create("Apples", "bananas"), tree);
+                });
+            });
+
+            runner.testGroup("add(T)", () ->
+            {
+                final Action1<Iterable<Integer>> addTest = (Iterable<Integer> values) ->
+                {
+                    runner.test("with " + values.getCount() + " values", (Test test) ->
+                    {
+                        final BalancedBinaryTree<Integer> tree = BalancedBinaryTree.create();
+                        for (final Integer value : values)
+                        {
+                            tree.add(value);
+                        }
+                        test.assertEqual(values.getCount(), tree.getCount());
+                        test.assertEqual(values.order((Integer lhs, Integer rhs) -> lhs < rhs), tree);
+                        test.assertTrue(tree.getHeight() <= 1.45 * (java.lang.Math.log(values.getCount() + 2) / java.lang.Math.log(2)));
+                    });
+                };
+
+                addTest.run(Iterable.create());
+                addTest.run(Iterable.create(1, 2, 3, 4, 5, 6, 7));
+                addTest.run(Iterable.create(7, 6, 5, 4, 3, 2, 1));
+                addTest.run(Iterable.create(1, 7, 2, 6, 3, 5, 4));
+
+                runner.test("with sorted values", (Test test) ->
+                {
+                    final BalancedBinaryTree<Integer> tree = BalancedBinaryTree.create();
+                    for (int i = 0; i < 100000; ++i)
+                    {
+                        tree.add(i);
+                    }
+                    test.assertEqual(100000, tree.getCount());
+                    test.assertEqual(17, tree.getHeight());
+                });
+
+                runner.test("with equal values", (Test test) ->
+                {
+                    final Function2<MapEntry<Integer,String>,MapEntry<Integer,String>,Comparison> comparer = (MapEntry<Integer,String> lhs, MapEntry<Integer,String> rhs) -> Comparer.compare(lhs.getKey(), rhs.getKey());
+                    final BalancedBinaryTree<MapEntry<Integer,String>> tree = BalancedBinaryTree.create(comparer);
+                    for (int i = 0; i < 20; ++i)
+                    {
+                        tree.add(MapEntry.create(i % 2, Integers.toString(i)));
+                    }
+                    test.assertEqual(
+                        Iterable.create("0", "2", "4", "6", "8", "10", "12", "14", "16", "18", "1", "3", "5", "7", "9", "11", "13", "15", "17", "19"),
+                        tree.map(MapEntry::getValue));
+                });
+            });
+
+            runner.test("remove(T) with sorted values", (Test test) ->
+            {
+                final BalancedBinaryTree<Integer> tree = BalancedBinaryTree.create();
+                for (int i = 0; i < 1000; ++i)
+                {
+                    tree.add(i);
+                }
+                for (int i = 0; i < 1000; i += 2)
+                {
+                    test.assertTrue(tree.remove(i));
+                }
+                test.assertFalse(tree.remove(0));
+                test.assertEqual(500, tree.getCount());
+                test.assertTrue(tree.getHeight() <= 13);
+                test.assertEqual(1, tree.get(0));
+                test.assertEqual(999, tree.get(499));
+            });
+
+            runner.test("clear()", (Test test) ->
+            {
+                final BalancedBinaryTree<Integer> tree = BalancedBinaryTree.create(1, 2, 3);
+                test.assertSame(tree, tree.clear());
+                test.assertEqual(0, tree.getCount());
+                test.assertEqual(0, tree.getHeight());
+                test.assertFalse(tree.any());
+            });
+
+            runner.testGroup("floor(T)", () ->
+            {
+                final Action3<Iterable<Integer>,Integer,Integer> floorTest = (Iterable<Integer> values, Integer value, Integer expected) ->
+                {
+                    runner.test("with " + English.andList(values, value), (Test test) ->
+                    {
+                        final BalancedBinaryTree<Integer> tree = BalancedBinaryTree.create(values);
+                        if (expected == null)
+                        {
+                            test.assertThrows(() -> tree.floor(value).await(),
+                                new NotFoundException("Could not find a value less than or equal to " + value + "."));
+                        }
+                        else
+                        {
+                            test.assertEqual(expected, tree.floor(value).await());
+                        }
+                    });
+                };
+
+                floorTest.run(Iterable.create(), 5, null);
+                floorTest.run(Iterable.create(10, 20, 30), 5, null);
+                floorTest.run(Iterable.create(10, 20, 30), 10, 10);
+                floorTest.run(Iterable.create(10, 20, 30), 15, 10);
+                floorTest.run(Iterable.create(10, 20, 30), 30, 30);
+                floorTest.run(Iterable.create(10, 20, 30), 35, 30);
+            });
+
+            runner.testGroup("ceiling(T)", () ->
+            {
+                final Action3<Iterable<Integer>,Integer,Integer> ceilingTest = (Iterable<Integer> values, Integer value, Integer expected) ->
+                {
+                    runner.test("with " + English.andList(values, value), (Test test) ->
+                    {
+                        final BalancedBinaryTree<Integer> tree = BalancedBinaryTree.create(values);
+                        if (expected == null)
+                        {
+                            test.assertThrows(() -> tree.ceiling(value).await(),
+                                new NotFoundException("Could not find a value greater than or equal to " + value + "."));
+                        }
+                        else
+                        {
+                            test.assertEqual(expected, tree.ceiling(value).await());
+                        }
+                    });
+                };
+
+                ceilingTest.run(Iterable.create(), 5, null);
+                ceilingTest.run(Iterable.create(10, 20, 30), 5, 10);
+                ceilingTest.run(Iterable.create(10, 20, 30), 10, 10);
+                ceilingTest.run(Iterable.create(10, 20, 30), 15, 20);
+                ceilingTest.run(Iterable.create(10, 20, 30), 30, 30);
+                ceilingTest.run(Iterable.create(10, 20, 30), 35, null);
+            });
+
+            runner.testGroup("getRank(T)", () ->
+            {
+                final Action3<Iterable<Integer>,Integer,Integer> getRankTest = (Iterable<Integer> values, Integer value, Integer expected) ->
+                {
+                    runner.test("with " + English.andList(values, value), (Test test) ->
+                    {
+                        final BalancedBinaryTree<Integer> tree = BalancedBinaryTree.create(values);
+                        test.assertEqual(expected, tree.getRank(value));
+                    });
+                };
+
+                getRankTest.run(Iterable.create(), 5, 0);
+                getRankTest.run(Iterable.create(10, 20, 30), 5, 0);
+                getRankTest.run(Iterable.create(10, 20, 30), 10, 0);
+                getRankTest.run(Iterable.create(10, 20, 30), 15, 1);
+                getRankTest.run(Iterable.create(10, 20, 20, 30), 25, 3);
+                getRankTest.run(Iterable.create(10, 20, 30), 35, 3);
+            });
+
+            runner.testGroup("get(int)", () ->
+            {
+                runner.test("with negative index", (Test test) ->
+                {
+                    final BalancedBinaryTree<Integer> tree = BalancedBinaryTree.create(10, 20);
+                    test.assertThrows(() -> tree.get(-1),
+                        new PreConditionFailure("index (-1) must be between 0 and 1."));
+                });
+
+                runner.test("with index equal to count", (Test test) ->
+                {
+                    final BalancedBinaryTree<Integer> tree = BalancedBinaryTree.create(10, 20);
+                    test.assertThrows(() -> tree.get(2),
+                        new PreConditionFailure("index (2) must be between 0 and 1."));
+                });
+
+                runner.test("with valid indexes", (Test test) ->
+                {
+                    final BalancedBinaryTree<Integer> tree = BalancedBinaryTree.create(50, 10, 40, 20, 30);
+                    for (int i = 0; i < 5; ++i)
+                    {
+                        test.assertEqual((i + 1) * 10, tree.get(i));
+                    }
+                });
+            });
+
+            runner.testGroup("iterateRange(T,T)", () ->
+            {
+                final Action4<Iterable<Integer>,Integer,Integer,Iterable<Integer>> iterateRangeTest = (Iterable<Integer> values, Integer startValue, Integer endValue, Iterable<Integer> expected) ->
+                {
+                    runner.test("with " + English.andList(values, startValue, endValue), (Test test) ->
+                    {
+                        final BalancedBinaryTree<Integer> tree = BalancedBinaryTree.create(values);
+                        test.assertEqual(expected, tree.iterateRange(startValue, endValue).toList());
+                    });
+                };
+
+                iterateRangeTest.run(Iterable.create(), 0, 10, Iterable.create());
+                iterateRangeTest.run(Iterable.create(1, 2, 3, 4, 5), 0, 10, Iterable.create(1, 2, 3, 4, 5));
+                iterateRangeTest.run(Iterable.create(1, 2, 3, 4, 5), 2, 4, Iterable.create(2, 3));
+                iterateRangeTest.run(Iterable.create(5, 4, 3, 2, 1), 2, 5, Iterable.create(2, 3, 4));
+                iterateRangeTest.run(Iterable.create(10, 20, 30, 40), 15, 35, Iterable.create(20, 30));
+                iterateRangeTest.run(Iterable.create(10, 20, 30, 40), 30, 30, Iterable.create());
+                iterateRangeTest.run(Iterable.create(10, 20, 30, 40), 50, 60, Iterable.create());
+            });
+        });
+    }
+}
@@ -0,0 +1,291 @@
+package qub;
+
+public interface BasicCacheTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(BasicCache.class, () ->
+        {
+            MutableMapTests.test(runner, () -> BasicCache.create(CacheParameters.create()), true, true);
+
+            runner.testGroup("create(CacheParameters<TKey,TValue>)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    test.assertThrows(() -> BasicCache.create(null),
+                        new PreConditionFailure("parameters cannot be null."));
+                });
+
+                runner.test("with expiration but no clock", (Test test) ->
+                {
+                    final CacheParameters<Integer,String> parameters = CacheParameters.<Integer,String>create()
+                        .setExpireAfterWrite(Duration.seconds(1));
+                    test.assertThrows(() -> BasicCache.create(parameters),
+                        new PreConditionFailure("!parameters.expiresEntries() || parameters.getClock() != null cannot be false."));
+                });
+
+                runner.test("with default parameters", (Test test) ->
+                {
+                    final BasicCache<Integer,String> cache = BasicCache.create(CacheParameters.create());
+                    test.assertEqual(0, cache.getCount());
+                    test.assertEqual(0, cache.getWeight());
+                    test.assertEqual(0, cache.getStatistics().getRequestCount());
+                });
+            });
+
+            runner.testGroup("with LeastRecentlyUsed eviction", () ->
+            {
+                runner.test("with maximum count", (Test test) ->
+                {
+                    final BasicCache<Integer,String> cache = BasicCache.create(CacheParameters.<Integer,String>create()
+                        .setMaximumCount(3));
+                    cache.set(1, "one").set(2, "two").set(3, "three");
+                    test.assertEqual(3, cache.getCount());
+
+                    test.assertEqual("one", cache.get(1).await());
+                    cache.set(4, "four");
+                    test.assertEqual(3, cache.getCount());
+                    test.assertFalse(cache.containsKey(2));
+                    test.assertEqual(Iterable.create(1, 3, 4), cache.getKeys().order((Integer lhs, Integer rhs) -> lhs < rhs));
+
+                    cache.set(3, "THREE");
+                    cache.set(5, "five");
+                    test.assertFalse(cache.containsKey(1));
+                    test.assertEqual(Iterable.create(3, 4, 5), cache.getKeys().order((Integer lhs, Integer rhs) -> lhs < rhs));
+                    test.assertEqual(2, cache.getStatistics().getEvictionCount());
+                });
+
+                runner.test("with maximum size", (Test test) ->
+                {
+                    final BasicCache<Integer,String> cache = BasicCache.create(CacheParameters.<Integer,String>create()
+                        .setMaximumSize(DataSize.bytes(10), (Integer key, String value) -> DataSize.bytes(value.length())));
+                    cache.set(1, "one").set(2, "two").set(3, "three");
+                    test.assertEqual(Iterable.create(2, 3), cache.getKeys().order((Integer lhs, Integer rhs) -> lhs < rhs));
+                    test.assertEqual(8, cache.getWeight());
+
+                    cache.set(2, "to");
+                    test.assertEqual(7, cache.getWeight());
+
+                    cache.set(4, "much too long");
+                    test.assertEqual(0, cache.getCount());
+                    test.assertEqual(0, cache.getWeight());
+                    test.assertEqual(4, cache.getStatistics().getEvictionCount());
+                });
+            });
+
+            runner.testGroup("with WindowTinyLFU eviction", () ->
+            {
+                runner.test("with maximum count", (Test test) ->
+                {
+                    final BasicCache<Integer,Integer> cache = BasicCache.create(CacheParameters.<Integer,Integer>create()
+                        .setMaximumCount(3)
+                        .setEvictionPolicy(CacheEvictionPolicy.WindowTinyLFU));
+                    for (int i = 0; i < 10; ++i)
+                    {
+                        cache.set(i, i);
+                        test.assertTrue(cache.getCount() <= 3);
+                        test.assertTrue(cache.getWeight() <= 3);
+                    }
+                    test.assertEqual(3, cache.getCount());
+                    test.assertEqual(7, cache.getStatistics().getEvictionCount());
+                });
+
+                runner.test("with many caches that don't limit their count", (Test test) ->
+                {
+                    // Each cache's frequency sketch must start small, or these caches won't fit in
+                    // a modest heap.
+                    final List<BasicCache<Integer,Integer>> caches = List.create();
+                    for (int i = 0; i < 64; ++i)
+                    {
+                        final BasicCache<Integer,Integer> cache = BasicCache.create(CacheParameters.<Integer,Integer>create()
+                            .setEvictionPolicy(CacheEvictionPolicy.WindowTinyLFU));
+                        cache.set(i, i);
+                        caches.add(cache);
+                    }
+
+                    for (int key = 0; key < 5000; ++key)
+                    {
+                        caches.first().set(key, key);
+                    }
+                    test.assertEqual(5000, caches.first().getCount());
+                    test.assertEqual(1, caches.last().getCount());
+                });
+
+                runner.test("with frequently used entries and a scan", (Test test) ->
+                {
+                    final int maximumCount = 100;
+                    final BasicCache<Integer,Integer> cache = BasicCache.create(CacheParameters.<Integer,Integer>create()
+                        .setMaximumCount(maximumCount)
+                        .setEvictionPolicy(CacheEvictionPolicy.WindowTinyLFU));
+                    final int hotKeyCount = 50;
+                    for (int round = 0; round < 5; ++round)
+                    {
+                        for (int key = 0; key < hotKeyCount; ++key)
+                        {
+                            cache.getOrCompute(key, (Integer k) -> k).await();
+                        }
+                    }
+
+                    for (int key = 1000; key < 2000; ++key)
+                    {
+                        cache.getOrCompute(key, (Integer k) -> k).await();
+                    }
+
+                    test.assertEqual(maximumCount, cache.getCount());
+                    int hotKeysInCache = 0;
+                    for (int key = 0; key < hotKeyCount; ++key)
+                    {
+                        if (cache.containsKey(key))
+                        {
+                            ++hotKeysInCache;
+                        }
+                    }
+                    test.assertEqual(hotKeyCount, hotKeysInCache);
+                });
+            });
+
+            runner.testGroup("getOrCompute(TKey,Function1<TKey,TValue>)", () ->
+            {
+                runner.test("with null loader", (Test test) ->
+                {
+                    final BasicCache<Integer,String> cache = BasicCache.create(CacheParameters.create());
+                    test.assertThrows(() -> cache.getOrCompute(1, null),
+                        new PreConditionFailure("loader cannot be null."));
+                });
+
+                runner.test("with missing and then existing key", (Test test) ->
+                {
+                    final BasicCache<Integer,String> cache = BasicCache.create(CacheParameters.create());
+                    final IntegerValue loadCount = IntegerValue.create(0);
+                    final Function1<Integer,String> loader = (Integer key) ->
+                    {
+                        loadCount.increment();
+                        return "value" + key;
+                    };
+
+                    test.assertEqual("value1", cache.getOrCompute(1, loader).await());
+                    test.assertEqual("value1", cache.getOrCompute(1, loader).await());
+                    test.assertEqual(1, loadCount.get());
+
+                    final CacheStatistics statistics = cache.getStatistics();
+                    test.assertEqual(1, statistics.getHitCount());
+                    test.assertEqual(1, statistics.getMissCount());
+                    test.assertEqual(0.5, statistics.getHitRate());
+                    test.assertEqual(1, statistics.getLoadSuccessCount());
+                    test.assertEqual(0, statistics.getLoadFailureCount());
+                });
+
+                runner.test("with loader that throws", (Test test) ->
+                {
+                    final BasicCache<Integer,String> cache = BasicCache.create(CacheParameters.create());
+                    test.assertThrows(() -> cache.getOrCompute(1, (Integer key) -> { throw new NotFoundException("blah"); }).await(),
+                        new NotFoundException("blah"));
+                    test.assertFalse(cache.containsKey(1));
+                    test.assertEqual(1, cache.getStatistics().getLoadFailureCount());
+                    test.assertEqual(0, cache.getStatistics().getLoadSuccessCount());
+                });
+            });
+
+            runner.testGroup("with expiration", () ->
+            {
+                runner.test("after write", (Test test) ->
+                {
+                    final ManualClock clock = ManualClock.create();
+                    final BasicCache<Integer,String> cache = BasicCache.create(CacheParameters.<Integer,String>create()
+                        .setExpireAfterWrite(Duration.seconds(10))
+                        .setClock(clock));
+                    cache.set(1, "one");
+
+                    clock.advance(Duration.seconds(5));
+                    test.assertEqual("one", cache.get(1).await());
+
+                    clock.advance(Duration.seconds(5));
+                    test.assertThrows(() -> cache.get(1).await(),
+                        new NotFoundException("Could not find the provided key (1) in this Map."));
+                    test.assertEqual(1, cache.getStatistics().getExpirationCount());
+                });
+
+                runner.test("after access", (Test test) ->
+                {
+                    final ManualClock clock = ManualClock.create();
+                    final BasicCache<Integer,String> cache = BasicCache.create(CacheParameters.<Integer,String>create()
+                        .setExpireAfterAccess(Duration.seconds(10))
+                        .setClock(clock));
+                    cache.set(1, "one");
+
+                    for (int i = 0; i < 5; ++i)
+                    {
+                        clock.advance(Duration.seconds(5));
+                        test.assertEqual("one", cache.get(1).await());
+                    }
+
+                    clock.advance(Duration.seconds(10));
+                    test.assertFalse(cache.containsKey(1));
+                    test.assertEqual(1, cache.getStatistics().getExpirationCount());
+                });
+
+                runner.test("with removeExpiredEntries()", (Test test) ->
+                {
+                    final ManualClock clock = ManualClock.create();
+                    final BasicCache<Integer,String> cache = BasicCache.create(CacheParameters.<Integer,String>create()
+                        .setExpireAfterWrite(Duration.seconds(10))
+                        .setClock(clock));
+                    cache.set(1, "one");
+                    clock.advance(Duration.seconds(5));
+                    cache.set(2, "two");
+                    clock.advance(Duration.seconds(5));
+
+                    test.assertSame(cache, cache.removeExpiredEntries());
+                    test.assertEqual(1, cache.getCount());
+                    test.assertEqual(Iterable.create(2), cache.getKeys());
+                    test.assertEqual(1, cache.getWeight());
+                });
+
+                runner.test("with getCount() after entries are written again", (Test test) ->
+                {
+                    final ManualClock clock = ManualClock.create();
+                    final BasicCache<Integer,String> cache = BasicCache.create(CacheParameters.<Integer,String>create()
+                        .setExpireAfterWrite(Duration.seconds(10))
+                        .setClock(clock));
+                    for (int i = 0; i < 5; ++i)
+                    {
+                        cache.set(i, "value" + i);
+                        clock.advance(Duration.seconds(1));
+                    }
+                    cache.set(0, "value0 again");
+                    test.assertEqual(5, cache.getCount());
+
+                    clock.advance(Duration.seconds(7));
+                    test.assertEqual(3, cache.getCount());
+                    test.assertTrue(cache.any());
+                    test.assertEqual(Iterable.create(0, 3, 4), cache.getKeys().order((Integer lhs, Integer rhs) -> lhs < rhs));
+
+                    clock.advance(Duration.seconds(5));
+                    test.assertEqual(0, cache.getCount());
+                    test.assertFalse(cache.any());
+                    test.assertEqual(5, cache.getStatistics().getExpirationCount());
+                });
+
+                runner.test("with getCount() after entries are used again", (Test test) ->
+                {
+                    final ManualClock clock = ManualClock.create();
+                    final BasicCache<Integer,String> cache = BasicCache.create(CacheParameters.<Integer,String>create()
+                        .setExpireAfterAccess(Duration.seconds(10))
+                        .setClock(clock));
+                    cache.set(1, "one").set(2, "two").set(3, "three");
+
+                    clock.advance(Duration.seconds(5));
+                    test.assertEqual("one", cache.get(1).await());
+
+                    clock.advance(Duration.seconds(5));
+                    test.assertEqual(1, cache.getCount());
+                    test.assertEqual(Iterable.create(1), cache.getKeys());
+
+                    cache.remove(1).await();
+                    test.assertEqual(0, cache.getCount());
+                    test.assertEqual(2, cache.getStatistics().getExpirationCount());
+                });
+            });
+        });
+    }
+}
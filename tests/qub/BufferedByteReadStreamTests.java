@@ -179,6 +179,73 @@ public interface BufferedByteReadStreamTests
                     test.assertEqual(false, byteReadStream.getGrowOnNextBufferFill());
                 });
             });
+
+            runner.testGroup("readByteOrEnd()", () ->
+            {
+                runner.test("when disposed", (Test test) ->
+                {
+                    final InMemoryByteStream innerStream = InMemoryByteStream.create(new byte[] { 0, 1, 2 }).endOfStream();
+                    final BufferedByteReadStream byteReadStream = BufferedByteReadStream.create(innerStream, 1);
+                    test.assertTrue(byteReadStream.dispose().await());
+                    test.assertThrows(byteReadStream::readByteOrEnd,
+                        new PreConditionFailure("this.isDisposed() cannot be true."));
+                });
+
+                runner.test("when empty", (Test test) ->
+                {
+                    final InMemoryByteStream innerStream = InMemoryByteStream.create().endOfStream();
+                    final BufferedByteReadStream byteReadStream = BufferedByteReadStream.create(innerStream, 1);
+                    test.assertEqual(-1, byteReadStream.readByteOrEnd());
+                    test.assertEqual(0, byteReadStream.getBufferSize());
+                    test.assertEqual(-1, byteReadStream.readByteOrEnd());
+                });
+
+                runner.test("when buffer size is smaller than inner stream byte count", (Test test) ->
+                {
+                    final InMemoryByteStream innerStream = InMemoryByteStream.create(new byte[] { 0, 1, 2, -1, -128 }).endOfStream();
+                    final BufferedByteReadStream byteReadStream = BufferedByteReadStream.create(innerStream, 1, 10);
+
+                    test.assertEqual(0, byteReadStream.readByteOrEnd());
+                    test.assertEqual(1, byteReadStream.getBufferSize());
+
+                    test.assertEqual(1, byteReadStream.readByteOrEnd());
+                    test.assertEqual(2, byteReadStream.getBufferSize());
+
+                    test.assertEqual(2, byteReadStream.readByteOrEnd());
+                    test.assertEqual(255, byteReadStream.readByteOrEnd());
+                    test.assertEqual(4, byteReadStream.getBufferSize());
+
+                    test.assertEqual(128, byteReadStream.readByteOrEnd());
+                    test.assertEqual(-1, byteReadStream.readByteOrEnd());
+                    test.assertEqual(0, byteReadStream.getBufferedByteCount());
+                    test.assertEqual(0, byteReadStream.getBufferSize());
+                    test.assertEqual(false, byteReadStream.getGrowOnNextBufferFill());
+                });
+
+                runner.test("when mixed with readBytes()", (Test test) ->
+                {
+                    final InMemoryByteStream innerStream = InMemoryByteStream.create(new byte[] { 0, 1, 2, 3, 4, 5 }).endOfStream();
+                    final BufferedByteReadStream byteReadStream = BufferedByteReadStream.create(innerStream, 4);
+
+                    test.assertEqual(0, byteReadStream.readByteOrEnd());
+                    test.assertEqual(new byte[] { 1, 2 }, byteReadStream.readBytes(2).await());
+                    test.assertEqual(3, byteReadStream.readByteOrEnd());
+                    test.assertEqual(4, byteReadStream.readByteOrEnd());
+                    test.assertEqual(5, byteReadStream.readByteOrEnd());
+                    test.assertEqual(-1, byteReadStream.readByteOrEnd());
+                });
+
+                runner.test("when error occurs", (Test test) ->
+                {
+                    final ByteReadStream innerStream = FakeByteReadStream.create(() -> Result.error(new Exception("BLAH")));
+                    final BufferedByteReadStream byteReadStream = BufferedByteReadStream.create(innerStream, 123);
+
+                    test.assertThrows(byteReadStream::readByteOrEnd,
+                        new RuntimeException(new Exception("BLAH")));
+                    test.assertEqual(0, byteReadStream.getBufferedByteCount());
+                    test.assertEqual(123, byteReadStream.getBufferSize());
+                });
+            });
         });
     }
 }
@@ -0,0 +1,248 @@
+package qub;
+
+public interface BufferedCharacterReadStreamTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(BufferedCharacterReadStream.class, () ->
+        {
+            final Function2<String,Integer,BufferedCharacterReadStream> createStream = (String text, Integer bufferSize) ->
+            {
+                final InMemoryByteStream byteStream = InMemoryByteStream.create(CharacterEncoding.UTF_8.encodeCharacters(text).await()).endOfStream();
+                return BufferedCharacterReadStream.create(byteStream, CharacterEncoding.UTF_8, bufferSize);
+            };
+
+            runner.testGroup("create(ByteReadStream)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    test.assertThrows(() -> BufferedCharacterReadStream.create(null),
+                        new PreConditionFailure("byteReadStream cannot be null."));
+                });
+
+                runner.test("with non-null", (Test test) ->
+                {
+                    final BufferedCharacterReadStream characterReadStream = BufferedCharacterReadStream.create(InMemoryByteStream.create());
+                    test.assertEqual(CharacterEncoding.UTF_8, characterReadStream.getCharacterEncoding());
+                    test.assertEqual(0, characterReadStream.getBufferedCharacterCount());
+                    test.assertFalse(characterReadStream.isDisposed());
+                });
+            });
+
+            runner.testGroup("create(ByteReadStream,CharacterEncoding,int)", () ->
+            {
+                runner.test("with null CharacterEncoding", (Test test) ->
+                {
+                    test.assertThrows(() -> BufferedCharacterReadStream.create(InMemoryByteStream.create(), null, 10),
+                        new PreConditionFailure("characterEncoding cannot be null."));
+                });
+
+                runner.test("with buffer size smaller than 4", (Test test) ->
+                {
+                    test.assertThrows(() -> BufferedCharacterReadStream.create(InMemoryByteStream.create(), CharacterEncoding.UTF_8, 3),
+                        new PreConditionFailure("bufferSize (3) must be greater than or equal to 4."));
+                });
+
+                runner.test("with US-ASCII", (Test test) ->
+                {
+                    final BufferedCharacterReadStream characterReadStream = BufferedCharacterReadStream.create(InMemoryByteStream.create(), CharacterEncoding.US_ASCII, 4);
+                    test.assertEqual(CharacterEncoding.US_ASCII, characterReadStream.getCharacterEncoding());
+                });
+            });
+
+            runner.testGroup("readCharacterOrEnd()", () ->
+            {
+                runner.test("when disposed", (Test test) ->
+                {
+                    final BufferedCharacterReadStream characterReadStream = createStream.run("abc", 4);
+                    test.assertTrue(characterReadStream.dispose().await());
+                    test.assertThrows(characterReadStream::readCharacterOrEnd,
+                        new PreConditionFailure("this.isDisposed() cannot be true."));
+                });
+
+                runner.test("when empty", (Test test) ->
+                {
+                    final BufferedCharacterReadStream characterReadStream = createStream.run("", 4);
+                    test.assertEqual(-1, characterReadStream.readCharacterOrEnd());
+                    test.assertEqual(-1, characterReadStream.readCharacterOrEnd());
+                });
+
+                runner.test("with multi-byte characters split across buffers", (Test test) ->
+                {
+                    final String text = "a\u20ACb\uD83D\uDE00\u00FC";
+                    final BufferedCharacterReadStream characterReadStream = createStream.run(text, 4);
+                    for (int i = 0; i < text.length(); ++i)
+                    {
+                        test.assertEqual((int)text.charAt(i), characterReadStream.readCharacterOrEnd());
+                    }
+                    test.assertEqual(-1, characterReadStream.readCharacterOrEnd());
+                });
+
+                runner.test("with byte order mark", (Test test) ->
+                {
+                    final InMemoryByteStream byteStream = InMemoryByteStream.create(new byte[] { (byte)0xEF, (byte)0xBB, (byte)0xBF, 97, (byte)0xEF, (byte)0xBB, (byte)0xBF }).endOfStream();
+                    final BufferedCharacterReadStream characterReadStream = BufferedCharacterReadStream.create(byteStream, CharacterEncoding.UTF_8, 4);
+                    test.assertEqual((int)'a', characterReadStream.readCharacterOrEnd());
+                    test.assertEqual(0xFEFF, characterReadStream.readCharacterOrEnd());
+                    test.assertEqual(-1, characterReadStream.readCharacterOrEnd());
+                });
+
+                runner.test("with incomplete character at end of stream", (Test test) ->
+                {
+                    final InMemoryByteStream byteStream = InMemoryByteStream.create(new byte[] { 97, (byte)0xE2, (byte)0x82 }).endOfStream();
+                    final BufferedCharacterReadStream characterReadStream = BufferedCharacterReadStream.create(byteStream, CharacterEncoding.UTF_8, 4);
+                    test.assertEqual((int)'a', characterReadStream.readCharacterOrEnd());
+                    test.assertThrows(characterReadStream::readCharacterOrEnd,
+                        new IllegalArgumentException("Missing 3rd byte of 3 in decoded character."));
+                });
+            });
+
+            runner.testGroup("readCharacter()", () ->
+            {
+                runner.test("when empty", (Test test) ->
+                {
+                    final BufferedCharacterReadStream characterReadStream = createStream.run("", 4);
+                    test.assertThrows(() -> characterReadStream.readCharacter().await(),
+                        new EndOfStreamException());
+                });
+
+                runner.test("when not empty", (Test test) ->
+                {
+                    final BufferedCharacterReadStream characterReadStream = createStream.run("ab", 4);
+                    test.assertEqual('a', characterReadStream.readCharacter().await());
+                    test.assertEqual('b', characterReadStream.readCharacter().await());
+                    test.assertThrows(() -> characterReadStream.readCharacter().await(),
+                        new EndOfStreamException());
+                });
+            });
+
+            runner.testGroup("readCharacters(char[],int,int)", () ->
+            {
+                runner.test("with zero length", (Test test) ->
+                {
+                    final BufferedCharacterReadStream characterReadStream = createStream.run("abc", 4);
+                    test.assertEqual(0, characterReadStream.readCharacters(new char[3], 0, 0).await());
+                });
+
+                runner.test("when empty", (Test test) ->
+                {
+                    final BufferedCharacterReadStream characterReadStream = createStream.run("", 4);
+                    test.assertThrows(() -> characterReadStream.readCharacters(new char[3], 0, 3).await(),
+                        new EndOfStreamException());
+                });
+
+                runner.test("with more characters than the buffer", (Test test) ->
+                {
+                    final BufferedCharacterReadStream characterReadStream = createStream.run("abcdef", 4);
+                    final char[] characters = new char[6];
+                    test.assertEqual(4, characterReadStream.readCharacters(characters, 0, 6).await());
+                    test.assertEqual(2, characterReadStream.readCharacters(characters, 4, 2).await());
+                    test.assertEqual("abcdef", String.valueOf(characters));
+                    test.assertThrows(() -> characterReadStream.readCharacters(characters, 0, 6).await(),
+                        new EndOfStreamException());
+                });
+            });
+
+            runner.testGroup("readLine(boolean)", () ->
+            {
+                final Action3<String,Boolean,String[]> readLineTest = (String text, Boolean includeNewLine, String[] expectedLines) ->
+                {
+                    runner.test("with " + English.andList(Strings.escapeAndQuote(text), includeNewLine), (Test test) ->
+                    {
+                        final BufferedCharacterReadStream characterReadStream = createStream.run(text, 4);
+                        for (final String expectedLine : expectedLines)
+                        {
+                            test.assertEqual(expectedLine, characterReadStream.readLine(includeNewLine).await());
+                        }
+                        test.assertThrows(() -> characterReadStream.readLine(includeNewLine).await(),
+                            new EndOfStreamException());
+
+                        final InMemoryCharacterStream unbufferedStream = InMemoryCharacterStream.create(text).endOfStream();
+                        for (final String expectedLine : expectedLines)
+                        {
+                            test.assertEqual(expectedLine, unbufferedStream.readLine(includeNewLine).await());
+                        }
+                    });
+                };
+
+                readLineTest.run("", false, new String[0]);
+                readLineTest.run("", true, new String[0]);
+                readLineTest.run("a", false, new String[] { "a" });
+                readLineTest.run("\n", false, new String[] { "" });
+                readLineTest.run("\n", true, new String[] { "\n" });
+                readLineTest.run("abcdefghij\nklm", false, new String[] { "abcdefghij", "klm" });
+                readLineTest.run("abcdefghij\nklm", true, new String[] { "abcdefghij\n", "klm" });
+                readLineTest.run("abc\r\ndef\r\n", false, new String[] { "abc", "def" });
+                readLineTest.run("abc\r\ndef\r\n", true, new String[] { "abc\r\n", "def\r\n" });
+                readLineTest.run("abcdefg\r\nhi", false, new String[] { "abcdefg", "hi" });
+                readLineTest.run("abc\r\r\n", false, new String[] { "abc\r" });
+                readLineTest.run("abc\r", false, new String[] { "abc\r" });
+                readLineTest.run("\u20AC\u20AC\u20AC\u20AC\n\u00FC\u00FC\r\n", false, new String[] { "\u20AC\u20AC\u20AC\u20AC", "\u00FC\u00FC" });
+            });
+
+            runner.testGroup("iterateLines(boolean)", () ->
+            {
+                runner.test("with false", (Test test) ->
+                {
+                    final BufferedCharacterReadStream characterReadStream = createStream.run("a\r\nbcdefgh\n\nij", 4);
+                    test.assertEqual(Iterable.create("a", "bcdefgh", "", "ij"), characterReadStream.iterateLines(false).toList());
+                });
+
+                runner.test("with true", (Test test) ->
+                {
+                    final BufferedCharacterReadStream characterReadStream = createStream.run("a\r\nbcdefgh\n\nij", 4);
+                    test.assertEqual(Iterable.create("a\r\n", "bcdefgh\n", "\n", "ij"), characterReadStream.iterateLines(true).toList());
+                });
+            });
+
+            runner.testGroup("readStringUntil(String)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    final BufferedCharacterReadStream characterReadStream = createStream.run("abc", 4);
+                    test.assertThrows(() -> characterReadStream.readStringUntil((String)null),
+                        new PreConditionFailure("value cannot be null."));
+                });
+
+                runner.test("when empty", (Test test) ->
+                {
+                    final BufferedCharacterReadStream characterReadStream = createStream.run("", 4);
+                    test.assertThrows(() -> characterReadStream.readStringUntil("ab").await(),
+                        new EndOfStreamException());
+                });
+
+                runner.test("with terminator split across buffers", (Test test) ->
+                {
+                    final BufferedCharacterReadStream characterReadStream = createStream.run("abc--def--g-", 4);
+                    test.assertEqual("abc--", characterReadStream.readStringUntil("--").await());
+                    test.assertEqual("def--", characterReadStream.readStringUntil("--").await());
+                    test.assertEqual("g-", characterReadStream.readStringUntil("--").await());
+                    test.assertThrows(() -> characterReadStream.readStringUntil("--").await(),
+                        new EndOfStreamException());
+                });
+
+                runner.test("with overlapping terminator", (Test test) ->
+                {
+                    final BufferedCharacterReadStream characterReadStream = createStream.run("aababc", 4);
+                    test.assertEqual("aababc", characterReadStream.readStringUntil("abc").await());
+                });
+            });
+
+            runner.testGroup("readEntireString()", () ->
+            {
+                runner.test("when empty", (Test test) ->
+                {
+                    final BufferedCharacterReadStream characterReadStream = createStream.run("", 4);
+                    test.assertEqual("", characterReadStream.readEntireString().await());
+                });
+
+                runner.test("with multiple buffers", (Test test) ->
+                {
+                    final BufferedCharacterReadStream characterReadStream = createStream.run("hello \u20AC world \uD83D\uDE00", 4);
+                    test.assertEqual('h', characterReadStream.readCharacter().await());
+                    test.assertEqual("ello \u20AC world \uD83D\uDE00", characterReadStream.readEntireString().await());
+                });
+            });
+        });
+    }
+}
@@ -0,0 +1,51 @@
+package qub;
+
+public interface ByteArrayTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(ByteArray.class, () ->
+        {
+            runner.testGroup("sort()", () ->
+            {
+                runner.test("with empty array", (Test test) ->
+                {
+                    final ByteArray array = ByteArray.create();
+                    test.assertSame(array, array.sort());
+                    test.assertEqual(Iterable.create(), array);
+                });
+
+                runner.test("with unsorted values", (Test test) ->
+                {
+                    final ByteArray array = ByteArray.create(5, -1, 127, 0, -128);
+                    test.assertSame(array, array.sort());
+                    test.assertEqual(ByteArray.create(-128, -1, 0, 5, 127), array);
+                });
+            });
+
+            runner.testGroup("binarySearch(int)", () ->
+            {
+                runner.test("with value less than Bytes.minimum", (Test test) ->
+                {
+                    final ByteArray array = ByteArray.create(1, 2, 3);
+                    test.assertThrows(() -> array.binarySearch(-129),
+                        new PreConditionFailure("value (-129) must be between -128 and 127."));
+                });
+
+                runner.test("with value that exists", (Test test) ->
+                {
+                    final ByteArray array = ByteArray.create(-128, 0, 7, 127);
+                    test.assertEqual(0, array.binarySearch(-128));
+                    test.assertEqual(3, array.binarySearch(127));
+                });
+
+                runner.test("with value that doesn't exist", (Test test) ->
+                {
+                    final ByteArray array = ByteArray.create(-128, 0, 7, 127);
+                    test.assertEqual(-3, array.binarySearch(5));
+                    test.assertEqual(-4, array.binarySearch((byte)100));
+                });
+            });
+        });
+    }
+}
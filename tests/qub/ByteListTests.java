@@ -603,6 +603,96 @@ public interface ByteListTests
                 });
             });
 
+            runner.testGroup("addAll(byte[],int,int)", () ->
+            {
+                runner.test("with null values", (Test test) ->
+                {
+                    final ByteList list = new ByteList();
+                    test.assertThrows(() -> list.addAll(null, 0, 0), new PreConditionFailure("values cannot be null."));
+                });
+
+                runner.test("with zero length", (Test test) ->
+                {
+                    final ByteList list = ByteList.createFromBytes(1, 2);
+                    list.addAll(new byte[] { 3, 4 }, 1, 0);
+                    test.assertEqual(Iterable.create((byte)1, (byte)2), list);
+                });
+
+                runner.test("with more bytes than the list's capacity", (Test test) ->
+                {
+                    final ByteList list = new ByteList(2);
+                    list.add(1);
+                    list.addAll(new byte[] { 0, 2, 3, 4, 5, 6 }, 1, 5);
+                    test.assertEqual(new byte[] { 1, 2, 3, 4, 5, 6 }, list.toByteArray());
+                });
+
+                runner.test("with bytes that wrap around the end of the list's array", (Test test) ->
+                {
+                    final ByteList list = new ByteList(5);
+                    list.addAll(new byte[] { 1, 2, 3, 4 }, 0, 4);
+                    test.assertEqual(new byte[] { 1, 2, 3 }, list.removeFirstBytes(3).toByteArray());
+                    list.addAll(new byte[] { 5, 6, 7 }, 0, 3);
+                    test.assertEqual(4, list.getCount());
+                    test.assertEqual(new byte[] { 4, 5, 6, 7 }, list.toByteArray());
+                    test.assertEqual(Iterable.create((byte)4, (byte)5, (byte)6, (byte)7), list);
+                    test.assertEqual(7, list.get(3));
+                });
+            });
+
+            runner.testGroup("removeFirstBytes(byte[],int,int)", () ->
+            {
+                runner.test("with all of the bytes", (Test test) ->
+                {
+                    final ByteList list = ByteList.createFromBytes(1, 2, 3);
+                    final byte[] outputBytes = new byte[4];
+                    list.removeFirstBytes(outputBytes, 1, 3);
+                    test.assertEqual(new byte[] { 0, 1, 2, 3 }, outputBytes);
+                    test.assertEqual(0, list.getCount());
+                });
+
+                runner.test("with some of the bytes", (Test test) ->
+                {
+                    final ByteList list = ByteList.createFromBytes(1, 2, 3);
+                    final byte[] outputBytes = new byte[2];
+                    list.removeFirstBytes(outputBytes, 0, 2);
+                    test.assertEqual(new byte[] { 1, 2 }, outputBytes);
+                    test.assertEqual(Iterable.create((byte)3), list);
+                });
+
+                runner.test("with bytes that wrap around the end of the list's array", (Test test) ->
+                {
+                    final ByteList list = new ByteList(4);
+                    list.addAll(1, 2, 3);
+                    list.removeFirstBytes(new byte[2], 0, 2);
+                    list.addAll(4, 5, 6);
+                    test.assertEqual(4, list.getCount());
+
+                    final byte[] outputBytes = new byte[3];
+                    list.removeFirstBytes(outputBytes, 0, 3);
+                    test.assertEqual(new byte[] { 3, 4, 5 }, outputBytes);
+                    test.assertEqual(Iterable.create((byte)6), list);
+                });
+
+                runner.test("with many reads and writes", (Test test) ->
+                {
+                    final ByteList list = new ByteList(3);
+                    final byte[] outputBytes = new byte[2];
+                    byte nextValue = 0;
+                    byte expectedValue = 0;
+                    for (int i = 0; i < 50; ++i)
+                    {
+                        list.addAll(new byte[] { nextValue++, nextValue++, nextValue++ }, 0, 3);
+                        list.removeFirstBytes(outputBytes, 0, 2);
+                        test.assertEqual(new byte[] { expectedValue++, expectedValue++ }, outputBytes);
+                    }
+                    test.assertEqual(50, list.getCount());
+                    for (int i = 0; i < 50; ++i)
+                    {
+                        test.assertEqual(expectedValue++, list.removeFirst());
+                    }
+                });
+            });
+
             runner.testGroup("toString()", () ->
             {
                 runner.test("with empty", (Test test) ->
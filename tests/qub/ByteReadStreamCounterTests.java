@@ -68,6 +68,28 @@ public interface ByteReadStreamCounterTests
                 });
             });
 
+            runner.testGroup("readByteOrEnd()", () ->
+            {
+                runner.test("with no bytes to read", (Test test) ->
+                {
+                    final InMemoryByteStream innerStream = InMemoryByteStream.create(new byte[0]).endOfStream();
+                    final ByteReadStreamCounter counter = new ByteReadStreamCounter(innerStream);
+                    test.assertEqual(-1, counter.readByteOrEnd());
+                    test.assertEqual(0, counter.getBytesRead());
+                });
+
+                runner.test("with bytes to read", (Test test) ->
+                {
+                    final InMemoryByteStream innerStream = InMemoryByteStream.create(new byte[] { 5, -2 }).endOfStream();
+                    final ByteReadStreamCounter counter = new ByteReadStreamCounter(innerStream);
+                    test.assertEqual(5, counter.readByteOrEnd());
+                    test.assertEqual(254, counter.readByteOrEnd());
+                    test.assertEqual(-1, counter.readByteOrEnd());
+                    test.assertEqual(2, counter.getBytesRead());
+                    test.assertEqual(16, counter.getBitsRead());
+                });
+            });
+
             runner.testGroup("readBytes(int)", () ->
             {
                 runner.test("when disposed", (Test test) ->
@@ -0,0 +1,122 @@
+package qub;
+
+public interface CacheParametersTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(CacheParameters.class, () ->
+        {
+            runner.test("create()", (Test test) ->
+            {
+                final CacheParameters<Integer,String> parameters = CacheParameters.create();
+                test.assertEqual(Long.MAX_VALUE, parameters.getMaximumWeight());
+                test.assertNull(parameters.getWeigher());
+                test.assertEqual(CacheEvictionPolicy.LeastRecentlyUsed, parameters.getEvictionPolicy());
+                test.assertNull(parameters.getExpireAfterWrite());
+                test.assertNull(parameters.getExpireAfterAccess());
+                test.assertFalse(parameters.expiresEntries());
+                test.assertNull(parameters.getClock());
+            });
+
+            runner.testGroup("setMaximumCount(long)", () ->
+            {
+                runner.test("with 0", (Test test) ->
+                {
+                    final CacheParameters<Integer,String> parameters = CacheParameters.create();
+                    test.assertThrows(() -> parameters.setMaximumCount(0),
+                        new PreConditionFailure("maximumCount (0) must be greater than or equal to 1."));
+                    test.assertEqual(Long.MAX_VALUE, parameters.getMaximumWeight());
+                });
+
+                runner.test("with 10", (Test test) ->
+                {
+                    final CacheParameters<Integer,String> parameters = CacheParameters.create();
+                    test.assertSame(parameters, parameters.setMaximumCount(10));
+                    test.assertEqual(10, parameters.getMaximumWeight());
+                    test.assertNull(parameters.getWeigher());
+                });
+            });
+
+            runner.testGroup("setMaximumSize(DataSize,Function2<TKey,TValue,DataSize>)", () ->
+            {
+                runner.test("with null maximumSize", (Test test) ->
+                {
+                    final CacheParameters<Integer,String> parameters = CacheParameters.create();
+                    test.assertThrows(() -> parameters.setMaximumSize(null, (Integer key, String value) -> DataSize.zero),
+                        new PreConditionFailure("maximumSize cannot be null."));
+                });
+
+                runner.test("with null weigher", (Test test) ->
+                {
+                    final CacheParameters<Integer,String> parameters = CacheParameters.create();
+                    test.assertThrows(() -> parameters.setMaximumSize(DataSize.kilobytes(1), null),
+                        new PreConditionFailure("weigher cannot be null."));
+                });
+
+                runner.test("with 1 kilobyte", (Test test) ->
+                {
+                    final CacheParameters<Integer,String> parameters = CacheParameters.create();
+                    final Function2<Integer,String,DataSize> weigher = (Integer key, String value) -> DataSize.bytes(value.length());
+                    test.assertSame(parameters, parameters.setMaximumSize(DataSize.kilobytes(1), weigher));
+                    test.assertEqual(1000, parameters.getMaximumWeight());
+                    test.assertSame(weigher, parameters.getWeigher());
+                });
+            });
+
+            runner.testGroup("setExpireAfterWrite(Duration)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    final CacheParameters<Integer,String> parameters = CacheParameters.create();
+                    test.assertThrows(() -> parameters.setExpireAfterWrite(null),
+                        new PreConditionFailure("expireAfterWrite cannot be null."));
+                });
+
+                runner.test("with 5 seconds", (Test test) ->
+                {
+                    final CacheParameters<Integer,String> parameters = CacheParameters.create();
+                    test.assertSame(parameters, parameters.setExpireAfterWrite(Duration.seconds(5)));
+                    test.assertEqual(Duration.seconds(5), parameters.getExpireAfterWrite());
+                    test.assertTrue(parameters.expiresEntries());
+                });
+            });
+
+            runner.testGroup("setExpireAfterAccess(Duration)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    final CacheParameters<Integer,String> parameters = CacheParameters.create();
+                    test.assertThrows(() -> parameters.setExpireAfterAccess(null),
+                        new PreConditionFailure("expireAfterAccess cannot be null."));
+                });
+
+                runner.test("with 5 seconds", (Test test) ->
+                {
+                    final CacheParameters<Integer,String> parameters = CacheParameters.create();
+                    test.assertSame(parameters, parameters.setExpireAfterAccess(Duration.seconds(5)));
+                    test.assertEqual(Duration.seconds(5), parameters.getExpireAfterAccess());
+                    test.assertTrue(parameters.expiresEntries());
+                });
+            });
+
+            runner.test("setEvictionPolicy(CacheEvictionPolicy)", (Test test) ->
+            {
+                final CacheParameters<Integer,String> parameters = CacheParameters.create();
+                test.assertThrows(() -> parameters.setEvictionPolicy(null),
+                    new PreConditionFailure("evictionPolicy cannot be null."));
+                test.assertSame(parameters, parameters.setEvictionPolicy(CacheEvictionPolicy.WindowTinyLFU));
+                test.assertEqual(CacheEvictionPolicy.WindowTinyLFU, parameters.getEvictionPolicy());
+            });
+
+            runner.test("setClock(Clock)", (Test test) ->
+            {
+                final CacheParameters<Integer,String> parameters = CacheParameters.create();
+                test.assertThrows(() -> parameters.setClock(null),
+                    new PreConditionFailure("clock cannot be null."));
+                final ManualClock clock = ManualClock.create();
+                test.assertSame(parameters, parameters.setClock(clock));
+                test.assertSame(clock, parameters.getClock());
+            });
+        });
+    }
+}
@@ -0,0 +1,299 @@
+package qub;
+
+public interface CancellationTokenTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(CancellationToken.class, () ->
+        {
+            runner.test("create()", (Test test) ->
+            {
+                final CancellationToken token = CancellationToken.create();
+                test.assertFalse(token.isCancelled());
+                token.throwIfCancelled();
+            });
+
+            runner.testGroup("cancel()", () ->
+            {
+                runner.test("when not cancelled", (Test test) ->
+                {
+                    final CancellationToken token = CancellationToken.create();
+                    test.assertTrue(token.cancel());
+                    test.assertTrue(token.isCancelled());
+                    test.assertThrows(token::throwIfCancelled, new CancelledException());
+                });
+
+                runner.test("when already cancelled", (Test test) ->
+                {
+                    final CancellationToken token = CancellationToken.create();
+                    token.cancel();
+                    test.assertFalse(token.cancel());
+                    test.assertTrue(token.isCancelled());
+                });
+            });
+
+            runner.testGroup("onCancelled(Action0)", () ->
+            {
+                runner.test("with null callback", (Test test) ->
+                {
+                    final CancellationToken token = CancellationToken.create();
+                    test.assertThrows(() -> token.onCancelled(null),
+                        new PreConditionFailure("callback cannot be null."));
+                });
+
+                runner.test("when not cancelled", (Test test) ->
+                {
+                    final CancellationToken token = CancellationToken.create();
+                    final IntegerValue runCount = IntegerValue.create(0);
+                    final Disposable registration = token.onCancelled(runCount::increment);
+                    test.assertNotNull(registration);
+                    test.assertEqual(0, runCount.get());
+
+                    token.cancel();
+                    test.assertEqual(1, runCount.get());
+
+                    token.cancel();
+                    test.assertEqual(1, runCount.get());
+                });
+
+                runner.test("when already cancelled", (Test test) ->
+                {
+                    final CancellationToken token = CancellationToken.create();
+                    token.cancel();
+                    final IntegerValue runCount = IntegerValue.create(0);
+                    token.onCancelled(runCount::increment);
+                    test.assertEqual(1, runCount.get());
+                });
+
+                runner.test("when registration is disposed", (Test test) ->
+                {
+                    final CancellationToken token = CancellationToken.create();
+                    final IntegerValue runCount = IntegerValue.create(0);
+                    final Disposable registration = token.onCancelled(runCount::increment);
+                    test.assertTrue(registration.dispose().await());
+
+                    token.cancel();
+                    test.assertEqual(0, runCount.get());
+                });
+            });
+
+            runner.testGroup("createChild()", () ->
+            {
+                runner.test("when parent is cancelled", (Test test) ->
+                {
+                    final CancellationToken parent = CancellationToken.create();
+                    final CancellationToken child = parent.createChild();
+                    test.assertFalse(child.isCancelled());
+
+                    parent.cancel();
+                    test.assertTrue(child.isCancelled());
+                    test.assertThrows(child::throwIfCancelled, new CancelledException());
+                });
+
+                runner.test("when grandparent is cancelled", (Test test) ->
+                {
+                    final CancellationToken grandparent = CancellationToken.create();
+                    final CancellationToken child = grandparent.createChild().createChild();
+                    grandparent.cancel();
+                    test.assertTrue(child.isCancelled());
+                });
+
+                runner.test("when child is cancelled", (Test test) ->
+                {
+                    final CancellationToken parent = CancellationToken.create();
+                    final CancellationToken child = parent.createChild();
+                    test.assertTrue(child.cancel());
+                    test.assertTrue(child.isCancelled());
+                    test.assertFalse(parent.isCancelled());
+                });
+
+                runner.test("with callback registered with child", (Test test) ->
+                {
+                    final CancellationToken grandparent = CancellationToken.create();
+                    final CancellationToken child = grandparent.createChild().createChild();
+                    final IntegerValue runCount = IntegerValue.create(0);
+                    child.onCancelled(runCount::increment);
+                    test.assertEqual(0, runCount.get());
+
+                    grandparent.cancel();
+                    test.assertEqual(1, runCount.get());
+                });
+
+                runner.test("with callback registered with child after parent is cancelled", (Test test) ->
+                {
+                    final CancellationToken parent = CancellationToken.create();
+                    final CancellationToken child = parent.createChild();
+                    parent.cancel();
+
+                    final IntegerValue runCount = IntegerValue.create(0);
+                    child.onCancelled(runCount::increment);
+                    test.assertEqual(1, runCount.get());
+                });
+            });
+
+            runner.testGroup("detachFromParent()", () ->
+            {
+                runner.test("when parent is not cancelled", (Test test) ->
+                {
+                    final CancellationToken parent = CancellationToken.create();
+                    final CancellationToken child = parent.createChild();
+                    final IntegerValue runCount = IntegerValue.create(0);
+                    child.onCancelled(runCount::increment);
+
+                    child.detachFromParent();
+                    parent.cancel();
+                    test.assertFalse(child.isCancelled());
+                    test.assertEqual(0, runCount.get());
+                });
+
+                runner.test("when parent is cancelled", (Test test) ->
+                {
+                    final CancellationToken parent = CancellationToken.create();
+                    final CancellationToken child = parent.createChild();
+                    final IntegerValue runCount = IntegerValue.create(0);
+                    child.onCancelled(runCount::increment);
+                    parent.cancel();
+
+                    child.detachFromParent();
+                    test.assertTrue(child.isCancelled());
+                    test.assertEqual(1, runCount.get());
+                });
+
+                runner.test("when parent is cancelled and child is not watched", (Test test) ->
+                {
+                    final CancellationToken parent = CancellationToken.create();
+                    final CancellationToken child = parent.createChild();
+                    parent.cancel();
+
+                    child.detachFromParent();
+                    test.assertTrue(child.isCancelled());
+                });
+            });
+
+            runner.testGroup("cancelAt(Clock,DateTime)", () ->
+            {
+                runner.test("with null clock", (Test test) ->
+                {
+                    final CancellationToken token = CancellationToken.create();
+                    test.assertThrows(() -> token.cancelAt(null, DateTime.epoch),
+                        new PreConditionFailure("clock cannot be null."));
+                });
+
+                runner.test("with null deadline", (Test test) ->
+                {
+                    final CancellationToken token = CancellationToken.create();
+                    final ManualClock clock = ManualClock.create(ManualAsyncRunner.create());
+                    test.assertThrows(() -> token.cancelAt(clock, null),
+                        new PreConditionFailure("deadline cannot be null."));
+                });
+
+                runner.test("with future deadline", (Test test) ->
+                {
+                    final ManualAsyncRunner asyncRunner = ManualAsyncRunner.create();
+                    final ManualClock clock = ManualClock.create(asyncRunner);
+                    final CancellationToken token = CancellationToken.create();
+                    test.assertSame(token, token.cancelAt(clock, DateTime.epoch.plus(Duration.seconds(5))));
+                    test.assertFalse(token.isCancelled());
+
+                    clock.advance(Duration.seconds(4));
+                    test.assertEqual(0, asyncRunner.getScheduledTaskCount());
+                    test.assertFalse(token.isCancelled());
+
+                    clock.advance(Duration.seconds(1));
+                    asyncRunner.await(asyncRunner.schedule(() -> {}));
+                    test.assertTrue(token.isCancelled());
+                });
+
+                runner.test("when cancelled before the deadline",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncScheduler parallelAsyncRunner) ->
+                {
+                    final TimerWheel timerWheel = TimerWheel.create();
+                    final JavaClock clock = JavaClock.create(parallelAsyncRunner, timerWheel);
+                    final CancellationToken token = CancellationToken.create();
+                    token.cancelAt(clock, clock.getCurrentDateTime().plus(Duration.minutes(1)));
+                    test.assertEqual(1, timerWheel.getPendingTimeoutCount());
+
+                    test.assertTrue(token.cancel());
+                    test.assertEqual(0, timerWheel.getPendingTimeoutCount());
+                });
+
+                runner.test("when disposed",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncScheduler parallelAsyncRunner) ->
+                {
+                    final JavaClock clock = JavaClock.create(parallelAsyncRunner);
+                    final CancellationToken token = CancellationToken.create();
+                    token.dispose().await();
+                    test.assertThrows(() -> token.cancelAt(clock, clock.getCurrentDateTime()),
+                        new PreConditionFailure("this.isDisposed() cannot be true."));
+                });
+            });
+
+            runner.testGroup("cancelAfter(Clock,Duration)", () ->
+            {
+                runner.test("with null timeout", (Test test) ->
+                {
+                    final CancellationToken token = CancellationToken.create();
+                    final ManualClock clock = ManualClock.create(ManualAsyncRunner.create());
+                    test.assertThrows(() -> token.cancelAfter(clock, null),
+                        new PreConditionFailure("timeout cannot be null."));
+                });
+
+                runner.test("with JavaClock",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncScheduler parallelAsyncRunner) ->
+                {
+                    final JavaClock clock = JavaClock.create(parallelAsyncRunner);
+                    final CancellationToken token = CancellationToken.create();
+                    final SpinGate cancelled = SpinGate.create();
+                    token.onCancelled(cancelled::open);
+
+                    token.cancelAfter(clock, Duration.milliseconds(10));
+                    cancelled.passThrough().await();
+                    test.assertTrue(token.isCancelled());
+                });
+            });
+
+            runner.testGroup("dispose()", () ->
+            {
+                runner.test("when not disposed", (Test test) ->
+                {
+                    final CancellationToken token = CancellationToken.create();
+                    final IntegerValue runCount = IntegerValue.create(0);
+                    token.onCancelled(runCount::increment);
+
+                    test.assertTrue(token.dispose().await());
+                    test.assertTrue(token.isDisposed());
+                    test.assertFalse(token.isCancelled());
+
+                    token.cancel();
+                    test.assertEqual(0, runCount.get());
+                });
+
+                runner.test("when already disposed", (Test test) ->
+                {
+                    final CancellationToken token = CancellationToken.create();
+                    token.dispose().await();
+                    test.assertFalse(token.dispose().await());
+                    test.assertTrue(token.isDisposed());
+                });
+
+                runner.test("with pending deadline",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncScheduler parallelAsyncRunner) ->
+                {
+                    final TimerWheel timerWheel = TimerWheel.create();
+                    final JavaClock clock = JavaClock.create(parallelAsyncRunner, timerWheel);
+                    final CancellationToken token = CancellationToken.create();
+                    token.cancelAfter(clock, Duration.minutes(1));
+                    test.assertEqual(1, timerWheel.getPendingTimeoutCount());
+
+                    test.assertTrue(token.dispose().await());
+                    test.assertEqual(0, timerWheel.getPendingTimeoutCount());
+                    test.assertFalse(token.isCancelled());
+                });
+            });
+        });
+    }
+}
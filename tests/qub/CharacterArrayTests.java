@@ -139,6 +139,47 @@ public interface CharacterArrayTests
                     test.assertEqual(Iterable.create('a', 'z', 'c'), array);
                 });
             });
+
+            runner.testGroup("sort()", () ->
+            {
+                runner.test("with empty array", (Test test) ->
+                {
+                    final CharacterArray array = CharacterArray.create();
+                    test.assertSame(array, array.sort());
+                    test.assertEqual(Iterable.create(), array);
+                });
+
+                runner.test("with unsorted values", (Test test) ->
+                {
+                    final CharacterArray array = CharacterArray.create('d', 'a', 'c', 'b', 'a');
+                    test.assertSame(array, array.sort());
+                    test.assertEqual(Iterable.create('a', 'a', 'b', 'c', 'd'), array);
+                });
+            });
+
+            runner.testGroup("binarySearch(char)", () ->
+            {
+                runner.test("with empty array", (Test test) ->
+                {
+                    final CharacterArray array = CharacterArray.create();
+                    test.assertEqual(-1, array.binarySearch('a'));
+                });
+
+                runner.test("with value that exists", (Test test) ->
+                {
+                    final CharacterArray array = CharacterArray.create('a', 'c', 'e');
+                    test.assertEqual(0, array.binarySearch('a'));
+                    test.assertEqual(1, array.binarySearch('c'));
+                    test.assertEqual(2, array.binarySearch('e'));
+                });
+
+                runner.test("with value that doesn't exist", (Test test) ->
+                {
+                    final CharacterArray array = CharacterArray.create('a', 'c', 'e');
+                    test.assertEqual(-2, array.binarySearch('b'));
+                    test.assertEqual(-4, array.binarySearch('z'));
+                });
+            });
         });
     }
 }
@@ -0,0 +1,80 @@
+package qub;
+
+public interface ClockDeadlineTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(ClockDeadline.class, () ->
+        {
+            runner.testGroup("create(Clock,DateTime)", () ->
+            {
+                runner.test("with null clock", (Test test) ->
+                {
+                    test.assertThrows(() -> ClockDeadline.create(null, DateTime.epoch),
+                        new PreConditionFailure("clock cannot be null."));
+                });
+
+                runner.test("with null dateTime", (Test test) ->
+                {
+                    final ManualClock clock = ManualClock.create(DateTime.epoch);
+                    test.assertThrows(() -> ClockDeadline.create(clock, null),
+                        new PreConditionFailure("dateTime cannot be null."));
+                });
+
+                runner.test("with valid arguments", (Test test) ->
+                {
+                    final ManualClock clock = ManualClock.create(DateTime.epoch);
+                    final DateTime dateTime = DateTime.epoch.plus(Duration.seconds(5));
+                    final ClockDeadline deadline = ClockDeadline.create(clock, dateTime);
+                    test.assertSame(dateTime, deadline.getDateTime());
+                    test.assertFalse(deadline.isDisposed());
+                });
+            });
+
+            runner.testGroup("isExpired()", () ->
+            {
+                runner.test("before the DateTime", (Test test) ->
+                {
+                    final ManualClock clock = ManualClock.create(DateTime.epoch);
+                    final ClockDeadline deadline = ClockDeadline.create(clock, DateTime.epoch.plus(Duration.seconds(5)));
+                    test.assertFalse(deadline.isExpired());
+                });
+
+                runner.test("at the DateTime", (Test test) ->
+                {
+                    final ManualClock clock = ManualClock.create(DateTime.epoch);
+                    final ClockDeadline deadline = ClockDeadline.create(clock, DateTime.epoch.plus(Duration.seconds(5)));
+                    clock.advance(Duration.seconds(5));
+                    test.assertTrue(deadline.isExpired());
+                });
+
+                runner.test("after the DateTime", (Test test) ->
+                {
+                    final ManualClock clock = ManualClock.create(DateTime.epoch);
+                    final ClockDeadline deadline = ClockDeadline.create(clock, DateTime.epoch.plus(Duration.seconds(5)));
+                    clock.advance(Duration.seconds(10));
+                    test.assertTrue(deadline.isExpired());
+                });
+            });
+
+            runner.test("getRemainingNanoseconds()", (Test test) ->
+            {
+                final ManualClock clock = ManualClock.create(DateTime.epoch);
+                final ClockDeadline deadline = ClockDeadline.create(clock, DateTime.epoch.plus(Duration.seconds(5)));
+                test.assertNull(deadline.getRemainingNanoseconds());
+            });
+
+            runner.testGroup("dispose()", () ->
+            {
+                runner.test("when not disposed", (Test test) ->
+                {
+                    final ManualClock clock = ManualClock.create(DateTime.epoch);
+                    final ClockDeadline deadline = ClockDeadline.create(clock, DateTime.epoch);
+                    test.assertTrue(deadline.dispose().await());
+                    test.assertTrue(deadline.isDisposed());
+                    test.assertFalse(deadline.dispose().await());
+                });
+            });
+        });
+    }
+}
@@ -0,0 +1,142 @@
+package qub;
+
+public interface ConcurrentCacheTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(ConcurrentCache.class, () ->
+        {
+            MutableMapTests.test(runner, () -> ConcurrentCache.create(CacheParameters.create()), true, true);
+
+            runner.testGroup("create(CacheParameters<TKey,TValue>)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    test.assertThrows(() -> ConcurrentCache.create(null),
+                        new PreConditionFailure("parameters cannot be null."));
+                });
+
+                runner.test("with maximum count", (Test test) ->
+                {
+                    final ConcurrentCache<Integer,String> cache = Cache.createThreadSafe(CacheParameters.<Integer,String>create()
+                        .setMaximumCount(2));
+                    cache.set(1, "one").set(2, "two").set(3, "three");
+                    test.assertEqual(2, cache.getCount());
+                    test.assertEqual(2, cache.getWeight());
+                    test.assertFalse(cache.containsKey(1));
+                    test.assertEqual(1, cache.getStatistics().getEvictionCount());
+                });
+            });
+
+            runner.testGroup("getOrCompute(TKey,Function1<TKey,TValue>)", () ->
+            {
+                runner.test("with null loader", (Test test) ->
+                {
+                    final ConcurrentCache<Integer,String> cache = ConcurrentCache.create(CacheParameters.create());
+                    test.assertThrows(() -> cache.getOrCompute(1, null),
+                        new PreConditionFailure("loader cannot be null."));
+                });
+
+                runner.test("with missing and then existing key", (Test test) ->
+                {
+                    final ConcurrentCache<Integer,String> cache = ConcurrentCache.create(CacheParameters.create());
+                    test.assertEqual("value1", cache.getOrCompute(1, (Integer key) -> "value" + key).await());
+                    test.assertEqual("value1", cache.getOrCompute(1, (Integer key) -> "other" + key).await());
+
+                    final CacheStatistics statistics = cache.getStatistics();
+                    test.assertEqual(1, statistics.getHitCount());
+                    test.assertEqual(1, statistics.getMissCount());
+                    test.assertEqual(1, statistics.getLoadSuccessCount());
+                });
+
+                runner.test("with loader that throws", (Test test) ->
+                {
+                    final ConcurrentCache<Integer,String> cache = ConcurrentCache.create(CacheParameters.create());
+                    test.assertThrows(() -> cache.getOrCompute(1, (Integer key) -> { throw new NotFoundException("blah"); }).await(),
+                        new NotFoundException("blah"));
+                    test.assertFalse(cache.containsKey(1));
+                    test.assertEqual(1, cache.getStatistics().getLoadFailureCount());
+                });
+
+                runner.test("with loader that loads the same key", (Test test) ->
+                {
+                    final ConcurrentCache<Integer,String> cache = ConcurrentCache.create(CacheParameters.create());
+                    test.assertThrows(() -> cache.getOrCompute(1, (Integer key) -> cache.getOrCompute(key, (Integer innerKey) -> "inner").await()).await(),
+                        new IllegalStateException("The loader for the provided key (1) cannot load the same key."));
+                    test.assertFalse(cache.containsKey(1));
+                    test.assertEqual(1, cache.getStatistics().getLoadFailureCount());
+                });
+
+                runner.test("with loader that loads a different key", (Test test) ->
+                {
+                    final ConcurrentCache<Integer,String> cache = ConcurrentCache.create(CacheParameters.create());
+                    test.assertEqual("outer inner", cache.getOrCompute(1, (Integer key) -> "outer " + cache.getOrCompute(2, (Integer innerKey) -> "inner").await()).await());
+                    test.assertEqual("outer inner", cache.get(1).await());
+                    test.assertEqual("inner", cache.get(2).await());
+                });
+
+                runner.test("when the key is set while loading", (Test test) ->
+                {
+                    final ConcurrentCache<Integer,String> cache = ConcurrentCache.create(CacheParameters.create());
+                    test.assertEqual("loaded", cache.getOrCompute(1, (Integer key) ->
+                    {
+                        cache.set(key, "set");
+                        return "loaded";
+                    }).await());
+                    test.assertEqual("set", cache.get(1).await());
+                    test.assertEqual(1, cache.getStatistics().getLoadSuccessCount());
+                });
+
+                runner.test("when the key is removed while loading", (Test test) ->
+                {
+                    final ConcurrentCache<Integer,String> cache = ConcurrentCache.create(CacheParameters.create());
+                    test.assertEqual("loaded", cache.getOrCompute(1, (Integer key) ->
+                    {
+                        cache.remove(key).catchError().await();
+                        return "loaded";
+                    }).await());
+                    test.assertFalse(cache.containsKey(1));
+                });
+
+                runner.test("when the cache is cleared while loading", (Test test) ->
+                {
+                    final ConcurrentCache<Integer,String> cache = ConcurrentCache.create(CacheParameters.create());
+                    test.assertEqual("loaded", cache.getOrCompute(1, (Integer key) ->
+                    {
+                        cache.clear();
+                        return "loaded";
+                    }).await());
+                    test.assertFalse(cache.any());
+                });
+
+                runner.test("with the same key from multiple threads",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncRunner parallelAsyncRunner) ->
+                {
+                    final ConcurrentCache<Integer,String> cache = ConcurrentCache.create(CacheParameters.create());
+                    final java.util.concurrent.atomic.AtomicInteger loadCount = new java.util.concurrent.atomic.AtomicInteger();
+                    final Function1<Integer,String> loader = (Integer key) ->
+                    {
+                        loadCount.incrementAndGet();
+                        return "value" + key;
+                    };
+
+                    final int threadCount = 8;
+                    final List<Result<String>> tasks = List.create();
+                    for (int i = 0; i < threadCount; ++i)
+                    {
+                        tasks.add(parallelAsyncRunner.schedule(() -> cache.getOrCompute(5, loader).await()));
+                    }
+
+                    for (final String value : Result.await(tasks))
+                    {
+                        test.assertEqual("value5", value);
+                    }
+                    test.assertEqual(1, loadCount.get());
+                    test.assertEqual(1, cache.getStatistics().getLoadSuccessCount());
+                    test.assertEqual(threadCount, cache.getStatistics().getRequestCount());
+                });
+            });
+        });
+    }
+}
@@ -0,0 +1,64 @@
+package qub;
+
+public interface CountingByteWriteStreamTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(CountingByteWriteStream.class, () ->
+        {
+            runner.test("create()", (Test test) ->
+            {
+                final CountingByteWriteStream stream = CountingByteWriteStream.create();
+                test.assertFalse(stream.isDisposed());
+                test.assertEqual(0, stream.getByteCount());
+            });
+
+            runner.testGroup("write(byte)", () ->
+            {
+                runner.test("when not disposed", (Test test) ->
+                {
+                    final CountingByteWriteStream stream = CountingByteWriteStream.create();
+                    test.assertEqual(1, stream.write((byte)5).await());
+                    test.assertEqual(1, stream.write((byte)6).await());
+                    test.assertEqual(2, stream.getByteCount());
+                });
+
+                runner.test("when disposed", (Test test) ->
+                {
+                    final CountingByteWriteStream stream = CountingByteWriteStream.create();
+                    stream.dispose().await();
+                    test.assertThrows(() -> stream.write((byte)5),
+                        new PreConditionFailure("this.isDisposed() cannot be true."));
+                    test.assertEqual(0, stream.getByteCount());
+                });
+            });
+
+            runner.testGroup("write(byte[],int,int)", () ->
+            {
+                runner.test("with null bytes", (Test test) ->
+                {
+                    final CountingByteWriteStream stream = CountingByteWriteStream.create();
+                    test.assertThrows(() -> stream.write(null, 0, 0),
+                        new PreConditionFailure("toWrite cannot be null."));
+                });
+
+                runner.test("with bytes", (Test test) ->
+                {
+                    final CountingByteWriteStream stream = CountingByteWriteStream.create();
+                    test.assertEqual(3, stream.write(new byte[] { 1, 2, 3, 4, 5 }, 1, 3).await());
+                    test.assertEqual(5, stream.writeAll(new byte[] { 1, 2, 3, 4, 5 }).await());
+                    test.assertEqual(8, stream.getByteCount());
+                });
+            });
+
+            runner.test("dispose()", (Test test) ->
+            {
+                final CountingByteWriteStream stream = CountingByteWriteStream.create();
+                test.assertTrue(stream.dispose().await());
+                test.assertTrue(stream.isDisposed());
+                test.assertFalse(stream.dispose().await());
+                test.assertTrue(stream.isDisposed());
+            });
+        });
+    }
+}
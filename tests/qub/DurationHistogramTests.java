@@ -0,0 +1,113 @@
+package qub;
+
+public interface DurationHistogramTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(DurationHistogram.class, () ->
+        {
+            runner.test("create()", (Test test) ->
+            {
+                final DurationHistogram histogram = DurationHistogram.create();
+                test.assertEqual(0, histogram.getCount());
+                test.assertEqual(Duration.zero, histogram.getTotal());
+                test.assertEqual(Duration.zero, histogram.getMaximum());
+                test.assertEqual(Duration.zero, histogram.getAverage());
+                test.assertEqual(Duration.zero, histogram.getPercentile(50));
+            });
+
+            runner.testGroup("add(Duration)", () ->
+            {
+                runner.test("with null duration", (Test test) ->
+                {
+                    final DurationHistogram histogram = DurationHistogram.create();
+                    test.assertThrows(() -> histogram.add(null),
+                        new PreConditionFailure("duration cannot be null."));
+                });
+
+                runner.test("with non-null duration", (Test test) ->
+                {
+                    final DurationHistogram histogram = DurationHistogram.create();
+                    histogram.add(Duration.microseconds(3));
+                    test.assertEqual(1, histogram.getCount());
+                    test.assertEqual(Duration.nanoseconds(3000), histogram.getTotal());
+                    test.assertEqual(Duration.nanoseconds(3000), histogram.getMaximum());
+                });
+            });
+
+            runner.testGroup("addNanoseconds(long)", () ->
+            {
+                runner.test("with negative value", (Test test) ->
+                {
+                    final DurationHistogram histogram = DurationHistogram.create();
+                    histogram.addNanoseconds(-5);
+                    test.assertEqual(1, histogram.getCount());
+                    test.assertEqual(Duration.zero, histogram.getTotal());
+                });
+
+                runner.test("with multiple values", (Test test) ->
+                {
+                    final DurationHistogram histogram = DurationHistogram.create();
+                    histogram.addNanoseconds(10);
+                    histogram.addNanoseconds(20);
+                    histogram.addNanoseconds(30);
+                    test.assertEqual(3, histogram.getCount());
+                    test.assertEqual(Duration.nanoseconds(60), histogram.getTotal());
+                    test.assertEqual(Duration.nanoseconds(20), histogram.getAverage());
+                    test.assertEqual(Duration.nanoseconds(30), histogram.getMaximum());
+                });
+            });
+
+            runner.testGroup("getPercentile(double)", () ->
+            {
+                runner.test("with negative percentile", (Test test) ->
+                {
+                    final DurationHistogram histogram = DurationHistogram.create();
+                    test.assertThrows(() -> histogram.getPercentile(-1),
+                        new PreConditionFailure("percentile (-1.0) must be between 0.0 and 100.0."));
+                });
+
+                runner.test("with many values", (Test test) ->
+                {
+                    final DurationHistogram histogram = DurationHistogram.create();
+                    for (int i = 0; i < 99; ++i)
+                    {
+                        histogram.addNanoseconds(100);
+                    }
+                    histogram.addNanoseconds(1000000);
+
+                    // 100 nanoseconds is in the bucket for 64 to 127 nanoseconds.
+                    test.assertEqual(Duration.nanoseconds(127), histogram.getPercentile(50));
+                    test.assertEqual(Duration.nanoseconds(127), histogram.getPercentile(99));
+                    test.assertEqual(Duration.nanoseconds(1000000), histogram.getPercentile(100));
+                });
+            });
+
+            runner.test("toJson()", (Test test) ->
+            {
+                final DurationHistogram histogram = DurationHistogram.create();
+                histogram.addNanoseconds(100);
+                histogram.addNanoseconds(100);
+                histogram.addNanoseconds(1000);
+
+                final JSONObject json = histogram.toJson();
+                test.assertEqual(3, json.getLong("count").await());
+                test.assertEqual(1200, json.getLong("totalNanoseconds").await());
+                test.assertEqual(1000, json.getLong("maximumNanoseconds").await());
+
+                final JSONArray buckets = json.getArray("buckets").await();
+                test.assertEqual(2, buckets.getCount());
+                test.assertEqual(
+                    JSONObject.create()
+                        .setNumber("upperBoundNanoseconds", 127)
+                        .setNumber("count", 2),
+                    buckets.get(0));
+                test.assertEqual(
+                    JSONObject.create()
+                        .setNumber("upperBoundNanoseconds", 1023)
+                        .setNumber("count", 1),
+                    buckets.get(1));
+            });
+        });
+    }
+}
@@ -4384,6 +4384,101 @@ public interface FileSystemTests
                 });
             });
 
+            runner.testGroup("copyFolderTo(Folder,Folder)", () ->
+            {
+                runner.test("with null sourceFolder", (Test test) ->
+                {
+                    final FileSystem fileSystem = creator.run(null);
+                    test.assertThrows(() -> fileSystem.copyFolderTo((Folder)null, fileSystem.getFolder("/destination/").await()),
+                        new PreConditionFailure("sourceFolder cannot be null."));
+                    test.assertFalse(fileSystem.folderExists("/destination/").await());
+                });
+
+                runner.test("with null destinationFolder", (Test test) ->
+                {
+                    final FileSystem fileSystem = creator.run(null);
+                    test.assertThrows(() -> fileSystem.copyFolderTo(fileSystem.getFolder("/source/").await(), (Folder)null),
+                        new PreConditionFailure("destinationFolder cannot be null."));
+                    test.assertFalse(fileSystem.folderExists("/source/").await());
+                });
+
+                runner.test("when source folder doesn't exist", (Test test) ->
+                {
+                    final FileSystem fileSystem = creator.run(null);
+                    test.assertThrows(() -> fileSystem.copyFolderTo(fileSystem.getFolder("/source/").await(), fileSystem.getFolder("/destination/").await()).await(),
+                        new FolderNotFoundException("/source/"));
+                    test.assertFalse(fileSystem.folderExists("/destination/").await());
+                });
+
+                runner.test("when source folder is empty and destination folder doesn't exist", (Test test) ->
+                {
+                    final FileSystem fileSystem = creator.run(null);
+                    fileSystem.createFolder("/source/").await();
+                    test.assertNull(fileSystem.copyFolderTo(fileSystem.getFolder("/source/").await(), fileSystem.getFolder("/destination/").await()).await());
+                    test.assertTrue(fileSystem.folderExists("/source/").await());
+                    test.assertTrue(fileSystem.folderExists("/destination/").await());
+                    test.assertEqual(Iterable.create(), fileSystem.iterateEntries("/destination/").toList());
+                });
+
+                runner.test("when source folder has files and folders", (Test test) ->
+                {
+                    final FileSystem fileSystem = creator.run(null);
+                    fileSystem.setFileContents("/source/a.txt", new byte[] { 0, 1, 2, 3 }).await();
+                    fileSystem.createFolder("/source/empty/").await();
+                    fileSystem.setFileContentsAsString("/source/sub/b.txt", "hello").await();
+                    fileSystem.copyFolderTo(fileSystem.getFolder("/source/").await(), fileSystem.getFolder("/destination/").await()).await();
+                    test.assertEqual(new byte[] { 0, 1, 2, 3 }, fileSystem.getFileContent("/source/a.txt").await());
+                    test.assertEqual(new byte[] { 0, 1, 2, 3 }, fileSystem.getFileContent("/destination/a.txt").await());
+                    test.assertTrue(fileSystem.folderExists("/destination/empty/").await());
+                    test.assertEqual("hello", fileSystem.getFileContentsAsString("/destination/sub/b.txt").await());
+                });
+
+                runner.test("when destination folder has existing files", (Test test) ->
+                {
+                    final FileSystem fileSystem = creator.run(null);
+                    fileSystem.setFileContentsAsString("/source/a.txt", "hello").await();
+                    fileSystem.setFileContentsAsString("/destination/a.txt", "oops, this is longer").await();
+                    fileSystem.setFileContentsAsString("/destination/b.txt", "other").await();
+                    fileSystem.copyFolderTo(fileSystem.getFolder("/source/").await(), fileSystem.getFolder("/destination/").await()).await();
+                    test.assertEqual("hello", fileSystem.getFileContentsAsString("/destination/a.txt").await());
+                    test.assertEqual("other", fileSystem.getFileContentsAsString("/destination/b.txt").await());
+                });
+
+                runner.test("when destination folder is inside of source folder", (Test test) ->
+                {
+                    final FileSystem fileSystem = creator.run(null);
+                    fileSystem.setFileContentsAsString("/source/a.txt", "hello").await();
+                    fileSystem.copyFolderTo(fileSystem.getFolder("/source/").await(), fileSystem.getFolder("/source/copy/").await()).await();
+                    test.assertEqual("hello", fileSystem.getFileContentsAsString("/source/copy/a.txt").await());
+                    test.assertFalse(fileSystem.folderExists("/source/copy/copy/").await());
+                });
+            });
+
+            runner.testGroup("copyFolderTo(Path,Path)", () ->
+            {
+                runner.test("with null sourceFolderPath", (Test test) ->
+                {
+                    final FileSystem fileSystem = creator.run(null);
+                    test.assertThrows(() -> fileSystem.copyFolderTo((Path)null, Path.parse("/destination/")),
+                        new PreConditionFailure("sourceFolderPath cannot be null."));
+                });
+
+                runner.test("with null destinationFolderPath", (Test test) ->
+                {
+                    final FileSystem fileSystem = creator.run(null);
+                    test.assertThrows(() -> fileSystem.copyFolderTo(Path.parse("/source/"), (Path)null),
+                        new PreConditionFailure("destinationFolderPath cannot be null."));
+                });
+
+                runner.test("when source folder has files", (Test test) ->
+                {
+                    final FileSystem fileSystem = creator.run(null);
+                    fileSystem.setFileContentsAsString("/source/a.txt", "hello").await();
+                    fileSystem.copyFolderTo(Path.parse("/source"), Path.parse("/destination")).await();
+                    test.assertEqual("hello", fileSystem.getFileContentsAsString("/destination/a.txt").await());
+                });
+            });
+
             runner.testGroup("containsInvalidCharacters(Path)", () ->
             {
                 final Action2<String,Boolean> containsInvalidCharactersTest = (String pathString, Boolean expected) ->
@@ -243,6 +243,55 @@ public interface FolderTests
                 });
             });
 
+            runner.testGroup("copyTo(Path)", () ->
+            {
+                runner.test("with null destinationFolderPath", (Test test) ->
+                {
+                    final Folder folder = FolderTests.getFolder();
+                    test.assertThrows(() -> folder.copyTo((Path)null),
+                        new PreConditionFailure("destinationFolderPath cannot be null."));
+                });
+
+                runner.test("with non-existing source folder", (Test test) ->
+                {
+                    final Folder folder = FolderTests.getFolder();
+                    test.assertThrows(() -> folder.copyTo(Path.parse("/destination/")).await(),
+                        new FolderNotFoundException(folder.getPath()));
+                });
+
+                runner.test("with existing source folder", (Test test) ->
+                {
+                    final Folder folder = FolderTests.getFolder();
+                    folder.setFileContentsAsString("a.txt", "hello").await();
+                    folder.setFileContentsAsString("b/c.txt", "there").await();
+
+                    test.assertNull(folder.copyTo(Path.parse("/destination/")).await());
+                    final Folder destinationFolder = folder.getFileSystem().getFolder("/destination/").await();
+                    test.assertEqual("hello", destinationFolder.getFileContentsAsString("a.txt").await());
+                    test.assertEqual("there", destinationFolder.getFileContentsAsString("b/c.txt").await());
+                });
+            });
+
+            runner.testGroup("copyTo(Folder)", () ->
+            {
+                runner.test("with null destinationFolder", (Test test) ->
+                {
+                    final Folder folder = FolderTests.getFolder();
+                    test.assertThrows(() -> folder.copyTo((Folder)null),
+                        new PreConditionFailure("destinationFolder cannot be null."));
+                });
+
+                runner.test("with existing source folder", (Test test) ->
+                {
+                    final Folder folder = FolderTests.getFolder();
+                    folder.setFileContentsAsString("a.txt", "hello").await();
+                    final Folder destinationFolder = folder.getFileSystem().getFolder("/destination/").await();
+
+                    test.assertNull(folder.copyTo(destinationFolder).await());
+                    test.assertEqual("hello", destinationFolder.getFileContentsAsString("a.txt").await());
+                });
+            });
+
             runner.testGroup("createFolder(String)", () ->
             {
                 runner.test("with null path", (Test test) ->
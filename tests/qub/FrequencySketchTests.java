@@ -0,0 +1,78 @@
+package qub;
+
+public interface FrequencySketchTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(FrequencySketch.class, () ->
+        {
+            runner.testGroup("create(int)", () ->
+            {
+                runner.test("with -1", (Test test) ->
+                {
+                    test.assertThrows(() -> FrequencySketch.create(-1),
+                        new PreConditionFailure("expectedKeyCount (-1) must be greater than or equal to 0."));
+                });
+
+                runner.test("with 100", (Test test) ->
+                {
+                    final FrequencySketch sketch = FrequencySketch.create(100);
+                    test.assertEqual(0, sketch.getFrequency(1));
+                    test.assertEqual(0, sketch.getFrequency(null));
+                });
+            });
+
+            runner.testGroup("increment(Object)", () ->
+            {
+                runner.test("with one key", (Test test) ->
+                {
+                    final FrequencySketch sketch = FrequencySketch.create(100);
+                    for (int i = 1; i <= 5; ++i)
+                    {
+                        sketch.increment("hello");
+                        test.assertTrue(i <= sketch.getFrequency("hello"));
+                    }
+                });
+
+                runner.test("more than the maximum counter value", (Test test) ->
+                {
+                    final FrequencySketch sketch = FrequencySketch.create(100);
+                    for (int i = 0; i < 100; ++i)
+                    {
+                        sketch.increment(7);
+                    }
+                    test.assertEqual(15, sketch.getFrequency(7));
+                });
+
+                runner.test("until the counters are halved", (Test test) ->
+                {
+                    final FrequencySketch sketch = FrequencySketch.create(16);
+                    for (int i = 0; i < 10; ++i)
+                    {
+                        sketch.increment(-1);
+                    }
+                    test.assertEqual(10, sketch.getFrequency(-1));
+
+                    for (int i = 0; i < 160; ++i)
+                    {
+                        sketch.increment(i);
+                    }
+                    test.assertTrue(sketch.getFrequency(-1) < 10);
+                });
+            });
+
+            runner.test("ensureCapacity(int)", (Test test) ->
+            {
+                final FrequencySketch sketch = FrequencySketch.create(16);
+                sketch.increment(1);
+                test.assertEqual(1, sketch.getFrequency(1));
+
+                sketch.ensureCapacity(16);
+                test.assertEqual(1, sketch.getFrequency(1));
+
+                sketch.ensureCapacity(1000);
+                test.assertEqual(0, sketch.getFrequency(1));
+            });
+        });
+    }
+}
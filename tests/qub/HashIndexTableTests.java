@@ -0,0 +1,169 @@
+package qub;
+
+public interface HashIndexTableTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(HashIndexTable.class, () ->
+        {
+            runner.testGroup("create(int,double)", () ->
+            {
+                runner.test("with negative initialCapacity", (Test test) ->
+                {
+                    test.assertThrows(() -> HashIndexTable.create(-1, 0.75),
+                        new PreConditionFailure("initialCapacity (-1) must be greater than or equal to 0."));
+                });
+
+                runner.test("with 0 initialCapacity", (Test test) ->
+                {
+                    final HashIndexTable table = HashIndexTable.create(0, 0.75);
+                    test.assertEqual(0.75, table.getLoadFactor());
+                    test.assertEqual(0, table.getCount());
+                    test.assertEqual(0, table.getEntryEndIndex());
+                    test.assertTrue(table.isFull());
+                });
+            });
+
+            runner.testGroup("addEntry(int)", () ->
+            {
+                runner.test("with colliding hashes", (Test test) ->
+                {
+                    final HashIndexTable table = HashIndexTable.create(4, 0.75);
+                    test.assertEqual(0, table.addEntry(7));
+                    test.assertEqual(1, table.addEntry(7));
+                    test.assertEqual(2, table.addEntry(7));
+                    test.assertEqual(3, table.getCount());
+                    test.assertEqual(3, table.getEntryEndIndex());
+                    test.assertEqual(7, table.getHash(2));
+                    test.assertEqual(0, HashIndexTableTests.find(table, 7, 0));
+                    test.assertEqual(1, HashIndexTableTests.find(table, 7, 1));
+                    test.assertEqual(2, HashIndexTableTests.find(table, 7, 2));
+                });
+            });
+
+            runner.testGroup("removeEntry(int)", () ->
+            {
+                runner.test("with an entry in the middle of a probe sequence", (Test test) ->
+                {
+                    final HashIndexTable table = HashIndexTable.create(4, 0.75);
+                    table.addEntry(7);
+                    table.addEntry(7);
+                    table.addEntry(7);
+
+                    table.removeEntry(HashIndexTableTests.findSlot(table, 7, 1));
+                    test.assertEqual(2, table.getCount());
+                    test.assertEqual(3, table.getEntryEndIndex());
+                    test.assertTrue(table.isRemoved(1));
+                    test.assertEqual(-1, HashIndexTableTests.find(table, 7, 1));
+                    test.assertEqual(0, HashIndexTableTests.find(table, 7, 0));
+                    test.assertEqual(2, HashIndexTableTests.find(table, 7, 2));
+                });
+
+                runner.test("with the last entries", (Test test) ->
+                {
+                    final HashIndexTable table = HashIndexTable.create(4, 0.75);
+                    table.addEntry(1);
+                    table.addEntry(2);
+                    table.addEntry(3);
+
+                    table.removeEntry(HashIndexTableTests.findSlot(table, 2, 1));
+                    table.removeEntry(HashIndexTableTests.findSlot(table, 3, 2));
+                    test.assertEqual(1, table.getCount());
+                    test.assertEqual(1, table.getEntryEndIndex());
+                    test.assertFalse(table.isRemoved(1));
+                    test.assertEqual(1, table.addEntry(4));
+                });
+            });
+
+            runner.testGroup("growEntries(int)", () ->
+            {
+                runner.test("when the table isn't full", (Test test) ->
+                {
+                    final HashIndexTable table = HashIndexTable.create(0, 0.75);
+                    final int newEntryCapacity = table.getGrownEntryCapacity();
+                    test.assertEqual(4, newEntryCapacity);
+                    final int[] keys = table.moveEntries(new int[0], newEntryCapacity);
+                    table.growEntries(newEntryCapacity);
+                    test.assertEqual(4, keys.length);
+                    test.assertFalse(table.isFull());
+                });
+
+                runner.test("with removed entries", (Test test) ->
+                {
+                    final HashIndexTable table = HashIndexTable.create(0, 0.75);
+                    int[] keys = new int[0];
+                    for (int key = 0; key < 6; ++key)
+                    {
+                        if (table.isFull())
+                        {
+                            final int newEntryCapacity = table.getGrownEntryCapacity();
+                            keys = table.moveEntries(keys, newEntryCapacity);
+                            table.growEntries(newEntryCapacity);
+                        }
+                        keys[table.addEntry(key)] = key;
+                    }
+                    test.assertTrue(table.isFull());
+                    table.removeEntry(HashIndexTableTests.findSlot(table, 1, 1));
+                    table.removeEntry(HashIndexTableTests.findSlot(table, 3, 3));
+
+                    final int newEntryCapacity = table.getGrownEntryCapacity();
+                    keys = table.moveEntries(keys, newEntryCapacity);
+                    table.growEntries(newEntryCapacity);
+                    test.assertEqual(4, table.getCount());
+                    test.assertEqual(4, table.getEntryEndIndex());
+                    test.assertEqual(new int[] { 0, 2, 4, 5 }, java.util.Arrays.copyOf(keys, 4));
+                    for (int entryIndex = 0; entryIndex < 4; ++entryIndex)
+                    {
+                        test.assertFalse(table.isRemoved(entryIndex));
+                        test.assertEqual(keys[entryIndex], table.getHash(entryIndex));
+                        test.assertEqual(entryIndex, HashIndexTableTests.find(table, keys[entryIndex], entryIndex));
+                    }
+                });
+            });
+
+            runner.test("clear()", (Test test) ->
+            {
+                final HashIndexTable table = HashIndexTable.create(4, 0.75);
+                table.addEntry(1);
+                table.addEntry(2);
+                table.removeEntry(HashIndexTableTests.findSlot(table, 1, 0));
+
+                table.clear();
+                test.assertEqual(0, table.getCount());
+                test.assertEqual(0, table.getEntryEndIndex());
+                test.assertFalse(table.isRemoved(0));
+                test.assertEqual(-1, HashIndexTableTests.find(table, 2, 1));
+            });
+        });
+    }
+
+    /**
+     * Get the slot of the entry with the provided hash and index.
+     * @return The slot of the entry, or -1 if the entry wasn't found.
+     */
+    static int findSlot(HashIndexTable table, int hash, int entryIndex)
+    {
+        int result = -1;
+        int slot = table.getHomeSlot(hash);
+        int currentEntryIndex;
+        while ((currentEntryIndex = table.getEntryIndex(slot)) != -1)
+        {
+            if (currentEntryIndex == entryIndex)
+            {
+                result = slot;
+                break;
+            }
+            slot = table.getNextSlot(slot);
+        }
+        return result;
+    }
+
+    /**
+     * Get the provided entry index if it can be found by probing for the provided hash.
+     * @return The provided entry index, or -1 if the entry wasn't found.
+     */
+    static int find(HashIndexTable table, int hash, int entryIndex)
+    {
+        return HashIndexTableTests.findSlot(table, hash, entryIndex) == -1 ? -1 : entryIndex;
+    }
+}
@@ -0,0 +1,171 @@
+package qub;
+
+public interface HashMapTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(HashMap.class, () ->
+        {
+            MutableMapTests.test(runner, HashMap::create, true, true);
+
+            runner.testGroup("create(int,double)", () ->
+            {
+                runner.test("with negative initialCapacity", (Test test) ->
+                {
+                    test.assertThrows(() -> HashMap.create(-1, 0.75),
+                        new PreConditionFailure("initialCapacity (-1) must be greater than or equal to 0."));
+                });
+
+                runner.test("with too large loadFactor", (Test test) ->
+                {
+                    test.assertThrows(() -> HashMap.create(0, 1.0),
+                        new PreConditionFailure("loadFactor (1.0) must be between 0.1 and 0.95."));
+                });
+
+                runner.test("with valid arguments", (Test test) ->
+                {
+                    final HashMap<Integer,String> map = HashMap.create(100, 0.5);
+                    test.assertEqual(0, map.getCount());
+                    test.assertEqual(0.5, map.getLoadFactor());
+                });
+            });
+
+            runner.testGroup("getOrDefault(TKey,TValue)", () ->
+            {
+                runner.test("with non-existing key", (Test test) ->
+                {
+                    final HashMap<Integer,String> map = HashMap.create();
+                    test.assertEqual("default", map.getOrDefault(5, "default"));
+                });
+
+                runner.test("with existing key", (Test test) ->
+                {
+                    final HashMap<Integer,String> map = HashMap.create();
+                    map.set(5, "five");
+                    test.assertEqual("five", map.getOrDefault(5, "default"));
+                });
+
+                runner.test("with null key", (Test test) ->
+                {
+                    final HashMap<Integer,String> map = HashMap.create();
+                    map.set(null, "null");
+                    test.assertEqual("null", map.getOrDefault(null, "default"));
+                });
+            });
+
+            runner.test("iterate() with insertion order", (Test test) ->
+            {
+                final HashMap<String,Integer> map = HashMap.create();
+                map.set("c", 1).set("a", 2).set("b", 3).set("a", 4);
+                test.assertEqual(Iterable.create("c", "a", "b"), map.getKeys());
+                test.assertEqual(Iterable.create(1, 4, 3), map.getValues());
+
+                map.remove("c").await();
+                map.set("c", 5);
+                test.assertEqual(Iterable.create("a", "b", "c"), map.getKeys());
+                test.assertEqual(Iterable.create(4, 3, 5), map.getValues());
+            });
+
+            runner.test("with many entries", (Test test) ->
+            {
+                final int count = 10000;
+                final HashMap<Integer,Integer> map = HashMap.create();
+                for (int i = 0; i < count; ++i)
+                {
+                    map.set(i, i * 2);
+                }
+                test.assertEqual(count, map.getCount());
+
+                for (int i = 0; i < count; i += 2)
+                {
+                    test.assertEqual(i * 2, map.remove(i).await());
+                }
+                test.assertEqual(count / 2, map.getCount());
+
+                for (int i = 0; i < count; ++i)
+                {
+                    test.assertEqual(i % 2 == 1, map.containsKey(i));
+                }
+
+                int expectedKey = 1;
+                for (final MapEntry<Integer,Integer> entry : map)
+                {
+                    test.assertEqual(expectedKey, entry.getKey());
+                    test.assertEqual(expectedKey * 2, entry.getValue());
+                    expectedKey += 2;
+                }
+                test.assertEqual(count + 1, expectedKey);
+            });
+
+            runner.testGroup("with Path keys", () ->
+            {
+                runner.test("with equal Paths", (Test test) ->
+                {
+                    final HashMap<Path,Integer> map = HashMap.create();
+                    map.set(Path.parse("/a/b"), 1);
+                    map.set(Path.parse("/a/c"), 2);
+                    map.set(Path.parse("/a/./b"), 3);
+                    test.assertEqual(2, map.getCount());
+                    test.assertEqual(3, map.get(Path.parse("/a/b")).await());
+                    test.assertEqual(2, map.get(Path.parse("/a/c/../c")).await());
+                });
+
+                runner.test("with a String in the Path's resolved form", (Test test) ->
+                {
+                    final HashMap<Object,Integer> map = HashMap.create();
+                    map.set(Path.parse("/a/./b"), 1);
+                    test.assertTrue(map.containsKey("/a/b"));
+                    test.assertEqual(1, map.get("/a/b").await());
+                });
+
+                runner.test("with a String that isn't in the Path's resolved form", (Test test) ->
+                {
+                    // Path.equals(String) resolves the String, but a String key is hashed by its
+                    // own characters, so it only finds a Path key when it is already resolved.
+                    final HashMap<Object,Integer> map = HashMap.create();
+                    map.set(Path.parse("/a/b"), 1);
+                    test.assertFalse(map.containsKey("/a/./b"));
+                });
+            });
+
+            runner.test("with DateTime keys", (Test test) ->
+            {
+                final HashMap<DateTime,String> map = HashMap.create();
+                map.set(DateTime.create(2020, 1, 2), "a");
+                map.set(DateTime.create(2020, 1, 3), "b");
+                test.assertEqual("a", map.get(DateTime.create(2020, 1, 2)).await());
+                test.assertEqual("b", map.get(DateTime.create(2020, 1, 3)).await());
+            });
+
+            runner.test("with Tuple keys", (Test test) ->
+            {
+                final HashMap<Tuple2<String,Integer>,String> map = HashMap.create();
+                map.set(Tuple.create("a", 1), "a1");
+                map.set(Tuple.create("a", 2), "a2");
+                test.assertEqual(2, map.getCount());
+                test.assertEqual("a1", map.get(Tuple.create("a", 1)).await());
+                test.assertEqual("a2", map.get(Tuple.create("a", 2)).await());
+            });
+
+            runner.test("with array keys", (Test test) ->
+            {
+                final HashMap<int[],String> map = HashMap.create();
+                map.set(new int[] { 1, 2 }, "a");
+                test.assertEqual("a", map.get(new int[] { 1, 2 }).await());
+                test.assertFalse(map.containsKey(new int[] { 2, 1 }));
+            });
+
+            runner.test("clone()", (Test test) ->
+            {
+                final HashMap<String,Integer> map = HashMap.create();
+                map.set("a", 1).set("b", 2);
+                final HashMap<String,Integer> clone = map.clone();
+                test.assertNotSame(map, clone);
+                test.assertEqual(map, clone);
+
+                clone.set("c", 3);
+                test.assertFalse(map.containsKey("c"));
+            });
+        });
+    }
+}
@@ -0,0 +1,32 @@
+package qub;
+
+public interface HashSetTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(HashSet.class, () ->
+        {
+            SetTests.test(runner, HashSet::create);
+
+            runner.test("with many values", (Test test) ->
+            {
+                final int count = 10000;
+                final HashSet<Integer> set = HashSet.create();
+                for (int i = 0; i < count; ++i)
+                {
+                    set.add(i % (count / 2));
+                }
+                test.assertEqual(count / 2, set.getCount());
+                test.assertTrue(set.contains(0));
+                test.assertTrue(set.contains(count / 2 - 1));
+                test.assertFalse(set.contains(count / 2));
+
+                int expectedValue = 0;
+                for (final int value : set)
+                {
+                    test.assertEqual(expectedValue++, value);
+                }
+            });
+        });
+    }
+}
@@ -74,6 +74,53 @@ public interface InMemoryByteStreamTests
                     test.assertThrows(readStream::readByte, new PreConditionFailure("this.isDisposed() cannot be true."));
                 });
             });
+
+            runner.testGroup("readByteOrEnd()", () ->
+            {
+                runner.test("with no bytes to read", (Test test) ->
+                {
+                    final InMemoryByteStream stream = InMemoryByteStreamTests.create();
+
+                    test.assertEqual(-1, stream.readByteOrEnd());
+                    test.assertEqual(-1, stream.readByteOrEnd());
+                });
+
+                runner.test("with bytes to read", (Test test) ->
+                {
+                    final InMemoryByteStream stream = InMemoryByteStreamTests.create(new byte[] { 10, -1, -128 });
+
+                    test.assertEqual(10, stream.readByteOrEnd());
+                    test.assertEqual(255, stream.readByteOrEnd());
+                    test.assertEqual(128, stream.readByteOrEnd());
+                    test.assertEqual(-1, stream.readByteOrEnd());
+                });
+
+                runner.test("with disposed ByteReadStream", (Test test) ->
+                {
+                    final InMemoryByteStream readStream = InMemoryByteStreamTests.create();
+                    readStream.dispose().await();
+
+                    test.assertThrows(readStream::readByteOrEnd, new PreConditionFailure("this.isDisposed() cannot be true."));
+                });
+
+                runner.test("with bytes written from another thread",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncRunner parallelAsyncRunner) ->
+                {
+                    final InMemoryByteStream stream = InMemoryByteStream.create();
+                    final Result<Void> writer = parallelAsyncRunner.schedule(() ->
+                    {
+                        stream.write(new byte[] { 1, 2, 3 }).await();
+                        stream.endOfStream();
+                    });
+
+                    test.assertEqual(1, stream.readByteOrEnd());
+                    test.assertEqual(2, stream.readByteOrEnd());
+                    test.assertEqual(3, stream.readByteOrEnd());
+                    test.assertEqual(-1, stream.readByteOrEnd());
+                    writer.await();
+                });
+            });
             
             runner.test("readBytes(int)", (Test test) ->
             {
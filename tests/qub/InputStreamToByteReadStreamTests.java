@@ -61,6 +61,36 @@ public interface InputStreamToByteReadStreamTests
                 });
             });
 
+            runner.testGroup("readByteOrEnd()", () ->
+            {
+                runner.test("when disposed", (Test test) ->
+                {
+                    final InputStreamToByteReadStream readStream = getByteReadStream(test, 5);
+                    test.assertTrue(readStream.dispose().await());
+                    test.assertThrows(readStream::readByteOrEnd,
+                        new PreConditionFailure("this.isDisposed() cannot be true."));
+                });
+
+                runner.test("with bytes to read", (Test test) ->
+                {
+                    final InputStreamToByteReadStream readStream = getByteReadStream(test, 3);
+                    test.assertEqual(0, readStream.readByteOrEnd());
+                    test.assertEqual(1, readStream.readByteOrEnd());
+                    test.assertEqual(2, readStream.readByteOrEnd());
+                    test.assertEqual(-1, readStream.readByteOrEnd());
+                });
+
+                runner.test("when exception is thrown", (Test test) ->
+                {
+                    final TestStubInputStream inputStream = new TestStubInputStream();
+                    inputStream.setThrowOnRead(true);
+
+                    final InputStreamToByteReadStream byteReadStream = getByteReadStream(test, inputStream);
+                    test.assertThrows(byteReadStream::readByteOrEnd,
+                        new RuntimeException(new java.io.IOException()));
+                });
+            });
+
             runner.testGroup("readBytes(int)", () ->
             {
                 runner.test("when disposed", (Test test) ->
@@ -0,0 +1,68 @@
+package qub;
+
+public interface IntegerArrayTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(IntegerArray.class, () ->
+        {
+            runner.testGroup("sort()", () ->
+            {
+                runner.test("with empty array", (Test test) ->
+                {
+                    final IntegerArray array = IntegerArray.create();
+                    test.assertSame(array, array.sort());
+                    test.assertEqual(Iterable.create(), array);
+                });
+
+                runner.test("with unsorted values", (Test test) ->
+                {
+                    final IntegerArray array = IntegerArray.create(5, -1, 3, 0, 3, Integers.minimum);
+                    test.assertSame(array, array.sort());
+                    test.assertEqual(Iterable.create(Integers.minimum, -1, 0, 3, 3, 5), array);
+                });
+
+                runner.test("with many values", (Test test) ->
+                {
+                    final int count = 10000;
+                    final java.util.Random random = new java.util.Random(3);
+                    final IntegerArray array = IntegerArray.create(new int[count]);
+                    for (int i = 0; i < count; ++i)
+                    {
+                        array.set(i, random.nextInt());
+                    }
+                    test.assertSame(array, array.sort());
+                    for (int i = 1; i < count; ++i)
+                    {
+                        test.assertTrue(array.get(i - 1) <= array.get(i));
+                    }
+                });
+            });
+
+            runner.testGroup("binarySearch(int)", () ->
+            {
+                runner.test("with empty array", (Test test) ->
+                {
+                    final IntegerArray array = IntegerArray.create();
+                    test.assertEqual(-1, array.binarySearch(5));
+                });
+
+                runner.test("with value that exists", (Test test) ->
+                {
+                    final IntegerArray array = IntegerArray.create(-3, 0, 7, 20);
+                    test.assertEqual(0, array.binarySearch(-3));
+                    test.assertEqual(2, array.binarySearch(7));
+                    test.assertEqual(3, array.binarySearch(20));
+                });
+
+                runner.test("with value that doesn't exist", (Test test) ->
+                {
+                    final IntegerArray array = IntegerArray.create(-3, 0, 7, 20);
+                    test.assertEqual(-1, array.binarySearch(-10));
+                    test.assertEqual(-3, array.binarySearch(5));
+                    test.assertEqual(-5, array.binarySearch(21));
+                });
+            });
+        });
+    }
+}
@@ -0,0 +1,112 @@
+package qub;
+
+public interface IntegerIntegerMapTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(IntegerIntegerMap.class, () ->
+        {
+            runner.test("create()", (Test test) ->
+            {
+                final IntegerIntegerMap map = IntegerIntegerMap.create();
+                test.assertEqual(0, map.getCount());
+                test.assertFalse(map.any());
+            });
+
+            runner.testGroup("set(int,int)", () ->
+            {
+                runner.test("with non-existing key", (Test test) ->
+                {
+                    final IntegerIntegerMap map = IntegerIntegerMap.create();
+                    test.assertSame(map, map.set(1, 10));
+                    test.assertEqual(1, map.getCount());
+                    test.assertEqual(10, map.get(1).await());
+                });
+
+                runner.test("with existing key", (Test test) ->
+                {
+                    final IntegerIntegerMap map = IntegerIntegerMap.create();
+                    map.set(1, 10);
+                    test.assertSame(map, map.set(1, 20));
+                    test.assertEqual(1, map.getCount());
+                    test.assertEqual(20, map.get(1).await());
+                });
+            });
+
+            runner.testGroup("set(Integer,Integer)", () ->
+            {
+                runner.test("with null key", (Test test) ->
+                {
+                    final MutableMap<Integer,Integer> map = IntegerIntegerMap.create();
+                    test.assertThrows(() -> map.set(null, 5), new PreConditionFailure("key cannot be null."));
+                });
+
+                runner.test("with null value", (Test test) ->
+                {
+                    final MutableMap<Integer,Integer> map = IntegerIntegerMap.create();
+                    test.assertThrows(() -> map.set(5, null), new PreConditionFailure("value cannot be null."));
+                });
+
+                runner.test("with non-null key and value", (Test test) ->
+                {
+                    final MutableMap<Integer,Integer> map = IntegerIntegerMap.create();
+                    map.set(5, 6);
+                    test.assertEqual(6, map.get(5).await());
+                });
+            });
+
+            runner.testGroup("getOrDefault(int,int)", () ->
+            {
+                runner.test("with non-existing key", (Test test) ->
+                {
+                    final IntegerIntegerMap map = IntegerIntegerMap.create();
+                    test.assertEqual(-1, map.getOrDefault(3, -1));
+                });
+
+                runner.test("with existing key", (Test test) ->
+                {
+                    final IntegerIntegerMap map = IntegerIntegerMap.create();
+                    map.set(3, 4);
+                    test.assertEqual(4, map.getOrDefault(3, -1));
+                });
+            });
+
+            runner.testGroup("remove(int)", () ->
+            {
+                runner.test("with non-existing key", (Test test) ->
+                {
+                    final IntegerIntegerMap map = IntegerIntegerMap.create();
+                    test.assertThrows(() -> map.remove(3).await(),
+                        new NotFoundException("Could not find the provided key (3) in this Map."));
+                });
+
+                runner.test("with existing key", (Test test) ->
+                {
+                    final IntegerIntegerMap map = IntegerIntegerMap.create();
+                    map.set(3, 4).set(5, 6);
+                    test.assertEqual(4, map.remove(3).await());
+                    test.assertFalse(map.containsKey(3));
+                    test.assertEqual(1, map.getCount());
+                });
+            });
+
+            runner.test("iterate()", (Test test) ->
+            {
+                final IntegerIntegerMap map = IntegerIntegerMap.create();
+                map.set(3, 30).set(1, 10).set(2, 20).set(1, 11);
+                test.assertEqual(Iterable.create(3, 1, 2), map.getKeys());
+                test.assertEqual(Iterable.create(30, 11, 20), map.getValues());
+            });
+
+            runner.test("clear()", (Test test) ->
+            {
+                final IntegerIntegerMap map = IntegerIntegerMap.create();
+                map.set(3, 30).set(1, 10);
+                test.assertSame(map, map.clear());
+                test.assertEqual(0, map.getCount());
+                test.assertFalse(map.containsKey(3));
+                test.assertEqual(Iterable.create(), map.getKeys());
+            });
+        });
+    }
+}
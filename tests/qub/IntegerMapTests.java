@@ -0,0 +1,86 @@
+package qub;
+
+public interface IntegerMapTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(IntegerMap.class, () ->
+        {
+            MutableMapTests.test(runner, IntegerMap::create, false, true);
+
+            runner.testGroup("create(int,double)", () ->
+            {
+                runner.test("with negative initialCapacity", (Test test) ->
+                {
+                    test.assertThrows(() -> IntegerMap.create(-1, 0.75),
+                        new PreConditionFailure("initialCapacity (-1) must be greater than or equal to 0."));
+                });
+
+                runner.test("with valid arguments", (Test test) ->
+                {
+                    final IntegerMap<String> map = IntegerMap.create(100, 0.5);
+                    test.assertEqual(0, map.getCount());
+                    test.assertEqual(0.5, map.getLoadFactor());
+                });
+            });
+
+            runner.testGroup("getOrDefault(int,TValue)", () ->
+            {
+                runner.test("with non-existing key", (Test test) ->
+                {
+                    final IntegerMap<String> map = IntegerMap.create();
+                    test.assertEqual("default", map.getOrDefault(5, "default"));
+                });
+
+                runner.test("with existing key", (Test test) ->
+                {
+                    final IntegerMap<String> map = IntegerMap.create();
+                    map.set(5, "five");
+                    test.assertEqual("five", map.getOrDefault(5, "default"));
+                });
+            });
+
+            runner.test("with many entries", (Test test) ->
+            {
+                final int count = 10000;
+                final IntegerMap<String> map = IntegerMap.create();
+                for (int i = 0; i < count; ++i)
+                {
+                    map.set(i * 16, Integers.toString(i));
+                }
+                test.assertEqual(count, map.getCount());
+
+                for (int i = 0; i < count; i += 2)
+                {
+                    test.assertEqual(Integers.toString(i), map.remove(i * 16).await());
+                }
+                test.assertEqual(count / 2, map.getCount());
+
+                for (int i = 0; i < count; ++i)
+                {
+                    test.assertEqual(i % 2 == 1, map.containsKey(i * 16));
+                    test.assertEqual(i % 2 == 1 ? Integers.toString(i) : null, map.getOrDefault(i * 16, null));
+                }
+
+                int expectedIndex = 1;
+                for (final MapEntry<Integer,String> entry : map)
+                {
+                    test.assertEqual(expectedIndex * 16, entry.getKey());
+                    expectedIndex += 2;
+                }
+                test.assertEqual(count + 1, expectedIndex);
+            });
+
+            runner.test("with negative keys", (Test test) ->
+            {
+                final IntegerMap<String> map = IntegerMap.create();
+                map.set(-1, "a").set(Integers.minimum, "b").set(0, "c");
+                test.assertEqual("a", map.get(-1).await());
+                test.assertEqual("b", map.get(Integers.minimum).await());
+                test.assertEqual("c", map.get(0).await());
+                test.assertThrows(() -> map.get(1).await(),
+                    new NotFoundException("Could not find the provided key (1) in this Map."));
+            });
+        });
+    }
+}
@@ -1311,6 +1311,68 @@ public interface IterableTests
                     test.assertEqual(Iterable.create(Distance.inches(1), Distance.feet(10), Distance.miles(2)), orderedValues);
                 });
             });
+
+            runner.testGroup("orderWithComparer(Function2<T,T,Comparison>)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    final Iterable<Integer> values = Iterable.create();
+                    test.assertThrows(() -> values.orderWithComparer(null), new PreConditionFailure("comparer cannot be null."));
+                });
+
+                runner.test("with empty", (Test test) ->
+                {
+                    final Iterable<Distance> values = Iterable.create();
+                    final Iterable<Distance> orderedValues = values.orderWithComparer(Distance::compareWith);
+                    test.assertNotSame(values, orderedValues);
+                    test.assertEqual(values, orderedValues);
+                });
+
+                runner.test("with three values in mixed-sorted order", (Test test) ->
+                {
+                    final Iterable<Distance> values = Iterable.create(Distance.feet(10), Distance.miles(2), Distance.inches(1));
+                    final Iterable<Distance> orderedValues = values.orderWithComparer(Distance::compareWith);
+                    test.assertNotSame(values, orderedValues);
+                    test.assertEqual(Iterable.create(Distance.feet(10), Distance.miles(2), Distance.inches(1)), values);
+                    test.assertEqual(Iterable.create(Distance.inches(1), Distance.feet(10), Distance.miles(2)), orderedValues);
+                });
+            });
+
+            runner.testGroup("parallelOrder(AsyncScheduler,Function2<T,T,Boolean>)", () ->
+            {
+                runner.test("with null asyncScheduler", (Test test) ->
+                {
+                    final Iterable<Integer> values = Iterable.create(3, 1, 2);
+                    test.assertThrows(() -> values.parallelOrder(null, Comparer::lessThan),
+                        new PreConditionFailure("asyncScheduler cannot be null."));
+                });
+
+                runner.test("with empty",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncScheduler asyncScheduler) ->
+                {
+                    final Iterable<Distance> values = Iterable.create();
+                    final Iterable<Distance> orderedValues = values.parallelOrder(asyncScheduler, Comparer::lessThan).await();
+                    test.assertNotSame(values, orderedValues);
+                    test.assertEqual(values, orderedValues);
+                });
+
+                runner.test("with many values",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncScheduler asyncScheduler) ->
+                {
+                    final int count = 50000;
+                    final List<Integer> values = List.create();
+                    for (int i = 0; i < count; ++i)
+                    {
+                        values.add((i * 7919) % count);
+                    }
+                    final Iterable<Integer> orderedValues = values.parallelOrder(asyncScheduler, Comparer::lessThan).await();
+                    test.assertNotSame(values, orderedValues);
+                    test.assertEqual(values.order(Comparer::lessThan), orderedValues);
+                    test.assertEqual(0, values.first());
+                });
+            });
         });
     }
 }
@@ -15,6 +15,28 @@ public interface JavaClockTests
                 test.assertNotNull(currentDateTime);
             });
 
+            runner.testGroup("create(AsyncRunner,TimerWheel)", () ->
+            {
+                runner.test("with null TimerWheel",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncRunner parallelAsyncRunner) ->
+                {
+                    test.assertThrows(() -> JavaClock.create(parallelAsyncRunner, null),
+                        new PreConditionFailure("timerWheel cannot be null."));
+                });
+
+                runner.test("with valid arguments",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncRunner parallelAsyncRunner) ->
+                {
+                    try (final TimerWheel timerWheel = TimerWheel.create())
+                    {
+                        final JavaClock clock = JavaClock.create(parallelAsyncRunner, timerWheel);
+                        test.assertSame(timerWheel, clock.getTimerWheel());
+                    }
+                });
+            });
+
             runner.testGroup("scheduleAfter(Duration,Action0)", () ->
             {
                 runner.test("with null Duration",
@@ -134,6 +156,91 @@ public interface JavaClockTests
                     test.assertTrue(value.get());
                     test.assertGreaterThanOrEqualTo(duration, delay, Duration.microseconds(1));
                 });
+
+                runner.test("doesn't block the current thread",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncRunner parallelAsyncRunner) ->
+                {
+                    final JavaClock clock = JavaClock.create(parallelAsyncRunner);
+                    final Value<Boolean> value = Value.create();
+                    final Result<Void> result = clock.scheduleAt(clock.getCurrentDateTime().plus(Duration.seconds(1)), () -> value.set(true));
+                    test.assertFalse(result.isCompleted());
+                    test.assertFalse(value.hasValue());
+                });
+
+                runner.test("with many scheduled actions",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncRunner parallelAsyncRunner) ->
+                {
+                    final JavaClock clock = JavaClock.create(parallelAsyncRunner);
+                    final IntegerValue value = IntegerValue.create(0);
+                    final DateTime startTime = clock.getCurrentDateTime();
+                    final List<Result<Void>> results = List.create();
+                    for (int i = 0; i < 1000; ++i)
+                    {
+                        results.add(clock.scheduleAt(startTime.plus(Duration.milliseconds(i % 20)), () ->
+                        {
+                            synchronized (value)
+                            {
+                                value.increment();
+                            }
+                        }));
+                    }
+                    for (final Result<Void> result : results)
+                    {
+                        result.await();
+                    }
+                    test.assertEqual(1000, value.get());
+                });
+            });
+
+            runner.testGroup("createDeadline(DateTime)", () ->
+            {
+                runner.test("with null DateTime",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncRunner parallelAsyncRunner) ->
+                {
+                    final JavaClock clock = JavaClock.create(parallelAsyncRunner);
+                    test.assertThrows(() -> clock.createDeadline(null),
+                        new PreConditionFailure("dateTime cannot be null."));
+                });
+
+                runner.test("with DateTime before now",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncRunner parallelAsyncRunner) ->
+                {
+                    final JavaClock clock = JavaClock.create(parallelAsyncRunner);
+                    try (final Deadline deadline = clock.createDeadline(clock.getCurrentDateTime().minus(Duration.seconds(1))))
+                    {
+                        test.assertTrue(deadline.isExpired());
+                    }
+                });
+
+                runner.test("with DateTime after now",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncRunner parallelAsyncRunner) ->
+                {
+                    final JavaClock clock = JavaClock.create(parallelAsyncRunner);
+                    final Deadline deadline = clock.createDeadline(clock.getCurrentDateTime().plus(Duration.milliseconds(20)));
+                    test.assertFalse(deadline.isExpired());
+                    test.assertEqual(0, clock.getTimerWheel().getPendingTimeoutCount());
+                    test.assertNotNull(deadline.getRemainingNanoseconds());
+                    while (!deadline.isExpired())
+                    {
+                    }
+                    deadline.dispose().await();
+                });
+
+                runner.test("when disposed",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncRunner parallelAsyncRunner) ->
+                {
+                    final JavaClock clock = JavaClock.create(parallelAsyncRunner);
+                    final Deadline deadline = clock.createDeadline(clock.getCurrentDateTime().plus(Duration.minutes(1)));
+                    test.assertTrue(deadline.dispose().await());
+                    test.assertTrue(deadline.isDisposed());
+                    test.assertEqual(0, clock.getTimerWheel().getPendingTimeoutCount());
+                });
             });
         });
     }
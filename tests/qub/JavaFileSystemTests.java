@@ -102,6 +102,69 @@ public interface JavaFileSystemTests
                     test.assertGreaterThan(rootUnusedDataSize.getValue(), 0);
                 });
             });
+
+            runner.testGroup("copyFileTo(Path,Path)", () ->
+            {
+                runner.test("with file that is larger than the copy buffer", (Test test) ->
+                {
+                    final Path testFolderPath = tempFolderPath.concatenateSegment(testNumber.increment().toString());
+                    folderFileSystem.set(FolderFileSystem.get(JavaFileSystem.create(), testFolderPath));
+                    final FileSystem fileSystem = folderFileSystem.get();
+
+                    final byte[] contents = new byte[100000];
+                    for (int i = 0; i < contents.length; ++i)
+                    {
+                        contents[i] = (byte)i;
+                    }
+                    fileSystem.setFileContents("/source.bin", contents).await();
+
+                    try (final CharacterToByteReadStream readStream = fileSystem.getFileContentReadStream("/source.bin").await())
+                    {
+                        test.assertInstanceOf(JavaChannelStream.getChannel(readStream), java.nio.channels.FileChannel.class);
+                    }
+
+                    fileSystem.copyFileTo(Path.parse("/source.bin"), Path.parse("/destination.bin")).await();
+                    test.assertEqual(contents, fileSystem.getFileContent("/destination.bin").await());
+                });
+            });
+
+            runner.testGroup("getFileContentMemoryMappedReadStream(Path)", () ->
+            {
+                runner.test("with null path", (Test test) ->
+                {
+                    final JavaFileSystem fileSystem = JavaFileSystem.create();
+                    test.assertThrows(() -> fileSystem.getFileContentMemoryMappedReadStream((Path)null),
+                        new PreConditionFailure("rootedFilePath cannot be null."));
+                });
+
+                runner.test("with non-existing file", (Test test) ->
+                {
+                    final JavaFileSystem fileSystem = JavaFileSystem.create();
+                    final Path filePath = tempFolderPath.concatenateSegment(testNumber.increment().toString()).concatenateSegment("file.bin");
+                    test.assertThrows(() -> fileSystem.getFileContentMemoryMappedReadStream(filePath).await(),
+                        new FileNotFoundException(filePath));
+                });
+
+                runner.test("with existing file", (Test test) ->
+                {
+                    final JavaFileSystem fileSystem = JavaFileSystem.create();
+                    final Path testFolderPath = tempFolderPath.concatenateSegment(testNumber.increment().toString());
+                    folderFileSystem.set(FolderFileSystem.get(fileSystem, testFolderPath));
+                    final Path filePath = testFolderPath.concatenateSegment("file.bin");
+                    fileSystem.setFileContents(filePath, new byte[] { 5, 6, 7, 8 }).await();
+
+                    try (final MemoryMappedByteReadStream readStream = fileSystem.getFileContentMemoryMappedReadStream(filePath).await())
+                    {
+                        test.assertEqual(4, readStream.getCount());
+                        test.assertEqual((byte)7, readStream.get(2));
+                        test.assertEqual(new byte[] { 5, 6, 7, 8 }, readStream.readAllBytes().await());
+                    }
+
+                    // The mapping has been released, so the file can be changed.
+                    fileSystem.setFileContents(filePath, new byte[] { 1 }).await();
+                    test.assertEqual(new byte[] { 1 }, fileSystem.getFileContent(filePath).await());
+                });
+            });
         });
     }
 }
@@ -38,6 +38,41 @@ public interface JavaMutexTests
                     test.assertFalse(mutex.isAcquiredByCurrentThread());
                 });
             });
+
+            runner.testGroup("acquire()", () ->
+            {
+                runner.test("when cancelled while waiting",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncScheduler parallelAsyncRunner) ->
+                {
+                    final JavaMutex mutex = JavaMutex.create();
+                    mutex.acquire().await();
+
+                    final SpinGate started = SpinGate.create();
+                    final BooleanValue interruptedAfterCancel = BooleanValue.create();
+                    final AsyncTask<Void> task = parallelAsyncRunner.schedule(() ->
+                    {
+                        started.open();
+                        try
+                        {
+                            mutex.acquire().await();
+                        }
+                        finally
+                        {
+                            interruptedAfterCancel.set(java.lang.Thread.currentThread().isInterrupted());
+                        }
+                    });
+                    started.passThrough().await();
+
+                    test.assertTrue(task.cancel());
+                    test.assertThrows(task::await, new CancelledException());
+                    test.assertFalse(interruptedAfterCancel.get());
+                    test.assertTrue(mutex.isAcquiredByCurrentThread());
+
+                    mutex.release().await();
+                    test.assertFalse(mutex.isAcquired());
+                });
+            });
         });
     }
 }
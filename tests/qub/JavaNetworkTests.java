@@ -7,6 +7,58 @@ public interface JavaNetworkTests
         runner.testGroup(JavaNetwork.class, () ->
         {
             NetworkTests.test(runner, JavaNetwork::create);
+
+            runner.testGroup("createTCPClient(IPv4Address,int)", () ->
+            {
+                runner.test("with writeAll() from a file",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner(), resources.getClock()),
+                    (Test test, AsyncRunner parallelAsyncRunner, Clock clock) ->
+                {
+                    final Network network = JavaNetwork.create(clock);
+
+                    final byte[] bytes = new byte[50000];
+                    for (int i = 0; i < bytes.length; ++i)
+                    {
+                        bytes[i] = (byte)i;
+                    }
+                    final Path temporaryFolderPath = Path.parse(System.getProperty("java.io.tmpdir")).concatenateSegment("qub-tests").concatenateSegment("JavaNetworkTests");
+                    try (final TemporaryFolder temporaryFolder = TemporaryFolder.get(JavaFileSystem.create(), temporaryFolderPath))
+                    {
+                        final File file = temporaryFolder.getFile("bytes.bin").await();
+                        file.setContents(bytes).await();
+
+                        final int port = 8190;
+                        final DateTime timeout = clock.getCurrentDateTime().plus(Duration.seconds(5));
+
+                        try (final TCPServer tcpServer = network.createTCPServer(IPv4Address.localhost, port).await())
+                        {
+                            try (final TCPClient tcpClient = network.createTCPClient(IPv4Address.localhost, port).await())
+                            {
+                                test.assertInstanceOf(JavaChannelStream.getChannel(tcpClient), java.nio.channels.SocketChannel.class);
+
+                                final Result<Void> serverTask = parallelAsyncRunner.schedule(() ->
+                                {
+                                    try (final TCPClient acceptedClient = tcpServer.accept(timeout).await())
+                                    {
+                                        test.assertEqual(bytes, acceptedClient.readAllBytes().await());
+                                    }
+                                });
+
+                                final Result<Void> clientTask = parallelAsyncRunner.schedule(() ->
+                                {
+                                    try (final ByteReadStream fileStream = file.getContentsReadStream().await())
+                                    {
+                                        test.assertEqual((long)bytes.length, tcpClient.writeAll(fileStream).await());
+                                    }
+                                    tcpClient.dispose().await();
+                                });
+
+                                Result.await(serverTask, clientTask);
+                            }
+                        }
+                    }
+                });
+            });
         });
     }
 }
@@ -0,0 +1,50 @@
+package qub;
+
+public interface LongArrayTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(LongArray.class, () ->
+        {
+            runner.testGroup("sort()", () ->
+            {
+                runner.test("with empty array", (Test test) ->
+                {
+                    final LongArray array = LongArray.create();
+                    test.assertSame(array, array.sort());
+                    test.assertEqual(Iterable.create(), array);
+                });
+
+                runner.test("with unsorted values", (Test test) ->
+                {
+                    final LongArray array = LongArray.create(5, -1, 30000000000L, 0, 3);
+                    test.assertSame(array, array.sort());
+                    test.assertEqual(Iterable.create(-1L, 0L, 3L, 5L, 30000000000L), array);
+                });
+            });
+
+            runner.testGroup("binarySearch(long)", () ->
+            {
+                runner.test("with empty array", (Test test) ->
+                {
+                    final LongArray array = LongArray.create();
+                    test.assertEqual(-1, array.binarySearch(5));
+                });
+
+                runner.test("with value that exists", (Test test) ->
+                {
+                    final LongArray array = LongArray.create(-3, 0, 7, 30000000000L);
+                    test.assertEqual(0, array.binarySearch(-3));
+                    test.assertEqual(3, array.binarySearch(30000000000L));
+                });
+
+                runner.test("with value that doesn't exist", (Test test) ->
+                {
+                    final LongArray array = LongArray.create(-3, 0, 7, 30000000000L);
+                    test.assertEqual(-3, array.binarySearch(5));
+                    test.assertEqual(-5, array.binarySearch(Longs.maximum));
+                });
+            });
+        });
+    }
+}
@@ -0,0 +1,146 @@
+package qub;
+
+public interface LongMapTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(LongMap.class, () ->
+        {
+            runner.test("create()", (Test test) ->
+            {
+                final LongMap<String> map = LongMap.create();
+                test.assertEqual(0, map.getCount());
+                test.assertFalse(map.any());
+                test.assertEqual(HashMap.defaultLoadFactor, map.getLoadFactor());
+            });
+
+            runner.testGroup("set(Long,TValue)", () ->
+            {
+                runner.test("with null key", (Test test) ->
+                {
+                    final MutableMap<Long,String> map = LongMap.create();
+                    test.assertThrows(() -> map.set(null, "a"), new PreConditionFailure("key cannot be null."));
+                });
+
+                runner.test("with null value", (Test test) ->
+                {
+                    final MutableMap<Long,String> map = LongMap.create();
+                    map.set(1L, null);
+                    test.assertTrue(map.containsKey(1L));
+                    test.assertNull(map.get(1L).await());
+                });
+
+                runner.test("with existing key", (Test test) ->
+                {
+                    final MutableMap<Long,String> map = LongMap.create();
+                    map.set(1L, "a").set(2L, "b").set(1L, "c");
+                    test.assertEqual(2, map.getCount());
+                    test.assertEqual(Iterable.create(1L, 2L), map.getKeys());
+                    test.assertEqual(Iterable.create("c", "b"), map.getValues());
+                });
+            });
+
+            runner.testGroup("containsKey(Long)", () ->
+            {
+                runner.test("with null key", (Test test) ->
+                {
+                    final MutableMap<Long,String> map = LongMap.create();
+                    test.assertFalse(map.containsKey(null));
+                });
+            });
+
+            runner.testGroup("remove(long)", () ->
+            {
+                runner.test("with non-existing key", (Test test) ->
+                {
+                    final LongMap<String> map = LongMap.create();
+                    test.assertThrows(() -> map.remove(20).await(),
+                        new NotFoundException("Could not find the provided key (20) in this Map."));
+                });
+
+                runner.test("with existing key", (Test test) ->
+                {
+                    final LongMap<String> map = LongMap.create();
+                    map.set(20, "twenty");
+                    test.assertEqual("twenty", map.remove(20).await());
+                    test.assertFalse(map.containsKey(20));
+                    test.assertEqual(0, map.getCount());
+                });
+            });
+
+            runner.testGroup("create(int,double)", () ->
+            {
+                runner.test("with negative initialCapacity", (Test test) ->
+                {
+                    test.assertThrows(() -> LongMap.create(-1, 0.75),
+                        new PreConditionFailure("initialCapacity (-1) must be greater than or equal to 0."));
+                });
+
+                runner.test("with valid arguments", (Test test) ->
+                {
+                    final LongMap<String> map = LongMap.create(100, 0.5);
+                    test.assertEqual(0, map.getCount());
+                    test.assertEqual(0.5, map.getLoadFactor());
+                });
+            });
+
+            runner.testGroup("getOrDefault(long,TValue)", () ->
+            {
+                runner.test("with non-existing key", (Test test) ->
+                {
+                    final LongMap<String> map = LongMap.create();
+                    test.assertEqual("default", map.getOrDefault(5, "default"));
+                });
+
+                runner.test("with existing key", (Test test) ->
+                {
+                    final LongMap<String> map = LongMap.create();
+                    map.set(5, "five");
+                    test.assertEqual("five", map.getOrDefault(5, "default"));
+                });
+            });
+
+            runner.test("with many entries", (Test test) ->
+            {
+                final int count = 10000;
+                final LongMap<String> map = LongMap.create();
+                for (int i = 0; i < count; ++i)
+                {
+                    map.set(i * 4294967296L, Integers.toString(i));
+                }
+                test.assertEqual(count, map.getCount());
+
+                for (int i = 0; i < count; i += 2)
+                {
+                    test.assertEqual(Integers.toString(i), map.remove(i * 4294967296L).await());
+                }
+                test.assertEqual(count / 2, map.getCount());
+
+                for (int i = 0; i < count; ++i)
+                {
+                    test.assertEqual(i % 2 == 1, map.containsKey(i * 4294967296L));
+                    test.assertEqual(i % 2 == 1 ? Integers.toString(i) : null, map.getOrDefault(i * 4294967296L, null));
+                }
+
+                int expectedIndex = 1;
+                for (final MapEntry<Long,String> entry : map)
+                {
+                    test.assertEqual(expectedIndex * 4294967296L, entry.getKey());
+                    expectedIndex += 2;
+                }
+                test.assertEqual(count + 1, expectedIndex);
+            });
+
+            runner.test("with negative keys", (Test test) ->
+            {
+                final LongMap<String> map = LongMap.create();
+                map.set(-1, "a").set(Longs.minimum, "b").set(0, "c");
+                test.assertEqual("a", map.get(-1).await());
+                test.assertEqual("b", map.get(Longs.minimum).await());
+                test.assertEqual("c", map.get(0).await());
+                test.assertThrows(() -> map.get(1).await(),
+                    new NotFoundException("Could not find the provided key (1) in this Map."));
+            });
+        });
+    }
+}
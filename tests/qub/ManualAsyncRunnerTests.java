@@ -55,6 +55,51 @@ public interface ManualAsyncRunnerTests
                    });
                 });
 
+                runner.test("await task that was scheduled for the ParallelAsyncRunner", (Test test) ->
+                {
+                    CurrentThread.withManualAsyncScheduler((ManualAsyncRunner asyncRunner) ->
+                    {
+                        CurrentThread.withParallelAsyncScheduler((ParallelAsyncRunner parallelAsyncRunner) ->
+                        {
+                            final SpinGate gate = SpinGate.create();
+                            final Result<Integer> parallelTask = parallelAsyncRunner.schedule(() ->
+                            {
+                                gate.passThrough().await();
+                                return 7;
+                            });
+                            gate.open();
+
+                            asyncRunner.await(parallelTask);
+
+                            test.assertTrue(parallelTask.isCompleted());
+                            test.assertEqual(7, parallelTask.await());
+                        });
+                    });
+                });
+
+                runner.test("await task that schedules a task for the ManualAsyncRunner from the ParallelAsyncRunner", (Test test) ->
+                {
+                    CurrentThread.withManualAsyncScheduler((ManualAsyncRunner asyncRunner) ->
+                    {
+                        final long mainThreadId = CurrentThread.getId();
+                        final Value<Long> manualTaskThreadId = Value.create();
+
+                        CurrentThread.withParallelAsyncScheduler((ParallelAsyncRunner parallelAsyncRunner) ->
+                        {
+                            final Result<Void> parallelTask = parallelAsyncRunner.schedule(() ->
+                            {
+                                final AsyncTask<Void> manualTask = asyncRunner.schedule(() -> { manualTaskThreadId.set(CurrentThread.getId()); });
+                                manualTask.awaitCompletion();
+                            });
+
+                            asyncRunner.await(parallelTask);
+
+                            test.assertTrue(parallelTask.isCompleted());
+                            test.assertEqual(mainThreadId, manualTaskThreadId.get());
+                        });
+                    });
+                });
+
                 runner.test("await task that was scheduled for the ManualAsyncRunner in ParallelAsyncRunner's thread", (Test test) ->
                 {
                     CurrentThread.withManualAsyncScheduler((ManualAsyncRunner asyncRunner) ->
@@ -0,0 +1,293 @@
+package qub;
+
+public interface MemoryMappedByteReadStreamTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(MemoryMappedByteReadStream.class, () ->
+        {
+            runner.testGroup("create(FileChannel)", () ->
+            {
+                runner.test("with null FileChannel", (Test test) ->
+                {
+                    test.assertThrows(() -> MemoryMappedByteReadStream.create(null),
+                        new PreConditionFailure("fileChannel cannot be null."));
+                });
+
+                runner.test("with segment size that isn't a power of two", (Test test) ->
+                {
+                    test.assertThrows(() -> MemoryMappedByteReadStreamTests.create(10, 3),
+                        new PreConditionFailure("MemoryMappedByteReadStream.isPowerOfTwo(segmentSize) cannot be false."));
+                });
+
+                runner.test("with empty file", (Test test) ->
+                {
+                    try (final MemoryMappedByteReadStream readStream = MemoryMappedByteReadStreamTests.create(new byte[0], 4))
+                    {
+                        test.assertEqual(0, readStream.getCount());
+                        test.assertEqual(0, readStream.getCurrentIndex());
+                        test.assertFalse(readStream.isDisposed());
+                    }
+                });
+
+                runner.test("with non-empty file", (Test test) ->
+                {
+                    try (final MemoryMappedByteReadStream readStream = MemoryMappedByteReadStreamTests.create(10, 4))
+                    {
+                        test.assertEqual(10, readStream.getCount());
+                        test.assertEqual(0, readStream.getCurrentIndex());
+                        test.assertFalse(readStream.isDisposed());
+                    }
+                });
+            });
+
+            runner.testGroup("get(long)", () ->
+            {
+                runner.test("with negative index", (Test test) ->
+                {
+                    try (final MemoryMappedByteReadStream readStream = MemoryMappedByteReadStreamTests.create(10, 4))
+                    {
+                        test.assertThrows(() -> readStream.get(-1),
+                            new PreConditionFailure("index (-1) must be between 0 and 9."));
+                    }
+                });
+
+                runner.test("with index equal to count", (Test test) ->
+                {
+                    try (final MemoryMappedByteReadStream readStream = MemoryMappedByteReadStreamTests.create(10, 4))
+                    {
+                        test.assertThrows(() -> readStream.get(10),
+                            new PreConditionFailure("index (10) must be between 0 and 9."));
+                    }
+                });
+
+                runner.test("with every index across segments", (Test test) ->
+                {
+                    try (final MemoryMappedByteReadStream readStream = MemoryMappedByteReadStreamTests.create(10, 4))
+                    {
+                        for (int i = 9; i >= 0; --i)
+                        {
+                            test.assertEqual((byte)i, readStream.get(i));
+                        }
+                        test.assertEqual(0, readStream.getCurrentIndex());
+                    }
+                });
+
+                runner.test("when disposed", (Test test) ->
+                {
+                    final MemoryMappedByteReadStream readStream = MemoryMappedByteReadStreamTests.create(10, 4);
+                    test.assertTrue(readStream.dispose().await());
+                    test.assertThrows(() -> readStream.get(0),
+                        new PreConditionFailure("this.isDisposed() cannot be true."));
+                });
+            });
+
+            runner.testGroup("get(long,byte[],int,int)", () ->
+            {
+                final Action4<Long,Integer,byte[],Integer> getTest = (Long index, Integer length, byte[] expectedBytes, Integer expectedResult) ->
+                {
+                    runner.test("with " + English.andList(index, length), (Test test) ->
+                    {
+                        try (final MemoryMappedByteReadStream readStream = MemoryMappedByteReadStreamTests.create(10, 4))
+                        {
+                            final byte[] outputBytes = new byte[length + 1];
+                            test.assertEqual(expectedResult, readStream.get(index, outputBytes, 0, length));
+                            test.assertEqual(expectedBytes, Array.clone(outputBytes, 0, expectedResult));
+                            test.assertEqual(0, readStream.getCurrentIndex());
+                        }
+                    });
+                };
+
+                getTest.run(0L, 0, new byte[0], 0);
+                getTest.run(0L, 3, new byte[] { 0, 1, 2 }, 3);
+                getTest.run(2L, 5, new byte[] { 2, 3, 4, 5, 6 }, 5);
+                getTest.run(3L, 6, new byte[] { 3, 4, 5, 6, 7, 8 }, 6);
+                getTest.run(0L, 10, new byte[] { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 }, 10);
+                getTest.run(7L, 10, new byte[] { 7, 8, 9 }, 3);
+                getTest.run(10L, 5, new byte[0], 0);
+            });
+
+            runner.testGroup("setCurrentIndex(long)", () ->
+            {
+                runner.test("with index greater than count", (Test test) ->
+                {
+                    try (final MemoryMappedByteReadStream readStream = MemoryMappedByteReadStreamTests.create(10, 4))
+                    {
+                        test.assertThrows(() -> readStream.setCurrentIndex(11),
+                            new PreConditionFailure("currentIndex (11) must be between 0 and 10."));
+                    }
+                });
+
+                runner.test("with index in the middle", (Test test) ->
+                {
+                    try (final MemoryMappedByteReadStream readStream = MemoryMappedByteReadStreamTests.create(10, 4))
+                    {
+                        test.assertSame(readStream, readStream.setCurrentIndex(6));
+                        test.assertEqual(6, readStream.getCurrentIndex());
+                        test.assertEqual(6, readStream.readByteOrEnd());
+                    }
+                });
+
+                runner.test("with index equal to count", (Test test) ->
+                {
+                    try (final MemoryMappedByteReadStream readStream = MemoryMappedByteReadStreamTests.create(10, 4))
+                    {
+                        readStream.setCurrentIndex(10);
+                        test.assertEqual(-1, readStream.readByteOrEnd());
+                    }
+                });
+            });
+
+            runner.testGroup("get(long,byte[],int,int)", () ->
+            {
+                runner.test("when disposed", (Test test) ->
+                {
+                    final MemoryMappedByteReadStream readStream = MemoryMappedByteReadStreamTests.create(10, 4);
+                    test.assertTrue(readStream.dispose().await());
+                    test.assertThrows(() -> readStream.get(0, new byte[5], 0, 5),
+                        new PreConditionFailure("this.isDisposed() cannot be true."));
+                });
+
+                runner.test("from multiple threads",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncRunner parallelAsyncRunner) ->
+                {
+                    try (final MemoryMappedByteReadStream readStream = MemoryMappedByteReadStreamTests.create(100, 8))
+                    {
+                        final List<Result<Boolean>> tasks = List.create();
+                        for (int i = 0; i < 8; ++i)
+                        {
+                            final int startIndex = i;
+                            tasks.add(parallelAsyncRunner.schedule(() ->
+                            {
+                                boolean result = true;
+                                final byte[] outputBytes = new byte[50];
+                                for (int iteration = 0; iteration < 1000; ++iteration)
+                                {
+                                    final int index = (startIndex + iteration) % 50;
+                                    readStream.get(index, outputBytes, 0, outputBytes.length);
+                                    for (int j = 0; j < outputBytes.length; ++j)
+                                    {
+                                        result &= outputBytes[j] == (byte)(index + j);
+                                    }
+                                }
+                                return result;
+                            }));
+                        }
+
+                        for (final Boolean result : Result.await(tasks))
+                        {
+                            test.assertTrue(result);
+                        }
+                    }
+                });
+            });
+
+            runner.testGroup("readByte()", () ->
+            {
+                runner.test("when disposed", (Test test) ->
+                {
+                    final MemoryMappedByteReadStream readStream = MemoryMappedByteReadStreamTests.create(5, 4);
+                    test.assertTrue(readStream.dispose().await());
+                    test.assertThrows(readStream::readByte,
+                        new PreConditionFailure("this.isDisposed() cannot be true."));
+                });
+
+                runner.test("with bytes to read", (Test test) ->
+                {
+                    try (final MemoryMappedByteReadStream readStream = MemoryMappedByteReadStreamTests.create(5, 2))
+                    {
+                        for (int i = 0; i < 5; ++i)
+                        {
+                            test.assertEqual((byte)i, readStream.readByte().await());
+                        }
+                        test.assertThrows(() -> readStream.readByte().await(),
+                            new EndOfStreamException());
+                    }
+                });
+            });
+
+            runner.testGroup("readBytes(byte[],int,int)", () ->
+            {
+                runner.test("with bytes across segments", (Test test) ->
+                {
+                    try (final MemoryMappedByteReadStream readStream = MemoryMappedByteReadStreamTests.create(10, 4))
+                    {
+                        final byte[] outputBytes = new byte[6];
+                        test.assertEqual(6, readStream.readBytes(outputBytes, 0, 6).await());
+                        test.assertEqual(new byte[] { 0, 1, 2, 3, 4, 5 }, outputBytes);
+                        test.assertEqual(4, readStream.readBytes(outputBytes, 0, 6).await());
+                        test.assertEqual(new byte[] { 6, 7, 8, 9, 4, 5 }, outputBytes);
+                        test.assertThrows(() -> readStream.readBytes(outputBytes, 0, 6).await(),
+                            new EndOfStreamException());
+                    }
+                });
+
+                runner.test("with zero length at end of stream", (Test test) ->
+                {
+                    try (final MemoryMappedByteReadStream readStream = MemoryMappedByteReadStreamTests.create(0, 4))
+                    {
+                        test.assertEqual(0, readStream.readBytes(new byte[1], 0, 0).await());
+                    }
+                });
+            });
+
+            runner.testGroup("readAllBytes()", () ->
+            {
+                runner.test("with multiple segments", (Test test) ->
+                {
+                    try (final MemoryMappedByteReadStream readStream = MemoryMappedByteReadStreamTests.create(10, 2))
+                    {
+                        test.assertEqual(new byte[] { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 }, readStream.readAllBytes().await());
+                    }
+                });
+            });
+
+            runner.testGroup("dispose()", () ->
+            {
+                runner.test("when not disposed", (Test test) ->
+                {
+                    final MemoryMappedByteReadStream readStream = MemoryMappedByteReadStreamTests.create(10, 4);
+                    test.assertTrue(readStream.dispose().await());
+                    test.assertTrue(readStream.isDisposed());
+                });
+
+                runner.test("when already disposed", (Test test) ->
+                {
+                    final MemoryMappedByteReadStream readStream = MemoryMappedByteReadStreamTests.create(10, 4);
+                    readStream.dispose().await();
+                    test.assertFalse(readStream.dispose().await());
+                    test.assertTrue(readStream.isDisposed());
+                });
+            });
+        });
+    }
+
+    static MemoryMappedByteReadStream create(int byteCount, int segmentSize)
+    {
+        final byte[] bytes = new byte[byteCount];
+        for (int i = 0; i < byteCount; ++i)
+        {
+            bytes[i] = (byte)i;
+        }
+        return MemoryMappedByteReadStreamTests.create(bytes, segmentSize);
+    }
+
+    static MemoryMappedByteReadStream create(byte[] bytes, int segmentSize)
+    {
+        try
+        {
+            final java.nio.file.Path filePath = java.nio.file.Files.createTempFile("qub-tests", ".bin");
+            filePath.toFile().deleteOnExit();
+            java.nio.file.Files.write(filePath, bytes);
+            try (final java.nio.channels.FileChannel fileChannel = java.nio.channels.FileChannel.open(filePath, java.nio.file.StandardOpenOption.READ))
+            {
+                return MemoryMappedByteReadStream.create(fileChannel, segmentSize).await();
+            }
+        }
+        catch (java.io.IOException e)
+        {
+            throw Exceptions.asRuntime(e);
+        }
+    }
+}
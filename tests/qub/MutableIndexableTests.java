@@ -193,6 +193,99 @@ public class MutableIndexableTests
                     test.assertSame(values, values.sort(Comparer::lessThan));
                     test.assertEqual(Iterable.create(Distance.inches(1), Distance.feet(10), Distance.miles(2)), values);
                 });
+
+                runner.test("with equal values", (Test test) ->
+                {
+                    final MutableIndexable<String> values = Array.create("bb", "a", "cc", "b", "aa", "c");
+                    test.assertSame(values, values.sort((String lhs, String rhs) -> lhs.length() < rhs.length()));
+                    test.assertEqual(Iterable.create("a", "b", "c", "bb", "cc", "aa"), values);
+                });
+
+                runner.test("with many values in reverse-sorted order", (Test test) ->
+                {
+                    final int count = 1000;
+                    final MutableIndexable<Integer> values = creator.run(count);
+                    for (int i = 0; i < count; ++i)
+                    {
+                        values.set(i, count - i);
+                    }
+                    test.assertSame(values, values.sort(Comparer::lessThan));
+                    for (int i = 0; i < count; ++i)
+                    {
+                        test.assertEqual(i + 1, values.get(i));
+                    }
+                });
+
+                runner.test("with many random values", (Test test) ->
+                {
+                    final int count = 5000;
+                    final java.util.Random random = new java.util.Random(10);
+                    final int[] expectedValues = new int[count];
+                    final MutableIndexable<Integer> values = creator.run(count);
+                    for (int i = 0; i < count; ++i)
+                    {
+                        expectedValues[i] = random.nextInt(count);
+                        values.set(i, expectedValues[i]);
+                    }
+                    java.util.Arrays.sort(expectedValues);
+
+                    test.assertSame(values, values.sort(Comparer::lessThan));
+                    for (int i = 0; i < count; ++i)
+                    {
+                        test.assertEqual(expectedValues[i], values.get(i));
+                    }
+                });
+
+                runner.test("with many equal values", (Test test) ->
+                {
+                    final int count = 2000;
+                    final MutableIndexable<Integer> values = creator.run(count);
+                    for (int i = 0; i < count; ++i)
+                    {
+                        values.set(i, ((i * 7) % 10) * count + i);
+                    }
+
+                    // Only compare the values by their key, so the original indexes should stay in
+                    // ascending order for each key.
+                    test.assertSame(values, values.sort((Integer lhs, Integer rhs) -> lhs / count < rhs / count));
+                    for (int i = 1; i < count; ++i)
+                    {
+                        final int previousValue = values.get(i - 1);
+                        final int currentValue = values.get(i);
+                        test.assertTrue(previousValue / count < currentValue / count ||
+                            (previousValue / count == currentValue / count && previousValue % count < currentValue % count));
+                    }
+                });
+            });
+
+            runner.testGroup("sortWithComparer(Function2<T,T,Comparison>)", () ->
+            {
+                runner.test("with null comparer", (Test test) ->
+                {
+                    final MutableIndexable<Integer> values = creator.run(0);
+                    test.assertThrows(() -> values.sortWithComparer(null), new PreConditionFailure("comparer cannot be null."));
+                });
+
+                runner.test("with empty values", (Test test) ->
+                {
+                    final MutableIndexable<Distance> values = Array.create();
+                    test.assertSame(values, values.sortWithComparer(Distance::compareWith));
+                    test.assertEqual(Iterable.create(), values);
+                });
+
+                runner.test("with three values in mixed-sorted order", (Test test) ->
+                {
+                    final MutableIndexable<Distance> values = Array.create(Distance.feet(10), Distance.miles(2), Distance.inches(1));
+                    test.assertSame(values, values.sortWithComparer(Distance::compareWith));
+                    test.assertEqual(Iterable.create(Distance.inches(1), Distance.feet(10), Distance.miles(2)), values);
+                });
+
+                runner.test("with equal values", (Test test) ->
+                {
+                    final MutableIndexable<String> values = Array.create("bb", "a", "cc", "b", "aa", "c");
+                    test.assertSame(values, values.sortWithComparer((String lhs, String rhs) -> Comparer.compare(lhs.length(), rhs.length())));
+                    test.assertEqual(Iterable.create("a", "b", "c", "bb", "cc", "aa"), values);
+                });
             });
         });
     }
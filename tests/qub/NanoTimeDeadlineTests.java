@@ -0,0 +1,59 @@
+package qub;
+
+public interface NanoTimeDeadlineTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(NanoTimeDeadline.class, () ->
+        {
+            runner.test("create(long)", (Test test) ->
+            {
+                final NanoTimeDeadline deadline = NanoTimeDeadline.create(5);
+                test.assertEqual(5, deadline.getDeadlineNanoTime());
+                test.assertFalse(deadline.isDisposed());
+            });
+
+            runner.testGroup("isExpired()", () ->
+            {
+                runner.test("before the deadline", (Test test) ->
+                {
+                    final NanoTimeDeadline deadline = NanoTimeDeadline.create(System.nanoTime() + 60000000000L);
+                    test.assertFalse(deadline.isExpired());
+                });
+
+                runner.test("after the deadline", (Test test) ->
+                {
+                    final NanoTimeDeadline deadline = NanoTimeDeadline.create(System.nanoTime() - 1);
+                    test.assertTrue(deadline.isExpired());
+                });
+            });
+
+            runner.testGroup("getRemainingNanoseconds()", () ->
+            {
+                runner.test("before the deadline", (Test test) ->
+                {
+                    final NanoTimeDeadline deadline = NanoTimeDeadline.create(System.nanoTime() + 60000000000L);
+                    final long remainingNanoseconds = deadline.getRemainingNanoseconds();
+                    test.assertTrue(0 < remainingNanoseconds && remainingNanoseconds <= 60000000000L);
+                });
+
+                runner.test("after the deadline", (Test test) ->
+                {
+                    final NanoTimeDeadline deadline = NanoTimeDeadline.create(System.nanoTime() - 1000);
+                    test.assertEqual(0L, deadline.getRemainingNanoseconds());
+                });
+            });
+
+            runner.testGroup("dispose()", () ->
+            {
+                runner.test("when not disposed", (Test test) ->
+                {
+                    final NanoTimeDeadline deadline = NanoTimeDeadline.create(System.nanoTime());
+                    test.assertTrue(deadline.dispose().await());
+                    test.assertTrue(deadline.isDisposed());
+                    test.assertFalse(deadline.dispose().await());
+                });
+            });
+        });
+    }
+}
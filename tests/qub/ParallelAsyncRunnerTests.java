@@ -12,6 +12,77 @@ public interface ParallelAsyncRunnerTests
             {
                 final ParallelAsyncRunner asyncRunner = ParallelAsyncRunner.create();
                 test.assertNotNull(asyncRunner);
+                test.assertEqual(java.lang.Runtime.getRuntime().availableProcessors(), asyncRunner.getParallelism());
+                test.assertFalse(asyncRunner.isDisposed());
+            });
+
+            runner.testGroup("create(int)", () ->
+            {
+                runner.test("with negative", (Test test) ->
+                {
+                    test.assertThrows(() -> ParallelAsyncRunner.create(-1),
+                        new PreConditionFailure("parallelism (-1) must be greater than or equal to 1."));
+                });
+
+                runner.test("with zero", (Test test) ->
+                {
+                    test.assertThrows(() -> ParallelAsyncRunner.create(0),
+                        new PreConditionFailure("parallelism (0) must be greater than or equal to 1."));
+                });
+
+                runner.test("with 1", (Test test) ->
+                {
+                    final ParallelAsyncRunner asyncRunner = ParallelAsyncRunner.create(1);
+                    test.assertEqual(1, asyncRunner.getParallelism());
+                    test.assertFalse(asyncRunner.isDisposed());
+                });
+
+                runner.test("with 3", (Test test) ->
+                {
+                    final ParallelAsyncRunner asyncRunner = ParallelAsyncRunner.create(3);
+                    test.assertEqual(3, asyncRunner.getParallelism());
+                    test.assertFalse(asyncRunner.isDisposed());
+                });
+            });
+
+            runner.testGroup("dispose()", () ->
+            {
+                runner.test("when not disposed", (Test test) ->
+                {
+                    final ParallelAsyncRunner asyncRunner = ParallelAsyncRunner.create();
+                    test.assertTrue(asyncRunner.dispose().await());
+                    test.assertTrue(asyncRunner.isDisposed());
+                });
+
+                runner.test("when disposed", (Test test) ->
+                {
+                    final ParallelAsyncRunner asyncRunner = ParallelAsyncRunner.create();
+                    asyncRunner.dispose().await();
+                    test.assertFalse(asyncRunner.dispose().await());
+                    test.assertTrue(asyncRunner.isDisposed());
+                });
+
+                runner.test("with scheduled task", (Test test) ->
+                {
+                    final ParallelAsyncRunner asyncRunner = ParallelAsyncRunner.create();
+                    final IntegerValue value = IntegerValue.create(0);
+                    final AsyncTask<Void> task = asyncRunner.schedule(() -> { value.increment(); });
+                    test.assertTrue(asyncRunner.dispose().await());
+
+                    CurrentThread.withAsyncScheduler(asyncRunner, () ->
+                    {
+                        test.assertNull(task.await());
+                    });
+                    test.assertEqual(1, value.get());
+                });
+
+                runner.test("schedule(Action0) after disposed", (Test test) ->
+                {
+                    final ParallelAsyncRunner asyncRunner = ParallelAsyncRunner.create();
+                    asyncRunner.dispose().await();
+                    test.assertThrows(() -> asyncRunner.schedule(() -> {}),
+                        new PreConditionFailure("this.isDisposed() cannot be true."));
+                });
             });
 
             runner.test("schedule(Action0)", (Test test) ->
@@ -37,8 +108,13 @@ public interface ParallelAsyncRunnerTests
                     {
                         final long mainThreadId = CurrentThread.getId();
                         final Value<Long> asyncTaskThreadId = Value.create();
+                        final SpinGate gate = SpinGate.create();
 
-                        final Result<Void> asyncTask = asyncRunner.schedule(() -> { asyncTaskThreadId.set(CurrentThread.getId()); });
+                        final Result<Void> asyncTask = asyncRunner.schedule(() ->
+                        {
+                            gate.passThrough().await();
+                            asyncTaskThreadId.set(CurrentThread.getId());
+                        });
                         test.assertFalse(asyncTask.isCompleted());
                         test.assertFalse(asyncTaskThreadId.hasValue());
 
@@ -46,6 +122,9 @@ public interface ParallelAsyncRunnerTests
                         final Result<Void> asyncTask2 = asyncRunner.schedule(() ->
                         {
                             asyncTaskThreadId2.set(CurrentThread.getId());
+                            // The first task can't finish until this task opens the gate, so the
+                            // two tasks must be running on different threads.
+                            gate.open();
                             asyncTask.await();
                         });
                         asyncRunner.await(asyncTask2);
@@ -57,17 +136,116 @@ public interface ParallelAsyncRunnerTests
                     });
                 });
 
+                runner.test("await chain of tasks that await each other with a single worker thread", (Test test) ->
+                {
+                    CurrentThread.withAsyncScheduler(() -> ParallelAsyncRunner.create(1), (ParallelAsyncRunner asyncRunner) ->
+                    {
+                        final IntegerValue value = IntegerValue.create(0);
+                        final Result<Void> asyncTask1 = asyncRunner.schedule(() ->
+                        {
+                            final Result<Void> asyncTask2 = asyncRunner.schedule(() ->
+                            {
+                                final Result<Void> asyncTask3 = asyncRunner.schedule(() -> { value.increment(); });
+                                asyncTask3.await();
+                                value.increment();
+                            });
+                            asyncTask2.await();
+                            value.increment();
+                        });
+                        asyncRunner.await(asyncTask1);
+
+                        test.assertEqual(3, value.get());
+                    });
+                });
+
+                final Action2<Integer,Integer> nestedAwaitTest = (Integer maximumWorkerCount, Integer depth) ->
+                {
+                    runner.test("await " + depth + " nested tasks with at most " + maximumWorkerCount + " worker threads", (Test test) ->
+                    {
+                        CurrentThread.withAsyncScheduler(() -> ParallelAsyncRunner.create(2, maximumWorkerCount), (ParallelAsyncRunner asyncRunner) ->
+                        {
+                            test.assertEqual(depth, ParallelAsyncRunnerTests.scheduleNested(asyncRunner, depth).await());
+                            test.assertTrue(asyncRunner.getWorkerCount() <= maximumWorkerCount);
+                        });
+                    });
+                };
+
+                nestedAwaitTest.run(4, 10);
+                nestedAwaitTest.run(4, 300);
+                nestedAwaitTest.run(256, 300);
+
+                runner.test("await all nested tasks with whenAll() with at most 4 worker threads", (Test test) ->
+                {
+                    CurrentThread.withAsyncScheduler(() -> ParallelAsyncRunner.create(2, 4), (ParallelAsyncRunner asyncRunner) ->
+                    {
+                        final Result<Integer> result = asyncRunner.schedule(() ->
+                        {
+                            final List<Function0<Integer>> functions = List.create();
+                            for (int i = 0; i < 16; ++i)
+                            {
+                                functions.add(() -> ParallelAsyncRunnerTests.scheduleNested(asyncRunner, 20).await());
+                            }
+                            int sum = 0;
+                            for (final Integer value : Result.whenAll(asyncRunner, functions).await())
+                            {
+                                sum += value;
+                            }
+                            return sum;
+                        });
+                        test.assertEqual(16 * 20, result.await());
+                    });
+                });
+
+                runner.test("await task that is blocked by a task that hasn't started with a single worker thread", (Test test) ->
+                {
+                    CurrentThread.withAsyncScheduler(() -> ParallelAsyncRunner.create(1), (ParallelAsyncRunner asyncRunner) ->
+                    {
+                        final SpinGate gate = SpinGate.create();
+                        final Result<Void> asyncTask1 = asyncRunner.schedule(() -> { gate.passThrough().await(); });
+                        final Result<Void> asyncTask2 = asyncRunner.schedule(() -> { gate.open(); });
+
+                        asyncRunner.await(asyncTask1);
+
+                        test.assertTrue(asyncTask1.isCompleted());
+                        test.assertTrue(asyncTask2.isCompleted() || gate.isOpen());
+                    });
+                });
+
+                runner.test("await many tasks", (Test test) ->
+                {
+                    CurrentThread.withParallelAsyncScheduler((ParallelAsyncRunner asyncRunner) ->
+                    {
+                        final List<Result<Integer>> results = List.create();
+                        for (int i = 0; i < 1000; ++i)
+                        {
+                            final int index = i;
+                            results.add(asyncRunner.schedule(() -> index));
+                        }
+
+                        for (int i = 0; i < 1000; ++i)
+                        {
+                            test.assertEqual(i, results.get(i).await());
+                        }
+                    });
+                });
+
                 runner.test("await task that was scheduled for the ParallelAsyncRunner in ManualAsyncRunner's thread", (Test test) ->
                 {
                     CurrentThread.withParallelAsyncScheduler((ParallelAsyncRunner asyncRunner) ->
                     {
                         final long mainThreadId = CurrentThread.getId();
                         final Value<Long> asyncTaskThreadId = Value.create();
+                        final SpinGate gate = SpinGate.create();
 
-                        final Result<Void> asyncTask = asyncRunner.schedule(() -> { asyncTaskThreadId.set(CurrentThread.getId()); });
+                        final Result<Void> asyncTask = asyncRunner.schedule(() ->
+                        {
+                            gate.passThrough().await();
+                            asyncTaskThreadId.set(CurrentThread.getId());
+                        });
                         test.assertFalse(asyncTask.isCompleted());
                         test.assertFalse(asyncTaskThreadId.hasValue());
 
+                        gate.open();
                         asyncRunner.await(asyncTask);
 
                         test.assertTrue(asyncTask.isCompleted());
@@ -77,4 +255,16 @@ public interface ParallelAsyncRunnerTests
             });
         });
     }
+
+    /**
+     * Schedule a task that schedules and awaits a task that does the same, until the provided
+     * depth is reached.
+     * @param asyncRunner The ParallelAsyncRunner to schedule the tasks on.
+     * @param depth The number of nested tasks to schedule.
+     * @return The Result of the outermost task, which will be the provided depth.
+     */
+    static Result<Integer> scheduleNested(ParallelAsyncRunner asyncRunner, int depth)
+    {
+        return asyncRunner.schedule(() -> depth == 0 ? 0 : ParallelAsyncRunnerTests.scheduleNested(asyncRunner, depth - 1).await() + 1);
+    }
 }
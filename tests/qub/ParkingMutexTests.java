@@ -0,0 +1,213 @@
+package qub;
+
+public interface ParkingMutexTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(ParkingMutex.class, () ->
+        {
+            MutexTests.test(runner, (Clock clock) ->
+            {
+                return clock == null
+                    ? ParkingMutex.create()
+                    : ParkingMutex.create(clock);
+            });
+
+            MutexTests.test(runner, (Clock clock) ->
+            {
+                return clock == null
+                    ? ParkingMutex.create(true)
+                    : ParkingMutex.create(clock, true);
+            });
+
+            runner.test("create()", (Test test) ->
+            {
+                final ParkingMutex mutex = ParkingMutex.create();
+                test.assertNotNull(mutex);
+                test.assertFalse(mutex.isAcquired());
+                test.assertFalse(mutex.isAcquiredByCurrentThread());
+                test.assertFalse(mutex.isFair());
+                test.assertEqual(0, mutex.getAcquisitionCount());
+                test.assertEqual(0, mutex.getContendedAcquisitionCount());
+                test.assertEqual(Duration.zero, mutex.getTotalWaitDuration());
+                test.assertEqual(Duration.zero, mutex.getMaximumHoldDuration());
+            });
+
+            runner.testGroup("create(boolean)", () ->
+            {
+                runner.test("with false", (Test test) ->
+                {
+                    final ParkingMutex mutex = ParkingMutex.create(false);
+                    test.assertFalse(mutex.isFair());
+                });
+
+                runner.test("with true", (Test test) ->
+                {
+                    final ParkingMutex mutex = ParkingMutex.create(true);
+                    test.assertTrue(mutex.isFair());
+                });
+            });
+
+            runner.testGroup("create(Clock)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    test.assertThrows(() -> ParkingMutex.create((Clock)null),
+                        new PreConditionFailure("clock cannot be null."));
+                });
+
+                runner.test("with non-null", (Test test) ->
+                {
+                    final ManualClock clock = ManualClock.create();
+                    final ParkingMutex mutex = ParkingMutex.create(clock);
+                    test.assertNotNull(mutex);
+                    test.assertFalse(mutex.isAcquired());
+                    test.assertFalse(mutex.isFair());
+                });
+            });
+
+            runner.testGroup("create(Clock,boolean)", () ->
+            {
+                runner.test("with null clock", (Test test) ->
+                {
+                    test.assertThrows(() -> ParkingMutex.create(null, true),
+                        new PreConditionFailure("clock cannot be null."));
+                });
+
+                runner.test("with non-null clock", (Test test) ->
+                {
+                    final ManualClock clock = ManualClock.create();
+                    final ParkingMutex mutex = ParkingMutex.create(clock, true);
+                    test.assertFalse(mutex.isAcquired());
+                    test.assertTrue(mutex.isFair());
+                });
+            });
+
+            runner.testGroup("getAcquisitionCount()", () ->
+            {
+                runner.test("with reentrant acquisitions", (Test test) ->
+                {
+                    final ParkingMutex mutex = ParkingMutex.create();
+                    mutex.acquire().await();
+                    mutex.acquire().await();
+                    test.assertTrue(mutex.tryAcquire().await());
+                    test.assertEqual(1, mutex.getAcquisitionCount());
+
+                    mutex.release().await();
+                    mutex.release().await();
+                    test.assertTrue(mutex.isAcquired());
+                    mutex.release().await();
+                    test.assertFalse(mutex.isAcquired());
+
+                    mutex.acquire().await();
+                    mutex.release().await();
+                    test.assertEqual(2, mutex.getAcquisitionCount());
+                    test.assertEqual(0, mutex.getContendedAcquisitionCount());
+                });
+            });
+
+            runner.testGroup("getContendedAcquisitionCount()", () ->
+            {
+                runner.test("when another thread waits for the mutex",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncRunner parallelAsyncRunner) ->
+                {
+                    final ParkingMutex mutex = ParkingMutex.create();
+                    mutex.acquire().await();
+
+                    final SpinGate taskStarted = SpinGate.create();
+                    final Result<Void> task = parallelAsyncRunner.schedule(() ->
+                    {
+                        taskStarted.open();
+                        mutex.acquire().await();
+                        mutex.release().await();
+                    });
+                    taskStarted.passThrough().await();
+
+                    // Give the task time to start waiting for the mutex before releasing it.
+                    final long startNanoTime = System.nanoTime();
+                    while (System.nanoTime() - startNanoTime < 10000000)
+                    {
+                    }
+                    mutex.release().await();
+                    task.await();
+
+                    test.assertEqual(2, mutex.getAcquisitionCount());
+                    test.assertEqual(1, mutex.getContendedAcquisitionCount());
+                    test.assertGreaterThan(mutex.getTotalWaitDuration(), Duration.zero);
+                    test.assertGreaterThan(mutex.getMaximumHoldDuration(), Duration.zero);
+                });
+            });
+
+            runner.testGroup("getMaximumHoldDuration()", () ->
+            {
+                runner.test("with multiple acquisitions", (Test test) ->
+                {
+                    final ParkingMutex mutex = ParkingMutex.create();
+                    mutex.acquire().await();
+                    final long startNanoTime = System.nanoTime();
+                    while (System.nanoTime() - startNanoTime < 2000000)
+                    {
+                    }
+                    mutex.release().await();
+                    final Duration maximumHoldDuration = mutex.getMaximumHoldDuration();
+                    test.assertGreaterThanOrEqualTo(maximumHoldDuration, Duration.milliseconds(2));
+
+                    mutex.acquire().await();
+                    mutex.release().await();
+                    test.assertEqual(maximumHoldDuration, mutex.getMaximumHoldDuration());
+                });
+            });
+
+            runner.testGroup("acquire()", () ->
+            {
+                runner.test("with fair mutex and waiting threads",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncRunner parallelAsyncRunner) ->
+                {
+                    final ParkingMutex mutex = ParkingMutex.create(true);
+                    final IntegerValue value = IntegerValue.create(0);
+                    final int taskCount = 20;
+                    final List<Result<Void>> tasks = List.create();
+                    for (int i = 0; i < taskCount; ++i)
+                    {
+                        tasks.add(parallelAsyncRunner.schedule(() ->
+                        {
+                            for (int j = 0; j < 100; ++j)
+                            {
+                                mutex.criticalSection(value::increment).await();
+                            }
+                        }));
+                    }
+                    Result.await(tasks);
+                    test.assertEqual(taskCount * 100, value.get());
+                    test.assertFalse(mutex.isAcquired());
+                    test.assertEqual((long)taskCount * 100, mutex.getAcquisitionCount());
+                });
+
+                runner.test("when cancelled while waiting",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncScheduler parallelAsyncRunner) ->
+                {
+                    final ParkingMutex mutex = ParkingMutex.create();
+                    mutex.acquire().await();
+
+                    final SpinGate started = SpinGate.create();
+                    final AsyncTask<Void> task = parallelAsyncRunner.schedule(() ->
+                    {
+                        started.open();
+                        mutex.acquire().await();
+                    });
+                    started.passThrough().await();
+
+                    test.assertTrue(task.cancel());
+                    test.assertThrows(task::await, new CancelledException());
+                    test.assertTrue(mutex.isAcquiredByCurrentThread());
+
+                    mutex.release().await();
+                    test.assertFalse(mutex.isAcquired());
+                });
+            });
+        });
+    }
+}
@@ -0,0 +1,220 @@
+package qub;
+
+public interface ReadWriteLockedTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(ReadWriteLocked.class, () ->
+        {
+            runner.testGroup("create(T)", () ->
+            {
+                runner.test("with null value", (Test test) ->
+                {
+                    final ReadWriteLocked<IntegerValue> lockedValue = ReadWriteLocked.create(null);
+                    test.assertFalse(lockedValue.isWriting());
+                    test.assertEqual(0, lockedValue.getReaderCount());
+                    test.assertNull(lockedValue.read((IntegerValue value) -> value));
+                });
+
+                runner.test("with non-null value", (Test test) ->
+                {
+                    final ReadWriteLocked<IntegerValue> lockedValue = ReadWriteLocked.create(IntegerValue.create(5));
+                    test.assertEqual(5, lockedValue.read(IntegerValue::get));
+                });
+            });
+
+            runner.testGroup("read(Function1<T,U>)", () ->
+            {
+                runner.test("with null function", (Test test) ->
+                {
+                    final ReadWriteLocked<IntegerValue> lockedValue = ReadWriteLocked.create(IntegerValue.create(5));
+                    test.assertThrows(() -> lockedValue.read(null),
+                        new PreConditionFailure("function cannot be null."));
+                });
+
+                runner.test("with non-null function", (Test test) ->
+                {
+                    final ReadWriteLocked<IntegerValue> lockedValue = ReadWriteLocked.create(IntegerValue.create(5));
+                    final Integer result = lockedValue.read((IntegerValue value) ->
+                    {
+                        test.assertEqual(1, lockedValue.getReaderCount());
+                        test.assertFalse(lockedValue.isWriting());
+                        return value.get();
+                    });
+                    test.assertEqual(5, result);
+                    test.assertEqual(0, lockedValue.getReaderCount());
+                });
+
+                runner.test("with function that throws", (Test test) ->
+                {
+                    final ReadWriteLocked<IntegerValue> lockedValue = ReadWriteLocked.create(IntegerValue.create(5));
+                    test.assertThrows(() -> lockedValue.read((IntegerValue value) -> { throw new NotFoundException("blah"); }),
+                        new NotFoundException("blah"));
+                    test.assertEqual(0, lockedValue.getReaderCount());
+                });
+
+                runner.test("with concurrent readers",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncRunner parallelAsyncRunner) ->
+                {
+                    final ReadWriteLocked<IntegerValue> lockedValue = ReadWriteLocked.create(IntegerValue.create(5));
+                    final SpinGate otherReaderStarted = SpinGate.create();
+                    final SpinGate readerFinished = SpinGate.create();
+                    final Result<Integer> task = parallelAsyncRunner.schedule(() ->
+                    {
+                        return lockedValue.read((IntegerValue value) ->
+                        {
+                            otherReaderStarted.open();
+                            readerFinished.passThrough().await();
+                            return value.get();
+                        });
+                    });
+
+                    otherReaderStarted.passThrough().await();
+                    final Integer result = lockedValue.read((IntegerValue value) ->
+                    {
+                        test.assertEqual(2, lockedValue.getReaderCount());
+                        return value.get();
+                    });
+                    readerFinished.open();
+                    test.assertEqual(5, result);
+                    test.assertEqual(5, task.await());
+                });
+            });
+
+            runner.testGroup("optimisticRead(Function1<T,U>)", () ->
+            {
+                runner.test("with null function", (Test test) ->
+                {
+                    final ReadWriteLocked<IntegerValue> lockedValue = ReadWriteLocked.create(IntegerValue.create(5));
+                    test.assertThrows(() -> lockedValue.optimisticRead(null),
+                        new PreConditionFailure("function cannot be null."));
+                });
+
+                runner.test("with no writers", (Test test) ->
+                {
+                    final ReadWriteLocked<IntegerValue> lockedValue = ReadWriteLocked.create(IntegerValue.create(5));
+                    final Integer result = lockedValue.optimisticRead((IntegerValue value) ->
+                    {
+                        test.assertEqual(0, lockedValue.getReaderCount());
+                        return value.get();
+                    });
+                    test.assertEqual(5, result);
+                });
+
+                runner.test("with write during the read", (Test test) ->
+                {
+                    final ReadWriteLocked<IntegerValue> lockedValue = ReadWriteLocked.create(IntegerValue.create(5));
+                    final IntegerValue runCount = IntegerValue.create(0);
+                    final Integer result = lockedValue.optimisticRead((IntegerValue value) ->
+                    {
+                        final int readValue = value.get();
+                        if (runCount.increment().get() == 1)
+                        {
+                            lockedValue.write((IntegerValue writeValue) -> { writeValue.set(6); });
+                        }
+                        return readValue;
+                    });
+                    test.assertEqual(6, result);
+                    test.assertEqual(2, runCount.get());
+                });
+
+                runner.test("with function that throws and no writers", (Test test) ->
+                {
+                    final ReadWriteLocked<IntegerValue> lockedValue = ReadWriteLocked.create(IntegerValue.create(5));
+                    test.assertThrows(() -> lockedValue.optimisticRead((IntegerValue value) -> { throw new NotFoundException("blah"); }),
+                        new NotFoundException("blah"));
+                });
+
+                runner.test("with concurrent writers",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncRunner parallelAsyncRunner) ->
+                {
+                    final ReadWriteLocked<IntegerValue[]> lockedValues = ReadWriteLocked.create(new IntegerValue[] { IntegerValue.create(0), IntegerValue.create(0) });
+                    final int writeCount = 1000;
+                    final Result<Void> writer = parallelAsyncRunner.schedule(() ->
+                    {
+                        for (int i = 1; i <= writeCount; ++i)
+                        {
+                            final int newValue = i;
+                            lockedValues.write((IntegerValue[] values) ->
+                            {
+                                values[0].set(newValue);
+                                values[1].set(newValue);
+                            });
+                        }
+                    });
+
+                    // Both values are always written together, so a validated read must never see
+                    // them out of sync.
+                    while (!writer.isCompleted())
+                    {
+                        final Boolean inSync = lockedValues.optimisticRead((IntegerValue[] values) -> values[0].get().equals(values[1].get()));
+                        test.assertTrue(inSync);
+                    }
+                    writer.await();
+                    test.assertEqual(writeCount, lockedValues.optimisticRead((IntegerValue[] values) -> values[1].get()));
+                });
+            });
+
+            runner.testGroup("write(Action1<T>)", () ->
+            {
+                runner.test("with null action", (Test test) ->
+                {
+                    final ReadWriteLocked<IntegerValue> lockedValue = ReadWriteLocked.create(IntegerValue.create(5));
+                    test.assertThrows(() -> lockedValue.write(null),
+                        new PreConditionFailure("action cannot be null."));
+                    test.assertFalse(lockedValue.isWriting());
+                });
+
+                runner.test("with multiple threads",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncRunner parallelAsyncRunner) ->
+                {
+                    final ReadWriteLocked<IntegerValue> lockedValue = ReadWriteLocked.create(IntegerValue.create(0));
+                    final List<Result<Void>> tasks = List.create();
+                    final int taskCount = 1000;
+
+                    for (int i = 0; i < taskCount; ++i)
+                    {
+                        tasks.add(parallelAsyncRunner.schedule(() ->
+                        {
+                            lockedValue.write((IntegerValue value) ->
+                            {
+                                test.assertTrue(lockedValue.isWriting());
+                                value.increment();
+                            });
+                        }));
+                    }
+                    Result.await(tasks);
+
+                    test.assertFalse(lockedValue.isWriting());
+                    test.assertEqual(taskCount, lockedValue.read(IntegerValue::get));
+                });
+            });
+
+            runner.testGroup("writeAndGet(Function1<T,U>)", () ->
+            {
+                runner.test("with null function", (Test test) ->
+                {
+                    final ReadWriteLocked<IntegerValue> lockedValue = ReadWriteLocked.create(IntegerValue.create(5));
+                    test.assertThrows(() -> lockedValue.writeAndGet(null),
+                        new PreConditionFailure("function cannot be null."));
+                    test.assertFalse(lockedValue.isWriting());
+                });
+
+                runner.test("with non-null function", (Test test) ->
+                {
+                    final ReadWriteLocked<IntegerValue> lockedValue = ReadWriteLocked.create(IntegerValue.create(5));
+                    final Integer result = lockedValue.writeAndGet((IntegerValue value) ->
+                    {
+                        test.assertTrue(lockedValue.isWriting());
+                        return value.increment().get();
+                    });
+                    test.assertEqual(6, result);
+                    test.assertFalse(lockedValue.isWriting());
+                });
+            });
+        });
+    }
+}
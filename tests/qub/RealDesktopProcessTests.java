@@ -93,6 +93,40 @@ public interface RealDesktopProcessTests
                     }
                 });
             });
+
+            runner.testGroup("create(CommandLineArguments,AsyncScheduler,AsyncScheduler)", () ->
+            {
+                runner.test("with null commandLineArguments", (Test test) ->
+                {
+                    test.assertThrows(() -> RealDesktopProcess.create(null, ManualAsyncRunner.create(), ParallelAsyncRunner.create()),
+                        new PreConditionFailure("commandLineArguments cannot be null."));
+                });
+
+                runner.test("with null mainAsyncRunner", (Test test) ->
+                {
+                    test.assertThrows(() -> RealDesktopProcess.create(CommandLineArguments.create(), null, ParallelAsyncRunner.create()),
+                        new PreConditionFailure("mainAsyncRunner cannot be null."));
+                });
+
+                runner.test("with null parallelAsyncRunner", (Test test) ->
+                {
+                    test.assertThrows(() -> RealDesktopProcess.create(CommandLineArguments.create(), ManualAsyncRunner.create(), null),
+                        new PreConditionFailure("parallelAsyncRunner cannot be null."));
+                });
+
+                runner.test("with VirtualThreadAsyncRunner", (Test test) ->
+                {
+                    final ManualAsyncRunner mainAsyncRunner = ManualAsyncRunner.create();
+                    final VirtualThreadAsyncRunner parallelAsyncRunner = VirtualThreadAsyncRunner.create();
+                    try (final RealDesktopProcess process = RealDesktopProcess.create(CommandLineArguments.create(), mainAsyncRunner, parallelAsyncRunner))
+                    {
+                        test.assertSame(mainAsyncRunner, process.getMainAsyncRunner());
+                        test.assertSame(parallelAsyncRunner, process.getParallelAsyncRunner());
+                        test.assertEqual(5, process.getParallelAsyncRunner().schedule(() -> 5).await());
+                    }
+                    test.assertTrue(parallelAsyncRunner.isDisposed());
+                });
+            });
         });
     }
 }
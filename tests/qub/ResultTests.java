@@ -54,6 +54,290 @@ public interface ResultTests
                     test.assertThrows(result::await, new RuntimeException(new Exception("abc")));
                 });
             });
+
+            runner.testGroup("whenAll(AsyncScheduler,Iterable<Function0<T>>)", () ->
+            {
+                runner.test("with null asyncScheduler", (Test test) ->
+                {
+                    test.assertThrows(() -> Result.whenAll(null, Iterable.create()),
+                        new PreConditionFailure("asyncScheduler cannot be null."));
+                });
+
+                runner.test("with null functions",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncScheduler parallelAsyncRunner) ->
+                {
+                    test.assertThrows(() -> Result.whenAll(parallelAsyncRunner, null),
+                        new PreConditionFailure("functions cannot be null."));
+                });
+
+                runner.test("with no functions",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncScheduler parallelAsyncRunner) ->
+                {
+                    final Result<Iterable<Integer>> result = Result.whenAll(parallelAsyncRunner, Iterable.create());
+                    test.assertEqual(Iterable.create(), result.await());
+                });
+
+                runner.test("with successful functions",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncScheduler parallelAsyncRunner) ->
+                {
+                    final Result<Iterable<Integer>> result = Result.whenAll(parallelAsyncRunner, Iterable.create(
+                        () -> 1,
+                        () -> 2,
+                        () -> 3));
+                    test.assertEqual(Iterable.create(1, 2, 3), result.await());
+                });
+
+                runner.test("with functions that run at the same time",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncScheduler parallelAsyncRunner) ->
+                {
+                    final SpinGate gate = SpinGate.create();
+                    final Result<Iterable<Integer>> result = Result.whenAll(parallelAsyncRunner, Iterable.create(
+                        () ->
+                        {
+                            gate.passThrough().await();
+                            return 1;
+                        },
+                        () ->
+                        {
+                            gate.open();
+                            return 2;
+                        }));
+                    test.assertEqual(Iterable.create(1, 2), result.await());
+                });
+
+                runner.test("with failing functions",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncScheduler parallelAsyncRunner) ->
+                {
+                    final IntegerValue runCount = IntegerValue.create(0);
+                    final Result<Iterable<Integer>> result = Result.whenAll(parallelAsyncRunner, Iterable.create(
+                        () -> { throw new NotFoundException("a"); },
+                        () -> { synchronized (runCount) { runCount.increment(); } return 2; },
+                        () -> { throw new NotFoundException("c"); }));
+                    test.assertThrows(result::await,
+                        ErrorIterable.create(new NotFoundException("a"), new NotFoundException("c")));
+                    test.assertEqual(1, runCount.get());
+                });
+            });
+
+            runner.testGroup("whenAll(AsyncScheduler,Iterable<Function0<T>>,boolean)", () ->
+            {
+                runner.test("with failFast and a failing function",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncScheduler parallelAsyncRunner) ->
+                {
+                    final ManualAsyncRunner manualAsyncRunner = ManualAsyncRunner.create();
+                    final IntegerValue runCount = IntegerValue.create(0);
+                    final Result<Iterable<Integer>> result = Result.whenAll(manualAsyncRunner, Iterable.create(
+                        () -> { throw new NotFoundException("a"); },
+                        () -> runCount.increment().get(),
+                        () -> runCount.increment().get()),
+                        true);
+                    manualAsyncRunner.await(result);
+                    test.assertThrows(result::await, new NotFoundException("a"));
+                    test.assertEqual(0, runCount.get());
+                });
+            });
+
+            runner.testGroup("whenAny(AsyncScheduler,Iterable<Function0<T>>)", () ->
+            {
+                runner.test("with null functions",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncScheduler parallelAsyncRunner) ->
+                {
+                    test.assertThrows(() -> Result.whenAny(parallelAsyncRunner, null),
+                        new PreConditionFailure("functions cannot be null."));
+                });
+
+                runner.test("with no functions",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncScheduler parallelAsyncRunner) ->
+                {
+                    test.assertThrows(() -> Result.whenAny(parallelAsyncRunner, Iterable.create()),
+                        new PreConditionFailure("functions cannot be empty."));
+                });
+
+                runner.test("with one successful function",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncScheduler parallelAsyncRunner) ->
+                {
+                    final SpinGate gate = SpinGate.create();
+                    final Result<Integer> result = Result.whenAny(parallelAsyncRunner, Iterable.create(
+                        () -> { throw new NotFoundException("a"); },
+                        () -> { gate.passThrough().await(); return 2; },
+                        () -> 3));
+                    test.assertEqual(3, result.await());
+                    gate.open();
+                });
+
+                runner.test("with successful functions that haven't started",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncScheduler parallelAsyncRunner) ->
+                {
+                    final ManualAsyncRunner manualAsyncRunner = ManualAsyncRunner.create();
+                    final IntegerValue runCount = IntegerValue.create(0);
+                    final Result<Integer> result = Result.whenAny(manualAsyncRunner, Iterable.create(
+                        () -> runCount.increment().get(),
+                        () -> runCount.increment().get(),
+                        () -> runCount.increment().get()));
+                    manualAsyncRunner.await(result);
+                    test.assertEqual(1, result.await());
+                    test.assertEqual(1, runCount.get());
+                });
+
+                runner.test("with all failing functions",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncScheduler parallelAsyncRunner) ->
+                {
+                    final Result<Integer> result = Result.whenAny(parallelAsyncRunner, Iterable.create(
+                        () -> { throw new NotFoundException("a"); },
+                        () -> { throw new NotFoundException("b"); }));
+                    test.assertThrows(result::await,
+                        ErrorIterable.create(new NotFoundException("a"), new NotFoundException("b")));
+                });
+            });
+
+            runner.testGroup("parallelMap(AsyncScheduler,Iterable<T>,Function1<T,U>,int)", () ->
+            {
+                runner.test("with null values",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncScheduler parallelAsyncRunner) ->
+                {
+                    test.assertThrows(() -> Result.parallelMap(parallelAsyncRunner, null, (Integer value) -> value, 1),
+                        new PreConditionFailure("values cannot be null."));
+                });
+
+                runner.test("with null function",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncScheduler parallelAsyncRunner) ->
+                {
+                    test.assertThrows(() -> Result.parallelMap(parallelAsyncRunner, Iterable.create(1), null, 1),
+                        new PreConditionFailure("function cannot be null."));
+                });
+
+                runner.test("with zero maximumConcurrency",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncScheduler parallelAsyncRunner) ->
+                {
+                    test.assertThrows(() -> Result.parallelMap(parallelAsyncRunner, Iterable.create(1), (Integer value) -> value, 0),
+                        new PreConditionFailure("maximumConcurrency (0) must be greater than or equal to 1."));
+                });
+
+                runner.test("with many values",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncScheduler parallelAsyncRunner) ->
+                {
+                    final List<Integer> values = List.create();
+                    for (int i = 0; i < 1000; ++i)
+                    {
+                        values.add(i);
+                    }
+                    final Result<Iterable<Integer>> result = Result.parallelMap(parallelAsyncRunner, values, (Integer value) -> value * 2, 4);
+                    test.assertEqual(values.map((Integer value) -> value * 2), result.await());
+                });
+
+                runner.test("with maximumConcurrency limit",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncScheduler parallelAsyncRunner) ->
+                {
+                    final java.util.concurrent.atomic.AtomicInteger runningCount = new java.util.concurrent.atomic.AtomicInteger();
+                    final java.util.concurrent.atomic.AtomicInteger maximumRunningCount = new java.util.concurrent.atomic.AtomicInteger();
+                    final Result<Iterable<Integer>> result = Result.parallelMap(parallelAsyncRunner, Iterable.create(1, 2, 3, 4, 5, 6, 7, 8), (Integer value) ->
+                    {
+                        maximumRunningCount.accumulateAndGet(runningCount.incrementAndGet(), java.lang.Math::max);
+                        CurrentThread.yield();
+                        runningCount.decrementAndGet();
+                        return value;
+                    }, 2);
+                    test.assertEqual(Iterable.create(1, 2, 3, 4, 5, 6, 7, 8), result.await());
+                    test.assertTrue(maximumRunningCount.get() <= 2);
+                });
+
+                runner.test("with failing function",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncScheduler parallelAsyncRunner) ->
+                {
+                    final Result<Iterable<Integer>> result = Result.parallelMap(parallelAsyncRunner, Iterable.create(1, 2, 3), (Integer value) ->
+                    {
+                        if (value == 2)
+                        {
+                            throw new NotFoundException("2");
+                        }
+                        return value;
+                    }, 2);
+                    test.assertThrows(result::await, new NotFoundException("2"));
+                });
+            });
+
+            runner.testGroup("parallelMap(AsyncScheduler,Iterable<T>,Function1<T,U>,int,boolean)", () ->
+            {
+                runner.test("with failFast and failing function",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncScheduler parallelAsyncRunner) ->
+                {
+                    final IntegerValue runCount = IntegerValue.create(0);
+                    final Result<Iterable<Integer>> result = Result.parallelMap(parallelAsyncRunner, Iterable.create(1, 2, 3, 4, 5), (Integer value) ->
+                    {
+                        runCount.increment();
+                        if (value == 2)
+                        {
+                            throw new NotFoundException("2");
+                        }
+                        return value;
+                    }, 1, true);
+                    test.assertThrows(result::await, new NotFoundException("2"));
+                    test.assertEqual(2, runCount.get());
+                });
+
+                runner.test("with failFast and running sibling",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncScheduler parallelAsyncRunner) ->
+                {
+                    final SpinGate siblingStarted = SpinGate.create();
+                    final RingBufferBlockingQueue<Integer> queue = RingBufferBlockingQueue.create(1);
+                    final Result<Iterable<Integer>> result = Result.parallelMap(parallelAsyncRunner, Iterable.create(1, 2), (Integer value) ->
+                    {
+                        if (value == 1)
+                        {
+                            siblingStarted.open();
+                            return queue.dequeue().await();
+                        }
+                        siblingStarted.passThrough().await();
+                        throw new NotFoundException("2");
+                    }, 2, true);
+                    test.assertThrows(result::await, new NotFoundException("2"));
+                });
+            });
+
+            runner.testGroup("cancel()", () ->
+            {
+                runner.test("with parallelMap", (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncScheduler parallelAsyncRunner) ->
+                {
+                    final RingBufferBlockingQueue<Integer> queue = RingBufferBlockingQueue.create(1);
+                    final SpinGate started = SpinGate.create();
+                    final Result<Iterable<Integer>> result = Result.parallelMap(parallelAsyncRunner, Iterable.create(1, 2, 3), (Integer value) ->
+                    {
+                        started.open();
+                        return queue.dequeue().await();
+                    }, 1);
+                    started.passThrough().await();
+
+                    test.assertTrue(result.cancel());
+                    test.assertThrows(result::await, new CancelledException());
+                });
+
+                runner.test("with completed Result", (Test test) ->
+                {
+                    final Result<Integer> result = Result.success(5);
+                    test.assertFalse(result.cancel());
+                    test.assertEqual(5, result.await());
+                });
+            });
         });
     }
 
@@ -0,0 +1,275 @@
+package qub;
+
+public interface RingBufferBlockingQueueTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(RingBufferBlockingQueue.class, () ->
+        {
+            runner.testGroup("create(int)", () ->
+            {
+                runner.test("with zero capacity", (Test test) ->
+                {
+                    test.assertThrows(() -> RingBufferBlockingQueue.create(0),
+                        new PreConditionFailure("capacity (0) must be between 1 and 1073741824."));
+                });
+
+                runner.test("with power of two capacity", (Test test) ->
+                {
+                    final RingBufferBlockingQueue<Integer> queue = RingBufferBlockingQueue.create(16);
+                    test.assertEqual(16, queue.getCapacity());
+                    test.assertEqual(QueueWaitStrategy.Park, queue.getWaitStrategy());
+                    test.assertEqual(0, queue.getCount());
+                    test.assertFalse(queue.any());
+                });
+
+                runner.test("with non-power of two capacity", (Test test) ->
+                {
+                    final RingBufferBlockingQueue<Integer> queue = RingBufferBlockingQueue.create(10);
+                    test.assertEqual(16, queue.getCapacity());
+                });
+            });
+
+            runner.testGroup("create(int,QueueWaitStrategy)", () ->
+            {
+                runner.test("with null waitStrategy", (Test test) ->
+                {
+                    test.assertThrows(() -> RingBufferBlockingQueue.create(4, null),
+                        new PreConditionFailure("waitStrategy cannot be null."));
+                });
+
+                runner.test("with " + QueueWaitStrategy.Spin, (Test test) ->
+                {
+                    final RingBufferBlockingQueue<Integer> queue = RingBufferBlockingQueue.create(4, QueueWaitStrategy.Spin);
+                    test.assertEqual(4, queue.getCapacity());
+                    test.assertEqual(QueueWaitStrategy.Spin, queue.getWaitStrategy());
+                });
+            });
+
+            runner.testGroup("tryEnqueue(T)", () ->
+            {
+                runner.test("with null value", (Test test) ->
+                {
+                    final RingBufferBlockingQueue<Integer> queue = RingBufferBlockingQueue.create(4);
+                    test.assertThrows(() -> queue.tryEnqueue(null),
+                        new PreConditionFailure("value cannot be null."));
+                    test.assertEqual(0, queue.getCount());
+                });
+
+                runner.test("until full", (Test test) ->
+                {
+                    final RingBufferBlockingQueue<Integer> queue = RingBufferBlockingQueue.create(4);
+                    for (int i = 0; i < 4; ++i)
+                    {
+                        test.assertTrue(queue.tryEnqueue(i));
+                        test.assertEqual(i + 1, queue.getCount());
+                    }
+                    test.assertFalse(queue.tryEnqueue(4));
+                    test.assertEqual(4, queue.getCount());
+                });
+            });
+
+            runner.testGroup("tryDequeue()", () ->
+            {
+                runner.test("when empty", (Test test) ->
+                {
+                    final RingBufferBlockingQueue<Integer> queue = RingBufferBlockingQueue.create(4);
+                    test.assertNull(queue.tryDequeue());
+                });
+
+                runner.test("wrapping around the ring buffer", (Test test) ->
+                {
+                    final RingBufferBlockingQueue<Integer> queue = RingBufferBlockingQueue.create(4);
+                    for (int i = 0; i < 10; ++i)
+                    {
+                        test.assertTrue(queue.tryEnqueue(i));
+                        test.assertTrue(queue.tryEnqueue(i + 100));
+                        test.assertEqual(i, queue.tryDequeue());
+                        test.assertEqual(i + 100, queue.tryDequeue());
+                    }
+                    test.assertNull(queue.tryDequeue());
+                    test.assertFalse(queue.any());
+                });
+            });
+
+            runner.testGroup("enqueueAll(Iterable<T>)", () ->
+            {
+                runner.test("with null values", (Test test) ->
+                {
+                    final RingBufferBlockingQueue<Integer> queue = RingBufferBlockingQueue.create(4);
+                    test.assertThrows(() -> queue.enqueueAll(null),
+                        new PreConditionFailure("values cannot be null."));
+                });
+
+                runner.test("with a null value", (Test test) ->
+                {
+                    final RingBufferBlockingQueue<Integer> queue = RingBufferBlockingQueue.create(4);
+                    test.assertThrows(() -> queue.enqueueAll(Iterable.create(1, null)),
+                        new PreConditionFailure("values.contains(null) cannot be true."));
+                    test.assertEqual(0, queue.getCount());
+                });
+
+                runner.test("with empty values", (Test test) ->
+                {
+                    final RingBufferBlockingQueue<Integer> queue = RingBufferBlockingQueue.create(4);
+                    queue.enqueueAll(Iterable.create()).await();
+                    test.assertEqual(0, queue.getCount());
+                });
+
+                runner.test("with values that fit", (Test test) ->
+                {
+                    final RingBufferBlockingQueue<Integer> queue = RingBufferBlockingQueue.create(4);
+                    queue.enqueueAll(Iterable.create(1, 2, 3)).await();
+                    test.assertEqual(3, queue.getCount());
+                    test.assertEqual(Iterable.create(1, 2, 3), queue.dequeueUpTo(10).await());
+                });
+
+                runner.test("with more values than the capacity",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncRunner parallelAsyncRunner) ->
+                {
+                    final RingBufferBlockingQueue<Integer> queue = RingBufferBlockingQueue.create(4);
+                    final List<Integer> values = List.create();
+                    for (int i = 0; i < 100; ++i)
+                    {
+                        values.add(i);
+                    }
+                    final Result<Void> producer = parallelAsyncRunner.schedule(() -> queue.enqueueAll(values).await());
+
+                    final List<Integer> dequeuedValues = List.create();
+                    while (dequeuedValues.getCount() < values.getCount())
+                    {
+                        dequeuedValues.addAll(queue.dequeueUpTo(3).await());
+                    }
+                    producer.await();
+                    test.assertEqual(values, dequeuedValues);
+                });
+            });
+
+            runner.testGroup("dequeueUpTo(int)", () ->
+            {
+                runner.test("with zero maximumCount", (Test test) ->
+                {
+                    final RingBufferBlockingQueue<Integer> queue = RingBufferBlockingQueue.create(4);
+                    test.assertThrows(() -> queue.dequeueUpTo(0),
+                        new PreConditionFailure("maximumCount (0) must be greater than or equal to 1."));
+                });
+
+                runner.test("with fewer values than maximumCount", (Test test) ->
+                {
+                    final RingBufferBlockingQueue<Integer> queue = RingBufferBlockingQueue.create(8);
+                    queue.enqueue(1).await();
+                    queue.enqueue(2).await();
+                    test.assertEqual(Iterable.create(1, 2), queue.dequeueUpTo(5).await());
+                    test.assertFalse(queue.any());
+                });
+
+                runner.test("with more values than maximumCount", (Test test) ->
+                {
+                    final RingBufferBlockingQueue<Integer> queue = RingBufferBlockingQueue.create(8);
+                    queue.enqueueAll(Iterable.create(1, 2, 3, 4, 5)).await();
+                    test.assertEqual(Iterable.create(1, 2), queue.dequeueUpTo(2).await());
+                    test.assertEqual(3, queue.getCount());
+                    test.assertEqual(3, queue.dequeue().await());
+                });
+
+                runner.test("when empty",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncRunner parallelAsyncRunner) ->
+                {
+                    final RingBufferBlockingQueue<Integer> queue = RingBufferBlockingQueue.create(8);
+                    final Result<List<Integer>> consumer = parallelAsyncRunner.schedule(() -> queue.dequeueUpTo(5).await());
+                    queue.enqueue(7).await();
+                    final List<Integer> values = consumer.await();
+                    test.assertTrue(values.any());
+                    test.assertEqual(7, values.first());
+                });
+            });
+
+            runner.testGroup("dequeue()", () ->
+            {
+                runner.test("when cancelled while waiting",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                    (Test test, AsyncScheduler parallelAsyncRunner) ->
+                {
+                    final RingBufferBlockingQueue<Integer> queue = RingBufferBlockingQueue.create(4);
+                    final SpinGate started = SpinGate.create();
+                    final AsyncTask<Integer> consumer = parallelAsyncRunner.schedule(() ->
+                    {
+                        started.open();
+                        return queue.dequeue().await();
+                    });
+                    started.passThrough().await();
+
+                    test.assertTrue(consumer.cancel());
+                    test.assertThrows(consumer::await, new CancelledException());
+
+                    queue.enqueue(1).await();
+                    test.assertEqual(1, queue.getCount());
+                });
+            });
+
+            for (final QueueWaitStrategy waitStrategy : QueueWaitStrategy.values())
+            {
+                runner.testGroup("enqueue(T) and dequeue() with " + waitStrategy, () ->
+                {
+                    runner.test("with null value", (Test test) ->
+                    {
+                        final RingBufferBlockingQueue<Integer> queue = RingBufferBlockingQueue.create(4, waitStrategy);
+                        test.assertThrows(() -> queue.enqueue(null),
+                            new PreConditionFailure("value cannot be null."));
+                    });
+
+                    runner.test("with one thread", (Test test) ->
+                    {
+                        final RingBufferBlockingQueue<Integer> queue = RingBufferBlockingQueue.create(4, waitStrategy);
+                        queue.enqueue(1).await();
+                        queue.enqueue(2).await();
+                        test.assertEqual(2, queue.getCount());
+                        test.assertEqual(1, queue.dequeue().await());
+                        test.assertEqual(2, queue.dequeue().await());
+                        test.assertEqual(0, queue.getCount());
+                    });
+
+                    runner.test("with multiple producers and consumers",
+                        (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                        (Test test, AsyncRunner parallelAsyncRunner) ->
+                    {
+                        final RingBufferBlockingQueue<Integer> queue = RingBufferBlockingQueue.create(8, waitStrategy);
+                        final int threadCount = 3;
+                        final int valueCount = 1000;
+                        final List<Result<Integer>> tasks = List.create();
+                        for (int i = 0; i < threadCount; ++i)
+                        {
+                            tasks.add(parallelAsyncRunner.schedule(() ->
+                            {
+                                for (int j = 1; j <= valueCount; ++j)
+                                {
+                                    queue.enqueue(j).await();
+                                }
+                                return 0;
+                            }));
+                            tasks.add(parallelAsyncRunner.schedule(() ->
+                            {
+                                int sum = 0;
+                                for (int j = 0; j < valueCount; ++j)
+                                {
+                                    sum += queue.dequeue().await();
+                                }
+                                return sum;
+                            }));
+                        }
+
+                        int sum = 0;
+                        for (final Integer taskSum : Result.await(tasks))
+                        {
+                            sum += taskSum;
+                        }
+                        test.assertEqual(threadCount * (valueCount * (valueCount + 1) / 2), sum);
+                        test.assertFalse(queue.any());
+                    });
+                });
+            }
+        });
+    }
+}
@@ -415,6 +415,81 @@ public interface SetTests
                     test.assertEqual("{1,2,3}", creator.run().addAll(1, 2, 3).toString());
                 });
             });
+
+            runner.testGroup("union(Iterable<T>)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    final Set<Integer> set = creator.run();
+                    test.assertThrows(() -> set.union(null), new PreConditionFailure("values cannot be null."));
+                });
+
+                runner.test("with empty values", (Test test) ->
+                {
+                    final Set<Integer> set = creator.run().addAll(1, 2);
+                    final Set<Integer> union = set.union(Iterable.create());
+                    test.assertNotSame(set, union);
+                    test.assertEqual(Iterable.create(1, 2), union);
+                });
+
+                runner.test("with overlapping values", (Test test) ->
+                {
+                    final Set<Integer> set = creator.run().addAll(1, 2, 3);
+                    final Set<Integer> union = set.union(Iterable.create(4, 2, 5, 4));
+                    test.assertEqual(Iterable.create(1, 2, 3, 4, 5), union);
+                    test.assertEqual(Iterable.create(1, 2, 3), set);
+                });
+            });
+
+            runner.testGroup("intersect(Iterable<T>)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    final Set<Integer> set = creator.run();
+                    test.assertThrows(() -> set.intersect(null), new PreConditionFailure("values cannot be null."));
+                });
+
+                runner.test("with empty values", (Test test) ->
+                {
+                    final Set<Integer> set = creator.run().addAll(1, 2);
+                    test.assertEqual(Iterable.create(), set.intersect(Iterable.create()));
+                });
+
+                runner.test("with overlapping values", (Test test) ->
+                {
+                    final Set<Integer> set = creator.run().addAll(1, 2, 3, 4);
+                    test.assertEqual(Iterable.create(2, 4), set.intersect(Iterable.create(4, 5, 2)));
+                    test.assertEqual(Iterable.create(1, 2, 3, 4), set);
+                });
+
+                runner.test("with Set values", (Test test) ->
+                {
+                    final Set<Integer> set = creator.run().addAll(1, 2, 3, 4);
+                    test.assertEqual(Iterable.create(1, 3), set.intersect(Set.create(3, 1, 7)));
+                });
+            });
+
+            runner.testGroup("except(Iterable<T>)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    final Set<Integer> set = creator.run();
+                    test.assertThrows(() -> set.except(null), new PreConditionFailure("values cannot be null."));
+                });
+
+                runner.test("with empty values", (Test test) ->
+                {
+                    final Set<Integer> set = creator.run().addAll(1, 2);
+                    test.assertEqual(Iterable.create(1, 2), set.except(Iterable.create()));
+                });
+
+                runner.test("with overlapping values", (Test test) ->
+                {
+                    final Set<Integer> set = creator.run().addAll(1, 2, 3, 4);
+                    test.assertEqual(Iterable.create(1, 3), set.except(Iterable.create(4, 5, 2)));
+                    test.assertEqual(Iterable.create(1, 2, 3, 4), set);
+                });
+            });
         });
     }
 }
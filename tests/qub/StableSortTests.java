@@ -0,0 +1,43 @@
+package qub;
+
+public interface StableSortTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(StableSort.class, () ->
+        {
+            runner.testGroup("parallelSort(AsyncScheduler,Object[],Function2<T,T,Boolean>,int)", () ->
+            {
+                final Action2<Integer,Integer> parallelSortTest = (Integer count, Integer maximumChunkCount) ->
+                {
+                    runner.test("with " + count + " values and " + maximumChunkCount + " maximum chunks",
+                        (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner()),
+                        (Test test, AsyncScheduler asyncScheduler) ->
+                    {
+                        // Sort by the key in the upper bits only, so stability can be checked with
+                        // the original index in the lower bits.
+                        final java.util.Random random = new java.util.Random(count);
+                        final Object[] values = new Object[count];
+                        for (int i = 0; i < count; ++i)
+                        {
+                            values[i] = ((long)random.nextInt(100) << 32) | i;
+                        }
+                        final Function2<Long,Long,Boolean> lessThan = (Long lhs, Long rhs) -> (lhs >> 32) < (rhs >> 32);
+                        final Object[] expectedValues = values.clone();
+                        StableSort.sort(expectedValues, 0, count, lessThan);
+
+                        StableSort.parallelSort(asyncScheduler, values, lessThan, maximumChunkCount);
+                        test.assertEqual(expectedValues, values);
+                    });
+                };
+
+                parallelSortTest.run(0, 4);
+                parallelSortTest.run(100, 4);
+                parallelSortTest.run(StableSort.minimumParallelChunkLength * 2, 1);
+                parallelSortTest.run(StableSort.minimumParallelChunkLength * 2, 2);
+                parallelSortTest.run(StableSort.minimumParallelChunkLength * 5 + 3, 5);
+                parallelSortTest.run(StableSort.minimumParallelChunkLength * 7, 16);
+            });
+        });
+    }
+}
@@ -22,24 +22,46 @@ public interface TCPServerTests
                     }
                 });
 
-                runner.test("when disposed either before or while accepting",
+                runner.test("when disposed before accepting",
                     (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner(), resources.getClock()),
                     (Test test, AsyncRunner parallelAsyncRunner, Clock clock) ->
                 {
                     try (final TCPServer server = creator.run(clock))
                     {
+                        test.assertTrue(server.dispose().await());
+
                         final Result<Void> serverTask = parallelAsyncRunner.schedule(() ->
                         {
                             server.accept().await();
                         });
 
-                        test.assertTrue(server.dispose().await());
-
                         test.assertThrows(() -> serverTask.await(),
                             new SocketClosedException(
                                 new java.net.SocketException("Socket is closed")));
                     }
                 });
+
+                runner.test("when disposed while accepting",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner(), resources.getClock()),
+                    (Test test, AsyncRunner parallelAsyncRunner, Clock clock) ->
+                {
+                    try (final TCPServer server = creator.run(clock))
+                    {
+                        final java.util.concurrent.atomic.AtomicReference<java.lang.Thread> acceptThread = new java.util.concurrent.atomic.AtomicReference<>();
+                        final Result<Void> serverTask = parallelAsyncRunner.schedule(() ->
+                        {
+                            acceptThread.set(java.lang.Thread.currentThread());
+                            server.accept().await();
+                        });
+
+                        TCPServerTests.waitUntilBlockedInAccept(server, acceptThread, serverTask);
+                        test.assertFalse(serverTask.isCompleted());
+
+                        test.assertTrue(server.dispose().await());
+
+                        test.assertThrows(() -> serverTask.await(), SocketClosedException.class);
+                    }
+                });
             });
 
             runner.testGroup("accept(Duration)", () ->
@@ -67,25 +89,47 @@ public interface TCPServerTests
                     }
                 });
 
-                runner.test("when disposed either before or while accepting",
+                runner.test("when disposed before accepting",
                     (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner(), resources.getClock()),
                     (Test test, AsyncRunner parallelAsyncRunner, Clock clock) ->
                 {
                     try (final TCPServer server = creator.run(clock))
                     {
+                        test.assertTrue(server.dispose().await());
+
                         final Result<Void> serverTask = parallelAsyncRunner.schedule(() ->
                         {
                             server.accept(Duration.seconds(1)).await();
                         });
 
-                        test.assertTrue(server.dispose().await());
-
                         test.assertThrows(() -> serverTask.await(),
                             new SocketClosedException(
                                 new java.net.SocketException("Socket is closed")));
                     }
                 });
 
+                runner.test("when disposed while accepting",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner(), resources.getClock()),
+                    (Test test, AsyncRunner parallelAsyncRunner, Clock clock) ->
+                {
+                    try (final TCPServer server = creator.run(clock))
+                    {
+                        final java.util.concurrent.atomic.AtomicReference<java.lang.Thread> acceptThread = new java.util.concurrent.atomic.AtomicReference<>();
+                        final Result<Void> serverTask = parallelAsyncRunner.schedule(() ->
+                        {
+                            acceptThread.set(java.lang.Thread.currentThread());
+                            server.accept(Duration.seconds(5)).await();
+                        });
+
+                        TCPServerTests.waitUntilBlockedInAccept(server, acceptThread, serverTask);
+                        test.assertFalse(serverTask.isCompleted());
+
+                        test.assertTrue(server.dispose().await());
+
+                        test.assertThrows(() -> serverTask.await(), SocketClosedException.class);
+                    }
+                });
+
                 runner.test("with no incoming clients",
                     (TestResources resources) -> Tuple.create(resources.getClock()),
                     (Test test, Clock clock) ->
@@ -123,25 +167,47 @@ public interface TCPServerTests
                     }
                 });
 
-                runner.test("when disposed either before or while accepting",
+                runner.test("when disposed before accepting",
                     (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner(), resources.getClock()),
                     (Test test, AsyncRunner parallelAsyncRunner, Clock clock) ->
                 {
                     try (final TCPServer server = creator.run(clock))
                     {
+                        test.assertTrue(server.dispose().await());
+
                         final Result<Void> serverTask = parallelAsyncRunner.schedule(() ->
                         {
                             server.accept(clock.getCurrentDateTime().plus(Duration.seconds(5))).await();
                         });
 
-                        test.assertTrue(server.dispose().await());
-
                         test.assertThrows(() -> serverTask.await(),
                             new SocketClosedException(
                                 new java.net.SocketException("Socket is closed")));
                     }
                 });
 
+                runner.test("when disposed while accepting",
+                    (TestResources resources) -> Tuple.create(resources.getParallelAsyncRunner(), resources.getClock()),
+                    (Test test, AsyncRunner parallelAsyncRunner, Clock clock) ->
+                {
+                    try (final TCPServer server = creator.run(clock))
+                    {
+                        final java.util.concurrent.atomic.AtomicReference<java.lang.Thread> acceptThread = new java.util.concurrent.atomic.AtomicReference<>();
+                        final Result<Void> serverTask = parallelAsyncRunner.schedule(() ->
+                        {
+                            acceptThread.set(java.lang.Thread.currentThread());
+                            server.accept(clock.getCurrentDateTime().plus(Duration.seconds(5))).await();
+                        });
+
+                        TCPServerTests.waitUntilBlockedInAccept(server, acceptThread, serverTask);
+                        test.assertFalse(serverTask.isCompleted());
+
+                        test.assertTrue(server.dispose().await());
+
+                        test.assertThrows(() -> serverTask.await(), SocketClosedException.class);
+                    }
+                });
+
                 runner.test("with no incoming clients",
                     (TestResources resources) -> Tuple.create(resources.getClock()),
                     (Test test, Clock clock) ->
@@ -169,4 +235,50 @@ public interface TCPServerTests
             });
         });
     }
+
+    /**
+     * Wait until the thread that is running the provided serverTask is blocked inside of the
+     * provided server's accept() method, or until the serverTask completes.
+     * @param server The server that is accepting a client.
+     * @param acceptThread The thread that is calling accept().
+     * @param serverTask The task that is calling accept().
+     */
+    static void waitUntilBlockedInAccept(TCPServer server, java.util.concurrent.atomic.AtomicReference<java.lang.Thread> acceptThread, Result<Void> serverTask)
+    {
+        PreCondition.assertNotNull(server, "server");
+        PreCondition.assertNotNull(acceptThread, "acceptThread");
+        PreCondition.assertNotNull(serverTask, "serverTask");
+
+        while (!serverTask.isCompleted() && !TCPServerTests.isBlockedInAccept(server, acceptThread.get()))
+        {
+            java.lang.Thread.yield();
+        }
+    }
+
+    /**
+     * Get whether or not the provided thread is blocked inside of the provided server's accept()
+     * method. A thread that is blocked in a native socket call is still reported as RUNNABLE, so a
+     * native method at the top of the stack also counts as blocked.
+     * @param server The server that is accepting a client.
+     * @param thread The thread that is calling accept().
+     * @return Whether or not the provided thread is blocked inside of accept().
+     */
+    static boolean isBlockedInAccept(TCPServer server, java.lang.Thread thread)
+    {
+        boolean result = false;
+        if (thread != null)
+        {
+            final StackTraceElement[] stackTrace = thread.getStackTrace();
+            if (stackTrace.length > 0 && (thread.getState() != java.lang.Thread.State.RUNNABLE || stackTrace[0].isNativeMethod()))
+            {
+                final String serverClassName = server.getClass().getName();
+                for (int i = 0; !result && i < stackTrace.length; ++i)
+                {
+                    result = stackTrace[i].getClassName().equals(serverClassName) &&
+                        stackTrace[i].getMethodName().equals("accept");
+                }
+            }
+        }
+        return result;
+    }
 }
@@ -0,0 +1,215 @@
+package qub;
+
+public interface TimerWheelTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(TimerWheel.class, () ->
+        {
+            runner.test("create()", (Test test) ->
+            {
+                try (final TimerWheel timerWheel = TimerWheel.create())
+                {
+                    test.assertEqual(Duration.milliseconds(1), timerWheel.getTickDuration().toMilliseconds());
+                    test.assertEqual(512, timerWheel.getBucketCount());
+                    test.assertEqual(0, timerWheel.getPendingTimeoutCount());
+                    test.assertFalse(timerWheel.isDisposed());
+                }
+            });
+
+            runner.testGroup("create(Duration,int)", () ->
+            {
+                runner.test("with null tickDuration", (Test test) ->
+                {
+                    test.assertThrows(() -> TimerWheel.create(null, 10),
+                        new PreConditionFailure("tickDuration cannot be null."));
+                });
+
+                runner.test("with zero tickDuration", (Test test) ->
+                {
+                    test.assertThrows(() -> TimerWheel.create(Duration.zero, 10),
+                        new PreConditionFailure("tickDuration (0.0 Seconds) must be greater than or equal to 1.0 Nanoseconds."));
+                });
+
+                runner.test("with zero bucketCount", (Test test) ->
+                {
+                    test.assertThrows(() -> TimerWheel.create(Duration.milliseconds(1), 0),
+                        new PreConditionFailure("bucketCount (0) must be between 1 and 1073741824."));
+                });
+
+                runner.test("with bucketCount that is a power of two", (Test test) ->
+                {
+                    try (final TimerWheel timerWheel = TimerWheel.create(Duration.milliseconds(2), 8))
+                    {
+                        test.assertEqual(Duration.milliseconds(2), timerWheel.getTickDuration().toMilliseconds());
+                        test.assertEqual(8, timerWheel.getBucketCount());
+                    }
+                });
+
+                runner.test("with bucketCount that is not a power of two", (Test test) ->
+                {
+                    try (final TimerWheel timerWheel = TimerWheel.create(Duration.milliseconds(1), 100))
+                    {
+                        test.assertEqual(128, timerWheel.getBucketCount());
+                    }
+                });
+            });
+
+            runner.testGroup("schedule(Duration,Action0)", () ->
+            {
+                runner.test("with null delay", (Test test) ->
+                {
+                    try (final TimerWheel timerWheel = TimerWheel.create())
+                    {
+                        test.assertThrows(() -> timerWheel.schedule(null, Action0.empty),
+                            new PreConditionFailure("delay cannot be null."));
+                        test.assertEqual(0, timerWheel.getPendingTimeoutCount());
+                    }
+                });
+
+                runner.test("with null action", (Test test) ->
+                {
+                    try (final TimerWheel timerWheel = TimerWheel.create())
+                    {
+                        test.assertThrows(() -> timerWheel.schedule(Duration.seconds(1), null),
+                            new PreConditionFailure("action cannot be null."));
+                        test.assertEqual(0, timerWheel.getPendingTimeoutCount());
+                    }
+                });
+
+                runner.test("when disposed", (Test test) ->
+                {
+                    final TimerWheel timerWheel = TimerWheel.create();
+                    test.assertTrue(timerWheel.dispose().await());
+                    test.assertThrows(() -> timerWheel.schedule(Duration.seconds(1), Action0.empty),
+                        new PreConditionFailure("this.isDisposed() cannot be true."));
+                });
+
+                runner.test("with negative delay", (Test test) ->
+                {
+                    try (final TimerWheel timerWheel = TimerWheel.create())
+                    {
+                        final SpinGate gate = SpinGate.create();
+                        final TimerWheelTimeout timeout = timerWheel.schedule(Duration.seconds(-1), gate::open);
+                        test.assertNotNull(timeout);
+                        test.assertTrue(timeout.isExpired());
+                        gate.passThrough().await();
+                        test.assertFalse(timeout.isPending());
+                        test.assertFalse(timeout.isCancelled());
+                        test.assertTrue(timeout.isExpired());
+                        test.assertEqual(0, timerWheel.getPendingTimeoutCount());
+                    }
+                });
+
+                runner.test("with positive delay", (Test test) ->
+                {
+                    try (final TimerWheel timerWheel = TimerWheel.create())
+                    {
+                        final SpinGate gate = SpinGate.create();
+                        final Duration delay = Duration.milliseconds(20);
+                        final long startNanoTime = System.nanoTime();
+                        final TimerWheelTimeout timeout = timerWheel.schedule(delay, gate::open);
+                        test.assertFalse(timeout.isExpired());
+                        gate.passThrough().await();
+                        final Duration elapsed = Duration.nanoseconds(System.nanoTime() - startNanoTime);
+                        test.assertGreaterThanOrEqualTo(elapsed, delay);
+                        test.assertTrue(timeout.isExpired());
+                        test.assertEqual(0, timerWheel.getPendingTimeoutCount());
+                    }
+                });
+
+                runner.test("with delay longer than one rotation of the wheel", (Test test) ->
+                {
+                    try (final TimerWheel timerWheel = TimerWheel.create(Duration.milliseconds(1), 4))
+                    {
+                        final SpinGate gate = SpinGate.create();
+                        final Duration delay = Duration.milliseconds(30);
+                        final long startNanoTime = System.nanoTime();
+                        timerWheel.schedule(delay, gate::open);
+                        gate.passThrough().await();
+                        final Duration elapsed = Duration.nanoseconds(System.nanoTime() - startNanoTime);
+                        test.assertGreaterThanOrEqualTo(elapsed, delay);
+                    }
+                });
+
+                runner.test("with many timeouts", (Test test) ->
+                {
+                    try (final TimerWheel timerWheel = TimerWheel.create())
+                    {
+                        final int timeoutCount = 10000;
+                        final IntegerValue expiredCount = IntegerValue.create(0);
+                        final SpinGate gate = SpinGate.create();
+                        for (int i = 0; i < timeoutCount; ++i)
+                        {
+                            timerWheel.schedule(Duration.milliseconds(i % 50), () ->
+                            {
+                                if (expiredCount.increment().get() == timeoutCount)
+                                {
+                                    gate.open();
+                                }
+                            });
+                        }
+                        gate.passThrough().await();
+                        test.assertEqual(timeoutCount, expiredCount.get());
+                        test.assertEqual(0, timerWheel.getPendingTimeoutCount());
+                    }
+                });
+
+                runner.test("with action that throws", (Test test) ->
+                {
+                    try (final TimerWheel timerWheel = TimerWheel.create())
+                    {
+                        final SpinGate gate = SpinGate.create();
+                        timerWheel.schedule(Duration.zero, () -> { throw new RuntimeException("blah"); });
+                        timerWheel.schedule(Duration.milliseconds(5), gate::open);
+                        gate.passThrough().await();
+                        test.assertEqual(0, timerWheel.getPendingTimeoutCount());
+                    }
+                });
+
+                runner.test("after the timer thread has been idle", (Test test) ->
+                {
+                    try (final TimerWheel timerWheel = TimerWheel.create())
+                    {
+                        final SpinGate gate1 = SpinGate.create();
+                        timerWheel.schedule(Duration.zero, gate1::open);
+                        gate1.passThrough().await();
+
+                        final SpinGate gate2 = SpinGate.create();
+                        timerWheel.schedule(Duration.milliseconds(5), gate2::open);
+                        gate2.passThrough().await();
+                        test.assertEqual(0, timerWheel.getPendingTimeoutCount());
+                    }
+                });
+            });
+
+            runner.testGroup("dispose()", () ->
+            {
+                runner.test("when not disposed", (Test test) ->
+                {
+                    final TimerWheel timerWheel = TimerWheel.create();
+                    test.assertTrue(timerWheel.dispose().await());
+                    test.assertTrue(timerWheel.isDisposed());
+                });
+
+                runner.test("when disposed", (Test test) ->
+                {
+                    final TimerWheel timerWheel = TimerWheel.create();
+                    test.assertTrue(timerWheel.dispose().await());
+                    test.assertFalse(timerWheel.dispose().await());
+                    test.assertTrue(timerWheel.isDisposed());
+                });
+
+                runner.test("with pending timeout", (Test test) ->
+                {
+                    final TimerWheel timerWheel = TimerWheel.create();
+                    final BooleanValue value = BooleanValue.create(false);
+                    final TimerWheelTimeout timeout = timerWheel.schedule(Duration.minutes(1), () -> value.set(true));
+                    test.assertTrue(timerWheel.dispose().await());
+                    test.assertTrue(timeout.isPending());
+                    test.assertFalse(value.get());
+                });
+            });
+        });
+    }
+}
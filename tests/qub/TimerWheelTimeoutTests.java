@@ -0,0 +1,92 @@
+package qub;
+
+public interface TimerWheelTimeoutTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(TimerWheelTimeout.class, () ->
+        {
+            runner.testGroup("cancel()", () ->
+            {
+                runner.test("when pending", (Test test) ->
+                {
+                    try (final TimerWheel timerWheel = TimerWheel.create())
+                    {
+                        final BooleanValue value = BooleanValue.create(false);
+                        final TimerWheelTimeout timeout = timerWheel.schedule(Duration.milliseconds(5), () -> value.set(true));
+                        test.assertTrue(timeout.cancel());
+                        test.assertFalse(timeout.isPending());
+                        test.assertTrue(timeout.isCancelled());
+                        test.assertFalse(timeout.isExpired());
+                        test.assertTrue(timeout.isDisposed());
+                        test.assertEqual(0, timerWheel.getPendingTimeoutCount());
+
+                        final SpinGate gate = SpinGate.create();
+                        timerWheel.schedule(Duration.milliseconds(20), gate::open);
+                        gate.passThrough().await();
+                        test.assertFalse(value.get());
+                    }
+                });
+
+                runner.test("when cancelled", (Test test) ->
+                {
+                    try (final TimerWheel timerWheel = TimerWheel.create())
+                    {
+                        final TimerWheelTimeout timeout = timerWheel.schedule(Duration.minutes(1), Action0.empty);
+                        test.assertTrue(timeout.cancel());
+                        test.assertFalse(timeout.cancel());
+                        test.assertTrue(timeout.isCancelled());
+                        test.assertEqual(0, timerWheel.getPendingTimeoutCount());
+                    }
+                });
+
+                runner.test("when expired", (Test test) ->
+                {
+                    try (final TimerWheel timerWheel = TimerWheel.create())
+                    {
+                        final SpinGate gate = SpinGate.create();
+                        final TimerWheelTimeout timeout = timerWheel.schedule(Duration.zero, gate::open);
+                        gate.passThrough().await();
+                        test.assertFalse(timeout.cancel());
+                        test.assertFalse(timeout.isCancelled());
+                        test.assertTrue(timeout.isExpired());
+                    }
+                });
+
+                runner.test("with many timeouts", (Test test) ->
+                {
+                    try (final TimerWheel timerWheel = TimerWheel.create())
+                    {
+                        final List<TimerWheelTimeout> timeouts = List.create();
+                        for (int i = 0; i < 10000; ++i)
+                        {
+                            timeouts.add(timerWheel.schedule(Duration.seconds(10 + (i % 100)), Action0.empty));
+                        }
+                        test.assertEqual(10000, timerWheel.getPendingTimeoutCount());
+
+                        for (final TimerWheelTimeout timeout : timeouts)
+                        {
+                            test.assertTrue(timeout.cancel());
+                        }
+                        test.assertEqual(0, timerWheel.getPendingTimeoutCount());
+                    }
+                });
+            });
+
+            runner.testGroup("dispose()", () ->
+            {
+                runner.test("when pending", (Test test) ->
+                {
+                    try (final TimerWheel timerWheel = TimerWheel.create())
+                    {
+                        final TimerWheelTimeout timeout = timerWheel.schedule(Duration.minutes(1), Action0.empty);
+                        test.assertTrue(timeout.dispose().await());
+                        test.assertTrue(timeout.isDisposed());
+                        test.assertTrue(timeout.isCancelled());
+                        test.assertFalse(timeout.dispose().await());
+                    }
+                });
+            });
+        });
+    }
+}
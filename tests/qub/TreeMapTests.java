@@ -0,0 +1,134 @@
+package qub;
+
+public interface TreeMapTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(TreeMap.class, () ->
+        {
+            MutableMapTests.test(runner, TreeMap::create, true, true);
+
+            runner.testGroup("create(Function2<TKey,TKey,Comparison>)", () ->
+            {
+                runner.test("with null comparer", (Test test) ->
+                {
+                    test.assertThrows(() -> TreeMap.create((Function2<String,String,Comparison>)null),
+                        new PreConditionFailure("comparer cannot be null."));
+                });
+
+                runner.test("with non-null comparer", (Test test) ->
+                {
+                    final TreeMap<String,Integer> map = TreeMap.create((String lhs, String rhs) -> Comparer.compare(lhs.toLowerCase(), rhs.toLowerCase()));
+                    map.set("b", 1).set("A", 2).set("B", 3);
+                    test.assertEqual(2, map.getCount());
+                    test.assertEqual(Iterable.create("A", "b"), map.getKeys());
+                    test.assertEqual(Iterable.create(2, 3), map.getValues());
+                });
+            });
+
+            runner.test("set(TKey,TValue) with sorted keys", (Test test) ->
+            {
+                final TreeMap<Integer,String> map = TreeMap.create();
+                for (int i = 0; i < 10000; ++i)
+                {
+                    map.set(i, Integers.toString(i));
+                }
+                test.assertEqual(10000, map.getCount());
+                test.assertEqual("5000", map.get(5000).await());
+                test.assertEqual(5000, map.getRank(5000));
+                test.assertEqual(MapEntry.create(5000, "5000"), map.getEntry(5000));
+            });
+
+            runner.testGroup("floor(TKey)", () ->
+            {
+                runner.test("with no smaller key", (Test test) ->
+                {
+                    final TreeMap<Integer,String> map = TreeMap.<Integer,String>create().set(10, "ten");
+                    test.assertThrows(() -> map.floor(5).await(),
+                        new NotFoundException("Could not find a key less than or equal to 5 in this Map."));
+                });
+
+                runner.test("with equal key", (Test test) ->
+                {
+                    final TreeMap<Integer,String> map = TreeMap.<Integer,String>create().set(10, "ten").set(20, "twenty");
+                    test.assertEqual(MapEntry.create(20, "twenty"), map.floor(20).await());
+                });
+
+                runner.test("with smaller key", (Test test) ->
+                {
+                    final TreeMap<Integer,String> map = TreeMap.<Integer,String>create().set(10, "ten").set(20, "twenty");
+                    test.assertEqual(MapEntry.create(10, "ten"), map.floor(15).await());
+                });
+            });
+
+            runner.testGroup("ceiling(TKey)", () ->
+            {
+                runner.test("with no greater key", (Test test) ->
+                {
+                    final TreeMap<Integer,String> map = TreeMap.<Integer,String>create().set(10, "ten");
+                    test.assertThrows(() -> map.ceiling(15).await(),
+                        new NotFoundException("Could not find a key greater than or equal to 15 in this Map."));
+                });
+
+                runner.test("with equal key", (Test test) ->
+                {
+                    final TreeMap<Integer,String> map = TreeMap.<Integer,String>create().set(10, "ten").set(20, "twenty");
+                    test.assertEqual(MapEntry.create(10, "ten"), map.ceiling(10).await());
+                });
+
+                runner.test("with greater key", (Test test) ->
+                {
+                    final TreeMap<Integer,String> map = TreeMap.<Integer,String>create().set(10, "ten").set(20, "twenty");
+                    test.assertEqual(MapEntry.create(20, "twenty"), map.ceiling(15).await());
+                });
+            });
+
+            runner.testGroup("getEntry(int)", () ->
+            {
+                runner.test("with empty map", (Test test) ->
+                {
+                    final TreeMap<Integer,String> map = TreeMap.create();
+                    test.assertThrows(() -> map.getEntry(0),
+                        new PreConditionFailure("Indexable length (0) must be greater than or equal to 1."));
+                });
+
+                runner.test("with valid index", (Test test) ->
+                {
+                    final TreeMap<Integer,String> map = TreeMap.<Integer,String>create().set(20, "twenty").set(10, "ten");
+                    test.assertEqual(MapEntry.create(10, "ten"), map.getEntry(0));
+                    test.assertEqual(MapEntry.create(20, "twenty"), map.getEntry(1));
+                });
+            });
+
+            runner.test("iterateRange(TKey,TKey)", (Test test) ->
+            {
+                final TreeMap<Integer,String> map = TreeMap.create();
+                for (int i = 10; i > 0; --i)
+                {
+                    map.set(i * 10, Integers.toString(i));
+                }
+                test.assertEqual(
+                    Iterable.create(MapEntry.create(30, "3"), MapEntry.create(40, "4"), MapEntry.create(50, "5")),
+                    map.iterateRange(25, 60).toList());
+                test.assertEqual(Iterable.create(), map.iterateRange(200, 300).toList());
+            });
+
+            runner.test("remove(TKey) keeps the tree sorted", (Test test) ->
+            {
+                final TreeMap<Integer,String> map = TreeMap.create();
+                for (int i = 0; i < 100; ++i)
+                {
+                    map.set(i, Integers.toString(i));
+                }
+                for (int i = 0; i < 100; i += 3)
+                {
+                    test.assertEqual(Integers.toString(i), map.remove(i).await());
+                }
+                test.assertEqual(66, map.getCount());
+                test.assertEqual(map.getKeys().order((Integer lhs, Integer rhs) -> lhs < rhs), map.getKeys());
+                test.assertThrows(() -> map.remove(0).await(),
+                    new NotFoundException("Could not find the provided key (0) in this Map."));
+            });
+        });
+    }
+}
@@ -0,0 +1,72 @@
+package qub;
+
+public interface TreeSetTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(TreeSet.class, () ->
+        {
+            SetTests.test(runner, TreeSet::create);
+
+            runner.testGroup("create(Function2<T,T,Comparison>,T...)", () ->
+            {
+                runner.test("with null comparer", (Test test) ->
+                {
+                    test.assertThrows(() -> TreeSet.create((Function2<Integer,Integer,Comparison>)null),
+                        new PreConditionFailure("comparer cannot be null."));
+                });
+
+                runner.test("with duplicate values", (Test test) ->
+                {
+                    final Function2<String,String,Comparison> comparer = (String lhs, String rhs) -> Comparer.compare(lhs.toLowerCase(), rhs.toLowerCase());
+                    final TreeSet<String> set = TreeSet.create(comparer, "b", "A", "B", "a");
+                    test.assertEqual(2, set.getCount());
+                    test.assertEqual(Iterable.create("A", "b"), set.toList());
+                });
+            });
+
+            runner.test("with many values", (Test test) ->
+            {
+                final int count = 10000;
+                final TreeSet<Integer> set = TreeSet.create();
+                for (int i = count - 1; i >= 0; --i)
+                {
+                    set.add(i % (count / 2));
+                }
+                test.assertEqual(count / 2, set.getCount());
+
+                int expectedValue = 0;
+                for (final int value : set)
+                {
+                    test.assertEqual(expectedValue++, value);
+                }
+            });
+
+            runner.test("floor(T) and ceiling(T)", (Test test) ->
+            {
+                final TreeSet<Integer> set = TreeSet.create(10, 20, 30);
+                test.assertEqual(20, set.floor(25).await());
+                test.assertEqual(30, set.ceiling(25).await());
+                test.assertThrows(() -> set.floor(5).await(),
+                    new NotFoundException("Could not find a value less than or equal to 5."));
+                test.assertThrows(() -> set.ceiling(35).await(),
+                    new NotFoundException("Could not find a value greater than or equal to 35."));
+            });
+
+            runner.test("getRank(T) and get(int)", (Test test) ->
+            {
+                final TreeSet<Integer> set = TreeSet.create(30, 10, 20);
+                test.assertEqual(0, set.getRank(10));
+                test.assertEqual(2, set.getRank(25));
+                test.assertEqual(10, set.get(0));
+                test.assertEqual(30, set.get(2));
+            });
+
+            runner.test("iterateRange(T,T)", (Test test) ->
+            {
+                final TreeSet<Integer> set = TreeSet.create(5, 4, 3, 2, 1);
+                test.assertEqual(Iterable.create(2, 3, 4), set.iterateRange(2, 5).toList());
+            });
+        });
+    }
+}
@@ -105,6 +105,29 @@ public interface USASCIICharacterEncodingTests
                 encodeTest.run(new char[] { (char)132 }, new byte[] { -124 });
             });
 
+            runner.testGroup("encode(String,int,int,byte[],int)", () ->
+            {
+                runner.test("with too small output", (Test test) ->
+                {
+                    test.assertThrows(() -> encoding.encode("abc", 0, 3, new byte[3], 1),
+                        new PreConditionFailure("outputBytes.length - outputStartIndex (2) must be greater than or equal to 3."));
+                });
+
+                runner.test("with character greater than 255", (Test test) ->
+                {
+                    test.assertThrows(() -> encoding.encode("a" + (char)256, 0, 2, new byte[2], 0),
+                        new PreConditionFailure("character (256) must be between 0 and 255."));
+                });
+
+                runner.test("with valid characters", (Test test) ->
+                {
+                    final byte[] outputBytes = new byte[4];
+                    test.assertEqual(3, encoding.getEncodedByteCount("ab" + (char)132, 0, 3));
+                    test.assertEqual(3, encoding.encode("ab" + (char)132, 0, 3, outputBytes, 1));
+                    test.assertEqual(new byte[] { 0, 97, 98, -124 }, outputBytes);
+                });
+            });
+
             runner.testGroup("decode(byte[])", () ->
             {
                 final Action2<byte[],char[]> decodeTest = (byte[] bytes, char[] expectedCharacters) ->
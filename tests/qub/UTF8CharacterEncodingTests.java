@@ -150,6 +150,201 @@ public interface UTF8CharacterEncodingTests
 
             });
 
+            runner.testGroup("decode(byte[],int,int,char[],int)", () ->
+            {
+                final Action6<byte[],Integer,Integer,char[],Integer,Throwable> decodeErrorTest = (byte[] bytes, Integer startIndex, Integer length, char[] outputCharacters, Integer outputStartIndex, Throwable expected) ->
+                {
+                    runner.test("with " + English.andList(Array.toString(bytes), startIndex, length, outputCharacters == null ? null : "char[" + outputCharacters.length + "]", outputStartIndex), (Test test) ->
+                    {
+                        test.assertThrows(() -> encoding.decode(bytes, startIndex, length, outputCharacters, outputStartIndex), expected);
+                    });
+                };
+
+                decodeErrorTest.run(null, 0, 0, new char[0], 0, new PreConditionFailure("bytes cannot be null."));
+                decodeErrorTest.run(new byte[] { 97 }, -1, 1, new char[1], 0, new PreConditionFailure("startIndex (-1) must be equal to 0."));
+                decodeErrorTest.run(new byte[] { 97 }, 0, 2, new char[2], 0, new PreConditionFailure("length (2) must be between 0 and 1."));
+                decodeErrorTest.run(new byte[] { 97 }, 0, 1, null, 0, new PreConditionFailure("outputCharacters cannot be null."));
+                decodeErrorTest.run(new byte[] { 97 }, 0, 1, new char[1], 2, new PreConditionFailure("outputStartIndex (2) must be between 0 and 1."));
+                decodeErrorTest.run(new byte[] { 97, 98 }, 0, 2, new char[2], 1, new PreConditionFailure("outputCharacters.length - outputStartIndex (1) must be greater than or equal to 2."));
+                decodeErrorTest.run(new byte[] { (byte)0x80 }, 0, 1, new char[1], 0, new IllegalArgumentException("Expected a leading byte, but found a continuation byte (0x80) instead."));
+                decodeErrorTest.run(new byte[] { (byte)0xF8 }, 0, 1, new char[1], 0, new IllegalArgumentException("Found an invalid leading byte (0xF8)."));
+                decodeErrorTest.run(new byte[] { (byte)0xE2, (byte)0x82 }, 0, 2, new char[2], 0, new IllegalArgumentException("Missing 3rd byte of 3 in decoded character."));
+                decodeErrorTest.run(new byte[] { (byte)0xC2, 97 }, 0, 2, new char[2], 0, new IllegalArgumentException("Expected 2nd byte of 2 to be a continuation byte (10xxxxxx), but found 0x61 instead."));
+
+                final Action6<byte[],Integer,Integer,Integer,char[],Integer> decodeTest = (byte[] bytes, Integer startIndex, Integer length, Integer outputStartIndex, char[] expectedCharacters, Integer expected) ->
+                {
+                    runner.test("with " + English.andList(Array.toString(bytes), startIndex, length, outputStartIndex), (Test test) ->
+                    {
+                        final char[] outputCharacters = new char[outputStartIndex + length];
+                        test.assertEqual(expected, encoding.decode(bytes, startIndex, length, outputCharacters, outputStartIndex));
+                        test.assertEqual(CharacterArray.create(expectedCharacters), CharacterArray.create(outputCharacters, outputStartIndex, expected));
+                    });
+                };
+
+                decodeTest.run(new byte[0], 0, 0, 0, new char[0], 0);
+                decodeTest.run(new byte[] { 97, 98, 99 }, 0, 3, 0, new char[] { 'a', 'b', 'c' }, 3);
+                decodeTest.run(new byte[] { 97, 98, 99 }, 1, 2, 0, new char[] { 'b', 'c' }, 2);
+                decodeTest.run(new byte[] { 97, 98, 99 }, 1, 1, 2, new char[] { 'b' }, 1);
+                decodeTest.run(new byte[] { -62, -124 }, 0, 2, 0, new char[] { (char)132 }, 1);
+                decodeTest.run(new byte[] { (byte)0xD8, (byte)0x80, 97 }, 0, 3, 0, new char[] { (char)0x0600, 'a' }, 2);
+                decodeTest.run(new byte[] { (byte)0xE2, (byte)0x82, (byte)0xAC }, 0, 3, 0, new char[] { '\u20AC' }, 1);
+                decodeTest.run(new byte[] { (byte)0xF0, (byte)0x9F, (byte)0x98, (byte)0x80 }, 0, 4, 0, new char[] { (char)0xD83D, (char)0xDE00 }, 2);
+                decodeTest.run(new byte[] { (byte)0xEF, (byte)0xBB, (byte)0xBF, 97 }, 0, 4, 0, new char[] { (char)0xFEFF, 'a' }, 2);
+            });
+
+            runner.testGroup("getPartialCharacterByteCount(byte[],int,int)", () ->
+            {
+                final Action4<byte[],Integer,Integer,Throwable> getPartialCharacterByteCountErrorTest = (byte[] bytes, Integer startIndex, Integer length, Throwable expected) ->
+                {
+                    runner.test("with " + English.andList(Array.toString(bytes), startIndex, length), (Test test) ->
+                    {
+                        test.assertThrows(() -> encoding.getPartialCharacterByteCount(bytes, startIndex, length), expected);
+                    });
+                };
+
+                getPartialCharacterByteCountErrorTest.run(null, 0, 0, new PreConditionFailure("bytes cannot be null."));
+                getPartialCharacterByteCountErrorTest.run(new byte[] { 97 }, 0, 2, new PreConditionFailure("length (2) must be between 0 and 1."));
+
+                final Action4<byte[],Integer,Integer,Integer> getPartialCharacterByteCountTest = (byte[] bytes, Integer startIndex, Integer length, Integer expected) ->
+                {
+                    runner.test("with " + English.andList(Array.toString(bytes), startIndex, length), (Test test) ->
+                    {
+                        test.assertEqual(expected, encoding.getPartialCharacterByteCount(bytes, startIndex, length));
+                    });
+                };
+
+                getPartialCharacterByteCountTest.run(new byte[0], 0, 0, 0);
+                getPartialCharacterByteCountTest.run(new byte[] { 97, 98 }, 0, 2, 0);
+                getPartialCharacterByteCountTest.run(new byte[] { 97, (byte)0xC2 }, 0, 2, 1);
+                getPartialCharacterByteCountTest.run(new byte[] { 97, (byte)0xC2, (byte)0x84 }, 0, 3, 0);
+                getPartialCharacterByteCountTest.run(new byte[] { 97, (byte)0xC2, (byte)0x84 }, 0, 2, 1);
+                getPartialCharacterByteCountTest.run(new byte[] { (byte)0xE2, (byte)0x82 }, 0, 2, 2);
+                getPartialCharacterByteCountTest.run(new byte[] { (byte)0xE2, (byte)0x82, (byte)0xAC }, 0, 3, 0);
+                getPartialCharacterByteCountTest.run(new byte[] { (byte)0xF0, (byte)0x9F, (byte)0x98 }, 0, 3, 3);
+                getPartialCharacterByteCountTest.run(new byte[] { 97, (byte)0xF0, (byte)0x9F, (byte)0x98 }, 0, 4, 3);
+                getPartialCharacterByteCountTest.run(new byte[] { (byte)0xF0, (byte)0x9F, (byte)0x98, (byte)0x80 }, 0, 4, 0);
+                getPartialCharacterByteCountTest.run(new byte[] { (byte)0xF0, (byte)0x9F, (byte)0x98, (byte)0x80 }, 1, 3, 0);
+            });
+
+            runner.testGroup("decode(byte[],int,int,char[],int) with ASCII runs", () ->
+            {
+                final Action1<String> decodeTest = (String text) ->
+                {
+                    runner.test("with " + Strings.escapeAndQuote(text), (Test test) ->
+                    {
+                        final byte[] bytes = encoding.encodeCharacters(text).await();
+                        final char[] outputCharacters = new char[bytes.length];
+                        final int charactersWritten = encoding.decode(bytes, 0, bytes.length, outputCharacters, 0);
+                        test.assertEqual(text, String.valueOf(outputCharacters, 0, charactersWritten));
+                    });
+                };
+
+                decodeTest.run("abcdefgh");
+                decodeTest.run("abcdefghijklmnopq");
+                decodeTest.run("abcdefg\u00FCabcdefgh");
+                decodeTest.run("\u20ACabcdefghijklmnop\uD83D\uDE00");
+                decodeTest.run("abc\u00FCdefghijk\u20ACl");
+            });
+
+            runner.testGroup("getEncodedByteCount(String,int,int)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    test.assertThrows(() -> encoding.getEncodedByteCount((String)null, 0, 0),
+                        new PreConditionFailure("text cannot be null."));
+                });
+
+                final Action4<String,Integer,Integer,Integer> getEncodedByteCountTest = (String text, Integer startIndex, Integer length, Integer expected) ->
+                {
+                    runner.test("with " + English.andList(Strings.escapeAndQuote(text), startIndex, length), (Test test) ->
+                    {
+                        test.assertEqual(expected, encoding.getEncodedByteCount(text, startIndex, length));
+                        test.assertEqual(expected, encoding.getEncodedByteCount(text.toCharArray(), startIndex, length));
+                    });
+                };
+
+                getEncodedByteCountTest.run("", 0, 0, 0);
+                getEncodedByteCountTest.run("abc", 0, 3, 3);
+                getEncodedByteCountTest.run("abc", 1, 1, 1);
+                getEncodedByteCountTest.run("a\u00FC", 0, 2, 3);
+                getEncodedByteCountTest.run("a\u20AC", 0, 2, 4);
+                getEncodedByteCountTest.run("a\uD83D\uDE00", 0, 3, 5);
+            });
+
+            runner.testGroup("encodeCharacters(String,ByteWriteStream)", () ->
+            {
+                final Action1<String> encodeTest = (String text) ->
+                {
+                    runner.test("with " + text.length() + " characters", (Test test) ->
+                    {
+                        final byte[] expectedBytes = text.getBytes(java.nio.charset.StandardCharsets.UTF_8);
+                        final InMemoryByteStream byteStream = InMemoryByteStream.create();
+                        test.assertEqual(expectedBytes.length, encoding.encodeCharacters(text, byteStream).await());
+                        test.assertEqual(expectedBytes, byteStream.getBytes());
+
+                        final InMemoryByteStream charactersByteStream = InMemoryByteStream.create();
+                        final char[] characters = ("_" + text + "_").toCharArray();
+                        test.assertEqual(expectedBytes.length, encoding.encodeCharacters(characters, 1, text.length(), charactersByteStream).await());
+                        test.assertEqual(expectedBytes, charactersByteStream.getBytes());
+                    });
+                };
+
+                encodeTest.run(Strings.repeat("abc\u20AC", 1000));
+                // A surrogate pair that would be split across two chunks.
+                encodeTest.run(Strings.repeat('a', 1023) + "\uD83D\uDE00" + Strings.repeat('b', 2000));
+                encodeTest.run(Strings.repeat("\uD83D\uDE00", 1500));
+            });
+
+            runner.testGroup("encode(String,int,int,byte[],int)", () ->
+            {
+                final Action6<String,Integer,Integer,byte[],Integer,Throwable> encodeErrorTest = (String text, Integer startIndex, Integer length, byte[] outputBytes, Integer outputStartIndex, Throwable expected) ->
+                {
+                    runner.test("with " + English.andList(Strings.escapeAndQuote(text), startIndex, length, outputBytes == null ? null : "byte[" + outputBytes.length + "]", outputStartIndex), (Test test) ->
+                    {
+                        test.assertThrows(() -> encoding.encode(text, startIndex, length, outputBytes, outputStartIndex), expected);
+                        if (text != null)
+                        {
+                            test.assertThrows(() -> encoding.encode(text.toCharArray(), startIndex, length, outputBytes, outputStartIndex), expected);
+                        }
+                    });
+                };
+
+                encodeErrorTest.run(null, 0, 0, new byte[0], 0, new PreConditionFailure("text cannot be null."));
+                encodeErrorTest.run("a", 0, 2, new byte[2], 0, new PreConditionFailure("length (2) must be between 0 and 1."));
+                encodeErrorTest.run("a", 0, 1, null, 0, new PreConditionFailure("outputBytes cannot be null."));
+                encodeErrorTest.run("a", 0, 1, new byte[1], 2, new PreConditionFailure("outputStartIndex (2) must be between 0 and 1."));
+                encodeErrorTest.run("a\uD83D", 0, 2, new byte[10], 0, new IllegalArgumentException("Missing low-surrogate character (between 0xDC00 and 0xDFFF) after high-surrogate character (between 0xD800 and 0xDBFF)."));
+                encodeErrorTest.run("\uD83Da", 0, 2, new byte[10], 0, new IllegalArgumentException("Expected low-surrogate character (between 0xDC00 and 0xDFFF) after high surrogate character (between 0xD800 and 0xDBFF), but found 0x61 instead."));
+                encodeErrorTest.run("\uDE00", 0, 1, new byte[10], 0, new IllegalArgumentException("Expected to find a non-surrogate character (not between 0xD800 and 0xDFFF) or high-surrogate character (between 0xD800 and 0xDBFF, but found a low surrogate character instead (0xDE00)."));
+
+                final Action3<String,Integer,Integer> encodeTest = (String text, Integer startIndex, Integer length) ->
+                {
+                    runner.test("with " + English.andList(Strings.escapeAndQuote(text), startIndex, length), (Test test) ->
+                    {
+                        final byte[] expectedBytes = text.substring(startIndex, startIndex + length).getBytes(java.nio.charset.StandardCharsets.UTF_8);
+
+                        final byte[] outputBytes = new byte[expectedBytes.length + 2];
+                        test.assertEqual(expectedBytes.length, encoding.encode(text, startIndex, length, outputBytes, 2));
+                        test.assertEqual(expectedBytes, Array.clone(outputBytes, 2, expectedBytes.length));
+
+                        final byte[] characterOutputBytes = new byte[expectedBytes.length];
+                        test.assertEqual(expectedBytes.length, encoding.encode(text.toCharArray(), startIndex, length, characterOutputBytes, 0));
+                        test.assertEqual(expectedBytes, characterOutputBytes);
+                    });
+                };
+
+                encodeTest.run("", 0, 0);
+                encodeTest.run("abc", 0, 3);
+                encodeTest.run("abc", 1, 2);
+                encodeTest.run("abcdefgh", 0, 8);
+                encodeTest.run("abcdefghijklmnopq", 0, 17);
+                encodeTest.run("abcdefghijklmnopq", 3, 9);
+                encodeTest.run("abcdefg\u00FCabcdefgh", 0, 16);
+                encodeTest.run("\u00DF\u6771\uD801\uDC00", 0, 4);
+                encodeTest.run("\u20ACabcdefghijklmnop\uD83D\uDE00", 0, 19);
+                encodeTest.run("abc\u07FF\u0800\uFFFFdefghijk", 0, 14);
+            });
+
             runner.testGroup("decodeAsString(byte[])", () ->
             {
                 final Action2<byte[],Throwable> decodeAsStringFailureTest = (byte[] bytes, Throwable expectedError) ->
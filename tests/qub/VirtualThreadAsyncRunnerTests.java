@@ -0,0 +1,88 @@
+package qub;
+
+public interface VirtualThreadAsyncRunnerTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(VirtualThreadAsyncRunner.class, () ->
+        {
+            AsyncSchedulerTests.test(runner, VirtualThreadAsyncRunner::create);
+
+            runner.test("create()", (Test test) ->
+            {
+                final VirtualThreadAsyncRunner asyncRunner = VirtualThreadAsyncRunner.create();
+                test.assertNotNull(asyncRunner);
+                test.assertEqual(VirtualThreadAsyncRunner.isVirtualThreadSupported(), asyncRunner.usesVirtualThreads());
+                test.assertFalse(asyncRunner.isDisposed());
+            });
+
+            runner.testGroup("schedule(Action0)", () ->
+            {
+                runner.test("runs the action on a different thread", (Test test) ->
+                {
+                    CurrentThread.withAsyncScheduler(VirtualThreadAsyncRunner::create, (VirtualThreadAsyncRunner asyncRunner) ->
+                    {
+                        final long mainThreadId = CurrentThread.getId();
+                        final Value<Long> asyncTaskThreadId = Value.create();
+
+                        final Result<Void> asyncTask = asyncRunner.schedule(() -> { asyncTaskThreadId.set(CurrentThread.getId()); });
+                        test.assertNull(asyncTask.await());
+                        test.assertNotEqual(mainThreadId, asyncTaskThreadId.get());
+                    });
+                });
+
+                runner.test("with many tasks that block on each other", (Test test) ->
+                {
+                    CurrentThread.withAsyncScheduler(VirtualThreadAsyncRunner::create, (VirtualThreadAsyncRunner asyncRunner) ->
+                    {
+                        final SpinGate gate = SpinGate.create();
+                        final Result<Void> gateTask = asyncRunner.schedule(() -> { gate.passThrough().await(); });
+
+                        final List<Result<Integer>> results = List.create();
+                        for (int i = 0; i < 100; ++i)
+                        {
+                            final int index = i;
+                            results.add(asyncRunner.schedule(() ->
+                            {
+                                gateTask.await();
+                                return index;
+                            }));
+                        }
+                        gate.open();
+
+                        for (int i = 0; i < 100; ++i)
+                        {
+                            test.assertEqual(i, results.get(i).await());
+                        }
+                    });
+                });
+
+                runner.test("when disposed", (Test test) ->
+                {
+                    final VirtualThreadAsyncRunner asyncRunner = VirtualThreadAsyncRunner.create();
+                    asyncRunner.dispose().await();
+                    test.assertThrows(() -> asyncRunner.schedule(() -> {}),
+                        new PreConditionFailure("this.isDisposed() cannot be true."));
+                });
+            });
+
+            runner.testGroup("dispose()", () ->
+            {
+                runner.test("when not disposed", (Test test) ->
+                {
+                    final VirtualThreadAsyncRunner asyncRunner = VirtualThreadAsyncRunner.create();
+                    test.assertTrue(asyncRunner.dispose().await());
+                    test.assertTrue(asyncRunner.isDisposed());
+                });
+
+                runner.test("when disposed", (Test test) ->
+                {
+                    final VirtualThreadAsyncRunner asyncRunner = VirtualThreadAsyncRunner.create();
+                    asyncRunner.dispose().await();
+                    test.assertFalse(asyncRunner.dispose().await());
+                    test.assertTrue(asyncRunner.isDisposed());
+                });
+            });
+        });
+    }
+}